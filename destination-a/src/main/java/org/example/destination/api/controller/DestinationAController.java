@@ -3,26 +3,35 @@ package org.example.destination.api.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.destination.domain.service.DestinationService;
+import org.example.inbound.infrastructure.codec.DestinationResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping(value = "/target/path")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DestinationAController {
 
   private final DestinationService destinationService;
 
+  /**
+   * B로 전달하는 동안 요청 스레드를 반환한다.
+   * 이전 홉에는 {@link DestinationResponse}, 외부 요청에는 서비스 이름 문자열로 응답한다.
+   */
   @GetMapping(value = "/a")
-  public ResponseEntity<String> gateway() {
+  public CompletableFuture<ResponseEntity<Object>> gateway(@RequestHeader HttpHeaders headers) {
     log.info("Gateway Requested");
-    try {
-      return destinationService.processGateway();
-    } finally {
-      log.info("Gateway Requested End");
-    }
+    return destinationService.processGatewayAsync()
+      .thenApply(response -> ResponseEntity.ok(response.negotiate(headers.getAccept())))
+      .whenComplete((response, error) -> log.info("Gateway Requested End"));
   }
 }
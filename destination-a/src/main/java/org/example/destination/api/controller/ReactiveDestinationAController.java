@@ -0,0 +1,34 @@
+package org.example.destination.api.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.destination.domain.service.DestinationService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link DestinationAController}의 리액티브(WebFlux) 버전
+ */
+@Slf4j
+@RestController
+@RequestMapping(value = "/target/path")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveDestinationAController {
+
+  private final DestinationService destinationService;
+
+  @GetMapping(value = "/a")
+  public Mono<ResponseEntity<Object>> gateway(@RequestHeader HttpHeaders headers) {
+    log.info("Gateway Requested");
+    return destinationService.processGatewayReactive()
+      .map(response -> ResponseEntity.ok(response.negotiate(headers.getAccept())))
+      .doFinally(signal -> log.info("Gateway Requested End"));
+  }
+}
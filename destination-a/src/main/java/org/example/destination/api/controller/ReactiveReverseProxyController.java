@@ -0,0 +1,27 @@
+package org.example.destination.api.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.destination.domain.service.ReverseProxyService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReverseProxyController}의 리액티브(WebFlux) 버전
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(prefix = "proxy", name = "enabled", havingValue = "true")
+public class ReactiveReverseProxyController {
+
+  private final ReverseProxyService reverseProxyService;
+
+  @RequestMapping(ReverseProxyService.PATH_PREFIX + "/**")
+  public Mono<Void> proxy(ServerWebExchange exchange) {
+    return reverseProxyService.forwardReactive(exchange);
+  }
+}
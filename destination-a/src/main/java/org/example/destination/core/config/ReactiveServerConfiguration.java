@@ -0,0 +1,18 @@
+package org.example.destination.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfiguration {
+
+  // 서블릿 스타터가 함께 있으면 WebFlux도 Tomcat 위에서 실행되므로 리액티브 모드에서는 Netty를 지정한다.
+  // server.port 등 공통 설정은 ReactiveWebServerFactoryCustomizer가 적용한다.
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+}
@@ -3,12 +3,14 @@ package org.example.destination.core.config;
 
 import jakarta.servlet.DispatcherType;
 import org.example.inbound.infrastructure.filter.ForwardedPortProcessingFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ServletFilterConfiguration {
 
   @Bean
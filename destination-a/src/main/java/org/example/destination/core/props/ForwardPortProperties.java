@@ -6,7 +6,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "service.forwarding")
 public class ForwardPortProperties extends AbstractForwardedPortProperties {
 
-  public ForwardPortProperties(PortHeader headers) {
-    super(headers);
+  public ForwardPortProperties(PortHeader headers, Context context, Reload reload, Validation validation) {
+    super(headers, context, reload, validation);
   }
 }
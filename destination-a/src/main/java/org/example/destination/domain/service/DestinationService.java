@@ -1,64 +1,139 @@
 package org.example.destination.domain.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.client.rest.infrastructures.context.RequestContext;
-import org.example.client.rest.infrastructures.factory.RequestStrategyFactory;
+import org.example.client.rest.infrastructures.context.RouteTemplate;
+import org.example.client.rest.infrastructures.exception.CircuitOpenException;
+import org.example.client.rest.infrastructures.factory.RouteTemplateFactory;
 import org.example.destination.core.props.ServiceProperties;
 import org.example.destination.core.props.UrisProperties;
 import org.example.destination.support.handler.HttpHeaderHandler;
+import org.example.inbound.infrastructure.codec.DestinationResponse;
 import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.context.ForwardedPortContextFutures;
+import org.example.inbound.infrastructure.context.ReactiveForwardedPortContext;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigRegistry;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigSnapshot;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DestinationService {
 
-  private final RequestStrategyFactory requestStrategyFactory;
-  private final ServiceProperties serviceProperties;
-  private final UrisProperties urisProperties;
   private final HttpHeaderHandler httpHeaderHandler;
+  private final ForwardedPortConfigRegistry configRegistry;
+  // B 서비스 요청 템플릿, 요청마다 포트와 헤더만 채운다 (응답은 service.b.media-type 형식)
+  private final RouteTemplate<DestinationResponse> destinationBRoute;
+
+  public DestinationService(
+    RouteTemplateFactory routeTemplateFactory, ServiceProperties serviceProperties, UrisProperties urisProperties,
+    HttpHeaderHandler httpHeaderHandler, ForwardedPortConfigRegistry configRegistry
+  ) {
+    this.httpHeaderHandler = httpHeaderHandler;
+    this.configRegistry = configRegistry;
+    this.destinationBRoute = routeTemplateFactory.compile(
+      RequestContext.<DestinationResponse>builder()
+        .mediaType(serviceProperties.getB().getMediaType())
+        .domain(serviceProperties.getB().getDomain())
+        .path(urisProperties.getDestination())
+        .httpMethod(HttpMethod.GET)
+        .responseType(DestinationResponse.class)
+        .build(),
+      serviceProperties.getB().getHeader().getPorts()
+    );
+  }
 
-  public ResponseEntity<String> processGateway() {
-    String headerKey = serviceProperties.getB().getHeader().getKey();
-    Integer headerValue = ForwardedPortContext.getAttribute(headerKey).orElse(null);
+  /**
+   * B로 보내는 경우 응답을 기다리지 않고 반환한다. 이후 단계에는 호출 스레드의 Context가 전달된다.
+   */
+  public CompletableFuture<DestinationResponse> processGatewayAsync() {
+    ForwardedPortConfigSnapshot config = configRegistry.current();
+    String headerKey = httpHeaderHandler.getCurrentServiceHeaderKey(config);
+    int headerValue = ForwardedPortContext.getPortOrDefault(headerKey, ForwardedPortContext.NO_PORT);
 
-    if (headerValue != null) {
+    if (headerValue != ForwardedPortContext.NO_PORT) {
       log.info("Forwarded Port: {}", headerValue);
-      return handleDestinationB(); // Forward to B
+      return handleDestinationBAsync(config); // Forward to B
     }
 
-    return handleDestinationA(); // 처리할 A 메서드 호출
+    return CompletableFuture.completedFuture(handleDestinationA()); // 처리할 A 메서드 호출
+  }
+
+  /**
+   * Reactor Context의 포트 정보와 요청에 고정된 설정 스냅샷으로 처리한다. (리액티브 모드)
+   */
+  public Mono<DestinationResponse> processGatewayReactive() {
+    return Mono.zip(configRegistry.pinned(), ReactiveForwardedPortContext.current()).flatMap(pinned -> {
+      ForwardedPortConfigSnapshot config = pinned.getT1();
+      String headerKey = httpHeaderHandler.getCurrentServiceHeaderKey(config);
+      int headerValue = pinned.getT2().getPortOrDefault(headerKey, ForwardedPortContext.NO_PORT);
+
+      if (headerValue != ForwardedPortContext.NO_PORT) {
+        log.info("Forwarded Port: {}", headerValue);
+        return handleDestinationBReactive(config); // Forward to B
+      }
+
+      return Mono.just(handleDestinationA());
+    });
   }
 
-  private ResponseEntity<String> handleDestinationA() {
+  private DestinationResponse handleDestinationA() {
     log.info("================================================== A Service Begin ==================================================");
-    ResponseEntity<String> destinationA = ResponseEntity.ok().body("Destination A");
+    DestinationResponse destinationA = new DestinationResponse("Destination A");
     log.info("================================================== A Service End ==================================================");
     return destinationA;
   }
 
-  private ResponseEntity<String> handleDestinationB() {
+  private CompletableFuture<DestinationResponse> handleDestinationBAsync(ForwardedPortConfigSnapshot config) {
     log.info("================================================== Routing B Begin ==================================================");
 
-    RequestContext<String> requestContext = RequestContext.<String>builder()
-      .mediaType(MediaType.APPLICATION_JSON)
-      .domain(serviceProperties.getB().getDomain())
-      .path(urisProperties.getDestination())
-      .port(httpHeaderHandler.getForwardedPort().orElse(null))
-      .httpHeaders(httpHeaderHandler.createHeaders(HttpHeaders.EMPTY))
-      .httpMethod(HttpMethod.GET)
-      .responseType(String.class)
-      .build();
-
-    String execute = requestStrategyFactory.findStrategy(requestContext)
-      .execute(requestContext);
-    log.info("================================================== Routing B End ==================================================");
-    return ResponseEntity.ok(execute);
+    RequestContext<DestinationResponse> requestContext = createDestinationBRequest(config);
+    return ForwardedPortContextFutures.propagate(destinationBRoute.getStrategy()
+        .executeAsync(requestContext))
+      .thenApply(execute -> {
+        log.info("================================================== Routing B End ==================================================");
+        return execute;
+      })
+      .exceptionally(e -> {
+        if (CircuitOpenException.isCircuitOpen(e)) {
+          return fallbackToDestinationA(e);
+        }
+        throw e instanceof CompletionException completionException ? completionException : new CompletionException(e);
+      });
+  }
+
+  private Mono<DestinationResponse> handleDestinationBReactive(ForwardedPortConfigSnapshot config) {
+    log.info("================================================== Routing B Begin ==================================================");
+
+    // 요청 생성은 Context 조회만 하므로 Reactor Context의 포트 정보를 잠시 설치해 기존 핸들러를 그대로 사용한다
+    return ReactiveForwardedPortContext.withContext(() -> createDestinationBRequest(config))
+      .flatMap(requestContext -> destinationBRoute.getReactiveStrategy()
+        .execute(requestContext))
+      .doOnSuccess(response ->
+        log.info("================================================== Routing B End =================================================="))
+      .onErrorResume(CircuitOpenException::isCircuitOpen, e -> Mono.fromSupplier(() -> fallbackToDestinationA(e)));
+  }
+
+  /**
+   * B 포트의 회로가 열려 있으면 B 를 기다리지 않고 A 에서 처리한다.
+   */
+  private DestinationResponse fallbackToDestinationA(Throwable cause) {
+    log.warn("Routing B skipped, falling back to A: {}", cause.getMessage());
+    return handleDestinationA();
+  }
+
+  private RequestContext<DestinationResponse> createDestinationBRequest(ForwardedPortConfigSnapshot config) {
+    Integer port = httpHeaderHandler.getForwardedPort(config).orElse(null);
+    return destinationBRoute.request(
+      port,
+      httpHeaderHandler.getAlternatePorts(config, port),
+      httpHeaderHandler.createHeaders(config, HttpHeaders.EMPTY)
+    );
   }
 }
@@ -1,29 +1,34 @@
 package org.example.destination.support.handler;
 
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.destination.core.props.ServiceProperties;
 import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigSnapshot;
+import org.example.inbound.infrastructure.validator.ForwardedPortValidationRules;
+import org.example.inbound.infrastructure.validator.PortSet;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 다음 홉으로 보낼 포워딩 포트 헤더를 만든다.
+ * <p>
+ * 허용 목록은 호출자가 넘긴 설정 스냅샷에서 읽는다. 서블릿 모드는 {@code ForwardedPortConfigRegistry#current()},
+ * 리액티브 모드는 {@code ForwardedPortConfigRegistry#pinned()}로 요청 시작 시점의 스냅샷을 얻어 넘긴다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class HttpHeaderHandler {
 
-  private final ServiceProperties serviceProperties;
-
-  public HttpHeaders createHeaders(HttpHeaders originalHeaders) {
+  public HttpHeaders createHeaders(ForwardedPortConfigSnapshot config, HttpHeaders originalHeaders) {
     try {
       HttpHeaders headers = new HttpHeaders();
       Optional.ofNullable(originalHeaders)
         .ifPresent(headers::putAll);
-      addForwardedPortHeaders(headers);
+      addForwardedPortHeaders(config, headers);
       return headers;
     } catch (Exception e) {
       log.error("Error occurred while creating headers", e);
@@ -31,46 +36,74 @@ public class HttpHeaderHandler {
     }
   }
 
+  /**
+   * 프록시 요청 헤더: 들어온 헤더에서 포워딩 포트 헤더를 빼고, 검증된 포워딩 포트만 다시 붙인다.
+   */
+  public HttpHeaders createProxyHeaders(ForwardedPortConfigSnapshot config, HttpHeaders incomingHeaders) {
+    ForwardedPortValidationRules rules = config.getValidationRules();
+    HttpHeaders headers = new HttpHeaders();
+    incomingHeaders.forEach((name, values) -> {
+      if (!rules.matchesHeader(name)) {
+        headers.addAll(name, values);
+      }
+    });
+    return createHeaders(config, headers);
+  }
+
   // 여기서 다음 서버로 보낼 헤더를 HttpHeaders에 저장
-  private void addForwardedPortHeaders(HttpHeaders headers) {
+  private void addForwardedPortHeaders(ForwardedPortConfigSnapshot config, HttpHeaders headers) {
     // A 프로퍼티 헤더 key 값 조회
-    String currentServiceHeaderKey = getCurrentServiceHeaderKey();
+    String currentServiceHeaderKey = getCurrentServiceHeaderKey(config);
 
     try {
-      ForwardedPortContext.getAttributes().entrySet().stream()
-        .filter(entry -> !entry.getKey().equals(currentServiceHeaderKey))
-        .forEach(entry -> {
-          String key = entry.getKey();
-          Integer port = entry.getValue();
+      ForwardedPortContext.forEachAttribute((key, port) -> {
+        if (!key.equals(currentServiceHeaderKey)) {
           logPortForwarding(key, port);
           headers.add(key, String.valueOf(port));
-        });
+        }
+      });
     } catch (Exception e) {
       log.error("Error occurred while adding forwarded port headers", e);
     }
   }
 
-  public String getCurrentServiceHeaderKey() {
-    return serviceProperties.getB().getHeader().getKey();
+  public String getCurrentServiceHeaderKey(ForwardedPortConfigSnapshot config) {
+    return currentServiceHeader(config).getKey();
   }
 
-  public Optional<Integer> getForwardedPort() {
-    String headerKey = getCurrentServiceHeaderKey();
-    List<Integer> allowedPorts = serviceProperties.getB().getHeader().getPorts();
+  public Optional<Integer> getForwardedPort(ForwardedPortConfigSnapshot config) {
+    ServiceProperties.Header header = currentServiceHeader(config);
+    String headerKey = header.getKey();
+    PortSet allowedPorts = header.getPortSet();
 
-    return ForwardedPortContext.getAttribute(headerKey)
-      .filter(port -> isValidPort(port, allowedPorts))
-      .map(port -> {
-        logPortForwarding(headerKey, port);
-        return port;
-      });
+    int port = ForwardedPortContext.getPortOrDefault(headerKey, ForwardedPortContext.NO_PORT);
+    if (port == ForwardedPortContext.NO_PORT || !allowedPorts.contains(port)) {
+      return Optional.empty();
+    }
+    logPortForwarding(headerKey, port);
+    return Optional.of(port);
+  }
+
+  /**
+   * 같은 서비스의 다른 허용 포트 (헤지 요청 대상)
+   * <p>
+   * 개별 지정한 ports 만 사용하고, 넓은 ranges 는 대상에서 제외한다.
+   */
+  public List<Integer> getAlternatePorts(ForwardedPortConfigSnapshot config, Integer port) {
+    List<Integer> ports = currentServiceHeader(config).getPorts();
+    if (port == null || ports == null) {
+      return List.of();
+    }
+    return ports.stream()
+      .filter(candidate -> !candidate.equals(port))
+      .toList();
   }
 
-  private boolean isValidPort(Integer port, List<Integer> allowedPorts) {
-    return allowedPorts.contains(port);
+  private ServiceProperties.Header currentServiceHeader(ForwardedPortConfigSnapshot config) {
+    return config.getHeaderKeyProvider(ServiceProperties.class).getB().getHeader();
   }
 
-  private void logPortForwarding(String headerKey, Integer port) {
+  private void logPortForwarding(String headerKey, int port) {
     log.info("Port forwarded - key: {}, port: {}", headerKey, port);
   }
 } 
\ No newline at end of file
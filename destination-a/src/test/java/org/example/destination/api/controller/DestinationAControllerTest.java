@@ -0,0 +1,103 @@
+package org.example.destination.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.inbound.infrastructure.codec.DestinationResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("비동기 DestinationAController 테스트")
+class DestinationAControllerTest {
+
+  // 연결은 받아들이지만 응답하지 않는 B 서비스
+  private static final ServerSocket SILENT_DESTINATION_B;
+
+  static {
+    try {
+      SILENT_DESTINATION_B = new ServerSocket(0);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @DynamicPropertySource
+  static void properties(DynamicPropertyRegistry registry) {
+    registry.add("service.forwarding.headers.ports.range.min", () -> 1024);
+    registry.add("service.forwarding.headers.ports.range.max", () -> 65535);
+    registry.add("service.b.header.ports", SILENT_DESTINATION_B::getLocalPort);
+    registry.add("client.rest.read-timeout", () -> "500ms");
+  }
+
+  @AfterAll
+  static void tearDown() throws IOException {
+    SILENT_DESTINATION_B.close();
+  }
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("B 서비스 포트가 없으면 비동기 응답으로 A에서 처리한다")
+  void whenNoServiceBPort_thenHandledByA() throws Exception {
+    MvcResult mvcResult = mockMvc.perform(get("/target/path/a")
+        .header("service-a-forwarded-port", "8081"))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+      .andExpect(status().isOk())
+      .andExpect(content().string("Destination A"));
+  }
+
+  @Test
+  @DisplayName("이전 홉이 Smile 로 요청하면 DestinationResponse 를 Smile 로 응답한다")
+  void whenSmileAccepted_thenRespondsWithSmileBody() throws Exception {
+    MvcResult mvcResult = mockMvc.perform(get("/target/path/a")
+        .header("service-a-forwarded-port", "8081")
+        .header(HttpHeaders.ACCEPT, "application/x-jackson-smile, application/json;q=0.9"))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    byte[] body = mockMvc.perform(asyncDispatch(mvcResult))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType("application/x-jackson-smile"))
+      .andReturn().getResponse().getContentAsByteArray();
+
+    DestinationResponse response = new ObjectMapper(new SmileFactory()).readValue(body, DestinationResponse.class);
+    assertThat(response).isEqualTo(new DestinationResponse("Destination A"));
+  }
+
+  @Test
+  @DisplayName("B 서비스가 응답 제한 시간 안에 응답하지 않으면 504를 반환한다")
+  void whenServiceBTimesOut_thenGatewayTimeout() throws Exception {
+    MvcResult mvcResult = mockMvc.perform(get("/target/path/a")
+        .header("service-b-forwarded-port", String.valueOf(SILENT_DESTINATION_B.getLocalPort())))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+      .andExpect(status().isGatewayTimeout())
+      .andExpect(content().string("Downstream request timed out."));
+  }
+}
@@ -0,0 +1,37 @@
+package org.example.destination.api.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+@DisplayName("리액티브 모드 DestinationAController 테스트")
+class ReactiveDestinationAControllerTest {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Test
+  @DisplayName("B 서비스 포트가 없으면 A에서 처리한다")
+  void whenNoServiceBPort_thenHandledByA() {
+    webTestClient.get().uri("/target/path/a")
+      .header("service-a-forwarded-port", "8081")
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(String.class).isEqualTo("Destination A");
+  }
+
+  @Test
+  @DisplayName("허용되지 않은 B 서비스 포트는 무시된다")
+  void whenInvalidServiceBPort_thenHandledByA() {
+    webTestClient.get().uri("/target/path/a")
+      .header("service-b-forwarded-port", "9999")
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(String.class).isEqualTo("Destination A");
+  }
+}
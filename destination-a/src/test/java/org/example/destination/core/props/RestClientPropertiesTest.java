@@ -0,0 +1,115 @@
+package org.example.destination.core.props;
+
+import org.example.client.rest.core.props.ClientTransport;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.destination.support.RestClientFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RestClientPropertiesTest {
+
+  @Configuration
+  @EnableConfigurationProperties(RestClientProperties.class)
+  static class RestClientPropertiesTestConfig {
+  }
+
+  @Autowired
+  private RestClientProperties restClientProperties;
+
+  @Value("${spring.threads.virtual.enabled}")
+  private boolean virtualThreadsEnabled;
+
+  @Test
+  @DisplayName("아웃바운드 클라이언트 프로퍼티가 정상적으로 로드되는지 확인한다")
+  void restClientPropertiesLoadTest() {
+    assertThat(restClientProperties.getTransport()).isEqualTo(ClientTransport.JDK);
+    assertThat(restClientProperties.getConnectTimeout()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(restClientProperties.getReadTimeout()).isEqualTo(Duration.ofSeconds(10));
+    assertThat(restClientProperties.getReactive().getMaxConnections()).isEqualTo(1000);
+    assertThat(restClientProperties.getReactive().getMaxPendingAcquires()).isEqualTo(20000);
+  }
+
+  @Test
+  @DisplayName("가상 스레드 실행 모드가 활성화되어 있다")
+  void virtualThreadsEnabledTest() {
+    assertThat(virtualThreadsEnabled).isTrue();
+  }
+
+  @Test
+  @DisplayName("설정이 없으면 기본값을 사용한다")
+  void defaultValuesTest() {
+    RestClientProperties properties = RestClientFixtures.properties();
+
+    assertThat(properties.getTransport()).isEqualTo(ClientTransport.JDK);
+    assertThat(properties.getConnectTimeout()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(properties.getReadTimeout()).isEqualTo(Duration.ofSeconds(10));
+    assertThat(properties.getReactive().getMaxConnections()).isEqualTo(1000);
+    assertThat(properties.getPool().getMaxTotal()).isEqualTo(200);
+    assertThat(properties.getPool().getMaxPerRoute()).isEqualTo(50);
+    assertThat(properties.getPool().getIdleTimeout()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(properties.getPool().getTimeToLive()).isEqualTo(Duration.ofMinutes(5));
+    assertThat(properties.getPool().isEndpointEnabled()).isFalse();
+    assertThat(properties.getLogging().getMaxBodyBytes()).isEqualTo(1024);
+    assertThat(properties.getLogging().getSampleRate()).isEqualTo(1.0);
+    assertThat(properties.getHedge().isEnabled()).isFalse();
+    assertThat(properties.getHedge().getPercentile()).isEqualTo(0.95);
+    assertThat(properties.getHedge().getBudgetRatio()).isEqualTo(0.05);
+    assertThat(properties.getCoalescing().isEnabled()).isFalse();
+    assertThat(properties.getCoalescing().getRoutes()).isEmpty();
+    assertThat(properties.getCoalescing().getMaxWaiters()).isEqualTo(64);
+    assertThat(properties.getCache().isEnabled()).isFalse();
+    assertThat(properties.getCache().getMaxEntries()).isEqualTo(10_000);
+    assertThat(properties.getCache().getOffHeap().isEnabled()).isFalse();
+    assertThat(properties.getCircuitBreaker().isEnabled()).isFalse();
+    assertThat(properties.getCircuitBreaker().getFailureRateThreshold()).isEqualTo(0.5);
+    assertThat(properties.getCircuitBreaker().getSlowCallDuration()).isEqualTo(Duration.ofSeconds(3));
+    assertThat(properties.getCircuitBreaker().getConsecutiveFailures()).isEqualTo(10);
+    assertThat(properties.getCircuitBreaker().getOpenDuration()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(properties.getConcurrencyLimit().isEnabled()).isFalse();
+    assertThat(properties.getConcurrencyLimit().getInitialLimit()).isEqualTo(20);
+    assertThat(properties.getConcurrencyLimit().getMaxWait()).isEqualTo(Duration.ZERO);
+    assertThat(properties.getRetry().isEnabled()).isFalse();
+    assertThat(properties.getRetry().getMaxAttempts()).isEqualTo(3);
+    assertThat(properties.getRetry().getBudgetRatio()).isEqualTo(0.1);
+    assertThat(properties.getHttp2().getConnections()).isEqualTo(2);
+    assertThat(properties.getCodec().isEnabled()).isFalse();
+    assertThat(properties.getCodec().getBufferPoolSize()).isPositive();
+    assertThat(properties.getCompression().isEnabled()).isFalse();
+  }
+
+  @Test
+  @DisplayName("연결 풀 크기가 0 이하이면 예외가 발생한다")
+  void invalidReactivePoolTest() {
+    assertThatThrownBy(() -> new RestClientProperties.Reactive(0, null, null))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("경로별 연결 한도가 전체 한도보다 크면 예외가 발생한다")
+  void invalidPoolLimitTest() {
+    assertThatThrownBy(() -> new RestClientProperties.Pool(10, 20, null, null, null))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new RestClientProperties.Pool(null, null, Duration.ZERO, null, null))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("로깅 샘플링 비율이 0.0 ~ 1.0 범위를 벗어나면 예외가 발생한다")
+  void invalidLoggingSampleRateTest() {
+    assertThatThrownBy(() -> new RestClientProperties.Logging(null, 1.5))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new RestClientProperties.Logging(-1, null))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
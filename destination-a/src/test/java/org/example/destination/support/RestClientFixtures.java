@@ -0,0 +1,56 @@
+package org.example.destination.support;
+
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 아웃바운드 모듈 단위 테스트가 함께 쓰는 프로퍼티/요청 픽스처
+ * <p>
+ * RestClientProperties 는 생성자 대신 application.yml 과 같은 키로 바인딩하므로 설정 항목이 늘어도 테스트를 고치지 않는다.
+ */
+public final class RestClientFixtures {
+
+  private static final String PREFIX = "client.rest";
+
+  private RestClientFixtures() {
+  }
+
+  /**
+   * client.rest 아래 키로 프로퍼티를 바인딩한다. 지정하지 않은 항목은 기본값을 사용한다.
+   *
+   * @param properties "retry.enabled=true" 형식의 설정
+   */
+  public static RestClientProperties properties(String... properties) {
+    Map<String, String> source = new LinkedHashMap<>();
+    for (String property : properties) {
+      int separator = property.indexOf('=');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Property must be key=value: " + property);
+      }
+      source.put(PREFIX + "." + property.substring(0, separator), property.substring(separator + 1));
+    }
+    return new Binder(new MapConfigurationPropertySource(source)).bindOrCreate(PREFIX, RestClientProperties.class);
+  }
+
+  /**
+   * localhost:8082/target/path/b 로 가는 JSON GET 요청, 필요한 값만 바꿔서 build() 한다
+   */
+  public static RequestContext.RequestContextBuilder<String> request() {
+    return RequestContext.<String>builder()
+      .mediaType(MediaType.APPLICATION_JSON)
+      .domain("localhost")
+      .path("/target/path/b")
+      .port(8082)
+      .httpHeaders(HttpHeaders.EMPTY)
+      .httpMethod(HttpMethod.GET)
+      .responseType(String.class);
+  }
+}
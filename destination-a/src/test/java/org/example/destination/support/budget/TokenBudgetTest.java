@@ -0,0 +1,69 @@
+package org.example.destination.support.budget;
+
+import org.example.client.rest.infrastructures.support.TokenBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBudget 추가 요청 예산 테스트")
+class TokenBudgetTest {
+
+  @Test
+  @DisplayName("가득 찬 상태로 시작하면 MAX_BURST 만큼 바로 쓸 수 있다")
+  void whenStartedFull_thenAllowsBurst() {
+    // given
+    TokenBudget budget = new TokenBudget(0.1, 1);
+
+    // when
+    int acquired = 0;
+    while (budget.tryAcquire()) {
+      acquired++;
+    }
+
+    // then
+    assertThat(acquired).isEqualTo(10);
+    assertThat(budget.available()).isZero();
+  }
+
+  @Test
+  @DisplayName("빈 상태로 시작하면 요청이 쌓인 만큼만 쓸 수 있다")
+  void whenStartedEmpty_thenAllowsRatioOfDeposits() {
+    // given
+    TokenBudget budget = new TokenBudget(0.1, 0);
+    assertThat(budget.tryAcquire()).isFalse();
+
+    // when
+    for (int i = 0; i < 25; i++) {
+      budget.deposit();
+    }
+
+    // then
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isFalse();
+  }
+
+  @Test
+  @DisplayName("적립은 MAX_BURST 를 넘지 않는다")
+  void whenDepositedPastBurst_thenCapped() {
+    // given
+    TokenBudget budget = new TokenBudget(1, 0);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      budget.deposit();
+    }
+
+    // then
+    assertThat(budget.available()).isEqualTo(10.0);
+  }
+
+  @Test
+  @DisplayName("시작 비율이 0 ~ 1 범위를 벗어나면 예외가 발생한다")
+  void whenInitialFillOutOfRange_thenThrows() {
+    assertThatThrownBy(() -> new TokenBudget(0.1, 1.5))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
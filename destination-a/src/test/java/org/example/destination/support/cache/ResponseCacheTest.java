@@ -0,0 +1,273 @@
+package org.example.destination.support.cache;
+
+import org.example.client.rest.infrastructures.cache.ResponseCache;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.example.destination.support.RestClientFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.destination.support.RestClientFixtures.properties;
+
+@DisplayName("ResponseCache 아웃바운드 응답 캐시 테스트")
+class ResponseCacheTest {
+
+  private static ResponseCache cache(Duration routeTtl, int maxEntries, boolean offHeap) {
+    return new ResponseCache(properties(
+      "cache.enabled=true", "cache.max-entries=" + maxEntries, "cache.on-heap-max-body-size=16B",
+      "cache.off-heap.enabled=" + offHeap, "cache.off-heap.capacity=1KB",
+      "cache.routes[0].pattern=/target/path/**", "cache.routes[0].ttl=" + (routeTtl != null ? routeTtl : ""),
+      "cache.key-headers=service-b-forwarded-port"), new UrlTemplateBuilder());
+  }
+
+  private static ResponseCache cache() {
+    return cache(null, 100, false);
+  }
+
+  private static RequestContext<String> request(String path, String forwardedPort) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("service-b-forwarded-port", forwardedPort);
+    return RestClientFixtures.request().path(path).httpHeaders(headers).build();
+  }
+
+  private static RequestContext<String> request() {
+    return request("/target/path/b", "8082");
+  }
+
+  private static ResponseEntity<String> ok(String body, String cacheControl, String etag) {
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+    if (cacheControl != null) {
+      builder.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+    }
+    if (etag != null) {
+      builder.eTag(etag);
+    }
+    return builder.body(body);
+  }
+
+  /**
+   * 받은 요청을 기록하고 정해진 응답을 돌려주는 다운스트림
+   */
+  private static final class Downstream implements Function<RequestContext<String>, CompletableFuture<ResponseEntity<String>>> {
+    private final List<HttpHeaders> requests = new ArrayList<>();
+    private ResponseEntity<String> response;
+
+    private Downstream(ResponseEntity<String> response) {
+      this.response = response;
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<String>> apply(RequestContext<String> context) {
+      requests.add(context.getHttpHeaders());
+      return CompletableFuture.completedFuture(response);
+    }
+  }
+
+  @Test
+  @DisplayName("max-age 동안은 다운스트림에 요청하지 않는다")
+  void whenFresh_thenServedFromCache() {
+    // given
+    ResponseCache cache = cache();
+    Downstream downstream = new Downstream(ok("Destination B", "max-age=60", null));
+
+    // when
+    String first = cache.execute(request(), downstream).join();
+    String second = cache.execute(request(), downstream).join();
+
+    // then
+    assertThat(first).isEqualTo("Destination B");
+    assertThat(second).isEqualTo("Destination B");
+    assertThat(downstream.requests).hasSize(1);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("포워딩 포트 헤더가 다르면 다른 응답으로 캐시한다")
+  void whenForwardedPortDiffers_thenSeparateEntry() {
+    // given
+    ResponseCache cache = cache();
+    Downstream downstream = new Downstream(ok("Destination B", "max-age=60", null));
+
+    // when
+    cache.execute(request("/target/path/b", "8082"), downstream).join();
+    cache.execute(request("/target/path/b", "8083"), downstream).join();
+
+    // then
+    assertThat(downstream.requests).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("key-headers 가 아닌 헤더는 캐시 키에 포함하지 않는다")
+  void whenOtherHeaderDiffers_thenSameEntry() {
+    // given
+    ResponseCache cache = cache();
+    Downstream downstream = new Downstream(ok("Destination B", "max-age=60", null));
+    RequestContext<String> first = request();
+    first.getHttpHeaders().add("X-Request-Id", "1");
+    RequestContext<String> second = request();
+    second.getHttpHeaders().add("X-Request-Id", "2");
+
+    // when
+    cache.execute(first, downstream).join();
+    cache.execute(second, downstream).join();
+
+    // then
+    assertThat(downstream.requests).hasSize(1);
+    assertThat(cache.getHits()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("만료된 응답은 ETag 로 재검증하고 304 응답이면 저장된 본문을 사용한다")
+  void whenStaleWithEtag_thenRevalidates() {
+    // given
+    ResponseCache cache = cache();
+    Downstream downstream = new Downstream(ok("Destination B", "no-cache", "\"v1\""));
+    cache.execute(request(), downstream).join();
+
+    // when
+    downstream.response = ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").build();
+    String revalidated = cache.execute(request(), downstream).join();
+
+    // then
+    assertThat(revalidated).isEqualTo("Destination B");
+    assertThat(downstream.requests.get(1).getIfNoneMatch()).containsExactly("\"v1\"");
+    assertThat(cache.getRevalidations()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("no-store, private 응답과 대상 경로가 아닌 요청은 캐시하지 않는다")
+  void whenNotStorable_thenNotCached() {
+    // given
+    ResponseCache cache = cache();
+    Downstream noStore = new Downstream(ok("Destination B", "no-store", "\"v1\""));
+    Downstream privateResponse = new Downstream(ok("Destination B", "private, max-age=60", null));
+    Downstream otherRoute = new Downstream(ok("Other", "max-age=60", null));
+
+    // when
+    for (int i = 0; i < 2; i++) {
+      cache.execute(request(), noStore).join();
+      cache.execute(request("/target/path/c", "8082"), privateResponse).join();
+      cache.execute(request("/other/path", "8082"), otherRoute).join();
+    }
+
+    // then
+    assertThat(noStore.requests).hasSize(2);
+    assertThat(privateResponse.requests).hasSize(2);
+    assertThat(otherRoute.requests).hasSize(2);
+    assertThat(cache.getHits()).isZero();
+  }
+
+  @Test
+  @DisplayName("Vary 헤더 값이 다르면 캐시된 응답을 사용하지 않는다")
+  void whenVaryHeaderDiffers_thenMiss() {
+    // given
+    ResponseCache cache = cache();
+    Downstream downstream = new Downstream(ResponseEntity.ok()
+      .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+      .varyBy("X-Tenant")
+      .body("Destination B"));
+    RequestContext<String> tenantA = request();
+    tenantA.getHttpHeaders().add("X-Tenant", "a");
+    RequestContext<String> tenantB = request();
+    tenantB.getHttpHeaders().add("X-Tenant", "b");
+
+    // when
+    cache.execute(tenantA, downstream).join();
+    cache.execute(tenantB, downstream).join();
+    cache.execute(tenantB, downstream).join();
+
+    // then
+    assertThat(downstream.requests).hasSize(2);
+    assertThat(cache.getHits()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("경로별 TTL 은 Cache-Control 이 없는 응답에도 적용된다")
+  void whenRouteTtlConfigured_thenOverridesMaxAge() {
+    // given
+    ResponseCache cache = cache(Duration.ofMinutes(1), 100, false);
+    Downstream downstream = new Downstream(ok("Destination B", null, null));
+
+    // when
+    cache.execute(request(), downstream).join();
+    cache.execute(request(), downstream).join();
+
+    // then
+    assertThat(downstream.requests).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("힙 캐시 한도보다 큰 본문은 off-heap 캐시에 저장한다")
+  void whenBodyLarge_thenStoredOffHeap() {
+    // given
+    ResponseCache cache = cache(null, 100, true);
+    String largeBody = "Destination B ".repeat(10);
+    Downstream downstream = new Downstream(ok(largeBody, "max-age=60", null));
+
+    // when
+    cache.execute(request(), downstream).join();
+    String cached = cache.execute(request(), downstream).join();
+
+    // then
+    assertThat(cached).isEqualTo(largeBody);
+    assertThat(downstream.requests).hasSize(1);
+    assertThat(cache.stats())
+      .containsEntry("onHeapEntries", 0)
+      .containsEntry("offHeapEntries", 1)
+      .containsEntry("offHeapBytes", (long) largeBody.length());
+  }
+
+  @Test
+  @DisplayName("문자열 본문의 크기는 UTF-8 인코딩 크기로 비교한다")
+  void whenMultiByteBody_thenSizedByEncodedBytes() {
+    // given
+    ResponseCache cache = cache(null, 100, true);
+    // 9 글자지만 UTF-8 로 27 바이트라 힙 캐시 한도(16 바이트)를 넘는다
+    String body = "목적지비서비스응답";
+    Downstream downstream = new Downstream(ok(body, "max-age=60", null));
+
+    // when
+    cache.execute(request(), downstream).join();
+
+    // then
+    assertThat(cache.stats())
+      .containsEntry("onHeapEntries", 0)
+      .containsEntry("offHeapEntries", 1)
+      .containsEntry("offHeapBytes", (long) body.getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  @Test
+  @DisplayName("자주 쓰이는 응답은 한 번씩 쓰이는 응답이 많이 들어와도 밀려나지 않는다")
+  void whenScanOfOneOffRequests_thenFrequentEntrySurvives() {
+    // given
+    ResponseCache cache = cache(null, 100, false);
+    Downstream downstream = new Downstream(ok("Destination B", "max-age=60", null));
+    for (int i = 0; i < 10; i++) {
+      cache.execute(request("/target/path/hot", "8082"), downstream).join();
+    }
+
+    // when
+    for (int i = 0; i < 1000; i++) {
+      cache.execute(request("/target/path/cold-" + i, "8082"), downstream).join();
+    }
+    int requestsBefore = downstream.requests.size();
+    cache.execute(request("/target/path/hot", "8082"), downstream).join();
+
+    // then
+    assertThat(downstream.requests).hasSize(requestsBefore);
+    assertThat(cache.stats()).containsEntry("onHeapEntries", 100);
+    assertThat((long) cache.stats().get("onHeapEvictions")).isPositive();
+  }
+}
@@ -0,0 +1,220 @@
+package org.example.destination.support.circuit;
+
+import org.example.client.rest.infrastructures.circuit.CircuitBreakerRegistry;
+import org.example.client.rest.infrastructures.circuit.CircuitState;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.exception.CircuitOpenException;
+import org.example.destination.support.RestClientFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.destination.support.RestClientFixtures.properties;
+
+@DisplayName("CircuitBreakerRegistry 포트별 서킷 브레이커 테스트")
+class CircuitBreakerRegistryTest {
+
+  private static final String ROUTE = "localhost:8082";
+
+  private static CircuitBreakerRegistry registry(Duration slowCallDuration, Duration openDuration) {
+    return new CircuitBreakerRegistry(properties(
+      "circuit-breaker.enabled=true", "circuit-breaker.failure-rate-threshold=0.5", "circuit-breaker.slow-call-rate-threshold=0.5",
+      "circuit-breaker.slow-call-duration=" + slowCallDuration, "circuit-breaker.consecutive-failures=3",
+      "circuit-breaker.open-duration=" + openDuration, "circuit-breaker.sliding-window-size=10",
+      "circuit-breaker.minimum-calls=4", "circuit-breaker.half-open-probes=2"));
+  }
+
+  private static CircuitBreakerRegistry registry() {
+    return registry(Duration.ofSeconds(3), Duration.ofSeconds(30));
+  }
+
+  private static RequestContext<String> request(int port) {
+    return RestClientFixtures.request().port(port).build();
+  }
+
+  private static void succeed(CircuitBreakerRegistry registry) {
+    registry.execute(request(8082), () -> CompletableFuture.completedFuture("Destination B")).join();
+  }
+
+  private static void fail(CircuitBreakerRegistry registry) {
+    registry.execute(request(8082), () -> CompletableFuture.failedFuture(new IllegalStateException("boom")))
+      .exceptionally(e -> null)
+      .join();
+  }
+
+  @Test
+  @DisplayName("연속 실패가 기준 이상이면 회로를 열고 요청을 보내지 않는다")
+  void whenConsecutiveFailures_thenOpensAndFailsFast() {
+    // given
+    CircuitBreakerRegistry registry = registry();
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      fail(registry);
+    }
+    CompletableFuture<String> rejected = registry.execute(request(8082), () -> {
+      calls.incrementAndGet();
+      return CompletableFuture.completedFuture("Destination B");
+    });
+
+    // then
+    assertThat(registry.getState(ROUTE)).isEqualTo(CircuitState.OPEN);
+    assertThatThrownBy(rejected::join)
+      .isInstanceOf(CompletionException.class)
+      .hasCauseInstanceOf(CircuitOpenException.class);
+    assertThat(CircuitOpenException.isCircuitOpen(catchFailure(rejected))).isTrue();
+    assertThat(calls).hasValue(0);
+  }
+
+  @Test
+  @DisplayName("에러율이 기준 이상이면 회로를 열고, 다른 포트에는 영향이 없다")
+  void whenFailureRateExceeded_thenOpensOnlyThatPort() {
+    // given
+    CircuitBreakerRegistry registry = registry();
+
+    // when: 성공, 실패를 번갈아 연속 실패 없이 에러율 50%
+    succeed(registry);
+    fail(registry);
+    succeed(registry);
+    fail(registry);
+
+    // then
+    assertThat(registry.getState(ROUTE)).isEqualTo(CircuitState.OPEN);
+    assertThat(registry.execute(request(8083), () -> CompletableFuture.completedFuture("Destination B")).join())
+      .isEqualTo("Destination B");
+    assertThat(registry.getState("localhost:8083")).isEqualTo(CircuitState.CLOSED);
+  }
+
+  @Test
+  @DisplayName("4xx 응답은 실패로 세지 않는다")
+  void whenClientError_thenNotCountedAsFailure() {
+    // given
+    CircuitBreakerRegistry registry = registry();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      registry.execute(request(8082), () -> CompletableFuture.<String>failedFuture(
+          new RuntimeException("Failed to request", new HttpClientErrorException(HttpStatus.NOT_FOUND))))
+        .exceptionally(e -> null)
+        .join();
+    }
+
+    // then
+    assertThat(registry.getState(ROUTE)).isEqualTo(CircuitState.CLOSED);
+  }
+
+  @Test
+  @DisplayName("느린 응답 비율이 기준 이상이면 회로를 연다")
+  void whenSlowCallRateExceeded_thenOpens() {
+    // given
+    CircuitBreakerRegistry registry = registry(Duration.ofMillis(20), Duration.ofSeconds(30));
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      registry.execute(request(8082), () -> CompletableFuture.supplyAsync(() -> "Destination B",
+        CompletableFuture.delayedExecutor(30, TimeUnit.MILLISECONDS))).join();
+    }
+
+    // then
+    assertThat(registry.getState(ROUTE)).isEqualTo(CircuitState.OPEN);
+  }
+
+  @Test
+  @DisplayName("open-duration 이 지나면 시험 요청만 보내고, 모두 성공하면 회로를 닫는다")
+  void whenProbesSucceed_thenCloses() throws Exception {
+    // given
+    CircuitBreakerRegistry registry = registry(Duration.ofSeconds(3), Duration.ofMillis(50));
+    for (int i = 0; i < 3; i++) {
+      fail(registry);
+    }
+    Thread.sleep(100);
+
+    // when: 시험 요청 2건이 진행 중이면 세 번째 요청은 차단한다
+    CompletableFuture<String> firstProbe = new CompletableFuture<>();
+    CompletableFuture<String> secondProbe = new CompletableFuture<>();
+    CompletableFuture<String> first = registry.execute(request(8082), () -> firstProbe);
+    CompletableFuture<String> second = registry.execute(request(8082), () -> secondProbe);
+    CompletableFuture<String> third = registry.execute(request(8082), () -> CompletableFuture.completedFuture("x"));
+
+    // then
+    assertThat(registry.getState(ROUTE)).isEqualTo(CircuitState.HALF_OPEN);
+    assertThat(CircuitOpenException.isCircuitOpen(catchFailure(third))).isTrue();
+    firstProbe.complete("Destination B");
+    secondProbe.complete("Destination B");
+    assertThat(first.join()).isEqualTo("Destination B");
+    assertThat(second.join()).isEqualTo("Destination B");
+    assertThat(registry.getState(ROUTE)).isEqualTo(CircuitState.CLOSED);
+    assertThat(registry.history())
+      .extracting(event -> event.get("to"))
+      .containsExactly(CircuitState.OPEN, CircuitState.HALF_OPEN, CircuitState.CLOSED);
+  }
+
+  @Test
+  @DisplayName("시험 요청이 실패하면 회로를 다시 열고, 수동 복구하면 닫는다")
+  void whenProbeFails_thenReopensUntilReset() throws Exception {
+    // given
+    CircuitBreakerRegistry registry = registry(Duration.ofSeconds(3), Duration.ofMillis(50));
+    for (int i = 0; i < 3; i++) {
+      fail(registry);
+    }
+    Thread.sleep(100);
+
+    // when
+    fail(registry);
+
+    // then
+    assertThat(registry.getState(ROUTE)).isEqualTo(CircuitState.OPEN);
+    assertThat(registry.reset(ROUTE)).isTrue();
+    assertThat(registry.getState(ROUTE)).isEqualTo(CircuitState.CLOSED);
+    assertThat(registry.reset("localhost:9999")).isFalse();
+  }
+
+  @Test
+  @DisplayName("반환한 future 를 취소하면 실제 요청도 취소하고 결과로 기록하지 않는다")
+  void whenCancelled_thenPropagatesAndIgnored() {
+    // given
+    CircuitBreakerRegistry registry = registry();
+    CompletableFuture<String> downstream = new CompletableFuture<>();
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      registry.execute(request(8082), CompletableFuture<String>::new).cancel(false);
+    }
+    registry.execute(request(8082), () -> downstream).cancel(false);
+
+    // then
+    assertThat(downstream).isCancelled();
+    assertThat(registry.getState(ROUTE)).isEqualTo(CircuitState.CLOSED);
+  }
+
+  @Test
+  @DisplayName("비활성화되어 있으면 요청을 그대로 실행한다")
+  void whenDisabled_thenPassThrough() {
+    // given
+    CircuitBreakerRegistry registry = new CircuitBreakerRegistry(properties());
+
+    // when
+    for (int i = 0; i < 20; i++) {
+      fail(registry);
+    }
+
+    // then
+    assertThat(registry.isEnabled()).isFalse();
+    assertThat(registry.stats()).containsEntry("routes", Map.of());
+  }
+
+  private static Throwable catchFailure(CompletableFuture<?> future) {
+    return future.handle((value, error) -> error).join();
+  }
+}
@@ -0,0 +1,159 @@
+package org.example.destination.support.coalesce;
+
+import org.example.client.rest.infrastructures.coalesce.RequestCoalescer;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.example.destination.support.RestClientFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.destination.support.RestClientFixtures.properties;
+
+@DisplayName("RequestCoalescer 동일 요청 합치기 테스트")
+class RequestCoalescerTest {
+
+  private static RequestCoalescer coalescer(int maxWaiters) {
+    return new RequestCoalescer(properties(
+      "coalescing.enabled=true", "coalescing.routes=/target/path/**", "coalescing.key-headers=X-Tenant",
+      "coalescing.max-waiters=" + maxWaiters), new UrlTemplateBuilder());
+  }
+
+  private static RequestContext<String> request(HttpMethod method, String path, int port, String tenant) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("X-Tenant", tenant);
+    return RestClientFixtures.request().path(path).port(port).httpHeaders(headers).httpMethod(method).build();
+  }
+
+  private static RequestContext<String> request() {
+    return request(HttpMethod.GET, "/target/path/b", 8082, "t1");
+  }
+
+  @Test
+  @DisplayName("같은 요청이 진행 중이면 하나의 요청 결과를 함께 받는다")
+  void whenSameRequestInFlight_thenSharesOneCall() throws Exception {
+    // given
+    RequestCoalescer coalescer = coalescer(64);
+    CompletableFuture<String> downstream = new CompletableFuture<>();
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    CompletableFuture<String> first = coalescer.execute(request(), () -> {
+      calls.incrementAndGet();
+      return downstream;
+    });
+    CompletableFuture<String> second = coalescer.execute(request(), () -> {
+      calls.incrementAndGet();
+      return new CompletableFuture<>();
+    });
+    downstream.complete("Destination B");
+
+    // then
+    assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("Destination B");
+    assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("Destination B");
+    assertThat(calls).hasValue(1);
+    assertThat(coalescer.getExecuted()).isEqualTo(1);
+    assertThat(coalescer.getCoalesced()).isEqualTo(1);
+    assertThat(coalescer.stats()).containsEntry("coalescingRatio", 0.5);
+  }
+
+  @Test
+  @DisplayName("실패도 함께 받고, 완료된 뒤의 요청은 새로 보낸다")
+  void whenSharedCallFails_thenAllWaitersFailAndNextRequestIsFresh() {
+    // given
+    RequestCoalescer coalescer = coalescer(64);
+    CompletableFuture<String> downstream = new CompletableFuture<>();
+    CompletableFuture<String> first = coalescer.execute(request(), () -> downstream);
+    CompletableFuture<String> second = coalescer.execute(request(), CompletableFuture::new);
+
+    // when
+    downstream.completeExceptionally(new IllegalStateException("boom"));
+
+    // then
+    assertThatThrownBy(first::join).isInstanceOf(CompletionException.class).hasRootCauseMessage("boom");
+    assertThatThrownBy(second::join).isInstanceOf(CompletionException.class).hasRootCauseMessage("boom");
+    assertThat(coalescer.execute(request(), () -> CompletableFuture.completedFuture("fresh")).join()).isEqualTo("fresh");
+    assertThat(coalescer.getExecuted()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("대기자가 공유 요청을 취소해도 다른 대기자에게는 영향이 없다")
+  void whenWaiterCancels_thenSharedCallContinues() {
+    // given
+    RequestCoalescer coalescer = coalescer(64);
+    CompletableFuture<String> downstream = new CompletableFuture<>();
+    CompletableFuture<String> first = coalescer.execute(request(), () -> downstream);
+    CompletableFuture<String> second = coalescer.execute(request(), CompletableFuture::new);
+
+    // when
+    second.cancel(true);
+    downstream.complete("Destination B");
+
+    // then
+    assertThat(downstream).isNotCancelled();
+    assertThat(first.join()).isEqualTo("Destination B");
+  }
+
+  @Test
+  @DisplayName("URI, 키 헤더, 메서드가 다르거나 대상 경로가 아니면 합치지 않는다")
+  void whenRequestDiffers_thenNotCoalesced() {
+    // given
+    RequestCoalescer coalescer = coalescer(64);
+    coalescer.execute(request(), CompletableFuture::new);
+
+    // when
+    coalescer.execute(request(HttpMethod.GET, "/target/path/b", 8083, "t1"), CompletableFuture::new);
+    coalescer.execute(request(HttpMethod.GET, "/target/path/b", 8082, "t2"), CompletableFuture::new);
+
+    // then
+    assertThat(coalescer.getCoalesced()).isZero();
+    assertThat(coalescer.isCoalescable(request(HttpMethod.POST, "/target/path/b", 8082, "t1"))).isFalse();
+    assertThat(coalescer.isCoalescable(request(HttpMethod.GET, "/other/path", 8082, "t1"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("조건부 요청은 일반 요청과 합치지 않아 304 응답을 받지 않는다")
+  void whenConditionalRequest_thenNotCoalescedWithPlainRequest() {
+    // given
+    RequestCoalescer coalescer = coalescer(64);
+    RequestContext<String> revalidation = request();
+    revalidation.getHttpHeaders().setIfNoneMatch("\"v1\"");
+    coalescer.execute(revalidation, CompletableFuture::new);
+
+    // when
+    coalescer.execute(request(), CompletableFuture::new);
+
+    // then
+    assertThat(coalescer.getCoalesced()).isZero();
+    assertThat(coalescer.getExecuted()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("대기자가 max-waiters 를 넘으면 따로 요청한다")
+  void whenMaxWaitersExceeded_thenExecutesSeparately() {
+    // given
+    RequestCoalescer coalescer = coalescer(2);
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      coalescer.execute(request(), () -> {
+        calls.incrementAndGet();
+        return new CompletableFuture<>();
+      });
+    }
+
+    // then: 첫 요청 1 + 합침 2 + 초과 2
+    assertThat(calls).hasValue(3);
+    assertThat(coalescer.getCoalesced()).isEqualTo(2);
+    assertThat(coalescer.getOverflowed()).isEqualTo(2);
+  }
+}
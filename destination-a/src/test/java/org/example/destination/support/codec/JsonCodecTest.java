@@ -0,0 +1,228 @@
+package org.example.destination.support.codec;
+
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.example.client.rest.infrastructures.codec.JsonCodec;
+import org.example.client.rest.infrastructures.codec.SmileFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.destination.support.RestClientFixtures.properties;
+
+@DisplayName("JsonCodec 아웃바운드 JSON 직렬화 테스트")
+class JsonCodecTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final JsonCodec codec = new JsonCodec(objectMapper, properties("codec.enabled=true", "codec.buffer-pool-size=4"));
+  private final Map<String, Object> received = new ConcurrentHashMap<>();
+  private HttpServer downstream;
+
+  record Item(String name, int quantity) {
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    downstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    // 받은 JSON 본문을 그대로 돌려주는 다운스트림
+    downstream.createContext("/echo", exchange -> {
+      byte[] body;
+      try (InputStream in = exchange.getRequestBody()) {
+        body = in.readAllBytes();
+      }
+      received.put("body", new String(body, StandardCharsets.UTF_8));
+      received.put("accept", String.valueOf(exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT)));
+      exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    downstream.createContext("/empty", exchange -> {
+      exchange.sendResponseHeaders(204, -1);
+      exchange.close();
+    });
+    downstream.createContext("/missing", exchange -> {
+      exchange.sendResponseHeaders(404, -1);
+      exchange.close();
+    });
+    downstream.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    downstream.stop(0);
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + downstream.getAddress().getPort() + path);
+  }
+
+  private static HttpHeaders jsonHeaders() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    return headers;
+  }
+
+  @Test
+  @DisplayName("타입별 ObjectReader/ObjectWriter 를 한 번만 만들고, 애플리케이션 ObjectMapper 는 바꾸지 않는다")
+  void whenSameTypeRepeated_thenReaderAndWriterCached() throws IOException {
+    // given
+    Item item = new Item("a", 1);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      codec.write(item, out);
+      assertThat(codec.read(Item.class, new ByteArrayInputStream(out.toByteArray()), MediaType.APPLICATION_JSON)).isEqualTo(item);
+    }
+
+    // then
+    assertThat(codec.stats())
+      .containsEntry("readers", 1)
+      .containsEntry("writers", 1)
+      .containsEntry("bufferPoolSize", 4);
+    assertThat(objectMapper.getFactory().getClass()).isEqualTo(MappingJsonFactory.class);
+  }
+
+  @Test
+  @DisplayName("String, byte[] 는 JSON 으로 해석하지 않고 그대로 읽고 쓴다")
+  void whenStringOrBytes_thenPassedThrough() throws IOException {
+    // given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] latin1 = "café".getBytes(StandardCharsets.ISO_8859_1);
+
+    // when
+    codec.write("Destination B", out);
+
+    // then
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("Destination B");
+    assertThat(codec.read(byte[].class, new ByteArrayInputStream(latin1), null)).isEqualTo(latin1);
+    assertThat(codec.read(String.class, new ByteArrayInputStream(latin1), MediaType.parseMediaType("text/plain;charset=ISO-8859-1")))
+      .isEqualTo("café");
+    assertThat(codec.stats()).containsEntry("readers", 0).containsEntry("writers", 0);
+  }
+
+  @Test
+  @DisplayName("RestTemplate 요청 본문을 연결 스트림에 쓰고 응답을 응답 타입으로 읽는다")
+  void whenRestTemplateExecute_thenBodyStreamedAndDecoded() {
+    // given
+    RestTemplate restTemplate = new RestTemplate(new JdkClientHttpRequestFactory());
+    List<Item> items = List.of(new Item("a", 1), new Item("b", 2));
+
+    // when
+    ResponseEntity<Item[]> response = restTemplate.execute(uri("/echo"), HttpMethod.POST,
+      codec.requestCallback(jsonHeaders(), items, Item[].class), codec.responseExtractor(Item[].class));
+    ResponseEntity<String> empty = restTemplate.execute(uri("/empty"), HttpMethod.GET,
+      codec.requestCallback(jsonHeaders(), null, String.class), codec.responseExtractor(String.class));
+
+    // then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).containsExactlyElementsOf(items);
+    assertThat(received.get("body")).isEqualTo("[{\"name\":\"a\",\"quantity\":1},{\"name\":\"b\",\"quantity\":2}]");
+    assertThat(empty.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    assertThat(empty.getBody()).isNull();
+    assertThat((String) received.get("accept")).startsWith(MediaType.APPLICATION_JSON_VALUE);
+  }
+
+  @Test
+  @DisplayName("RestTemplate 오류 응답은 기존과 같이 예외로 끝난다")
+  void whenRestTemplateErrorStatus_thenThrows() {
+    RestTemplate restTemplate = new RestTemplate(new JdkClientHttpRequestFactory());
+
+    assertThatThrownBy(() -> restTemplate.execute(uri("/missing"), HttpMethod.GET,
+      codec.requestCallback(jsonHeaders(), null, Item.class), codec.responseExtractor(Item.class)))
+      .isInstanceOf(HttpClientErrorException.NotFound.class);
+  }
+
+  @Test
+  @DisplayName("WebClient 요청 본문을 DataBuffer 에 바로 쓰고 응답을 응답 타입으로 읽는다")
+  void whenWebClient_thenBodyWrittenToBufferAndDecoded() {
+    // given
+    WebClient webClient = WebClient.create();
+    Item item = new Item("a", 1);
+
+    // when
+    ResponseEntity<Item> response = webClient.post().uri(uri("/echo"))
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(codec.bodyInserter(item))
+      .exchangeToMono(clientResponse -> codec.toEntity(clientResponse, Item.class))
+      .block();
+    ResponseEntity<String> empty = webClient.get().uri(uri("/empty"))
+      .exchangeToMono(clientResponse -> codec.toEntity(clientResponse, String.class))
+      .block();
+
+    // then
+    assertThat(response.getBody()).isEqualTo(item);
+    assertThat(empty.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    assertThat(empty.getBody()).isNull();
+    assertThatThrownBy(() -> webClient.get().uri(uri("/missing"))
+      .exchangeToMono(clientResponse -> codec.toEntity(clientResponse, Item.class))
+      .block())
+      .isInstanceOf(WebClientResponseException.NotFound.class);
+  }
+
+  @Test
+  @DisplayName("WebClient 응답 본문이 max-in-memory-size 를 넘으면 DataBufferLimitException 으로 끝난다")
+  void whenWebClientBodyExceedsLimit_thenFails() {
+    // given
+    JsonCodec limited = new JsonCodec(objectMapper, properties("codec.enabled=true", "reactive.max-in-memory-size=16B"));
+    WebClient webClient = WebClient.create();
+
+    // when & then
+    assertThatThrownBy(() -> webClient.post().uri(uri("/echo"))
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(limited.bodyInserter(new Item("a".repeat(32), 1)))
+      .exchangeToMono(clientResponse -> limited.toEntity(clientResponse, Item.class))
+      .block())
+      .isInstanceOf(DataBufferLimitException.class);
+  }
+
+  @Test
+  @DisplayName("Smile 코덱은 Smile 로 쓰고 읽으며, Smile 이 아닌 응답은 JSON 으로 읽는다")
+  void whenSmileCodec_thenSmileRoundTripAndJsonFallback() throws IOException {
+    // given
+    JsonCodec smile = codec.smile();
+    Item item = new Item("a", 1);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    smile.write(item, out);
+
+    // then
+    assertThat(SmileFormat.mapper(objectMapper).readValue(out.toByteArray(), Item.class)).isEqualTo(item);
+    assertThat(smile.read(Item.class, new ByteArrayInputStream(out.toByteArray()), SmileFormat.MEDIA_TYPE)).isEqualTo(item);
+    assertThat(smile.read(Item.class, new ByteArrayInputStream(objectMapper.writeValueAsBytes(item)), MediaType.APPLICATION_JSON))
+      .isEqualTo(item);
+    assertThat(JsonCodec.accept(String.class, SmileFormat.ACCEPT)).isEqualTo(JsonCodec.TEXT_ACCEPT);
+    assertThat(JsonCodec.accept(byte[].class, SmileFormat.ACCEPT)).isEqualTo(JsonCodec.TEXT_ACCEPT);
+    assertThat(JsonCodec.accept(Item.class, SmileFormat.ACCEPT)).isEqualTo(SmileFormat.ACCEPT);
+  }
+}
@@ -0,0 +1,158 @@
+package org.example.destination.support.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.client.rest.infrastructures.codec.JsonCodec;
+import org.example.client.rest.infrastructures.codec.SmileFormat;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.context.RouteTemplate;
+import org.example.client.rest.infrastructures.factory.RouteTemplateFactory;
+import org.example.client.rest.infrastructures.factory.SmileRequestStrategy;
+import org.example.client.rest.infrastructures.factory.SmileWebClientRequestStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Smile 요청 전략과 서버 컨버터 협상 테스트")
+class SmileRequestStrategyTest {
+
+  public record Item(String sku, int quantity, List<String> tags) {
+  }
+
+  // 요청 본문 형식을 응답 헤더로 돌려주는 테스트용 컨트롤러
+  @RestController
+  static class EchoController {
+    @PostMapping("/test/codec/echo")
+    ResponseEntity<Item> echo(@RequestBody Item item, @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) {
+      return ResponseEntity.ok().header("X-Request-Content-Type", contentType).body(item);
+    }
+
+    @PostMapping("/test/codec/accept")
+    String accept(@RequestHeader(HttpHeaders.ACCEPT) String accept) {
+      return accept;
+    }
+  }
+
+  @TestConfiguration
+  @Import(EchoController.class)
+  static class EchoConfig {
+  }
+
+  private static final Item ITEM = new Item("SKU-1", 3, List.of("a", "b"));
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private RouteTemplateFactory routeTemplateFactory;
+
+  @Autowired
+  private RestTemplate restTemplate;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private RouteTemplate<Item> compile() {
+    return routeTemplateFactory.compile(
+      RequestContext.<Item>builder()
+        .mediaType(SmileFormat.MEDIA_TYPE)
+        .domain("localhost")
+        .path("/test/codec/echo")
+        .httpMethod(HttpMethod.POST)
+        .requestBody(ITEM)
+        .responseType(Item.class)
+        .build(),
+      List.of(port)
+    );
+  }
+
+  @Test
+  @DisplayName("Smile 형식의 요청은 Smile 전략을 선택하고 같은 값을 주고받는다")
+  void whenSmileMediaType_thenSmileStrategiesRoundTrip() {
+    // given
+    RouteTemplate<Item> route = compile();
+
+    // when
+    Item blocking = route.getStrategy().execute(route.request(port, List.of(), new HttpHeaders()));
+    Item reactive = route.getReactiveStrategy().execute(route.request(port, List.of(), new HttpHeaders()))
+      .block(Duration.ofSeconds(5));
+
+    // then
+    assertThat(route.getStrategy()).isInstanceOf(SmileRequestStrategy.class);
+    assertThat(route.getReactiveStrategy()).isInstanceOf(SmileWebClientRequestStrategy.class);
+    assertThat(blocking).isEqualTo(ITEM);
+    assertThat(reactive).isEqualTo(ITEM);
+  }
+
+  @Test
+  @DisplayName("Smile 을 요청한 홉에는 Smile 로, 외부 클라이언트에는 JSON 으로 응답한다")
+  void whenAcceptNegotiated_thenInternalHopGetsSmileAndExternalClientGetsJson() throws Exception {
+    // given
+    String uri = "http://localhost:" + port + "/test/codec/echo";
+    HttpHeaders smileHeaders = new HttpHeaders();
+    smileHeaders.setContentType(SmileFormat.MEDIA_TYPE);
+    smileHeaders.setAccept(SmileFormat.ACCEPT);
+    HttpHeaders jsonHeaders = new HttpHeaders();
+    jsonHeaders.setContentType(MediaType.APPLICATION_JSON);
+    jsonHeaders.setAccept(List.of(MediaType.ALL));
+
+    // when
+    ResponseEntity<byte[]> smile = restTemplate.exchange(
+      uri, HttpMethod.POST, new HttpEntity<>(SmileFormat.mapper(objectMapper).writeValueAsBytes(ITEM), smileHeaders), byte[].class);
+    ResponseEntity<String> json = restTemplate.exchange(
+      uri, HttpMethod.POST, new HttpEntity<>(objectMapper.writeValueAsString(ITEM), jsonHeaders), String.class);
+
+    // then
+    assertThat(smile.getHeaders().getContentType()).isEqualTo(SmileFormat.MEDIA_TYPE);
+    assertThat(smile.getHeaders().getFirst("X-Request-Content-Type")).isEqualTo(SmileFormat.MEDIA_TYPE.toString());
+    assertThat(SmileFormat.mapper(objectMapper).readValue(smile.getBody(), Item.class)).isEqualTo(ITEM);
+    assertThat(smile.getBody().length).isLessThan(json.getBody().length());
+    assertThat(json.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    assertThat(objectMapper.readValue(json.getBody(), Item.class)).isEqualTo(ITEM);
+  }
+
+  @Test
+  @DisplayName("String 응답 타입은 Smile 이 아닌 텍스트 Accept 로 요청한다")
+  void whenStringResponseType_thenTextAcceptSent() {
+    // given
+    RouteTemplate<String> route = routeTemplateFactory.compile(
+      RequestContext.<String>builder()
+        .mediaType(SmileFormat.MEDIA_TYPE)
+        .domain("localhost")
+        .path("/test/codec/accept")
+        .httpMethod(HttpMethod.POST)
+        .requestBody("plain")
+        .responseType(String.class)
+        .build(),
+      List.of(port)
+    );
+
+    // when
+    String blocking = route.getStrategy().execute(route.request(port, List.of(), new HttpHeaders()));
+    String reactive = route.getReactiveStrategy().execute(route.request(port, List.of(), new HttpHeaders()))
+      .block(Duration.ofSeconds(5));
+
+    // then
+    assertThat(MediaType.parseMediaTypes(blocking)).isEqualTo(JsonCodec.TEXT_ACCEPT);
+    assertThat(MediaType.parseMediaTypes(reactive)).isEqualTo(JsonCodec.TEXT_ACCEPT);
+  }
+}
@@ -0,0 +1,191 @@
+package org.example.destination.support.compression;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.client.rest.infrastructures.compression.CompressionDecoder;
+import org.example.client.rest.infrastructures.compression.DecompressingClientHttpRequestFactory;
+import org.example.client.rest.infrastructures.compression.DecompressingExchangeFilterFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.destination.support.RestClientFixtures.properties;
+
+@DisplayName("DecompressingClientHttpRequestFactory 압축 응답 해제 테스트")
+class DecompressingClientHttpRequestFactoryTest {
+
+  private static final String BODY = "Destination B ".repeat(500);
+
+  private final Map<String, String> received = new ConcurrentHashMap<>();
+  private final CompressionDecoder decoder = new CompressionDecoder(
+    properties("compression.enabled=true", "compression.pool-size=2"));
+  private final RestTemplate restTemplate =
+    new RestTemplate(new DecompressingClientHttpRequestFactory(new SimpleClientHttpRequestFactory(), decoder));
+  private HttpServer downstream;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    downstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    // 경로 이름의 형식으로 압축한 본문을 돌려주는 다운스트림
+    downstream.createContext("/", exchange -> {
+      received.put("accept-encoding", String.valueOf(exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING)));
+      String path = exchange.getRequestURI().getPath();
+      byte[] plain = BODY.getBytes(StandardCharsets.UTF_8);
+      byte[] body = switch (path) {
+        case "/gzip" -> gzip(plain);
+        case "/gzip-members" -> concat(gzip(Arrays.copyOf(plain, 100)), gzip(Arrays.copyOfRange(plain, 100, plain.length)));
+        case "/gzip-corrupt" -> corruptTrailer(gzip(plain));
+        case "/zlib" -> deflate(plain, false);
+        case "/deflate" -> deflate(plain, true);
+        default -> plain;
+      };
+      String encoding = path.startsWith("/gzip") ? "gzip" : path.equals("/plain") ? null : "deflate";
+      if (encoding != null) {
+        exchange.getResponseHeaders().add(HttpHeaders.CONTENT_ENCODING, encoding);
+      }
+      exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "text/plain;charset=UTF-8");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    downstream.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    downstream.stop(0);
+  }
+
+  private String url(String path) {
+    return "http://localhost:" + downstream.getAddress().getPort() + path;
+  }
+
+  private static byte[] gzip(byte[] plain) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(plain);
+    }
+    return out.toByteArray();
+  }
+
+  // nowrap 이면 zlib 헤더 없는 raw deflate, 아니면 zlib 형식
+  private static byte[] deflate(byte[] plain, boolean nowrap) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap))) {
+      deflate.write(plain);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] concat(byte[] first, byte[] second) {
+    byte[] joined = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, joined, first.length, second.length);
+    return joined;
+  }
+
+  // CRC32 트레일러를 바꾼다
+  private static byte[] corruptTrailer(byte[] gzip) {
+    gzip[gzip.length - 8] ^= 0x01;
+    return gzip;
+  }
+
+  @Test
+  @DisplayName("Accept-Encoding 을 보내고 gzip, zlib, raw deflate 응답을 풀어 받는다")
+  void whenCompressedResponse_thenDecoded() {
+    for (String path : new String[]{"/gzip", "/gzip-members", "/zlib", "/deflate", "/plain"}) {
+      // when
+      ResponseEntity<String> response = restTemplate.getForEntity(url(path), String.class);
+
+      // then
+      assertThat(response.getBody()).as(path).isEqualTo(BODY);
+      assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).as(path).isNull();
+    }
+    assertThat(received).containsEntry("accept-encoding", CompressionDecoder.ACCEPT_ENCODING);
+  }
+
+  @Test
+  @DisplayName("푼 응답의 바이트 수를 기록하고 Inflater 를 재사용한다")
+  void whenDecoded_thenStatsRecordedAndInflaterReused() {
+    // when
+    for (int i = 0; i < 3; i++) {
+      restTemplate.getForObject(url("/gzip"), String.class);
+    }
+
+    // then
+    Map<String, Object> stats = decoder.stats();
+    assertThat(stats).containsEntry("responses", 3L).containsEntry("inflatersCreated", 1L);
+    assertThat(stats).containsEntry("decodedBytes", 3L * BODY.length());
+    assertThat((Long) stats.get("bytesSaved")).isPositive();
+  }
+
+  @Test
+  @DisplayName("gzip 트레일러 CRC 가 맞지 않으면 실패한다")
+  void whenCrcMismatch_thenFails() {
+    assertThatThrownBy(() -> restTemplate.getForObject(url("/gzip-corrupt"), String.class))
+      .isInstanceOf(RestClientException.class)
+      .hasRootCauseMessage("Corrupt GZIP trailer");
+  }
+
+  @Test
+  @DisplayName("WebClient 도 같은 Inflater 풀로 풀고, 프록시 요청은 압축된 그대로 받는다")
+  void whenWebClient_thenDecodedUnlessSkipped() {
+    // given: 애플리케이션처럼 Netty 자체 해제 없이 만든다 (기본 커넥터는 compress(true))
+    WebClient webClient = WebClient.builder()
+      .clientConnector(new ReactorClientHttpConnector(HttpClient.create()))
+      .filter(new DecompressingExchangeFilterFunction(decoder, 256 * 1024))
+      .build();
+
+    // when
+    String decoded = webClient.get().uri(url("/gzip")).retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+    byte[] proxied = webClient.get().uri(url("/gzip"))
+      .attribute(DecompressingExchangeFilterFunction.SKIP_ATTRIBUTE, true)
+      .retrieve().bodyToMono(byte[].class).block(Duration.ofSeconds(5));
+
+    // then
+    assertThat(decoded).isEqualTo(BODY);
+    assertThat(proxied).hasSizeLessThan(BODY.length());
+    assertThat(decoder.stats()).containsEntry("responses", 1L);
+  }
+
+  @Test
+  @DisplayName("WebClient 로 푼 본문이 한도를 넘으면 DataBufferLimitException 으로 실패하고 Inflater 를 돌려준다")
+  void whenWebClientDecodedBodyExceedsLimit_thenFails() {
+    // given: 압축된 본문은 한도 안이지만 푼 본문은 한도를 넘는다
+    WebClient webClient = WebClient.builder()
+      .clientConnector(new ReactorClientHttpConnector(HttpClient.create()))
+      .filter(new DecompressingExchangeFilterFunction(decoder, 1024))
+      .build();
+
+    // when & then
+    assertThatThrownBy(() -> webClient.get().uri(url("/gzip")).retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5)))
+      .hasRootCauseInstanceOf(DataBufferLimitException.class);
+    assertThat(webClient.get().uri(url("/plain")).retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5)))
+      .isEqualTo(BODY);
+    assertThat(decoder.stats()).containsEntry("responses", 1L).containsEntry("inflatersCreated", 1L);
+  }
+}
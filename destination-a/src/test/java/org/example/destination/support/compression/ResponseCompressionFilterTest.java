@@ -0,0 +1,143 @@
+package org.example.destination.support.compression;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.inbound.infrastructure.compression.DeflaterPool;
+import org.example.inbound.infrastructure.compression.ResponseCompressionFilter;
+import org.example.inbound.infrastructure.compression.ResponseCompressionMetrics;
+import org.example.inbound.infrastructure.compression.ResponseCompressionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseCompressionFilter 응답 압축 테스트")
+class ResponseCompressionFilterTest {
+
+  private static final String LARGE_JSON = "[" + "{\"sku\":\"item\",\"quantity\":1},".repeat(200) + "{}]";
+
+  private final ResponseCompressionProperties properties =
+    new ResponseCompressionProperties(true, DataSize.ofKilobytes(1), null, null, 2, null);
+  private final DeflaterPool deflaterPool = new DeflaterPool(properties.getLevel(), properties.getPoolSize());
+  private final ResponseCompressionMetrics metrics = new ResponseCompressionMetrics();
+  private final ResponseCompressionFilter filter = new ResponseCompressionFilter(properties, deflaterPool, metrics);
+
+  private static MockHttpServletRequest request(String acceptEncoding) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/target/path/b");
+    if (acceptEncoding != null) {
+      request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+    }
+    return request;
+  }
+
+  // 컨트롤러처럼 Content-Type 과 Content-Length 를 지정하고 본문을 쓰는 서블릿
+  private static HttpServlet servlet(String contentType, byte[] body) {
+    return new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        resp.setContentType(contentType);
+        resp.setContentLength(body.length);
+        resp.getOutputStream().write(body);
+        resp.getOutputStream().flush();
+      }
+    };
+  }
+
+  private MockHttpServletResponse execute(MockHttpServletRequest request, String contentType, byte[] body) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain(servlet(contentType, body)));
+    return response;
+  }
+
+  private static byte[] gunzip(byte[] body) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return in.readAllBytes();
+    }
+  }
+
+  @Test
+  @DisplayName("기준보다 큰 JSON 응답은 gzip 으로 압축한다")
+  void whenLargeJson_thenCompressed() throws Exception {
+    // given
+    byte[] body = LARGE_JSON.getBytes(StandardCharsets.UTF_8);
+
+    // when
+    MockHttpServletResponse response = execute(request("gzip, deflate"), MediaType.APPLICATION_JSON_VALUE, body);
+
+    // then
+    assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH)).isNull();
+    assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+    assertThat(metrics.getCompressed()).isEqualTo(1);
+    assertThat(metrics.getBytesIn()).isEqualTo(body.length);
+    assertThat(metrics.getBytesOut()).isEqualTo(response.getContentAsByteArray().length).isLessThan(body.length);
+  }
+
+  @Test
+  @DisplayName("다 쓴 Deflater 는 풀에 반환되어 다음 응답이 재사용한다")
+  void whenCompressedRepeatedly_thenDeflaterReused() throws Exception {
+    // given
+    byte[] body = LARGE_JSON.getBytes(StandardCharsets.UTF_8);
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      MockHttpServletResponse response = execute(request("gzip"), MediaType.APPLICATION_JSON_VALUE, body);
+      assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+    }
+
+    // then
+    assertThat(deflaterPool.getCreated()).isEqualTo(1);
+    assertThat(deflaterPool.getIdle()).isEqualTo(1);
+    assertThat(metrics.getCompressed()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("기준보다 작은 응답은 원래 본문과 길이로 보낸다")
+  void whenSmallBody_thenNotCompressed() throws Exception {
+    // given
+    byte[] body = "{\"name\":\"Destination B\"}".getBytes(StandardCharsets.UTF_8);
+
+    // when
+    MockHttpServletResponse response = execute(request("gzip"), MediaType.APPLICATION_JSON_VALUE, body);
+
+    // then
+    assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    assertThat(response.getContentLength()).isEqualTo(body.length);
+    assertThat(response.getContentAsByteArray()).isEqualTo(body);
+    assertThat(metrics.getSkipped()).isEqualTo(1);
+    assertThat(metrics.getCompressed()).isZero();
+  }
+
+  @Test
+  @DisplayName("이미 압축된 형식과 압축을 받지 않는 요청은 그대로 보낸다")
+  void whenNotCompressibleOrNotAccepted_thenPassedThrough() throws Exception {
+    // given
+    byte[] body = new byte[8192];
+
+    // when
+    MockHttpServletResponse image = execute(request("gzip"), MediaType.IMAGE_PNG_VALUE, body);
+    MockHttpServletResponse identity = execute(request("identity, gzip;q=0"), MediaType.APPLICATION_JSON_VALUE, body);
+    MockHttpServletResponse none = execute(request(null), MediaType.APPLICATION_JSON_VALUE, body);
+
+    // then
+    for (MockHttpServletResponse response : new MockHttpServletResponse[]{image, identity, none}) {
+      assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+      assertThat(response.getContentLength()).isEqualTo(body.length);
+      assertThat(response.getContentAsByteArray()).isEqualTo(body);
+    }
+    assertThat(metrics.getCompressed()).isZero();
+  }
+}
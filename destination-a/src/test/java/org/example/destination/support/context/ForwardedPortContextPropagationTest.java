@@ -0,0 +1,160 @@
+package org.example.destination.support.context;
+
+import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.context.ForwardedPortContextExecutors;
+import org.example.inbound.infrastructure.context.ForwardedPortContextFutures;
+import org.example.inbound.infrastructure.context.ForwardedPortContextMode;
+import org.example.inbound.infrastructure.context.ForwardedPortContextSnapshot;
+import org.example.inbound.infrastructure.context.ForwardedPortContextTaskDecorator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ForwardedPortContext 스레드 간 전파 테스트")
+class ForwardedPortContextPropagationTest {
+
+  private static final String SERVICE_A = "service-a-forwarded-port";
+  private static final String SERVICE_B = "service-b-forwarded-port";
+
+  private ExecutorService worker;
+
+  @BeforeEach
+  void setUp() {
+    // 워커 하나를 재사용해 이전 작업의 Context가 남는지 확인한다
+    worker = Executors.newSingleThreadExecutor();
+    ForwardedPortContext.setAttribute(SERVICE_A, 8081);
+    ForwardedPortContext.setAttribute(SERVICE_B, 8082);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    ForwardedPortContext.clear();
+    ForwardedPortContext.configure(ForwardedPortContextMode.THREAD_LOCAL);
+    worker.shutdown();
+    assertThat(worker.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("감싸지 않은 Executor에서는 Context가 전달되지 않는다")
+  void plainExecutorDropsContext() throws Exception {
+    assertThat(worker.submit(ForwardedPortContext::isEmpty).get()).isTrue();
+  }
+
+  @Test
+  @DisplayName("감싼 ExecutorService는 Context를 전달하고 실행 후 워커를 비운다")
+  void wrappedExecutorServicePropagatesAndClears() throws Exception {
+    // given
+    ExecutorService executor = ForwardedPortContextExecutors.wrap(worker);
+
+    // when
+    Future<Integer> port = executor.submit(() -> ForwardedPortContext.getPortOrDefault(SERVICE_B, -1));
+
+    // then
+    assertThat(port.get()).isEqualTo(8082);
+    assertThat(worker.submit(ForwardedPortContext::isEmpty).get()).isTrue();
+  }
+
+  @Test
+  @DisplayName("워커의 변경은 요청 스레드와 다른 작업에 영향을 주지 않는다")
+  void workerWritesAreIsolated() throws Exception {
+    // given
+    ForwardedPortContextSnapshot snapshot = ForwardedPortContext.capture();
+
+    // when
+    worker.submit(snapshot.wrap(() -> {
+      ForwardedPortContext.setAttribute(SERVICE_B, 9999);
+      ForwardedPortContext.removeAttribute(SERVICE_A);
+    })).get();
+    Integer port = worker.submit(snapshot.wrap(
+      (Callable<Integer>) () -> ForwardedPortContext.getPortOrDefault(SERVICE_B, -1))).get();
+
+    // then
+    assertThat(port).isEqualTo(8082);
+    assertThat(ForwardedPortContext.getPortOrDefault(SERVICE_B, -1)).isEqualTo(8082);
+    assertThat(ForwardedPortContext.getPortOrDefault(SERVICE_A, -1)).isEqualTo(8081);
+  }
+
+  @Test
+  @DisplayName("Context가 바뀌지 않으면 같은 사본을 재사용한다")
+  void captureReusesSnapshotUntilModified() {
+    ForwardedPortContextSnapshot first = ForwardedPortContext.capture();
+
+    assertThat(ForwardedPortContext.capture()).isSameAs(first);
+    assertThat(first.size()).isEqualTo(2);
+
+    ForwardedPortContext.setAttribute(SERVICE_A, 8082);
+    assertThat(ForwardedPortContext.capture()).isNotSameAs(first);
+  }
+
+  @Test
+  @DisplayName("invokeAll로 실행한 작업 모두에 Context가 전달된다")
+  void invokeAllPropagates() throws Exception {
+    ExecutorService executor = ForwardedPortContextExecutors.newVirtualThreadPerTaskExecutor();
+    try (executor) {
+      List<Future<Integer>> futures = executor.invokeAll(List.of(
+        () -> ForwardedPortContext.getPortOrDefault(SERVICE_A, -1),
+        () -> ForwardedPortContext.getPortOrDefault(SERVICE_B, -1)
+      ));
+
+      assertThat(futures.get(0).get()).isEqualTo(8081);
+      assertThat(futures.get(1).get()).isEqualTo(8082);
+    }
+  }
+
+  @Test
+  @DisplayName("CompletableFuture 도우미와 TaskDecorator가 Context를 전달한다")
+  void futuresAndTaskDecoratorPropagate() throws Exception {
+    // when
+    CompletableFuture<Integer> future = ForwardedPortContextFutures.supplyAsync(
+      () -> ForwardedPortContext.getPortOrDefault(SERVICE_A, -1), worker);
+    CompletableFuture<Boolean> decorated = new CompletableFuture<>();
+    worker.execute(new ForwardedPortContextTaskDecorator().decorate(
+      () -> decorated.complete(ForwardedPortContext.getPort(SERVICE_B).isPresent())));
+
+    // then
+    assertThat(future.get()).isEqualTo(8081);
+    assertThat(decorated.get()).isTrue();
+  }
+
+  @Test
+  @DisplayName("ScopedValue 모드에서도 Context가 전달된다")
+  void propagatesInScopedValueMode() throws Exception {
+    ForwardedPortContext.configure(ForwardedPortContextMode.SCOPED_VALUE);
+    ExecutorService executor = ForwardedPortContextExecutors.wrap(worker);
+
+    Integer port = ForwardedPortContext.capture().call(() -> {
+      assertThat(ForwardedPortContext.getPortOrDefault(SERVICE_A, -1)).isEqualTo(8081);
+      return executor.submit(() -> ForwardedPortContext.getPortOrDefault(SERVICE_B, -1)).get();
+    });
+
+    assertThat(port).isEqualTo(8082);
+    assertThat(worker.submit(ForwardedPortContext::isEmpty).get()).isTrue();
+  }
+
+  @Test
+  @DisplayName("다른 스레드에서 완료되는 future의 이후 단계에 호출 스레드의 Context를 전달한다")
+  void propagatedFutureStagesSeeCallerContext() throws Exception {
+    // given
+    CompletableFuture<String> response = new CompletableFuture<>();
+    CompletableFuture<Integer> port = ForwardedPortContextFutures.propagate(response)
+      .thenApply(body -> ForwardedPortContext.getPortOrDefault(SERVICE_B, -1));
+
+    // when: Context가 없는 워커 스레드에서 완료한다
+    worker.submit(() -> response.complete("Destination B")).get();
+
+    // then
+    assertThat(port.get(5, TimeUnit.SECONDS)).isEqualTo(8082);
+    assertThat(worker.submit(ForwardedPortContext::isEmpty).get()).isTrue();
+  }
+}
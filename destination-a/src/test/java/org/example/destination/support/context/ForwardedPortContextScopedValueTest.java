@@ -0,0 +1,129 @@
+package org.example.destination.support.context;
+
+import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.context.ForwardedPortContextMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScopedValue 기반 ForwardedPortContext 테스트")
+class ForwardedPortContextScopedValueTest {
+
+  @BeforeEach
+  void setUp() {
+    assertThat(ForwardedPortContext.configure(ForwardedPortContextMode.SCOPED_VALUE))
+      .isEqualTo(ForwardedPortContextMode.SCOPED_VALUE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ForwardedPortContext.clear();
+    ForwardedPortContext.configure(ForwardedPortContextMode.THREAD_LOCAL);
+  }
+
+  @Test
+  @DisplayName("요청 범위가 끝나면 Context가 비워진다")
+  void shouldBeEmptyOutsideScope() {
+    // when
+    ForwardedPortContext.runInScope(() -> {
+      ForwardedPortContext.setAttribute("test-port", 8081);
+      assertThat(ForwardedPortContext.getPort("test-port")).hasValue(8081);
+    });
+
+    // then
+    assertThat(ForwardedPortContext.isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("StructuredTaskScope 하위 작업에 Context가 상속된다")
+  void shouldBeInheritedByStructuredTaskScopeSubtasks() throws Exception {
+    ForwardedPortContext.runInScope(() -> {
+      // given
+      ForwardedPortContext.setAttribute("service-b-forwarded-port", 8082);
+
+      // when
+      try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+        var first = scope.fork(() -> ForwardedPortContext.getPortOrDefault("service-b-forwarded-port", -1));
+        var second = scope.fork(() -> ForwardedPortContext.getAttributes().size());
+        scope.join().throwIfFailed();
+
+        // then
+        assertThat(first.get()).isEqualTo(8082);
+        assertThat(second.get()).isEqualTo(1);
+      }
+    });
+  }
+
+  @Test
+  @DisplayName("StructuredTaskScope 하위 작업은 불변 사본을 읽고, 저장하면 예외가 발생한다")
+  void shouldExposeReadOnlySnapshotToSubtasks() throws Exception {
+    ForwardedPortContext.runInScope(() -> {
+      // given
+      ForwardedPortContext.setAttribute("service-b-forwarded-port", 8082);
+
+      // when
+      try (var scope = new StructuredTaskScope<Object>()) {
+        var write = scope.fork(() -> {
+          ForwardedPortContext.setAttribute("service-c-forwarded-port", 8083);
+          return null;
+        });
+        var read = scope.fork(ForwardedPortContext::getAttributes);
+        scope.join();
+
+        // then
+        assertThat(write.state()).isEqualTo(StructuredTaskScope.Subtask.State.FAILED);
+        assertThat(write.exception()).isInstanceOf(IllegalStateException.class);
+        assertThat(read.get()).containsExactly(Map.entry("service-b-forwarded-port", 8082));
+      }
+      assertThat(ForwardedPortContext.getAttributes()).containsExactly(Map.entry("service-b-forwarded-port", 8082));
+
+      // 요청 스레드의 변경은 이후 하위 작업에 보인다
+      ForwardedPortContext.removeAttribute("service-b-forwarded-port");
+      try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+        var empty = scope.fork(ForwardedPortContext::isEmpty);
+        scope.join().throwIfFailed();
+        assertThat(empty.get()).isTrue();
+      }
+    });
+  }
+
+  @Test
+  @DisplayName("수천 개의 가상 스레드에서 요청별 Context가 격리된다")
+  void shouldIsolateContextPerVirtualThread() throws InterruptedException {
+    // given
+    final int VIRTUAL_THREAD_COUNT = 10_000;
+    Set<Integer> collectedPorts = ConcurrentHashMap.newKeySet();
+
+    // when
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < VIRTUAL_THREAD_COUNT; i++) {
+        final int port = 8080 + i;
+        executor.submit(() -> {
+          ForwardedPortContext.runInScope(() -> {
+            ForwardedPortContext.setAttribute("test-port", port);
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+            ForwardedPortContext.getPort("test-port").ifPresent(collectedPorts::add);
+          });
+          return null;
+        });
+      }
+      executor.shutdown();
+      assertThat(executor.awaitTermination(15, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // then
+    assertThat(collectedPorts).hasSize(VIRTUAL_THREAD_COUNT);
+  }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
@@ -101,6 +102,75 @@ class ForwardedPortContextTest {
     assertThat(ForwardedPortContext.getAttributes()).isEmpty();
   }
 
+  @Test
+  @DisplayName("박싱 없이 OptionalInt/기본값으로 포트를 조회할 수 있다")
+  void shouldRetrievePortWithoutBoxing() {
+    // given
+    ForwardedPortContext.setAttribute("test-port", 8081);
+
+    // when & then
+    assertThat(ForwardedPortContext.getPort("test-port")).hasValue(8081);
+    assertThat(ForwardedPortContext.getPort("non-existent-key")).isEmpty();
+    assertThat(ForwardedPortContext.getPortOrDefault("non-existent-key", ForwardedPortContext.NO_PORT))
+      .isEqualTo(ForwardedPortContext.NO_PORT);
+  }
+
+  @Test
+  @DisplayName("forEachAttribute()로 복사 없이 모든 속성을 순회할 수 있다")
+  void shouldIterateAllAttributes() {
+    // given
+    ForwardedPortContext.setAttribute("test-port-1", 8081);
+    ForwardedPortContext.setAttribute("test-port-2", 8082);
+    Map<String, Integer> visited = new HashMap<>();
+
+    // when
+    ForwardedPortContext.forEachAttribute(visited::put);
+
+    // then
+    assertThat(visited)
+      .hasSize(2)
+      .containsEntry("test-port-1", 8081)
+      .containsEntry("test-port-2", 8082);
+  }
+
+  @Test
+  @DisplayName("많은 속성을 저장/제거해도 남은 속성을 정확히 조회한다")
+  void shouldKeepRemainingAttributesAfterGrowAndRemove() {
+    // given
+    for (int i = 0; i < 100; i++) {
+      ForwardedPortContext.setAttribute("test-port-" + i, 8000 + i);
+    }
+
+    // when
+    for (int i = 0; i < 100; i += 2) {
+      ForwardedPortContext.removeAttribute("test-port-" + i);
+    }
+
+    // then
+    assertThat(ForwardedPortContext.getAttributes()).hasSize(50);
+    for (int i = 0; i < 100; i++) {
+      int expected = i % 2 == 0 ? ForwardedPortContext.NO_PORT : 8000 + i;
+      assertThat(ForwardedPortContext.getPortOrDefault("test-port-" + i, ForwardedPortContext.NO_PORT))
+        .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  @DisplayName("clear() 이후 같은 스레드에서 Context를 다시 사용할 수 있다")
+  void shouldReuseContextAfterClear() {
+    // given
+    ForwardedPortContext.setAttribute("test-port-1", 8081);
+    ForwardedPortContext.clear();
+
+    // when
+    ForwardedPortContext.setAttribute("test-port-2", 8082);
+
+    // then
+    assertThat(ForwardedPortContext.getAttributes())
+      .hasSize(1)
+      .containsEntry("test-port-2", 8082);
+  }
+
   @Test
   @DisplayName("여러 스레드에서 동시에 접근해도 ThreadLocal 격리가 유지된다")
   void shouldMaintainThreadLocalIsolationUnderHighConcurrency() throws InterruptedException {
@@ -0,0 +1,102 @@
+package org.example.destination.support.hedge;
+
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.hedge.HedgingPolicy;
+import org.example.destination.support.RestClientFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.destination.support.RestClientFixtures.properties;
+
+@DisplayName("HedgingPolicy 헤지 요청 테스트")
+class HedgingPolicyTest {
+
+  private static HedgingPolicy policy(double budgetRatio) {
+    return new HedgingPolicy(properties(
+      "hedge.enabled=true", "hedge.percentile=0.95", "hedge.initial-delay=20ms", "hedge.min-delay=1ms", "hedge.min-samples=20",
+      "hedge.budget-ratio=" + budgetRatio));
+  }
+
+  private static RequestContext<String> request(HttpMethod method) {
+    return RestClientFixtures.request().alternatePorts(List.of(8083)).httpMethod(method).build();
+  }
+
+  @Test
+  @DisplayName("첫 요청이 늦으면 다른 포트로 헤지하고 먼저 성공한 응답을 사용하며 늦은 요청은 취소한다")
+  void whenPrimarySlow_thenHedgeWinsAndPrimaryCancelled() throws Exception {
+    // given
+    HedgingPolicy policy = policy(1.0);
+    Map<Integer, CompletableFuture<String>> calls = new ConcurrentHashMap<>();
+
+    // when
+    CompletableFuture<String> result = policy.execute(request(HttpMethod.GET), context -> {
+      CompletableFuture<String> call = context.getPort() == 8082
+        ? new CompletableFuture<>()
+        : CompletableFuture.completedFuture("Destination B (" + context.getPort() + ")");
+      calls.put(context.getPort(), call);
+      return call;
+    });
+
+    // then
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Destination B (8083)");
+    assertThat(calls.get(8082)).isCancelled();
+    assertThat(policy.getHedgedRequests()).isEqualTo(1);
+    // 승리 횟수는 결과가 완료된 직후 기록된다
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    while (policy.getHedgeWins() == 0 && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(5);
+    }
+    assertThat(policy.getHedgeWins()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("첫 요청이 제때 응답하면 헤지하지 않는다")
+  void whenPrimaryFast_thenNoHedge() throws Exception {
+    // given
+    HedgingPolicy policy = policy(1.0);
+
+    // when
+    String response = policy.execute(request(HttpMethod.GET),
+      context -> CompletableFuture.completedFuture("port " + context.getPort())).get(5, TimeUnit.SECONDS);
+    TimeUnit.MILLISECONDS.sleep(50);
+
+    // then
+    assertThat(response).isEqualTo("port 8082");
+    assertThat(policy.getHedgedRequests()).isZero();
+  }
+
+  @Test
+  @DisplayName("GET 이 아닌 요청은 헤지하지 않는다")
+  void whenNotGet_thenNotHedgeable() {
+    assertThat(policy(1.0).isHedgeable(request(HttpMethod.POST))).isFalse();
+    assertThat(policy(1.0).isHedgeable(request(HttpMethod.GET))).isTrue();
+  }
+
+  @Test
+  @DisplayName("헤지 요청 수는 예산 비율로 제한된다")
+  void whenBudgetExhausted_thenHedgesCapped() throws Exception {
+    // given: 5% 예산, 모든 첫 요청이 늦는다
+    HedgingPolicy policy = policy(0.05);
+    int requests = 200;
+    CompletableFuture<?>[] results = new CompletableFuture<?>[requests];
+
+    // when
+    for (int i = 0; i < requests; i++) {
+      results[i] = policy.execute(request(HttpMethod.GET), context -> context.getPort() == 8082
+        ? CompletableFuture.supplyAsync(() -> "slow", CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS))
+        : CompletableFuture.completedFuture("hedge"));
+    }
+    CompletableFuture.allOf(results).get(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(policy.getHedgedRequests()).isBetween(1L, (long) (requests * 0.05));
+  }
+}
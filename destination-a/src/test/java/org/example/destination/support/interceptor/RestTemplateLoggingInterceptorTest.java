@@ -0,0 +1,100 @@
+package org.example.destination.support.interceptor;
+
+import org.example.client.rest.core.interceptor.RestTemplateLoggingInterceptor;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("RestTemplateLoggingInterceptor 스트리밍 로깅 테스트")
+class RestTemplateLoggingInterceptorTest {
+
+  private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost:8082/target/path/b"));
+
+  @Test
+  @DisplayName("큰 응답 본문은 그대로 전달되고 로그에는 앞부분만 남는다")
+  void whenLargeBody_thenPassesThroughAndLogsPrefix(CapturedOutput output) throws Exception {
+    // given
+    RestTemplateLoggingInterceptor interceptor = new RestTemplateLoggingInterceptor(new RestClientProperties.Logging(16, null));
+    byte[] body = ("0123456789abcdef" + "x".repeat(100_000)).getBytes(StandardCharsets.UTF_8);
+    MockClientHttpResponse delegate = new MockClientHttpResponse(body, HttpStatus.OK);
+
+    // when
+    byte[] read;
+    try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, b) -> delegate)) {
+      read = StreamUtils.copyToByteArray(response.getBody());
+    }
+
+    // then
+    assertThat(read).isEqualTo(body);
+    assertThat(output).contains("Response body: 0123456789abcdef... (truncated, " + body.length + " bytes read)");
+    assertThat(output).doesNotContain("0123456789abcdefx");
+  }
+
+  @Test
+  @DisplayName("본문은 Content-Type 의 charset 으로 디코딩된다")
+  void whenCharsetSpecified_thenDecodesWithCharset(CapturedOutput output) throws Exception {
+    // given
+    RestTemplateLoggingInterceptor interceptor = new RestTemplateLoggingInterceptor(new RestClientProperties.Logging(null, null));
+    Charset eucKr = Charset.forName("EUC-KR");
+    MockClientHttpResponse delegate = new MockClientHttpResponse("목적지 B".getBytes(eucKr), HttpStatus.OK);
+    delegate.getHeaders().setContentType(new MediaType(MediaType.TEXT_PLAIN, eucKr));
+
+    // when
+    try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, b) -> delegate)) {
+      StreamUtils.copyToString(response.getBody(), eucKr);
+    }
+
+    // then
+    assertThat(output).contains("Response body: 목적지 B");
+  }
+
+  @Test
+  @DisplayName("본문 유무 확인 후 다시 읽어도 같은 스트림을 반환한다")
+  void whenBodyRequestedTwice_thenSameStream() throws Exception {
+    // given
+    RestTemplateLoggingInterceptor interceptor = new RestTemplateLoggingInterceptor(new RestClientProperties.Logging(null, null));
+    MockClientHttpResponse delegate = new MockClientHttpResponse("Destination B".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+    // when
+    try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, b) -> delegate)) {
+      InputStream first = response.getBody();
+
+      // then
+      assertThat(response.getBody()).isSameAs(first);
+      assertThat(first.markSupported()).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("샘플링 비율이 0이면 응답을 감싸지 않고 기록하지 않는다")
+  void whenNotSampled_thenResponseNotWrapped(CapturedOutput output) throws Exception {
+    // given
+    RestTemplateLoggingInterceptor interceptor = new RestTemplateLoggingInterceptor(new RestClientProperties.Logging(null, 0.0));
+    MockClientHttpResponse delegate = new MockClientHttpResponse("Destination B".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+    // when
+    ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, b) -> delegate);
+
+    // then
+    assertThat(response).isSameAs(delegate);
+    assertThat(output).doesNotContain("Request Begin");
+  }
+}
@@ -0,0 +1,191 @@
+package org.example.destination.support.limit;
+
+import org.example.client.rest.infrastructures.exception.ConcurrencyLimitExceededException;
+import org.example.client.rest.infrastructures.limit.ConcurrencyLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.destination.support.RestClientFixtures.properties;
+import static org.example.destination.support.RestClientFixtures.request;
+
+@DisplayName("ConcurrencyLimiter 적응형 동시성 제한 테스트")
+class ConcurrencyLimiterTest {
+
+  private static final String ROUTE = "localhost:8082";
+
+  private static ConcurrencyLimiter limiter(int initialLimit, Duration maxWait) {
+    return new ConcurrencyLimiter(properties(
+      "concurrency-limit.enabled=true", "concurrency-limit.initial-limit=" + initialLimit, "concurrency-limit.min-limit=2",
+      "concurrency-limit.max-limit=50", "concurrency-limit.rtt-tolerance=2.0", "concurrency-limit.smoothing=0.2",
+      "concurrency-limit.max-wait=" + maxWait, "concurrency-limit.max-queue=1"));
+  }
+
+  /**
+   * 동시 요청 batch 건을 보내고 delayMillis 뒤에 모두 완료한다
+   */
+  private static void runBatch(ConcurrencyLimiter limiter, int batch, long delayMillis) throws Exception {
+    List<CompletableFuture<String>> downstream = new ArrayList<>();
+    List<CompletableFuture<String>> results = new ArrayList<>();
+    for (int i = 0; i < batch; i++) {
+      CompletableFuture<String> response = new CompletableFuture<>();
+      downstream.add(response);
+      results.add(limiter.execute(request().build(), () -> response));
+    }
+    Thread.sleep(delayMillis);
+    downstream.forEach(response -> response.complete("Destination B"));
+    CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @DisplayName("제한에 도달하면 max-wait 가 0 일 때 바로 거절한다")
+  void whenLimitReached_thenRejectsFast() {
+    // given
+    ConcurrencyLimiter limiter = limiter(2, Duration.ZERO);
+    AtomicInteger calls = new AtomicInteger();
+    limiter.execute(request().build(), CompletableFuture::new);
+    limiter.execute(request().build(), CompletableFuture::new);
+
+    // when
+    CompletableFuture<String> rejected = limiter.execute(request().build(), () -> {
+      calls.incrementAndGet();
+      return CompletableFuture.completedFuture("Destination B");
+    });
+
+    // then
+    assertThatThrownBy(rejected::join)
+      .isInstanceOf(CompletionException.class)
+      .hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+    assertThat(calls).hasValue(0);
+    @SuppressWarnings("unchecked")
+    Map<String, Object> route = (Map<String, Object>) ((Map<String, Object>) limiter.stats().get("routes")).get(ROUTE);
+    assertThat(route)
+      .containsEntry("limit", 2)
+      .containsEntry("inFlight", 2)
+      .containsEntry("rejected", 1L);
+  }
+
+  @Test
+  @DisplayName("max-wait 동안 기다리다 자리가 나면 요청을 보낸다")
+  void whenSlotReleasedWithinMaxWait_thenWaiterProceeds() throws Exception {
+    // given
+    ConcurrencyLimiter limiter = limiter(2, Duration.ofSeconds(1));
+    CompletableFuture<String> first = new CompletableFuture<>();
+    limiter.execute(request().build(), () -> first);
+    limiter.execute(request().build(), CompletableFuture::new);
+
+    // when
+    CompletableFuture<String> waiting = limiter.execute(request().build(), () -> CompletableFuture.completedFuture("Destination B"));
+    assertThat(waiting).isNotDone();
+    first.complete("Destination B");
+
+    // then
+    assertThat(waiting.get(1, TimeUnit.SECONDS)).isEqualTo("Destination B");
+  }
+
+  @Test
+  @DisplayName("기다린 요청은 자리를 돌려준 스레드가 아닌 별도 스레드에서 시작한다")
+  void whenWaiterGranted_thenStartsOffReleasingThread() throws Exception {
+    // given
+    ConcurrencyLimiter limiter = limiter(2, Duration.ofSeconds(1));
+    CompletableFuture<String> first = new CompletableFuture<>();
+    limiter.execute(request().build(), () -> first);
+    limiter.execute(request().build(), CompletableFuture::new);
+    CompletableFuture<Thread> caller = new CompletableFuture<>();
+    CompletableFuture<String> waiting = limiter.execute(request().build(), () -> {
+      caller.complete(Thread.currentThread());
+      return CompletableFuture.completedFuture("Destination B");
+    });
+
+    // when
+    first.complete("Destination B");
+
+    // then
+    assertThat(waiting.get(1, TimeUnit.SECONDS)).isEqualTo("Destination B");
+    assertThat(caller.join()).isNotSameAs(Thread.currentThread());
+    assertThat(caller.join().isVirtual()).isTrue();
+  }
+
+  @Test
+  @DisplayName("max-wait 가 지나거나 대기열이 가득 차면 거절한다")
+  void whenMaxWaitElapsedOrQueueFull_thenRejects() {
+    // given
+    ConcurrencyLimiter limiter = limiter(2, Duration.ofMillis(50));
+    limiter.execute(request().build(), CompletableFuture::new);
+    limiter.execute(request().build(), CompletableFuture::new);
+
+    // when
+    CompletableFuture<String> waiting = limiter.execute(request().build(), CompletableFuture::new);
+    CompletableFuture<String> queueFull = limiter.execute(request().build(), CompletableFuture::new);
+
+    // then
+    assertThatThrownBy(queueFull::join).hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+    assertThatThrownBy(waiting::join).hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+  }
+
+  @Test
+  @DisplayName("응답 시간이 유지되면 제한을 늘리고, 응답 시간이 늘어나면 제한을 줄인다")
+  void whenRttIncreases_thenLimitDecreases() throws Exception {
+    // given
+    ConcurrencyLimiter limiter = limiter(10, Duration.ZERO);
+
+    // when: 응답 시간이 일정한 채로 제한을 채워 쓰면 제한이 늘어난다
+    for (int i = 0; i < 20; i++) {
+      runBatch(limiter, limiter.getLimit(ROUTE), 5);
+    }
+    int grown = limiter.getLimit(ROUTE);
+
+    // when: 대상 서비스에 큐가 쌓여 응답 시간이 늘어나면 제한이 줄어든다
+    for (int i = 0; i < 3; i++) {
+      runBatch(limiter, 5, 40);
+    }
+
+    // then
+    assertThat(grown).isGreaterThan(10);
+    assertThat(limiter.getLimit(ROUTE)).isLessThan(grown);
+  }
+
+  @Test
+  @DisplayName("실패는 과부하 신호로 보고 제한을 줄인다")
+  void whenFailures_thenBacksOff() {
+    // given
+    ConcurrencyLimiter limiter = limiter(20, Duration.ZERO);
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      limiter.execute(request().build(), () -> CompletableFuture.<String>failedFuture(new IllegalStateException("boom")))
+        .exceptionally(e -> null)
+        .join();
+    }
+
+    // then: 20 * 0.9^5
+    assertThat(limiter.getLimit(ROUTE)).isEqualTo(11);
+  }
+
+  @Test
+  @DisplayName("반환한 future 를 취소하면 실제 요청도 취소하고 자리를 돌려준다")
+  void whenCancelled_thenSlotReleased() {
+    // given
+    ConcurrencyLimiter limiter = limiter(2, Duration.ZERO);
+    CompletableFuture<String> downstream = new CompletableFuture<>();
+
+    // when
+    limiter.execute(request().build(), () -> downstream).cancel(false);
+    limiter.execute(request().build(), CompletableFuture::new).cancel(false);
+
+    // then
+    assertThat(downstream).isCancelled();
+    assertThat(limiter.execute(request().build(), () -> CompletableFuture.completedFuture("Destination B")).join())
+      .isEqualTo("Destination B");
+  }
+}
@@ -0,0 +1,90 @@
+package org.example.destination.support.pool;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.example.client.rest.core.pool.Http2ConnectionGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+  webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+  properties = {
+    "server.http2.enabled=true",
+    "client.rest.transport=http2",
+    "client.rest.http2.connections=2"
+  })
+@DisplayName("HTTP2(h2c) 전송 테스트")
+class Http2TransportTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private RestTemplate restTemplate;
+
+  @Autowired
+  private ClientHttpRequestFactory outboundClientHttpRequestFactory;
+
+  @Autowired
+  private ServletWebServerApplicationContext context;
+
+  @Test
+  @DisplayName("서버는 h2c 요청을 HTTP/2 로 처리하고 스트림 한도를 늘린다")
+  void whenH2cRequest_thenServedOverHttp2() throws Exception {
+    // given
+    HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/target/path/a")).build();
+
+    // when
+    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+    // then
+    assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+    assertThat(response.body()).isEqualTo("Destination A");
+    UpgradeProtocol[] protocols = ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector().findUpgradeProtocols();
+    assertThat(protocols).singleElement().isInstanceOfSatisfying(Http2Protocol.class, http2 -> {
+      assertThat(http2.getMaxConcurrentStreams()).isEqualTo(1000);
+      assertThat(http2.getMaxConcurrentStreamExecution()).isEqualTo(1000);
+    });
+  }
+
+  @Test
+  @DisplayName("RestTemplate 은 h2c 연결 묶음으로 동시 요청을 처리한다")
+  void whenConcurrentRequests_thenAllSucceed() throws Exception {
+    // given
+    String url = "http://localhost:" + port + "/target/path/a";
+    List<Future<String>> responses = new ArrayList<>();
+
+    // when
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 100; i++) {
+        responses.add(executor.submit(() -> restTemplate.getForObject(url, String.class)));
+      }
+    }
+
+    // then
+    assertThat(outboundClientHttpRequestFactory).isInstanceOf(Http2ConnectionGroup.class);
+    for (Future<String> response : responses) {
+      assertThat(response.get()).isEqualTo("Destination A");
+    }
+  }
+}
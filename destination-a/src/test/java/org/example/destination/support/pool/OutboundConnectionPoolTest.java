@@ -0,0 +1,90 @@
+package org.example.destination.support.pool;
+
+import org.example.client.rest.core.pool.OutboundConnectionPool;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.context.RouteTemplate;
+import org.example.client.rest.infrastructures.factory.RouteTemplateFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+  webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+  properties = {
+    "client.rest.transport=pooled",
+    "client.rest.pool.max-total=4",
+    "client.rest.pool.max-per-route=2"
+  })
+@DisplayName("POOLED 전송 연결 풀 테스트")
+class OutboundConnectionPoolTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private RestTemplate restTemplate;
+
+  @Autowired
+  private OutboundConnectionPool connectionPool;
+
+  @Autowired
+  private RouteTemplateFactory routeTemplateFactory;
+
+  @Test
+  @DisplayName("같은 (도메인, 포트)로 연속 요청하면 하나의 keep-alive 연결을 재사용한다")
+  void whenSequentialRequests_thenConnectionReused() {
+    // given
+    String url = "http://localhost:" + port + "/target/path/a";
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      assertThat(restTemplate.getForObject(url, String.class)).isEqualTo("Destination A");
+    }
+
+    // then
+    Map<String, Map<String, Integer>> stats = connectionPool.stats();
+    assertThat(stats.get(OutboundConnectionPool.TOTAL))
+      .containsEntry("leased", 0)
+      .containsEntry("available", 1)
+      .containsEntry("max", 4);
+    assertThat(stats.get("localhost:" + port))
+      .containsEntry("available", 1)
+      .containsEntry("max", 2);
+  }
+
+  @Test
+  @DisplayName("비동기 요청도 설정된 전송의 연결 풀을 사용한다")
+  void whenExecuteAsync_thenUsesConfiguredTransport() {
+    // given
+    RouteTemplate<String> route = routeTemplateFactory.compile(
+      RequestContext.<String>builder()
+        .mediaType(MediaType.APPLICATION_JSON)
+        .domain("localhost")
+        .path("/target/path/a")
+        .httpMethod(HttpMethod.GET)
+        .responseType(String.class)
+        .build(),
+      List.of(port)
+    );
+
+    // when
+    String response = route.getStrategy().executeAsync(route.request(port, null, HttpHeaders.EMPTY)).join();
+
+    // then
+    assertThat(response).isEqualTo("Destination A");
+    assertThat(connectionPool.stats().get("localhost:" + port))
+      .containsEntry("leased", 0)
+      .containsEntry("available", 1);
+  }
+}
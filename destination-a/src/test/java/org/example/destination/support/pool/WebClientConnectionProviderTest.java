@@ -0,0 +1,35 @@
+package org.example.destination.support.pool;
+
+import org.example.client.rest.core.config.WebClientConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.destination.support.RestClientFixtures.properties;
+
+@DisplayName("WebClient 연결 풀 한도 테스트")
+class WebClientConnectionProviderTest {
+
+  @Test
+  @DisplayName("http2 전송이어도 HTTP/1.1 연결 한도는 reactive.max-connections 를 유지한다")
+  void whenHttp2Transport_thenMaxConnectionsKept() {
+    // given
+    WebClientConfiguration configuration = new WebClientConfiguration();
+
+    // when
+    ConnectionProvider http11 = configuration.webClientConnectionProvider(properties(
+      "reactive.max-connections=300", "http2.connections=2"));
+    ConnectionProvider http2 = configuration.webClientConnectionProvider(properties(
+      "transport=http2", "reactive.max-connections=300", "http2.connections=2"));
+
+    // then
+    try {
+      assertThat(http11.maxConnections()).isEqualTo(300);
+      assertThat(http2.maxConnections()).isEqualTo(300);
+    } finally {
+      http11.dispose();
+      http2.dispose();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package org.example.destination.support.proxy;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+import org.example.client.rest.infrastructures.proxy.ProxyHeaders;
+import org.example.client.rest.infrastructures.proxy.ProxyTarget;
+import org.example.client.rest.infrastructures.proxy.StreamingProxy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StreamingProxy 스트리밍 리버스 프록시 테스트")
+class StreamingProxyTest {
+
+  private final Map<String, Object> received = new ConcurrentHashMap<>();
+  private final StreamingProxy proxy = new StreamingProxy(new SimpleClientHttpRequestFactory());
+  private HttpServer downstream;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    downstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    // 받은 요청을 기록하고 본문을 그대로 돌려주는 다운스트림
+    downstream.createContext("/", exchange -> {
+      byte[] body;
+      try (InputStream in = exchange.getRequestBody()) {
+        body = in.readAllBytes();
+      }
+      received.put("method", exchange.getRequestMethod());
+      received.put("uri", exchange.getRequestURI().toString());
+      received.put("headers", exchange.getRequestHeaders());
+      exchange.getResponseHeaders().add("X-Downstream", "b");
+      exchange.getResponseHeaders().add("Keep-Alive", "timeout=5");
+      exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+      exchange.sendResponseHeaders(201, body.length == 0 ? -1 : body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    downstream.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    downstream.stop(0);
+  }
+
+  private URI target(String path, String query) {
+    return ProxyTarget.resolve("localhost", downstream.getAddress().getPort(), path, query);
+  }
+
+  private static byte[] binaryBody(int size) {
+    byte[] body = new byte[size];
+    for (int i = 0; i < size; i++) {
+      body[i] = (byte) i;
+    }
+    return body;
+  }
+
+  @Test
+  @DisplayName("메서드, 경로, 쿼리, 본문을 그대로 전달하고 상태 코드와 본문을 바이트 그대로 돌려준다")
+  void whenPostWithBinaryBody_thenStreamedByteForByte() throws IOException {
+    // given: 버퍼(8KB)보다 크고 UTF-8 로 디코딩할 수 없는 본문
+    byte[] body = binaryBody(100_000);
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/proxy/items");
+    request.setContent(body);
+    request.addHeader(HttpHeaders.CONTENT_TYPE, "application/octet-stream");
+    request.addHeader(HttpHeaders.CONTENT_LENGTH, body.length);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    proxy.forward(request, response, target("/items", "id=1&name=%EA%B0%80"), proxy.requestHeaders(request));
+
+    // then
+    assertThat(received).containsEntry("method", "POST").containsEntry("uri", "/items?id=1&name=%EA%B0%80");
+    assertThat(response.getStatus()).isEqualTo(201);
+    assertThat(response.getHeader("X-Downstream")).isEqualTo("b");
+    assertThat(response.getContentAsByteArray()).isEqualTo(body);
+  }
+
+  @Test
+  @DisplayName("연결 단위 헤더와 Connection 에 나열된 헤더는 전달하지 않는다")
+  void whenHopByHopHeaders_thenNotForwarded() throws IOException {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/proxy/items");
+    request.addHeader("X-Tenant", "t1");
+    request.addHeader(HttpHeaders.CONNECTION, "X-Debug");
+    request.addHeader("X-Debug", "1");
+    request.addHeader(HttpHeaders.PROXY_AUTHORIZATION, "Basic secret");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    proxy.forward(request, response, target("/items", null), proxy.requestHeaders(request));
+
+    // then
+    Headers headers = (Headers) received.get("headers");
+    assertThat(headers.getFirst("X-Tenant")).isEqualTo("t1");
+    assertThat(headers.containsKey("X-Debug")).isFalse();
+    assertThat(headers.containsKey("Proxy-Authorization")).isFalse();
+    assertThat(response.getHeader("Keep-Alive")).isNull();
+    assertThat(response.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("대상 서버에 연결할 수 없으면 502 로 응답한다")
+  void whenConnectionRefused_thenBadGateway() throws IOException {
+    // given
+    int closedPort;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      closedPort = socket.getLocalPort();
+    }
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/proxy/items");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    proxy.forward(request, response, ProxyTarget.resolve("localhost", closedPort, "/items", null), new HttpHeaders());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(502);
+  }
+
+  @Test
+  @DisplayName("점 세그먼트가 있는 경로는 거부한다")
+  void whenDotSegment_thenRejected() {
+    for (String path : List.of("/../admin", "/a/./b", "/%2e%2E/admin", "/a/%2E")) {
+      assertThatThrownBy(() -> ProxyTarget.resolve("localhost", 8082, path, null))
+        .isInstanceOf(IllegalArgumentException.class);
+    }
+    assertThat(ProxyTarget.resolve("localhost", 8082, "", null)).isEqualTo(URI.create("http://localhost:8082/"));
+    assertThat(ProxyTarget.resolve("localhost", 8082, "/a/..b/c.d", "q=1"))
+      .isEqualTo(URI.create("http://localhost:8082/a/..b/c.d?q=1"));
+  }
+
+  @Test
+  @DisplayName("본문 유무는 Content-Length, Transfer-Encoding 으로 판단한다")
+  void whenBodyHeaders_thenHasBody() {
+    HttpHeaders chunked = new HttpHeaders();
+    chunked.add(HttpHeaders.TRANSFER_ENCODING, "chunked");
+    HttpHeaders sized = new HttpHeaders();
+    sized.setContentLength(3);
+
+    assertThat(ProxyHeaders.hasBody(chunked)).isTrue();
+    assertThat(ProxyHeaders.hasBody(sized)).isTrue();
+    assertThat(ProxyHeaders.hasBody(new HttpHeaders())).isFalse();
+    assertThat(ProxyHeaders.filter(chunked)).isEmpty();
+  }
+}
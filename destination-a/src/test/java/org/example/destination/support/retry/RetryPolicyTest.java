@@ -0,0 +1,189 @@
+package org.example.destination.support.retry;
+
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.exception.CircuitOpenException;
+import org.example.client.rest.infrastructures.retry.RetryPolicy;
+import org.example.destination.support.RestClientFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.destination.support.RestClientFixtures.properties;
+
+@DisplayName("RetryPolicy 멱등 요청 재시도 테스트")
+class RetryPolicyTest {
+
+  private static RetryPolicy policy(int maxAttempts, double budgetRatio, Duration deadline) {
+    return new RetryPolicy(properties(
+      "retry.enabled=true", "retry.max-attempts=" + maxAttempts, "retry.base-delay=1ms", "retry.max-delay=5ms",
+      "retry.budget-ratio=" + budgetRatio, "retry.deadline=" + deadline));
+  }
+
+  private static RetryPolicy policy() {
+    return policy(3, 0.1, Duration.ofSeconds(10));
+  }
+
+  private static RequestContext<String> request(HttpMethod method) {
+    return RestClientFixtures.request().httpMethod(method).build();
+  }
+
+  private static CompletableFuture<String> connectionRefused() {
+    return CompletableFuture.failedFuture(
+      new RuntimeException("Failed to request", new ResourceAccessException("Connection refused")));
+  }
+
+  /**
+   * failures 번 실패한 뒤 성공하는 다운스트림
+   */
+  private static Supplier<CompletableFuture<String>> failing(AtomicInteger calls, int failures, Supplier<CompletableFuture<String>> failure) {
+    return () -> calls.incrementAndGet() <= failures ? failure.get() : CompletableFuture.completedFuture("Destination B");
+  }
+
+  @Test
+  @DisplayName("연결 실패는 재시도해 성공한다")
+  void whenTransientFailure_thenRetriesAndRecovers() throws Exception {
+    // given
+    RetryPolicy policy = policy();
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    String result = policy.execute(request(HttpMethod.GET), failing(calls, 2, RetryPolicyTest::connectionRefused))
+      .get(1, TimeUnit.SECONDS);
+
+    // then
+    assertThat(result).isEqualTo("Destination B");
+    assertThat(calls).hasValue(3);
+    assertThat(policy.getRetries()).isEqualTo(2);
+    assertThat(policy.getRecovered()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("max-attempts 까지만 시도한다")
+  void whenAlwaysFails_thenStopsAtMaxAttempts() {
+    // given
+    RetryPolicy policy = policy();
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    CompletableFuture<String> result = policy.execute(request(HttpMethod.GET), failing(calls, 10, RetryPolicyTest::connectionRefused));
+
+    // then
+    assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS)).hasRootCauseInstanceOf(ResourceAccessException.class);
+    assertThat(calls).hasValue(3);
+    assertThat(policy.stats()).containsEntry("attemptsExhausted", 1L);
+  }
+
+  @Test
+  @DisplayName("503 응답은 재시도하고 4xx, 회로 열림은 재시도하지 않는다")
+  void whenStatusOrCircuitOpen_thenRetriesOnlyTransient() throws Exception {
+    // given
+    RetryPolicy policy = policy();
+    AtomicInteger unavailable = new AtomicInteger();
+    AtomicInteger notFound = new AtomicInteger();
+    AtomicInteger circuitOpen = new AtomicInteger();
+
+    // when
+    policy.execute(request(HttpMethod.GET), failing(unavailable, 1, () -> CompletableFuture.failedFuture(
+      new RuntimeException("Failed to request", new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))))).get(1, TimeUnit.SECONDS);
+    policy.execute(request(HttpMethod.GET), failing(notFound, 1, () -> CompletableFuture.failedFuture(
+      new RuntimeException("Failed to request", new HttpClientErrorException(HttpStatus.NOT_FOUND))))).exceptionally(e -> null).join();
+    policy.execute(request(HttpMethod.GET), failing(circuitOpen, 1, () -> CompletableFuture.failedFuture(
+      new CircuitOpenException("localhost:8082")))).exceptionally(e -> null).join();
+
+    // then
+    assertThat(unavailable).hasValue(2);
+    assertThat(notFound).hasValue(1);
+    assertThat(circuitOpen).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("멱등이 아닌 요청은 재시도하지 않는다")
+  void whenNotIdempotent_thenNoRetry() {
+    // given
+    RetryPolicy policy = policy();
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    policy.execute(request(HttpMethod.POST), failing(calls, 1, RetryPolicyTest::connectionRefused))
+      .exceptionally(e -> null)
+      .join();
+
+    // then
+    assertThat(policy.isRetryable(request(HttpMethod.POST))).isFalse();
+    assertThat(policy.isRetryable(request(HttpMethod.PUT))).isTrue();
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("재시도 예산을 다 쓰면 재시도하지 않는다")
+  void whenBudgetExhausted_thenNoRetry() {
+    // given: 적립 없이 처음 채워진 10개만 사용
+    RetryPolicy policy = policy(2, 0.0, Duration.ofSeconds(10));
+
+    // when
+    for (int i = 0; i < 15; i++) {
+      policy.execute(request(HttpMethod.GET), RetryPolicyTest::connectionRefused)
+        .exceptionally(e -> null)
+        .join();
+    }
+
+    // then
+    assertThat(policy.getRetries()).isEqualTo(10);
+    assertThat(policy.getBudgetExhausted()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("deadline 안에 다시 시도할 시간이 없으면 재시도하지 않는다")
+  void whenDeadlineTooShort_thenNoRetry() {
+    // given
+    RetryPolicy policy = policy(3, 0.1, Duration.ofMillis(30));
+    AtomicInteger calls = new AtomicInteger();
+
+    // when: 한 번 시도에 20ms 가 걸리면 다시 시도할 시간이 없다
+    policy.execute(request(HttpMethod.GET), () -> {
+        calls.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+          throw new RuntimeException("Failed to request", new ResourceAccessException("Read timed out"));
+        }, CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS));
+      })
+      .exceptionally(e -> null)
+      .join();
+
+    // then
+    assertThat(calls).hasValue(1);
+    assertThat(policy.getDeadlineExceeded()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("반환한 future 를 취소하면 진행 중인 시도를 취소하고 재시도하지 않는다")
+  void whenCancelled_thenStopsRetrying() throws Exception {
+    // given
+    RetryPolicy policy = policy();
+    CompletableFuture<String> downstream = new CompletableFuture<>();
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    CompletableFuture<String> result = policy.execute(request(HttpMethod.GET), () -> {
+      calls.incrementAndGet();
+      return downstream;
+    });
+    result.cancel(false);
+    Thread.sleep(20);
+
+    // then
+    assertThat(downstream).isCancelled();
+    assertThat(calls).hasValue(1);
+  }
+}
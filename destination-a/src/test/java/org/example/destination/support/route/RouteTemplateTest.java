@@ -0,0 +1,96 @@
+package org.example.destination.support.route;
+
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.context.RouteTemplate;
+import org.example.client.rest.infrastructures.factory.JsonRequestStrategy;
+import org.example.client.rest.infrastructures.factory.JsonWebClientRequestStrategy;
+import org.example.client.rest.infrastructures.factory.RouteTemplateFactory;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("RouteTemplate 요청 템플릿 테스트")
+class RouteTemplateTest {
+
+  @Autowired
+  private RouteTemplateFactory routeTemplateFactory;
+
+  @Autowired
+  private UrlTemplateBuilder urlTemplateBuilder;
+
+  private RouteTemplate<String> compile() {
+    return routeTemplateFactory.compile(
+      RequestContext.<String>builder()
+        .mediaType(MediaType.APPLICATION_JSON)
+        .domain("localhost")
+        .path("/target/path/b")
+        .httpMethod(HttpMethod.GET)
+        .responseType(String.class)
+        .build(),
+      List.of(8082)
+    );
+  }
+
+  @Test
+  @DisplayName("시작 시 전략을 선택하고 요청마다 포트와 헤더만 채운다")
+  void whenRequest_thenUsesResolvedStrategyAndPrototypeFields() {
+    // given
+    RouteTemplate<String> route = compile();
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("service-b-forwarded-port", "8082");
+
+    // when
+    RequestContext<String> context = route.request(8082, List.of(8083), headers);
+
+    // then
+    assertThat(route.getStrategy()).isInstanceOf(JsonRequestStrategy.class);
+    assertThat(route.getReactiveStrategy()).isInstanceOf(JsonWebClientRequestStrategy.class);
+    assertThat(context.getDomain()).isEqualTo("localhost");
+    assertThat(context.getPath()).isEqualTo("/target/path/b");
+    assertThat(context.getPort()).isEqualTo(8082);
+    assertThat(context.getAlternatePorts()).containsExactly(8083);
+    assertThat(context.getHttpHeaders()).isSameAs(headers);
+    assertThat(context.getUri()).isEqualTo(URI.create("http://localhost:8082/target/path/b"));
+  }
+
+  @Test
+  @DisplayName("개별 지정 포트의 URI 는 미리 만들어 두고, 다른 포트의 URI 는 처음 쓸 때 만들어 재사용한다")
+  void whenPortResolved_thenUriReused() {
+    // given
+    RouteTemplate<String> route = compile();
+
+    // when
+    URI explicit = route.request(8082, null, HttpHeaders.EMPTY).getUri();
+    URI ranged = route.request(9100, null, HttpHeaders.EMPTY).getUri();
+
+    // then
+    assertThat(route.request(8082, null, HttpHeaders.EMPTY).getUri()).isSameAs(explicit);
+    assertThat(route.request(9100, null, HttpHeaders.EMPTY).getUri()).isSameAs(ranged);
+    assertThat(ranged).isEqualTo(URI.create("http://localhost:9100/target/path/b"));
+    assertThat(route.request(null, null, HttpHeaders.EMPTY).getUri()).isEqualTo(URI.create("http://localhost/target/path/b"));
+  }
+
+  @Test
+  @DisplayName("포트를 바꾼 사본(헤지 요청)은 그 포트의 URI 를 사용한다")
+  void whenWithPort_thenUriFollowsPort() {
+    // given
+    RequestContext<String> context = compile().request(8082, List.of(8083), HttpHeaders.EMPTY);
+
+    // when
+    RequestContext<String> hedge = context.withPort(8083);
+
+    // then
+    assertThat(urlTemplateBuilder.buildUri(hedge)).isEqualTo(URI.create("http://localhost:8083/target/path/b"));
+  }
+}
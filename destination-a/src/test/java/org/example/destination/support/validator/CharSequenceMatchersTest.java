@@ -0,0 +1,80 @@
+package org.example.destination.support.validator;
+
+import org.example.inbound.infrastructure.validator.matcher.CharSequenceMatcher;
+import org.example.inbound.infrastructure.validator.matcher.CharSequenceMatchers;
+import org.example.inbound.infrastructure.validator.matcher.PortParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@DisplayName("CharSequenceMatchers 테스트")
+class CharSequenceMatchersTest {
+
+  private static final String HEADER_PATTERN = "^[a-zA-Z0-9-]+-forwarded-port$";
+  private static final String PORT_PATTERN = "^[0-9]+$";
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "service-a-forwarded-port", "x-forwarded-port", "-forwarded-port", "--forwarded-port",
+    "forwarded-port", "service@a-forwarded-port", "service-a-forwarded-portx", "Service-A-Forwarded-Port",
+    "service a-forwarded-port", "서비스-forwarded-port", ""
+  })
+  @DisplayName("헤더 패턴은 java.util.regex와 동일한 결과를 낸다")
+  void headerPatternMatchesLikeRegex(String headerName) {
+    CharSequenceMatcher matcher = CharSequenceMatchers.compile(HEADER_PATTERN);
+
+    assertThat(matcher.matches(headerName))
+      .isEqualTo(Pattern.compile(HEADER_PATTERN).matcher(headerName).matches());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"8081", "0", "", "12.34", "-1", "8081!", "포트", "+8081"})
+  @DisplayName("포트 패턴은 java.util.regex와 동일한 결과를 낸다")
+  void portPatternMatchesLikeRegex(String portValue) {
+    CharSequenceMatcher matcher = CharSequenceMatchers.compile(PORT_PATTERN);
+
+    assertThat(CharSequenceMatchers.isDigitsOnly(matcher)).isTrue();
+    assertThat(matcher.matches(portValue))
+      .isEqualTo(Pattern.compile(PORT_PATTERN).matcher(portValue).matches());
+  }
+
+  @Test
+  @DisplayName("특화 형태가 아닌 패턴도 선형 시간 안에 검사한다")
+  void catastrophicPatternRunsInLinearTime() {
+    CharSequenceMatcher matcher = CharSequenceMatchers.compile("^(a+)+$");
+    String input = "a".repeat(10_000) + "!";
+
+    assertTimeoutPreemptively(Duration.ofSeconds(1), () ->
+      assertThat(matcher.matches(input)).isFalse()
+    );
+    assertThat(matcher.matches("aaaa")).isTrue();
+  }
+
+  @Test
+  @DisplayName("선형 시간으로 처리할 수 없는 패턴은 기동 시점에 거부된다")
+  void rejectsBackreferencePattern() {
+    assertThatThrownBy(() -> CharSequenceMatchers.compile("^(a)\\1$"))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("포트 파서는 공백을 건너뛰고 범위 초과를 구분한다")
+  void portParser() {
+    String value = "  8081 ";
+    int start = PortParser.trimStart(value);
+    int end = PortParser.trimEnd(value, start);
+
+    assertThat(PortParser.parse(value, start, end)).isEqualTo(8081);
+    assertThat(PortParser.parse("99999999999", 0, 11)).isEqualTo(PortParser.OVERFLOW);
+    assertThat(PortParser.parse("80a1", 0, 4)).isEqualTo(PortParser.INVALID);
+    assertThat(PortParser.parse("", 0, 0)).isEqualTo(PortParser.INVALID);
+  }
+}
@@ -1,6 +1,8 @@
 package org.example.destination.support.validator;
 
 import org.example.destination.core.props.ForwardPortProperties;
+import org.example.inbound.infrastructure.validator.ForwardedPortRejectReason;
+import org.example.inbound.infrastructure.validator.ForwardedPortValidationRules;
 import org.example.inbound.infrastructure.validator.ForwardedPortValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -72,4 +74,25 @@ class ForwardedPortValidatorTest {
       Arguments.of("service-a-forwarded-port", "8082", "최대 허용 포트")
     );
   }
-}
\ No newline at end of file
+
+  @ParameterizedTest
+  @MethodSource("rejectReasonTestCases")
+  @DisplayName("유효하지 않은 포워딩 정보의 거부 사유 판별")
+  void rejectReason(String headerName, String portValue, ForwardedPortRejectReason expected) {
+    ForwardedPortValidationRules rules = ForwardedPortValidationRules.compile(properties);
+
+    assertThat(rules.rejectReason(headerName, portValue)).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> rejectReasonTestCases() {
+    return Stream.of(
+      Arguments.of("service-a-forwarded-port", "8081", null),
+      Arguments.of("invalid-header", "8081", ForwardedPortRejectReason.BAD_NAME),
+      Arguments.of(null, "8081", ForwardedPortRejectReason.BAD_NAME),
+      Arguments.of("service-a-forwarded-port", "abc", ForwardedPortRejectReason.BAD_FORMAT),
+      Arguments.of("service-a-forwarded-port", null, ForwardedPortRejectReason.BAD_FORMAT),
+      Arguments.of("service-a-forwarded-port", "65536", ForwardedPortRejectReason.OUT_OF_RANGE),
+      Arguments.of("service-a-forwarded-port", "0", ForwardedPortRejectReason.OUT_OF_RANGE)
+    );
+  }
+}
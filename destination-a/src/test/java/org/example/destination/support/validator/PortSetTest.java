@@ -0,0 +1,68 @@
+package org.example.destination.support.validator;
+
+import org.example.inbound.infrastructure.validator.PortSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PortSet 테스트")
+class PortSetTest {
+
+  @Test
+  @DisplayName("포트 목록으로 생성한 집합은 목록의 포트만 포함한다")
+  void listOfPorts() {
+    PortSet portSet = PortSet.of(List.of(8081, 8082));
+
+    assertThat(portSet.contains(8081)).isTrue();
+    assertThat(portSet.contains(8082)).isTrue();
+    assertThat(portSet.contains(8080)).isFalse();
+    assertThat(portSet.contains(8083)).isFalse();
+    assertThat(portSet.contains(-1)).isFalse();
+    assertThat(portSet.contains(65536)).isFalse();
+    assertThat(portSet.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("여러 범위의 합집합을 표현할 수 있다")
+  void unionOfRanges() {
+    PortSet portSet = PortSet.builder()
+      .addRange(9000, 9999)
+      .addRange(20000, 20999)
+      .add(8081)
+      .build();
+
+    assertThat(portSet.size()).isEqualTo(2001);
+    assertThat(portSet.contains(9000)).isTrue();
+    assertThat(portSet.contains(9999)).isTrue();
+    assertThat(portSet.contains(10000)).isFalse();
+    assertThat(portSet.contains(20500)).isTrue();
+    assertThat(portSet).hasToString("[8081, 9000-9999, 20000-20999]");
+    assertThat(PortSet.range(9000, 9999).union(PortSet.of(8081)).union(PortSet.range(20000, 20999)))
+      .isEqualTo(portSet);
+  }
+
+  @Test
+  @DisplayName("포트를 오름차순으로 순회한다")
+  void iteratesInOrder() {
+    PortSet portSet = PortSet.of(65535, 0, 8082, 8081);
+    List<Integer> ports = new ArrayList<>();
+
+    portSet.forEach(ports::add);
+
+    assertThat(ports).containsExactly(0, 8081, 8082, 65535);
+    assertThat(portSet.nextPort(8083)).isEqualTo(65535);
+    assertThat(PortSet.EMPTY.nextPort(0)).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("유효 범위를 벗어난 포트는 거부된다")
+  void rejectsInvalidPorts() {
+    assertThatThrownBy(() -> PortSet.of(65536)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PortSet.range(9000, 8000)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -2,8 +2,15 @@ package org.example.destination;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ComponentScan;
 
 @SpringBootApplication
+@ComponentScan(basePackages = {
+  "org.example.destination",
+  "org.example.inbound.infrastructure.codec",
+  "org.example.inbound.infrastructure.compression",
+  "org.example.inbound.infrastructure.http2",
+})
 public class DestinationBApplication {
 
   public static void main(String[] args) {
@@ -1,8 +1,11 @@
 package org.example.destination.api;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.infrastructure.codec.DestinationResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -11,9 +14,12 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/target/path")
 public class DestinationBController {
 
+  /**
+   * 이전 홉에는 {@link DestinationResponse}, 외부 요청에는 서비스 이름 문자열로 응답한다.
+   */
   @GetMapping("/b")
-  public ResponseEntity<String> destinationB() {
+  public ResponseEntity<Object> destinationB(@RequestHeader HttpHeaders headers) {
     log.info("Destination B");
-    return ResponseEntity.ok("Destination B");
+    return ResponseEntity.ok(new DestinationResponse("Destination B").negotiate(headers.getAccept()));
   }
 }
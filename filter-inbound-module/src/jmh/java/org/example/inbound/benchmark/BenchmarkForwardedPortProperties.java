@@ -0,0 +1,21 @@
+package org.example.inbound.benchmark;
+
+import org.example.inbound.core.props.AbstractForwardedPortProperties;
+
+/**
+ * application.yml과 동일한 값의 포워딩 설정
+ */
+class BenchmarkForwardedPortProperties extends AbstractForwardedPortProperties {
+
+  BenchmarkForwardedPortProperties() {
+    this("^[a-zA-Z0-9-]+-forwarded-port$", "^[0-9]+$");
+  }
+
+  BenchmarkForwardedPortProperties(String headerPattern, String portPattern) {
+    super(new PortHeader(
+      new PortHeader.HeaderPattern("forwarded-port", headerPattern),
+      new PortHeader.Port(portPattern, new PortHeader.Port.PortRange(8081, 8082)),
+      null
+    ), null, null, null);
+  }
+}
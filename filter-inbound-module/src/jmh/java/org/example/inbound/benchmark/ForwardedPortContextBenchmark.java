@@ -0,0 +1,67 @@
+package org.example.inbound.benchmark;
+
+import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 요청 동안의 Context 사용 패턴(저장 2회, 조회, 헤더 전달용 순회, 정리)의 비용과 할당량 비교
+ * <p>
+ * 실행: ./gradlew :filter-inbound-module:jmh -Pjmh.includes=ForwardedPortContextBenchmark (-prof gc)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ForwardedPortContextBenchmark {
+
+  private static final String CURRENT_KEY = "service-a-forwarded-port";
+  private static final String NEXT_KEY = "service-b-forwarded-port";
+
+  @Benchmark
+  public void legacy(Blackhole blackhole) {
+    try {
+      LegacyForwardedPortContext.setAttribute(CURRENT_KEY, 8081);
+      LegacyForwardedPortContext.setAttribute(NEXT_KEY, 8082);
+      blackhole.consume(LegacyForwardedPortContext.isEmpty());
+      blackhole.consume(LegacyForwardedPortContext.getAttribute(CURRENT_KEY).orElse(null));
+      LegacyForwardedPortContext.getAttributes().entrySet().stream()
+        .filter(entry -> !entry.getKey().equals(CURRENT_KEY))
+        .forEach(entry -> blackhole.consume(entry.getValue()));
+    } finally {
+      LegacyForwardedPortContext.clear();
+    }
+  }
+
+  @Benchmark
+  public void reusable(Blackhole blackhole) {
+    try {
+      ForwardedPortContext.setAttribute(CURRENT_KEY, 8081);
+      ForwardedPortContext.setAttribute(NEXT_KEY, 8082);
+      blackhole.consume(ForwardedPortContext.isEmpty());
+      blackhole.consume(ForwardedPortContext.getPortOrDefault(CURRENT_KEY, ForwardedPortContext.NO_PORT));
+      ForwardedPortContext.forEachAttribute((key, port) -> {
+        if (!key.equals(CURRENT_KEY)) {
+          blackhole.consume(port);
+        }
+      });
+    } finally {
+      ForwardedPortContext.clear();
+    }
+  }
+
+  @Benchmark
+  public void noForwardedHeaders(Blackhole blackhole) {
+    try {
+      blackhole.consume(ForwardedPortContext.isEmpty());
+    } finally {
+      ForwardedPortContext.clear();
+    }
+  }
+}
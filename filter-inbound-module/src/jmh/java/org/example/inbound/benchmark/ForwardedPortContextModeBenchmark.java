@@ -0,0 +1,71 @@
+package org.example.inbound.benchmark;
+
+import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.context.ForwardedPortContextMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청마다 가상 스레드를 하나씩 사용할 때 ThreadLocal / ScopedValue 백엔드 비교
+ * <p>
+ * 한 번의 호출에서 가상 스레드 N개를 동시에 띄우고 각 스레드가 필터와 같은 순서
+ * (runInScope → 저장 2회 → 조회 → 순회)로 Context를 사용한다.
+ * <p>
+ * 실행: ./gradlew :filter-inbound-module:jmh -Pjmh.includes=ForwardedPortContextModeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ForwardedPortContextModeBenchmark {
+
+  private static final String CURRENT_KEY = "service-a-forwarded-port";
+  private static final String NEXT_KEY = "service-b-forwarded-port";
+
+  @Param({"THREAD_LOCAL", "SCOPED_VALUE"})
+  private ForwardedPortContextMode mode;
+
+  @Param({"10000"})
+  private int concurrentRequests;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    if (ForwardedPortContext.configure(mode) != mode) {
+      throw new IllegalStateException("Context mode " + mode + " is not available, run with --enable-preview");
+    }
+  }
+
+  @Benchmark
+  public long requestPerVirtualThread() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(concurrentRequests);
+    LongAdder forwardedPorts = new LongAdder();
+
+    for (int i = 0; i < concurrentRequests; i++) {
+      Thread.ofVirtual().start(() -> {
+        try {
+          ForwardedPortContext.runInScope(() -> {
+            ForwardedPortContext.setAttribute(CURRENT_KEY, 8081);
+            ForwardedPortContext.setAttribute(NEXT_KEY, 8082);
+            forwardedPorts.add(ForwardedPortContext.getPortOrDefault(CURRENT_KEY, ForwardedPortContext.NO_PORT));
+            ForwardedPortContext.forEachAttribute((key, port) -> forwardedPorts.add(port));
+          });
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+
+    done.await();
+    return forwardedPorts.sum();
+  }
+}
@@ -0,0 +1,75 @@
+package org.example.inbound.benchmark;
+
+import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나가 작업 여러 개를 워커로 넘길 때 Context 전달 비용 비교 (실행 스레드 전환 비용은 제외)
+ * <p>
+ * mapCopy: 작업마다 getAttributes() 복사본을 만들어 워커에서 다시 저장하고 정리하는 방식
+ * snapshot: capture() 사본을 공유하고 워커에는 배열을 공유하는 holder만 설치하는 방식
+ * <p>
+ * 실행: ./gradlew :filter-inbound-module:jmh -Pjmh.includes=ForwardedPortContextPropagationBenchmark (-prof gc)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ForwardedPortContextPropagationBenchmark {
+
+  private static final String CURRENT_KEY = "service-a-forwarded-port";
+  private static final String NEXT_KEY = "service-b-forwarded-port";
+
+  @Param({"1", "8"})
+  private int tasksPerRequest;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    ForwardedPortContext.setAttribute(CURRENT_KEY, 8081);
+    ForwardedPortContext.setAttribute(NEXT_KEY, 8082);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    ForwardedPortContext.clear();
+  }
+
+  @Benchmark
+  public void mapCopy(Blackhole blackhole) {
+    for (int i = 0; i < tasksPerRequest; i++) {
+      Map<String, Integer> attributes = ForwardedPortContext.getAttributes();
+      Runnable task = () -> {
+        Map<String, Integer> previous = ForwardedPortContext.getAttributes();
+        try {
+          attributes.forEach(ForwardedPortContext::setAttribute);
+          blackhole.consume(ForwardedPortContext.getPortOrDefault(NEXT_KEY, ForwardedPortContext.NO_PORT));
+        } finally {
+          ForwardedPortContext.clear();
+          previous.forEach(ForwardedPortContext::setAttribute);
+        }
+      };
+      task.run();
+    }
+  }
+
+  @Benchmark
+  public void snapshot(Blackhole blackhole) {
+    for (int i = 0; i < tasksPerRequest; i++) {
+      Runnable task = ForwardedPortContext.capture().wrap(() ->
+        blackhole.consume(ForwardedPortContext.getPortOrDefault(NEXT_KEY, ForwardedPortContext.NO_PORT)));
+      task.run();
+    }
+  }
+}
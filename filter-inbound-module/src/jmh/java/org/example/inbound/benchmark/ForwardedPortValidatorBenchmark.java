@@ -0,0 +1,71 @@
+package org.example.inbound.benchmark;
+
+import org.example.inbound.infrastructure.validator.ForwardedPortValidator;
+import org.example.inbound.infrastructure.validator.PortValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 정규식 검증기와 컴파일된 매처 기반 검증기의 헤더 검증 비용 비교
+ * <p>
+ * 실행: ./gradlew :filter-inbound-module:jmh -Pjmh.includes=ForwardedPortValidatorBenchmark
+ * (할당량은 -prof gc 옵션으로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ForwardedPortValidatorBenchmark {
+
+  @Param({"valid", "badName", "badPort", "outOfRange"})
+  private String scenario;
+
+  private PortValidator regexValidator;
+  private PortValidator compiledValidator;
+  private String headerName;
+  private String headerValue;
+
+  @Setup
+  public void setUp() {
+    BenchmarkForwardedPortProperties properties = new BenchmarkForwardedPortProperties();
+    regexValidator = new RegexForwardedPortValidator(properties);
+    compiledValidator = new ForwardedPortValidator(properties);
+
+    switch (scenario) {
+      case "valid" -> {
+        headerName = "service-a-forwarded-port";
+        headerValue = " 8081 ";
+      }
+      case "badName" -> {
+        headerName = "service@a-forwarded-port";
+        headerValue = "8081";
+      }
+      case "badPort" -> {
+        headerName = "service-a-forwarded-port";
+        headerValue = "8081!";
+      }
+      case "outOfRange" -> {
+        headerName = "service-a-forwarded-port";
+        headerValue = "99999999999";
+      }
+      default -> throw new IllegalArgumentException(scenario);
+    }
+  }
+
+  @Benchmark
+  public boolean regex() {
+    return regexValidator.isValidForwardedPort(headerName, headerValue);
+  }
+
+  @Benchmark
+  public int compiled() {
+    return compiledValidator.resolveForwardedPort(headerName, headerValue);
+  }
+}
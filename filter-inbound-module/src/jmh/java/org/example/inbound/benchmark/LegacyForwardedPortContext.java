@@ -0,0 +1,40 @@
+package org.example.inbound.benchmark;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비교 기준: 요청마다 holder와 ConcurrentHashMap을 새로 만드는 기존 ForwardedPortContext 구현
+ */
+final class LegacyForwardedPortContext {
+  private static final ThreadLocal<ContextHolder> CONTEXT = ThreadLocal.withInitial(ContextHolder::new);
+
+  private LegacyForwardedPortContext() {
+  }
+
+  static void setAttribute(String key, int port) {
+    CONTEXT.get().contextData.put(key, port);
+  }
+
+  static Optional<Integer> getAttribute(String key) {
+    return Optional.ofNullable(CONTEXT.get().contextData.get(key));
+  }
+
+  static Map<String, Integer> getAttributes() {
+    return Collections.unmodifiableMap(CONTEXT.get().contextData);
+  }
+
+  static boolean isEmpty() {
+    return CONTEXT.get().contextData.isEmpty();
+  }
+
+  static void clear() {
+    CONTEXT.remove();
+  }
+
+  private static class ContextHolder {
+    private final Map<String, Integer> contextData = new ConcurrentHashMap<>();
+  }
+}
@@ -0,0 +1,46 @@
+package org.example.inbound.benchmark;
+
+import org.example.inbound.core.props.ForwardedPortConfigProperties;
+import org.example.inbound.infrastructure.validator.PortValidator;
+
+import java.util.regex.Pattern;
+
+/**
+ * 비교 기준: java.util.regex 기반의 기존 ForwardedPortValidator 구현
+ */
+class RegexForwardedPortValidator implements PortValidator {
+  private final Pattern headerPattern;
+  private final Pattern portPattern;
+  private final Integer minPort;
+  private final Integer maxPort;
+
+  RegexForwardedPortValidator(ForwardedPortConfigProperties forwardedPortConfigProperties) {
+    this.headerPattern = Pattern.compile(forwardedPortConfigProperties.getHeaderPattern());
+    this.portPattern = Pattern.compile(forwardedPortConfigProperties.getPortPattern());
+    this.minPort = forwardedPortConfigProperties.getMinPort();
+    this.maxPort = forwardedPortConfigProperties.getMaxPort();
+  }
+
+  @Override
+  public boolean isValidForwardedPort(String headerName, String portValue) {
+    if (headerName == null || headerName.trim().isEmpty()) {
+      return false;
+    }
+    if (!headerPattern.matcher(headerName).matches()) {
+      return false;
+    }
+    if (portValue == null || portValue.trim().isEmpty()) {
+      return false;
+    }
+    if (!portPattern.matcher(portValue.trim()).matches()) {
+      return false;
+    }
+    try {
+      Integer.parseInt(portValue.trim());
+    } catch (NumberFormatException e) {
+      return false;
+    }
+    int port = Integer.parseInt(portValue.trim());
+    return port >= minPort && port <= maxPort;
+  }
+}
@@ -0,0 +1,74 @@
+package org.example.inbound.benchmark;
+
+import org.example.inbound.infrastructure.compression.DeflaterPool;
+import org.example.inbound.infrastructure.compression.GzipDeflaterOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 본문 gzip 압축: 응답마다 GZIPOutputStream(새 Deflater) / 풀링된 Deflater 비교
+ * <p>
+ * 주문 항목 items 개의 JSON 본문을 압축한다.
+ * -prof gc 로 실행하면 응답당 할당량도 비교할 수 있다 (Deflater 의 네이티브 메모리는 포함되지 않는다).
+ * <p>
+ * 실행: ./gradlew :filter-inbound-module:jmh -Pjmh.includes=ResponseCompressionBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseCompressionBenchmark {
+
+  @Param({"20", "500"})
+  private int items;
+
+  private byte[] body;
+  private DeflaterPool deflaterPool;
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    StringBuilder json = new StringBuilder("{\"orderId\":\"order-1\",\"items\":[");
+    for (int i = 0; i < items; i++) {
+      json.append(i == 0 ? "" : ",")
+        .append("{\"sku\":\"sku-").append(i).append("\",\"name\":\"item ").append(i)
+        .append("\",\"quantity\":").append(i % 7 + 1).append(",\"price\":").append(1000 + i * 13).append('}');
+    }
+    body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    deflaterPool = new DeflaterPool(6, 1);
+  }
+
+  @Benchmark
+  public int gzipOutputStream() throws IOException {
+    out.reset();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192, true)) {
+      gzip.write(body);
+    }
+    return out.size();
+  }
+
+  @Benchmark
+  public int pooledDeflater() throws IOException {
+    out.reset();
+    Deflater deflater = deflaterPool.acquire();
+    try (GzipDeflaterOutputStream gzip = new GzipDeflaterOutputStream(out, deflater)) {
+      gzip.write(body);
+    } finally {
+      deflaterPool.release(deflater);
+    }
+    return out.size();
+  }
+}
@@ -3,6 +3,7 @@ package org.example.inbound.core.props;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.infrastructure.context.ForwardedPortContextMode;
 
 @Slf4j
 @Getter
@@ -11,8 +12,17 @@ public abstract class AbstractForwardedPortProperties implements ForwardedPortCo
 
   protected final PortHeader headers;
 
-  protected AbstractForwardedPortProperties(PortHeader headers) {
+  protected final Context context;
+
+  protected final Reload reload;
+
+  protected final Validation validation;
+
+  protected AbstractForwardedPortProperties(PortHeader headers, Context context, Reload reload, Validation validation) {
     this.headers = headers;
+    this.context = context != null ? context : new Context(null);
+    this.reload = reload != null ? reload : new Reload(null, null);
+    this.validation = validation != null ? validation : new Validation(null);
     log.info("{}", this);
   }
 
@@ -41,6 +51,75 @@ public abstract class AbstractForwardedPortProperties implements ForwardedPortCo
     return headers.getPorts().getRange().getMax();
   }
 
+  @Override
+  public int getMaxInspectedHeaders() {
+    return headers.getLimits().getMaxCount();
+  }
+
+  @Override
+  public int getMaxInspectedHeaderBytes() {
+    return headers.getLimits().getMaxBytes();
+  }
+
+  @Override
+  public ForwardedPortContextMode getContextMode() {
+    return context.getMode();
+  }
+
+  @Override
+  public String getReloadFile() {
+    return reload.getFile();
+  }
+
+  @Override
+  public boolean isStrictValidation() {
+    return validation.isStrict();
+  }
+
+  /**
+   * 잘못된 포워딩 헤더 처리 방식
+   */
+  @Getter
+  @ToString
+  public static class Validation {
+    // true 이면 잘못된 포워딩 헤더가 있는 요청을 필터에서 400으로 거부한다 (false 이면 경고 로그 후 해당 헤더만 무시)
+    private final boolean strict;
+
+    public Validation(Boolean strict) {
+      this.strict = strict != null && strict;
+    }
+  }
+
+  /**
+   * 실행 중 설정 재적용
+   */
+  @Getter
+  @ToString
+  public static class Reload {
+    // 변경을 감시할 설정 파일 (yml/properties), 없으면 감시하지 않는다
+    private final String file;
+    // /admin/forwarding/config 관리 엔드포인트 사용 여부
+    private final boolean endpointEnabled;
+
+    public Reload(String file, Boolean endpointEnabled) {
+      this.file = file;
+      this.endpointEnabled = endpointEnabled != null && endpointEnabled;
+    }
+  }
+
+  /**
+   * ForwardedPortContext 저장소 설정
+   */
+  @Getter
+  @ToString
+  public static class Context {
+    private final ForwardedPortContextMode mode;
+
+    public Context(ForwardedPortContextMode mode) {
+      this.mode = mode != null ? mode : ForwardedPortContextMode.THREAD_LOCAL;
+    }
+  }
+
   @Getter
   @ToString
   public static class PortHeader {
@@ -48,9 +127,12 @@ public abstract class AbstractForwardedPortProperties implements ForwardedPortCo
 
     private final Port ports;
 
-    public PortHeader(HeaderPattern patterns, Port ports) {
+    private final Limit limits;
+
+    public PortHeader(HeaderPattern patterns, Port ports, Limit limits) {
       this.patterns = patterns;
       this.ports = ports;
+      this.limits = limits != null ? limits : new Limit(null, null);
     }
 
     @Getter
@@ -66,6 +148,27 @@ public abstract class AbstractForwardedPortProperties implements ForwardedPortCo
       }
     }
 
+    /**
+     * 요청당 검사할 헤더 개수/바이트 한도
+     */
+    @Getter
+    @ToString
+    public static class Limit {
+      private static final int DEFAULT_MAX_COUNT = 64;
+      private static final int DEFAULT_MAX_BYTES = 16 * 1024;
+
+      private final int maxCount;
+      private final int maxBytes;
+
+      public Limit(Integer maxCount, Integer maxBytes) {
+        this.maxCount = maxCount != null ? maxCount : DEFAULT_MAX_COUNT;
+        this.maxBytes = maxBytes != null ? maxBytes : DEFAULT_MAX_BYTES;
+        if (this.maxCount < 1 || this.maxBytes < 1) {
+          throw new IllegalArgumentException("Header limits must be positive");
+        }
+      }
+    }
+
     @Getter
     @ToString
     public static class Port {
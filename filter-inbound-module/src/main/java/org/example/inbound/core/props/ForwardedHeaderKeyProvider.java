@@ -0,0 +1,23 @@
+package org.example.inbound.core.props;
+
+import org.example.inbound.infrastructure.validator.PortSet;
+
+import java.util.Collection;
+
+/**
+ * 서비스가 알고 있는 포워딩 헤더 키(service.*.header.key)를 제공한다.
+ */
+@FunctionalInterface
+public interface ForwardedHeaderKeyProvider {
+
+  Collection<String> getForwardedHeaderKeys();
+
+  /**
+   * 헤더 키별 허용 포트(service.*.header.ports/ranges)
+   *
+   * @return 허용 포트 집합, 허용 목록이 없는 키면 null
+   */
+  default PortSet getAllowedPorts(String headerKey) {
+    return null;
+  }
+}
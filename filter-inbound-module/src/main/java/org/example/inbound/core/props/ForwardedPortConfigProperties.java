@@ -1,5 +1,7 @@
 package org.example.inbound.core.props;
 
+import org.example.inbound.infrastructure.context.ForwardedPortContextMode;
+
 public interface ForwardedPortConfigProperties {    // 헤더 패턴 관련
   String getHeaderSuffix();
 
@@ -11,4 +13,18 @@ public interface ForwardedPortConfigProperties {    // 헤더 패턴 관련
   Integer getMinPort();
 
   Integer getMaxPort();
+
+  // 헤더 검사 한도
+  int getMaxInspectedHeaders();
+
+  int getMaxInspectedHeaderBytes();
+
+  // Context 저장소
+  ForwardedPortContextMode getContextMode();
+
+  // 실행 중 다시 읽을 설정 파일, 없으면 null
+  String getReloadFile();
+
+  // 잘못된 포워딩 헤더가 있으면 요청을 거부
+  boolean isStrictValidation();
 }
@@ -0,0 +1,22 @@
+package org.example.inbound.infrastructure.codec;
+
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * 홉 간 응답 본문 (요청을 처리한 서비스)
+ * <p>
+ * 이전 홉은 이 타입으로 응답을 요청하므로 service.*.media-type 형식(JSON, Smile)으로 인코딩된다.
+ * 외부 요청(Accept 없음, text/plain 또는 와일드카드 포함)에는 지금처럼 서비스 이름 문자열로 응답한다.
+ */
+public record DestinationResponse(String destination) {
+
+  /**
+   * Accept 에 맞는 응답 본문: 문자열을 받을 수 있으면 서비스 이름, 아니면 이 객체
+   */
+  public Object negotiate(List<MediaType> accept) {
+    boolean text = accept.isEmpty() || accept.stream().anyMatch(type -> type.includes(MediaType.TEXT_PLAIN));
+    return text ? destination : this;
+  }
+}
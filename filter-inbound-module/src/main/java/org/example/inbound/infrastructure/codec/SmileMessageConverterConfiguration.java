@@ -0,0 +1,43 @@
+package org.example.inbound.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeType;
+
+/**
+ * 이전 홉과의 Smile(바이너리 JSON) 요청/응답 협상
+ * <p>
+ * Content-Type 또는 Accept 가 application/x-jackson-smile 인 요청만 Smile 로 읽고 쓴다.
+ * Smile 컨버터는 JSON 컨버터 뒤에 있으므로 Accept 를 지정하지 않은 외부 요청은 지금처럼 JSON(문자열은 text/plain)으로 응답한다.
+ * 문자열 응답은 Smile 요청에도 문자열 컨버터가 그대로 쓰므로, 홉 간 응답은 {@link DestinationResponse}로 보낸다.
+ */
+@Configuration
+public class SmileMessageConverterConfiguration {
+
+  private static final MimeType SMILE = new MimeType("application", "x-jackson-smile");
+
+  // 기본 Smile 컨버터를 애플리케이션 ObjectMapper 설정을 쓰는 컨버터로 바꾼다 (같은 위치에 등록된다)
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+    return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+  }
+
+  // 미디어 타입을 지정하지 않으면 JSON 미디어 타입으로 등록되므로 Smile 미디어 타입을 지정한다
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+  public CodecCustomizer smileCodecCustomizer(ObjectMapper objectMapper) {
+    ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+    return configurer -> {
+      configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE));
+      configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE));
+    };
+  }
+}
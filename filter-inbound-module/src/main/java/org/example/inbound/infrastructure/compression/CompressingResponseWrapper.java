@@ -0,0 +1,328 @@
+package org.example.inbound.infrastructure.compression;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * 본문 앞부분을 min-response-size 까지 모아 압축 여부를 정하는 응답
+ * <p>
+ * 모은 본문이 기준을 넘거나 flushBuffer() 로 응답을 커밋하면 그때 헤더(상태, Content-Type, Content-Encoding)를 보고 정한다.
+ * 압축하면 Content-Length 를 빼고 Content-Encoding: gzip 으로 스트리밍하며, 끝까지 기준보다 작으면 원래 본문과 길이로 보낸다.
+ */
+final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+  private enum State { UNDECIDED, COMPRESS, PASSTHROUGH }
+
+  private final ResponseCompressionProperties properties;
+  private final DeflaterPool deflaterPool;
+  private final ResponseCompressionMetrics metrics;
+  private final int threshold;
+
+  private State state = State.UNDECIDED;
+  private byte[] buffer;
+  private int count;
+  private long contentLength = -1;
+
+  private ServletOutputStream outputStream;
+  private PrintWriter writer;
+  private Deflater deflater;
+  private GzipDeflaterOutputStream gzip;
+
+  CompressingResponseWrapper(
+    HttpServletResponse response, ResponseCompressionProperties properties, DeflaterPool deflaterPool, ResponseCompressionMetrics metrics
+  ) {
+    super(response);
+    this.properties = properties;
+    this.deflaterPool = deflaterPool;
+    this.metrics = metrics;
+    this.threshold = (int) properties.getMinResponseSize().toBytes();
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() throws IOException {
+    if (writer != null) {
+      throw new IllegalStateException("getWriter() has already been called for this response");
+    }
+    if (outputStream == null) {
+      outputStream = new CompressingOutputStream(super.getOutputStream());
+    }
+    return outputStream;
+  }
+
+  @Override
+  public PrintWriter getWriter() throws IOException {
+    if (writer == null) {
+      if (outputStream != null) {
+        throw new IllegalStateException("getOutputStream() has already been called for this response");
+      }
+      outputStream = new CompressingOutputStream(super.getOutputStream());
+      writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+    }
+    return writer;
+  }
+
+  // Content-Length 는 압축 여부를 정한 뒤에 적용한다
+  @Override
+  public void setContentLength(int len) {
+    setContentLengthLong(len);
+  }
+
+  @Override
+  public void setContentLengthLong(long len) {
+    if (state == State.UNDECIDED) {
+      contentLength = len;
+    } else if (state == State.PASSTHROUGH) {
+      super.setContentLengthLong(len);
+    }
+  }
+
+  @Override
+  public void setHeader(String name, String value) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+      setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+    } else {
+      super.setHeader(name, value);
+    }
+  }
+
+  @Override
+  public void addHeader(String name, String value) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+      setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+    } else {
+      super.addHeader(name, value);
+    }
+  }
+
+  @Override
+  public void setIntHeader(String name, int value) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+      setContentLengthLong(value);
+    } else {
+      super.setIntHeader(name, value);
+    }
+  }
+
+  @Override
+  public void addIntHeader(String name, int value) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+      setContentLengthLong(value);
+    } else {
+      super.addIntHeader(name, value);
+    }
+  }
+
+  @Override
+  public void sendError(int sc, String msg) throws IOException {
+    passthroughWithoutBody();
+    super.sendError(sc, msg);
+  }
+
+  @Override
+  public void sendError(int sc) throws IOException {
+    passthroughWithoutBody();
+    super.sendError(sc);
+  }
+
+  @Override
+  public void sendRedirect(String location) throws IOException {
+    passthroughWithoutBody();
+    super.sendRedirect(location);
+  }
+
+  // 응답을 커밋하는 flush(SSE 등)는 압축 여부를 바로 정한다
+  @Override
+  public void flushBuffer() throws IOException {
+    if (writer != null) {
+      writer.flush();
+    }
+    if (state == State.UNDECIDED) {
+      decide();
+    }
+    if (gzip != null) {
+      gzip.flush();
+    }
+    super.flushBuffer();
+  }
+
+  @Override
+  public void resetBuffer() {
+    if (state == State.UNDECIDED) {
+      count = 0;
+    }
+    super.resetBuffer();
+  }
+
+  @Override
+  public void reset() {
+    if (state == State.UNDECIDED) {
+      count = 0;
+      contentLength = -1;
+    }
+    super.reset();
+  }
+
+  /**
+   * 남은 본문을 보내고 압축했다면 트레일러를 쓰고 Deflater 를 풀에 반환한다
+   */
+  void finish() throws IOException {
+    if (writer != null) {
+      writer.flush();
+    }
+    if (state == State.UNDECIDED) {
+      // 본문 전체가 기준보다 작다
+      if (count > 0 && properties.isCompressible(getContentType())) {
+        metrics.recordSkipped();
+      }
+      state = State.PASSTHROUGH;
+      if (!isCommitted() && count > 0) {
+        super.setContentLengthLong(count);
+      } else if (contentLength >= 0) {
+        super.setContentLengthLong(contentLength);
+      }
+      writeBuffered();
+    }
+    if (gzip != null) {
+      try {
+        gzip.finish();
+        metrics.recordCompressed(gzip.getBytesRead(), gzip.getBytesWritten(), gzip.getDeflateNanos());
+      } finally {
+        release();
+      }
+    }
+  }
+
+  /**
+   * 예외로 끝난 요청의 Deflater 를 반환한다
+   */
+  void release() {
+    if (deflater != null) {
+      deflaterPool.release(deflater);
+      deflater = null;
+      gzip = null;
+    }
+  }
+
+  private void decide() throws IOException {
+    if (shouldCompress()) {
+      state = State.COMPRESS;
+      super.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+      addVary();
+      deflater = deflaterPool.acquire();
+      gzip = new GzipDeflaterOutputStream(super.getOutputStream(), deflater);
+      if (count > 0) {
+        gzip.write(buffer, 0, count);
+      }
+      count = 0;
+    } else {
+      state = State.PASSTHROUGH;
+      if (properties.isCompressible(getContentType())) {
+        addVary();
+      }
+      if (contentLength >= 0) {
+        super.setContentLengthLong(contentLength);
+      }
+      writeBuffered();
+    }
+  }
+
+  private boolean shouldCompress() {
+    int status = getStatus();
+    return !isCommitted()
+      && status >= 200 && status != HttpServletResponse.SC_NO_CONTENT
+      && status != HttpServletResponse.SC_PARTIAL_CONTENT && status != HttpServletResponse.SC_NOT_MODIFIED
+      && getHeader(HttpHeaders.CONTENT_ENCODING) == null
+      && properties.isCompressible(getContentType());
+  }
+
+  private void addVary() {
+    String vary = getHeader(HttpHeaders.VARY);
+    if (vary == null || !vary.toLowerCase().contains("accept-encoding")) {
+      super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+  }
+
+  private void passthroughWithoutBody() {
+    if (state == State.UNDECIDED) {
+      state = State.PASSTHROUGH;
+      count = 0;
+    }
+  }
+
+  private void writeBuffered() throws IOException {
+    if (count > 0) {
+      super.getOutputStream().write(buffer, 0, count);
+      count = 0;
+    }
+  }
+
+  private void write(byte[] b, int off, int len) throws IOException {
+    switch (state) {
+      case COMPRESS -> gzip.write(b, off, len);
+      case PASSTHROUGH -> super.getOutputStream().write(b, off, len);
+      case UNDECIDED -> {
+        if (count + len < threshold) {
+          if (buffer == null) {
+            buffer = new byte[Math.min(threshold, Math.max(256, len * 2))];
+          } else if (count + len > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(threshold, Math.max(count + len, buffer.length * 2)));
+          }
+          System.arraycopy(b, off, buffer, count, len);
+          count += len;
+        } else {
+          decide();
+          write(b, off, len);
+        }
+      }
+    }
+  }
+
+  private final class CompressingOutputStream extends ServletOutputStream {
+
+    private final ServletOutputStream delegate;
+
+    private CompressingOutputStream(ServletOutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      CompressingResponseWrapper.this.write(b, off, len);
+    }
+
+    // 메시지 컨버터는 본문을 다 쓰고 스트림을 flush 하므로, 정하기 전의 flush 는 무시하고 본문을 계속 모은다
+    @Override
+    public void flush() throws IOException {
+      switch (state) {
+        case COMPRESS -> gzip.flush();
+        case PASSTHROUGH -> delegate.flush();
+        case UNDECIDED -> {
+        }
+      }
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      delegate.setWriteListener(writeListener);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package org.example.inbound.infrastructure.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+/**
+ * 응답 압축용 Deflater 풀
+ * <p>
+ * Deflater 는 네이티브(zlib) 메모리를 잡고 end() 또는 GC 정리 때 해제되므로, 응답마다 만들면(GZIPOutputStream) 네이티브 메모리와 할당이 출렁인다.
+ * 다 쓴 Deflater 는 reset() 해서 pool-size 개까지 보관하고, 넘치는 것은 바로 end() 한다.
+ * 헤더/트레일러는 직접 쓰므로 zlib 래퍼 없는(nowrap) Deflater 를 사용한다.
+ */
+public class DeflaterPool {
+
+  private final int level;
+  private final BlockingQueue<Deflater> idle;
+  private final LongAdder created = new LongAdder();
+
+  public DeflaterPool(int level, int poolSize) {
+    this.level = level;
+    this.idle = new ArrayBlockingQueue<>(poolSize);
+  }
+
+  public Deflater acquire() {
+    Deflater deflater = idle.poll();
+    if (deflater == null) {
+      created.increment();
+      deflater = new Deflater(level, true);
+    }
+    return deflater;
+  }
+
+  public void release(Deflater deflater) {
+    deflater.reset();
+    if (!idle.offer(deflater)) {
+      deflater.end();
+    }
+  }
+
+  public long getCreated() {
+    return created.sum();
+  }
+
+  public int getIdle() {
+    return idle.size();
+  }
+}
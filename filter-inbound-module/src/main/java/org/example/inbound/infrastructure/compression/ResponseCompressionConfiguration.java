@@ -0,0 +1,53 @@
+package org.example.inbound.infrastructure.compression;
+
+import jakarta.servlet.DispatcherType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 응답 압축 구성 (service.compression.enabled=true 일 때)
+ * <p>
+ * 서블릿 모드는 풀링된 Deflater 로 압축하는 필터를 등록하고,
+ * 리액티브 모드는 Reactor Netty 서버 압축을 같은 기준(min-response-size, mime-types)으로 켠다 (Netty 는 응답마다 자체 인코더를 사용하며 통계는 남지 않는다).
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ResponseCompressionProperties.class)
+public class ResponseCompressionConfiguration {
+
+  @Bean
+  public DeflaterPool responseDeflaterPool(ResponseCompressionProperties properties) {
+    return new DeflaterPool(properties.getLevel(), properties.getPoolSize());
+  }
+
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  @ConditionalOnProperty(prefix = "service.compression", name = "enabled", havingValue = "true")
+  public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilter(
+    ResponseCompressionProperties properties, DeflaterPool responseDeflaterPool, ResponseCompressionMetrics metrics
+  ) {
+    log.info("Response compression enabled - {}", properties);
+    FilterRegistrationBean<ResponseCompressionFilter> registration =
+      new FilterRegistrationBean<>(new ResponseCompressionFilter(properties, responseDeflaterPool, metrics));
+    registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+    registration.setOrder(ResponseCompressionFilter.ORDER);
+    return registration;
+  }
+
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+  @ConditionalOnProperty(prefix = "service.compression", name = "enabled", havingValue = "true")
+  public NettyServerCustomizer responseCompressionNettyCustomizer(ResponseCompressionProperties properties) {
+    log.info("Response compression enabled - {}", properties);
+    return httpServer -> httpServer
+      .compress((int) properties.getMinResponseSize().toBytes())
+      .compress((request, response) -> properties.isCompressible(response.responseHeaders().get(HttpHeaders.CONTENT_TYPE)));
+  }
+}
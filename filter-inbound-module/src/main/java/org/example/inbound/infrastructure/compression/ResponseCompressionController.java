@@ -0,0 +1,37 @@
+package org.example.inbound.infrastructure.compression;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 응답 압축 통계 조회 관리 엔드포인트
+ * <p>
+ * service.compression.endpoint-enabled=true 일 때만 등록된다.
+ */
+@RestController
+@RequestMapping("/admin/inbound/compression")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "service.compression", name = "endpoint-enabled", havingValue = "true")
+public class ResponseCompressionController {
+
+  private final ResponseCompressionProperties properties;
+  private final ResponseCompressionMetrics metrics;
+  private final DeflaterPool responseDeflaterPool;
+
+  @GetMapping
+  public ResponseEntity<Map<String, Object>> stats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", properties.isEnabled());
+    stats.putAll(metrics.snapshot());
+    stats.put("deflatersCreated", responseDeflaterPool.getCreated());
+    stats.put("deflatersIdle", responseDeflaterPool.getIdle());
+    return ResponseEntity.ok(stats);
+  }
+}
@@ -0,0 +1,106 @@
+package org.example.inbound.infrastructure.compression;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.Locale;
+
+/**
+ * Accept-Encoding 에 gzip 이 있는 요청의 응답 본문을 풀링된 Deflater 로 압축한다 (서블릿 모드)
+ * <p>
+ * 비동기 요청(CompletableFuture 반환 컨트롤러)은 첫 디스패치에서 감싼 응답을 비동기 디스패치까지 이어 쓰고, 마지막 디스패치에서 마무리한다.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+  // 다른 필터가 쓴 응답도 압축하도록 앞쪽에 둔다
+  public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+  private final ResponseCompressionProperties properties;
+  private final DeflaterPool deflaterPool;
+  private final ResponseCompressionMetrics metrics;
+
+  public ResponseCompressionFilter(
+    ResponseCompressionProperties properties, DeflaterPool deflaterPool, ResponseCompressionMetrics metrics
+  ) {
+    this.properties = properties;
+    this.deflaterPool = deflaterPool;
+    this.metrics = metrics;
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return HttpMethod.HEAD.matches(request.getMethod()) || !acceptsGzip(request.getHeaders(HttpHeaders.ACCEPT_ENCODING));
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    throws ServletException, IOException {
+    CompressingResponseWrapper wrapper = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+    HttpServletResponse target = response;
+    if (wrapper == null) {
+      wrapper = new CompressingResponseWrapper(response, properties, deflaterPool, metrics);
+      target = wrapper;
+    }
+
+    boolean completed = false;
+    try {
+      filterChain.doFilter(request, target);
+      completed = true;
+    } finally {
+      if (!completed) {
+        wrapper.release();
+      }
+    }
+    if (!request.isAsyncStarted()) {
+      wrapper.finish();
+    }
+  }
+
+  /**
+   * Accept-Encoding 에 q=0 이 아닌 gzip(또는 *)이 있는지 확인한다
+   */
+  static boolean acceptsGzip(Enumeration<String> acceptEncodings) {
+    if (acceptEncodings == null) {
+      return false;
+    }
+    while (acceptEncodings.hasMoreElements()) {
+      for (String token : acceptEncodings.nextElement().split(",")) {
+        int semicolon = token.indexOf(';');
+        String coding = (semicolon < 0 ? token : token.substring(0, semicolon)).trim().toLowerCase(Locale.ROOT);
+        if ((coding.equals("gzip") || coding.equals("*")) && !zeroQuality(token, semicolon)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean zeroQuality(String token, int semicolon) {
+    if (semicolon < 0) {
+      return false;
+    }
+    String parameter = token.substring(semicolon + 1).trim().toLowerCase(Locale.ROOT);
+    if (!parameter.startsWith("q=")) {
+      return false;
+    }
+    try {
+      return Double.parseDouble(parameter.substring(2).trim()) == 0.0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+}
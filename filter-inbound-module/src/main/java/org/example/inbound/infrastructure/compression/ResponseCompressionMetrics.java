@@ -0,0 +1,69 @@
+package org.example.inbound.infrastructure.compression;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 압축 건수, 압축 전후 바이트 수, 압축에 쓴 시간
+ * <p>
+ * 압축 시간은 Deflater.deflate() 호출 구간의 경과 시간이다.
+ * 가상 스레드에서는 스레드 CPU 시간을 얻을 수 없으므로, 압축이 CPU 만 쓰는 구간이라는 점을 이용해 경과 시간으로 CPU 비용을 잰다.
+ */
+@Component
+public class ResponseCompressionMetrics {
+
+  private final LongAdder compressed = new LongAdder();
+  private final LongAdder skipped = new LongAdder();
+  private final LongAdder bytesIn = new LongAdder();
+  private final LongAdder bytesOut = new LongAdder();
+  private final LongAdder deflateNanos = new LongAdder();
+
+  void recordCompressed(long in, long out, long nanos) {
+    compressed.increment();
+    bytesIn.add(in);
+    bytesOut.add(out);
+    deflateNanos.add(nanos);
+  }
+
+  // 압축 대상 형식이지만 본문이 min-response-size 보다 작아 그대로 보낸 응답
+  void recordSkipped() {
+    skipped.increment();
+  }
+
+  public long getCompressed() {
+    return compressed.sum();
+  }
+
+  public long getSkipped() {
+    return skipped.sum();
+  }
+
+  public long getBytesIn() {
+    return bytesIn.sum();
+  }
+
+  public long getBytesOut() {
+    return bytesOut.sum();
+  }
+
+  /**
+   * 모니터링용 현재 값
+   */
+  public Map<String, Object> snapshot() {
+    long in = getBytesIn();
+    long out = getBytesOut();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("compressed", getCompressed());
+    stats.put("skipped", getSkipped());
+    stats.put("bytesIn", in);
+    stats.put("bytesOut", out);
+    stats.put("bytesSaved", in - out);
+    stats.put("ratio", in == 0 ? 0.0 : (double) out / in);
+    stats.put("deflateMillis", TimeUnit.NANOSECONDS.toMillis(deflateNanos.sum()));
+    return stats;
+  }
+}
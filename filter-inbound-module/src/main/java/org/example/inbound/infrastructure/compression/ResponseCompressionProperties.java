@@ -0,0 +1,81 @@
+package org.example.inbound.infrastructure.compression;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 응답 본문 gzip 압축 설정 (service.compression)
+ * <p>
+ * Accept-Encoding 에 gzip 이 있고, 본문이 min-response-size 이상이며, Content-Type 이 mime-types 에 포함된 응답만 압축한다.
+ * 이미 압축된 형식(이미지, zip 등)은 mime-types 에 넣지 않는다.
+ */
+@Getter
+@ToString
+@ConfigurationProperties(prefix = "service.compression")
+public class ResponseCompressionProperties {
+
+  private static final DataSize DEFAULT_MIN_RESPONSE_SIZE = DataSize.ofKilobytes(2);
+  private static final List<MediaType> DEFAULT_MIME_TYPES = MediaType.parseMediaTypes(List.of(
+    "text/plain", "text/html", "text/xml", "text/css", "text/javascript", "application/javascript",
+    "application/json", "application/*+json", "application/xml", "application/*+xml", "application/x-jackson-smile"));
+  private static final int DEFAULT_LEVEL = 6;
+  private static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+  private final boolean enabled;
+  // 이보다 작은 본문은 압축하지 않는다 (압축 이득보다 CPU 와 헤더 비용이 크다)
+  private final DataSize minResponseSize;
+  // 압축할 Content-Type (와일드카드 서브타입 허용)
+  private final List<MediaType> mimeTypes;
+  // Deflater 압축 수준 (1: 빠름 ~ 9: 최대 압축)
+  private final int level;
+  // 재사용할 Deflater 수, 동시에 압축하는 응답이 이보다 많으면 남는 응답은 새 Deflater 를 만들고 해제한다
+  private final int poolSize;
+  // GET /admin/inbound/compression 압축 통계 (내부망 전용)
+  private final boolean endpointEnabled;
+
+  public ResponseCompressionProperties(
+    Boolean enabled, DataSize minResponseSize, List<MediaType> mimeTypes, Integer level, Integer poolSize, Boolean endpointEnabled
+  ) {
+    this.enabled = enabled != null && enabled;
+    this.minResponseSize = minResponseSize != null ? minResponseSize : DEFAULT_MIN_RESPONSE_SIZE;
+    this.mimeTypes = mimeTypes != null && !mimeTypes.isEmpty() ? List.copyOf(mimeTypes) : DEFAULT_MIME_TYPES;
+    this.level = level != null ? level : DEFAULT_LEVEL;
+    this.poolSize = poolSize != null ? poolSize : DEFAULT_POOL_SIZE;
+    this.endpointEnabled = endpointEnabled != null && endpointEnabled;
+    if (this.minResponseSize.isNegative() || this.minResponseSize.toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("service.compression.min-response-size must be between 0 and 2GB");
+    }
+    if (this.level < Deflater.BEST_SPEED || this.level > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("service.compression.level must be between 1 and 9");
+    }
+    if (this.poolSize <= 0) {
+      throw new IllegalArgumentException("service.compression.pool-size must be greater than 0");
+    }
+  }
+
+  /**
+   * Content-Type 이 압축 대상인지 확인한다 (형식이 잘못되었거나 없으면 압축하지 않는다)
+   */
+  public boolean isCompressible(String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    try {
+      MediaType mediaType = MediaType.parseMediaType(contentType);
+      for (MediaType mimeType : mimeTypes) {
+        if (mimeType.includes(mediaType)) {
+          return true;
+        }
+      }
+      return false;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package org.example.inbound.infrastructure.context;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * ForwardedPortContext 저장소 구현
+ */
+interface ContextBackend {
+
+  ForwardedPortContextMode mode();
+
+  /**
+   * 현재 요청의 holder, 없으면 null
+   */
+  ContextHolder current();
+
+  /**
+   * 현재 요청의 holder에 저장한다. holder가 없으면 생성한다.
+   */
+  void setAttribute(String key, int port);
+
+  void removeAttribute(String key);
+
+  void clear();
+
+  /**
+   * 요청 하나를 Context 범위 안에서 실행하고, 끝나면 Context를 정리한다.
+   */
+  <E extends Exception> void runInScope(ForwardedPortContext.ScopedTask<E> task) throws E;
+
+  /**
+   * 주어진 holder를 현재 Context로 설치해 요청 하나를 실행하고, 끝나면 이전 Context를 되돌린다.
+   */
+  <E extends Exception> void runInScope(ContextHolder holder, ForwardedPortContext.ScopedTask<E> task) throws E;
+
+  /**
+   * 주어진 holder를 현재 Context로 설치해 작업을 실행하고, 끝나면 이전 Context를 되돌린다.
+   */
+  void runWith(ContextHolder holder, Runnable task);
+
+  <V> V getWith(ContextHolder holder, Supplier<V> task);
+
+  <V> V callWith(ContextHolder holder, Callable<V> task) throws Exception;
+}
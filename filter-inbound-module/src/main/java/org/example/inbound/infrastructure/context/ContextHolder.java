@@ -0,0 +1,179 @@
+package org.example.inbound.infrastructure.context;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 한 요청의 포워딩 포트 정보를 담는 String → int 개방 주소(open addressing) 해시 테이블
+ * <p>
+ * 한 스레드에서만 쓰며, 배열은 처음 저장할 때 할당한다.
+ * 다른 스레드로 전파할 때는 {@link #snapshot()}으로 불변 사본을 만들고, 워커에서는
+ * {@link #from(ForwardedPortContextSnapshot)}으로 사본의 배열을 공유하다가 처음 쓸 때만 복사한다.
+ */
+@Slf4j
+final class ContextHolder {
+  private static final String[] EMPTY_KEYS = new String[0];
+  private static final int[] EMPTY_PORTS = new int[0];
+  private static final int INITIAL_CAPACITY = 8;
+  private static final int MAX_RETAINED_CAPACITY = 64;
+
+  private String[] keys = EMPTY_KEYS;
+  private int[] ports = EMPTY_PORTS;
+  private int size;
+  // 배열을 스냅샷과 공유 중이면 true, 쓰기 전에 복사한다
+  private boolean shared;
+  // 마지막 변경 이후 만든 스냅샷, 변경되면 무효화한다
+  private ForwardedPortContextSnapshot snapshot;
+
+  /**
+   * 스냅샷의 배열을 공유하는 holder, 복사는 처음 쓸 때 일어난다.
+   */
+  static ContextHolder from(ForwardedPortContextSnapshot snapshot) {
+    ContextHolder holder = new ContextHolder();
+    if (!snapshot.isEmpty()) {
+      holder.keys = snapshot.keys;
+      holder.ports = snapshot.ports;
+      holder.size = snapshot.size;
+      holder.shared = true;
+      holder.snapshot = snapshot;
+    }
+    return holder;
+  }
+
+  /**
+   * 현재 상태의 불변 사본. 변경이 없으면 이전에 만든 사본을 그대로 반환한다.
+   */
+  ForwardedPortContextSnapshot snapshot() {
+    if (size == 0) {
+      return ForwardedPortContextSnapshot.EMPTY;
+    }
+    if (snapshot == null) {
+      snapshot = new ForwardedPortContextSnapshot(keys.clone(), ports.clone(), size);
+    }
+    return snapshot;
+  }
+
+  void setAttribute(String key, int port) {
+    prepareWrite();
+    if (keys.length == 0) {
+      keys = new String[INITIAL_CAPACITY];
+      ports = new int[INITIAL_CAPACITY];
+    }
+    int index = indexOf(key);
+    if (keys[index] == null) {
+      if ((size + 1) * 2 > keys.length) {
+        resize(keys.length * 2);
+        index = indexOf(key);
+      }
+      keys[index] = key;
+      size++;
+    }
+    ports[index] = port;
+    if (log.isDebugEnabled()) {
+      log.debug("Port value set - Key: {}, Port: {}", key, port);
+    }
+  }
+
+  int getPort(String key, int defaultPort) {
+    if (size == 0) {
+      return defaultPort;
+    }
+    int index = indexOf(key);
+    return keys[index] == null ? defaultPort : ports[index];
+  }
+
+  Map<String, Integer> getAttributes() {
+    Map<String, Integer> attributes = new HashMap<>(size * 2);
+    forEach(attributes::put);
+    return Collections.unmodifiableMap(attributes);
+  }
+
+  void forEach(ObjIntConsumer<String> action) {
+    if (size == 0) {
+      return;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        action.accept(keys[i], ports[i]);
+      }
+    }
+  }
+
+  void removeAttribute(String key) {
+    if (size == 0) {
+      return;
+    }
+    int index = indexOf(key);
+    if (keys[index] == null) {
+      return;
+    }
+    prepareWrite();
+    keys[index] = null;
+    size--;
+
+    // 삭제 위치 뒤의 클러스터를 다시 배치해 탐색 경로가 끊기지 않도록 한다
+    int mask = keys.length - 1;
+    for (int i = (index + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+      String movedKey = keys[i];
+      int movedPort = ports[i];
+      keys[i] = null;
+      int target = indexOf(movedKey);
+      keys[target] = movedKey;
+      ports[target] = movedPort;
+    }
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  void reset() {
+    snapshot = null;
+    if (shared || keys.length > MAX_RETAINED_CAPACITY) {
+      shared = false;
+      keys = EMPTY_KEYS;
+      ports = EMPTY_PORTS;
+    } else if (size > 0) {
+      Arrays.fill(keys, null);
+    }
+    size = 0;
+  }
+
+  private void prepareWrite() {
+    snapshot = null;
+    if (shared) {
+      keys = keys.clone();
+      ports = ports.clone();
+      shared = false;
+    }
+  }
+
+  private int indexOf(String key) {
+    int mask = keys.length - 1;
+    int h = key.hashCode();
+    int index = (h ^ (h >>> 16)) & mask;
+    while (keys[index] != null && !keys[index].equals(key)) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private void resize(int capacity) {
+    String[] oldKeys = keys;
+    int[] oldPorts = ports;
+    keys = new String[capacity];
+    ports = new int[capacity];
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != null) {
+        int index = indexOf(oldKeys[i]);
+        keys[index] = oldKeys[i];
+        ports[index] = oldPorts[i];
+      }
+    }
+  }
+}
@@ -8,32 +8,151 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalInt;
+import java.util.concurrent.Callable;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
 
+/**
+ * 요청별 포워딩 포트 정보
+ * <p>
+ * 저장소는 {@link ForwardedPortContextMode}에 따라 ThreadLocal 또는 ScopedValue 백엔드를 사용하며
+ * 정적 API는 백엔드와 무관하게 동일하다. ThreadLocal 백엔드는 스레드마다 하나의 holder를 재사용하고
+ * {@link #clear()}는 holder를 제거하지 않고 제자리에서 초기화한다. 조회 메서드는 holder를 새로 만들지 않는다.
+ * <p>
+ * 다른 스레드에서 실행할 작업에는 {@link #capture()}로 만든 {@link ForwardedPortContextSnapshot}을 전달한다.
+ */
 @Slf4j
 @ToString
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ForwardedPortContext {
-  private static final ThreadLocal<ContextHolder> CONTEXT = ThreadLocal.withInitial(ContextHolder::new);
+
+  /**
+   * 포트 정보가 없음을 나타내는 값
+   */
+  public static final int NO_PORT = -1;
+
+  // src/preview/java 에서 --enable-preview로 컴파일되므로 이름으로 로딩한다
+  private static final String SCOPED_VALUE_BACKEND = "org.example.inbound.infrastructure.context.ScopedValueContextBackend";
+
+  private static volatile ContextBackend backend = ThreadLocalContextBackend.INSTANCE;
+
+  /**
+   * Context 범위 안에서 실행할 작업
+   */
+  @FunctionalInterface
+  public interface ScopedTask<E extends Exception> {
+    void run() throws E;
+  }
+
+  /**
+   * 저장소 방식을 변경한다. JVM이 --enable-preview 없이 실행되어 ScopedValue를 사용할 수 없으면 경고를 남기고 ThreadLocal을 유지한다.
+   *
+   * @return 실제로 적용된 방식
+   */
+  public static ForwardedPortContextMode configure(ForwardedPortContextMode mode) {
+    if (mode == ForwardedPortContextMode.SCOPED_VALUE) {
+      try {
+        backend = (ContextBackend) Class.forName(SCOPED_VALUE_BACKEND).getDeclaredConstructor().newInstance();
+      } catch (ReflectiveOperationException | LinkageError e) {
+        log.warn("Context mode {} requires the JVM option --enable-preview, falling back to {}: {}",
+          ForwardedPortContextMode.SCOPED_VALUE, ForwardedPortContextMode.THREAD_LOCAL, e.toString());
+        backend = ThreadLocalContextBackend.INSTANCE;
+      }
+    } else {
+      backend = ThreadLocalContextBackend.INSTANCE;
+    }
+    log.info("ForwardedPortContext mode: {}", backend.mode());
+    return backend.mode();
+  }
+
+  public static ForwardedPortContextMode getMode() {
+    return backend.mode();
+  }
+
+  /**
+   * 요청 하나를 Context 범위 안에서 실행하고 끝나면 정리한다.
+   */
+  public static <E extends Exception> void runInScope(ScopedTask<E> task) throws E {
+    backend.runInScope(task);
+  }
+
+  /**
+   * 미리 모은 포트 정보를 Context로 설치해 요청 하나를 실행하고 끝나면 이전 Context를 되돌린다.
+   * 빌더의 holder를 그대로 사용하므로 복사가 일어나지 않으며, 실행 후에는 빌더를 재사용하지 않는다.
+   */
+  public static <E extends Exception> void runInScope(ForwardedPortContextSnapshot.Builder ports, ScopedTask<E> task) throws E {
+    backend.runInScope(ports.holder(), task);
+  }
+
+  /**
+   * 현재 Context의 불변 사본을 만든다. Context가 바뀌지 않았다면 이전 사본을 재사용한다.
+   */
+  public static ForwardedPortContextSnapshot capture() {
+    ContextHolder holder = backend.current();
+    return holder == null ? ForwardedPortContextSnapshot.EMPTY : holder.snapshot();
+  }
+
+  static void runWith(ContextHolder holder, Runnable task) {
+    backend.runWith(holder, task);
+  }
+
+  static <V> V getWith(ContextHolder holder, Supplier<V> task) {
+    return backend.getWith(holder, task);
+  }
+
+  static <V> V callWith(ContextHolder holder, Callable<V> task) throws Exception {
+    return backend.callWith(holder, task);
+  }
 
   public static void setAttribute(String key, int port) {
     if (key == null) {
       log.warn("Attempted to set attribute with null key");
       return;
     }
-    CONTEXT.get().setAttribute(key, port);
+    backend.setAttribute(key, port);
   }
 
   public static Optional<Integer> getAttribute(String key) {
+    int port = getPortOrDefault(key, NO_PORT);
+    return port == NO_PORT ? Optional.empty() : Optional.of(port);
+  }
+
+  public static OptionalInt getPort(String key) {
+    int port = getPortOrDefault(key, NO_PORT);
+    return port == NO_PORT ? OptionalInt.empty() : OptionalInt.of(port);
+  }
+
+  /**
+   * 박싱 없이 포트를 조회한다.
+   *
+   * @return 저장된 포트, 없으면 defaultPort
+   */
+  public static int getPortOrDefault(String key, int defaultPort) {
     if (key == null) {
       log.warn("Attempted to get attribute with null key");
-      return Optional.empty();
+      return defaultPort;
     }
-    return CONTEXT.get().getAttribute(key);
+    ContextHolder holder = backend.current();
+    return holder == null ? defaultPort : holder.getPort(key, defaultPort);
   }
 
+  /**
+   * 저장된 포트 정보의 복사본. 요청 처리 경로에서는 {@link #forEachAttribute(ObjIntConsumer)}를 사용한다.
+   */
   public static Map<String, Integer> getAttributes() {
-    return CONTEXT.get().getAttributes();
+    ContextHolder holder = backend.current();
+    return holder == null ? Collections.emptyMap() : holder.getAttributes();
+  }
+
+  /**
+   * 저장된 포트 정보를 복사 없이 순회한다.
+   */
+  public static void forEachAttribute(ObjIntConsumer<String> action) {
+    ContextHolder holder = backend.current();
+    if (holder != null) {
+      holder.forEach(action);
+    }
   }
 
   public static void removeAttribute(String key) {
@@ -41,39 +160,15 @@ public class ForwardedPortContext {
       log.warn("Attempted to remove attribute with null key");
       return;
     }
-    CONTEXT.get().removeAttribute(key);
+    backend.removeAttribute(key);
   }
 
   public static void clear() {
-    CONTEXT.remove();
+    backend.clear();
   }
 
   public static boolean isEmpty() {
-    return CONTEXT.get().isEmpty();
-  }
-
-  private static class ContextHolder {
-    private final Map<String, Integer> contextData = new ConcurrentHashMap<>();
-
-    private void setAttribute(String key, int port) {
-      contextData.put(key, port);
-      log.debug("Port value set - Key: {}, Port: {}", key, port);
-    }
-
-    private Optional<Integer> getAttribute(String key) {
-      return Optional.ofNullable(contextData.get(key));
-    }
-
-    private Map<String, Integer> getAttributes() {
-      return Collections.unmodifiableMap(contextData);
-    }
-
-    private void removeAttribute(String key) {
-      contextData.remove(key);
-    }
-
-    private boolean isEmpty() {
-      return contextData.isEmpty();
-    }
+    ContextHolder holder = backend.current();
+    return holder == null || holder.isEmpty();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package org.example.inbound.infrastructure.context;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.core.props.ForwardedPortConfigProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정(service.forwarding.context.mode)에 따라 ForwardedPortContext 저장소를 선택한다.
+ */
+@Slf4j
+@Getter
+@Component
+public class ForwardedPortContextConfigurer {
+
+  private final ForwardedPortContextMode mode;
+
+  public ForwardedPortContextConfigurer(ForwardedPortConfigProperties forwardedPortConfigProperties) {
+    ForwardedPortContextMode requested = forwardedPortConfigProperties.getContextMode();
+    this.mode = ForwardedPortContext.configure(requested);
+    if (mode != requested) {
+      log.warn("Requested context mode {} is not available, using {}", requested, mode);
+    }
+  }
+}
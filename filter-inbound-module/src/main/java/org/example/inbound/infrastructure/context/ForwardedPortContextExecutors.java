@@ -0,0 +1,155 @@
+package org.example.inbound.infrastructure.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 작업 제출 시점의 ForwardedPortContext를 실행 스레드로 전달하는 Executor 팩토리
+ * <p>
+ * 제출할 때 {@link ForwardedPortContext#capture()}로 사본을 만들고, 실행이 끝나면 워커의 Context를 되돌린다.
+ * invokeAll/invokeAny는 사본 하나를 모든 작업이 공유한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ForwardedPortContextExecutors {
+
+  public static Executor wrap(Executor executor) {
+    if (executor instanceof ExecutorService executorService) {
+      return wrap(executorService);
+    }
+    if (executor instanceof PropagatingExecutor) {
+      return executor;
+    }
+    return new PropagatingExecutor(executor);
+  }
+
+  public static ExecutorService wrap(ExecutorService executorService) {
+    if (executorService instanceof PropagatingExecutorService) {
+      return executorService;
+    }
+    return new PropagatingExecutorService(executorService);
+  }
+
+  /**
+   * 작업마다 가상 스레드를 만들며 Context를 전달하는 ExecutorService
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    return wrap(Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  private static class PropagatingExecutor implements Executor {
+    private final Executor delegate;
+
+    PropagatingExecutor(Executor delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+      delegate.execute(ForwardedPortContext.capture().wrap(command));
+    }
+
+    @Override
+    public String toString() {
+      return "ForwardedPortContextExecutor(" + delegate + ")";
+    }
+  }
+
+  private static final class PropagatingExecutorService extends PropagatingExecutor implements ExecutorService {
+    private final ExecutorService delegate;
+
+    PropagatingExecutorService(ExecutorService delegate) {
+      super(delegate);
+      this.delegate = delegate;
+    }
+
+    @Override
+    public <T> Future<T> submit(@NonNull Callable<T> task) {
+      return delegate.submit(ForwardedPortContext.capture().wrap(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(@NonNull Runnable task, T result) {
+      return delegate.submit(ForwardedPortContext.capture().wrap(task), result);
+    }
+
+    @Override
+    public Future<?> submit(@NonNull Runnable task) {
+      return delegate.submit(ForwardedPortContext.capture().wrap(task));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(@NonNull Collection<? extends Callable<T>> tasks) throws InterruptedException {
+      return delegate.invokeAll(wrapAll(tasks));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(@NonNull Collection<? extends Callable<T>> tasks, long timeout,
+                                         @NonNull TimeUnit unit) throws InterruptedException {
+      return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+    }
+
+    @Override
+    public <T> T invokeAny(@NonNull Collection<? extends Callable<T>> tasks)
+      throws InterruptedException, ExecutionException {
+      return delegate.invokeAny(wrapAll(tasks));
+    }
+
+    @Override
+    public <T> T invokeAny(@NonNull Collection<? extends Callable<T>> tasks, long timeout, @NonNull TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+      return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+      return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+
+    private static <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+      ForwardedPortContextSnapshot snapshot = ForwardedPortContext.capture();
+      List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+      for (Callable<T> task : tasks) {
+        wrapped.add(snapshot.wrap(task));
+      }
+      return wrapped;
+    }
+  }
+}
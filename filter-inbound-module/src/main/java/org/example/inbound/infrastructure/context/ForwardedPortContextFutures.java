@@ -0,0 +1,46 @@
+package org.example.inbound.infrastructure.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 호출 스레드의 ForwardedPortContext를 전달하는 CompletableFuture 생성 도우미
+ * <p>
+ * 공용 ForkJoinPool 대신 반드시 Executor를 지정한다. 이후 단계(thenApply 등)는 완료한 스레드에서 실행되므로
+ * Context가 필요한 단계는 *Async 메서드에 {@link ForwardedPortContextExecutors#wrap(Executor)}로 감싼 Executor를 넘긴다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ForwardedPortContextFutures {
+
+  public static <V> CompletableFuture<V> supplyAsync(Supplier<V> supplier, Executor executor) {
+    return CompletableFuture.supplyAsync(ForwardedPortContext.capture().wrap(supplier), executor);
+  }
+
+  public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+    return CompletableFuture.runAsync(ForwardedPortContext.capture().wrap(runnable), executor);
+  }
+
+  /**
+   * 다른 스레드(논블로킹 클라이언트의 I/O 스레드 등)에서 완료되는 단계에 호출 스레드의 Context를 전달한다.
+   * <p>
+   * 완료 시 사본을 설치한 상태로 반환한 future를 완료하므로, 그 전에 연결한 thenApply 등의 단계는 Context를 본다.
+   * 이미 완료된 뒤에 연결한 단계는 연결한 스레드에서 실행된다.
+   */
+  public static <V> CompletableFuture<V> propagate(CompletionStage<V> stage) {
+    ForwardedPortContextSnapshot snapshot = ForwardedPortContext.capture();
+    CompletableFuture<V> propagated = new CompletableFuture<>();
+    stage.whenComplete((value, error) -> snapshot.run(() -> {
+      if (error != null) {
+        propagated.completeExceptionally(error);
+      } else {
+        propagated.complete(value);
+      }
+    }));
+    return propagated;
+  }
+}
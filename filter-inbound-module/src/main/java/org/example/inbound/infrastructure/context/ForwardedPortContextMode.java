@@ -0,0 +1,15 @@
+package org.example.inbound.infrastructure.context;
+
+/**
+ * ForwardedPortContext 저장소 방식
+ */
+public enum ForwardedPortContextMode {
+  /**
+   * 스레드별 holder 재사용 (기본값)
+   */
+  THREAD_LOCAL,
+  /**
+   * 요청별 ScopedValue 바인딩. JVM이 --enable-preview로 실행되어야 한다.
+   */
+  SCOPED_VALUE
+}
@@ -0,0 +1,145 @@
+package org.example.inbound.infrastructure.context;
+
+import java.util.concurrent.Callable;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 다른 스레드로 전달하기 위한 ForwardedPortContext의 불변 사본
+ * <p>
+ * {@link ForwardedPortContext#capture()}로 작업 제출 시점에 만들며, 요청 스레드의 Context가 바뀌지 않는 한
+ * 같은 사본을 재사용하므로 작업마다 복사가 일어나지 않는다. 워커에서는 사본의 배열을 공유하는 holder를
+ * 설치해 실행하고, 끝나면 워커의 이전 Context를 되돌린다.
+ * <p>
+ * 리액티브 모드에서는 {@link #builder()}로 만든 사본을 Reactor Context에 담는다. ({@link ReactiveForwardedPortContext})
+ * 서블릿 필터는 같은 빌더에 헤더를 모은 뒤, 후보가 있을 때만 {@link ForwardedPortContext#runInScope(Builder, ForwardedPortContext.ScopedTask)}로 범위를 연다.
+ */
+public final class ForwardedPortContextSnapshot {
+
+  public static final ForwardedPortContextSnapshot EMPTY =
+    new ForwardedPortContextSnapshot(new String[0], new int[0], 0);
+
+  final String[] keys;
+  final int[] ports;
+  final int size;
+
+  ForwardedPortContextSnapshot(String[] keys, int[] ports, int size) {
+    this.keys = keys;
+    this.ports = ports;
+    this.size = size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 박싱 없이 포트를 조회한다. 항목 수가 적어 선형 탐색한다.
+   *
+   * @return 저장된 포트, 없으면 defaultPort
+   */
+  public int getPortOrDefault(String key, int defaultPort) {
+    if (key == null || size == 0) {
+      return defaultPort;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (key.equals(keys[i])) {
+        return ports[i];
+      }
+    }
+    return defaultPort;
+  }
+
+  public void forEach(ObjIntConsumer<String> action) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        action.accept(keys[i], ports[i]);
+      }
+    }
+  }
+
+  /**
+   * 이 사본을 Context로 설치한 상태에서 작업을 실행한다.
+   */
+  public void run(Runnable task) {
+    ForwardedPortContext.runWith(ContextHolder.from(this), task);
+  }
+
+  public <V> V get(Supplier<V> task) {
+    return ForwardedPortContext.getWith(ContextHolder.from(this), task);
+  }
+
+  public <V> V call(Callable<V> task) throws Exception {
+    return ForwardedPortContext.callWith(ContextHolder.from(this), task);
+  }
+
+  public Runnable wrap(Runnable task) {
+    return () -> run(task);
+  }
+
+  public <V> Callable<V> wrap(Callable<V> task) {
+    return () -> call(task);
+  }
+
+  public <V> Supplier<V> wrap(Supplier<V> task) {
+    return () -> get(task);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("ForwardedPortContextSnapshot{");
+    boolean first = true;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        if (!first) {
+          sb.append(", ");
+        }
+        sb.append(keys[i]).append('=').append(ports[i]);
+        first = false;
+      }
+    }
+    return sb.append('}').toString();
+  }
+
+  /**
+   * 스레드 Context를 거치지 않고 사본을 직접 만든다.
+   * holder는 첫 저장 시점에 만들므로 후보가 없는 요청은 할당하지 않는다.
+   */
+  public static final class Builder {
+    private ContextHolder holder;
+
+    private Builder() {
+    }
+
+    public Builder put(String key, int port) {
+      if (key == null) {
+        throw new IllegalArgumentException("Key must not be null");
+      }
+      holder().setAttribute(key, port);
+      return this;
+    }
+
+    public boolean isEmpty() {
+      return holder == null || holder.isEmpty();
+    }
+
+    public ForwardedPortContextSnapshot build() {
+      return holder == null ? EMPTY : holder.snapshot();
+    }
+
+    ContextHolder holder() {
+      if (holder == null) {
+        holder = new ContextHolder();
+      }
+      return holder;
+    }
+  }
+}
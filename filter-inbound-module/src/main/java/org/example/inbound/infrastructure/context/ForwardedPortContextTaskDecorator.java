@@ -0,0 +1,18 @@
+package org.example.inbound.infrastructure.context;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제출 시점의 ForwardedPortContext를 작업 실행 스레드로 전달하는 TaskDecorator
+ * <p>
+ * 빈으로 등록되어 있으므로 Spring Boot가 구성하는 applicationTaskExecutor(@Async 포함)에 자동으로 적용된다.
+ */
+@Component
+public class ForwardedPortContextTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    return ForwardedPortContext.capture().wrap(runnable);
+  }
+}
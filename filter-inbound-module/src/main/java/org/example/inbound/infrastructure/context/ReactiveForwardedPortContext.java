@@ -0,0 +1,53 @@
+package org.example.inbound.infrastructure.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 리액티브(WebFlux) 모드의 요청별 포워딩 포트 정보
+ * <p>
+ * 하나의 요청이 여러 스레드를 오가므로 ThreadLocal 대신 Reactor {@link Context}에
+ * {@link ForwardedPortContextSnapshot}을 담는다. {@code ForwardedPortWebFilter}가 요청마다 저장하며,
+ * 블로킹 없이 끝나는 기존 코드는 {@link #withContext(Supplier)}로 감싸 {@link ForwardedPortContext}
+ * 정적 API를 그대로 사용할 수 있다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReactiveForwardedPortContext {
+
+  /**
+   * Reactor Context 키
+   */
+  public static final Class<ForwardedPortContextSnapshot> CONTEXT_KEY = ForwardedPortContextSnapshot.class;
+
+  /**
+   * 구독 시점의 포트 정보, 없으면 {@link ForwardedPortContextSnapshot#EMPTY}
+   */
+  public static Mono<ForwardedPortContextSnapshot> current() {
+    return Mono.deferContextual(context -> Mono.just(from(context)));
+  }
+
+  public static ForwardedPortContextSnapshot from(ContextView context) {
+    return context.getOrDefault(CONTEXT_KEY, ForwardedPortContextSnapshot.EMPTY);
+  }
+
+  /**
+   * {@code contextWrite}에 전달할 함수
+   */
+  public static Function<Context, Context> with(ForwardedPortContextSnapshot snapshot) {
+    return context -> context.put(CONTEXT_KEY, snapshot);
+  }
+
+  /**
+   * 포트 정보를 {@link ForwardedPortContext}로 설치한 상태에서 작업을 실행한다.
+   * 설치는 작업이 끝날 때까지만 유지되므로 작업 안에서 블로킹하거나 다른 Publisher를 구독하지 않는다.
+   */
+  public static <V> Mono<V> withContext(Supplier<V> task) {
+    return Mono.deferContextual(context -> Mono.justOrEmpty(from(context).get(task)));
+  }
+}
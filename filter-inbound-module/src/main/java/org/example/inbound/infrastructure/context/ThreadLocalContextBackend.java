@@ -0,0 +1,117 @@
+package org.example.inbound.infrastructure.context;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 스레드마다 holder 하나를 재사용하는 ThreadLocal 백엔드 (기본값)
+ */
+final class ThreadLocalContextBackend implements ContextBackend {
+
+  static final ThreadLocalContextBackend INSTANCE = new ThreadLocalContextBackend();
+
+  private static final ThreadLocal<ContextHolder> CONTEXT = new ThreadLocal<>();
+
+  private ThreadLocalContextBackend() {
+  }
+
+  @Override
+  public ForwardedPortContextMode mode() {
+    return ForwardedPortContextMode.THREAD_LOCAL;
+  }
+
+  @Override
+  public ContextHolder current() {
+    return CONTEXT.get();
+  }
+
+  @Override
+  public void setAttribute(String key, int port) {
+    ContextHolder holder = CONTEXT.get();
+    if (holder == null) {
+      holder = new ContextHolder();
+      CONTEXT.set(holder);
+    }
+    holder.setAttribute(key, port);
+  }
+
+  @Override
+  public void removeAttribute(String key) {
+    ContextHolder holder = CONTEXT.get();
+    if (holder != null) {
+      holder.removeAttribute(key);
+    }
+  }
+
+  @Override
+  public void clear() {
+    ContextHolder holder = CONTEXT.get();
+    if (holder != null) {
+      holder.reset();
+    }
+  }
+
+  @Override
+  public <E extends Exception> void runInScope(ForwardedPortContext.ScopedTask<E> task) throws E {
+    try {
+      task.run();
+    } finally {
+      clear();
+    }
+  }
+
+  @Override
+  public <E extends Exception> void runInScope(ContextHolder holder, ForwardedPortContext.ScopedTask<E> task) throws E {
+    ContextHolder previous = install(holder);
+    try {
+      task.run();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  @Override
+  public void runWith(ContextHolder holder, Runnable task) {
+    ContextHolder previous = install(holder);
+    try {
+      task.run();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  @Override
+  public <V> V getWith(ContextHolder holder, Supplier<V> task) {
+    ContextHolder previous = install(holder);
+    try {
+      return task.get();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  @Override
+  public <V> V callWith(ContextHolder holder, Callable<V> task) throws Exception {
+    ContextHolder previous = install(holder);
+    try {
+      return task.call();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  private ContextHolder install(ContextHolder holder) {
+    ContextHolder previous = CONTEXT.get();
+    CONTEXT.set(holder);
+    return previous;
+  }
+
+  // 풀 스레드는 재사용하던 holder를 되돌리고, 없던 스레드는 엔트리를 제거한다
+  private void restore(ContextHolder previous) {
+    if (previous == null) {
+      CONTEXT.remove();
+    } else {
+      CONTEXT.set(previous);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.example.inbound.infrastructure.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.infrastructure.validator.ForwardedPortValidationRules;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 포워딩 포트 헤더가 될 수 있는 헤더 이름을 정규식 없이 걸러내는 인덱스 (불변)
+ * <p>
+ * 설정된 suffix와 서비스별 헤더 키(service.*.header.key)로 설정 스냅샷마다 한 번 구성되며,
+ * 길이/suffix 검사만으로 User-Agent, Cookie 같은 일반 헤더를 검증 단계 이전에 제외한다.
+ */
+@Slf4j
+public final class ForwardedPortHeaderIndex {
+
+  private final Set<String> knownKeys;
+  private final String suffix;
+  private final int minLength;
+
+  public ForwardedPortHeaderIndex(
+    String headerPattern,
+    String headerSuffix,
+    ForwardedPortValidationRules rules,
+    Collection<String> headerKeys
+  ) {
+    this.knownKeys = headerKeys.stream()
+      .filter(StringUtils::hasText)
+      .filter(rules::matchesHeader)
+      .collect(Collectors.toUnmodifiableSet());
+
+    // suffix가 패턴의 끝과 일치할 때만 suffix 검사로 후보를 줄일 수 있다
+    if (StringUtils.hasText(headerSuffix) && headerPattern.endsWith(headerSuffix + "$")) {
+      this.suffix = headerSuffix;
+      this.minLength = headerSuffix.length() + 1;
+    } else {
+      log.warn("Header pattern '{}' does not end with suffix '{}', suffix pre-filter disabled",
+        headerPattern, headerSuffix);
+      this.suffix = null;
+      this.minLength = 1;
+    }
+
+    log.info("Initialized forwarded header index - known keys: {}, suffix: {}", knownKeys, suffix);
+  }
+
+  /**
+   * 포워딩 포트 헤더 후보인지 확인한다. false인 헤더는 검증할 필요가 없다.
+   */
+  public boolean isCandidate(String headerName) {
+    if (headerName == null || headerName.length() < minLength) {
+      return false;
+    }
+    if (suffix == null || knownKeys.contains(headerName)) {
+      return true;
+    }
+    return headerName.endsWith(suffix);
+  }
+}
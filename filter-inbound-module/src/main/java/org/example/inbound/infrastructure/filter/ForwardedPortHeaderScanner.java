@@ -0,0 +1,90 @@
+package org.example.inbound.infrastructure.filter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.infrastructure.metrics.ForwardedPortRejectionMetrics;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigSnapshot;
+import org.example.inbound.infrastructure.validator.ForwardedPortRejectReason;
+
+import java.util.Iterator;
+import java.util.function.UnaryOperator;
+
+/**
+ * 서블릿/리액티브 필터가 공유하는 헤더 순회 로직
+ * <p>
+ * 헤더 인덱스로 후보 헤더만 골라 전달하며, 후보 헤더의 수/바이트(UTF-8)가 설정된 한도를 넘으면 순회를 멈춘다.
+ * 후보가 아닌 일반 헤더는 한도에 포함하지 않으므로, 일반 헤더가 많아도 포워딩 헤더가 빠지지 않는다.
+ * strict 모드에서는 처음 거부된 헤더 또는 한도 초과(LIMIT_EXCEEDED)에서 멈추고 그 사유를 반환한다.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ForwardedPortHeaderScanner {
+
+  @FunctionalInterface
+  interface CandidateHandler {
+    /**
+     * @return 거부 사유, 유효하면 null
+     */
+    ForwardedPortRejectReason handle(String headerName, String headerValue);
+  }
+
+  /**
+   * @return strict 모드에서 거부된 사유, 거부하지 않으면 null
+   */
+  static ForwardedPortRejectReason scan(
+    Iterator<String> headerNames,
+    UnaryOperator<String> headerValues,
+    ForwardedPortConfigSnapshot config,
+    ForwardedPortRejectionMetrics rejectionMetrics,
+    CandidateHandler candidateHandler
+  ) {
+    ForwardedPortHeaderIndex headerIndex = config.getHeaderIndex();
+    int maxHeaders = config.getMaxInspectedHeaders();
+    int maxBytes = config.getMaxInspectedHeaderBytes();
+    boolean strict = config.isStrictValidation();
+    int inspectedHeaders = 0;
+    long inspectedBytes = 0;
+
+    while (headerNames.hasNext()) {
+      String headerName = headerNames.next();
+      if (!headerIndex.isCandidate(headerName)) {
+        continue;
+      }
+
+      String headerValue = headerValues.apply(headerName);
+      inspectedBytes += utf8Length(headerName) + utf8Length(headerValue);
+      if (++inspectedHeaders > maxHeaders || inspectedBytes > maxBytes) {
+        log.warn("Header inspection limit exceeded - max headers: {}, max bytes: {}", maxHeaders, maxBytes);
+        rejectionMetrics.recordInvalidHeader(ForwardedPortRejectReason.LIMIT_EXCEEDED);
+        return strict ? ForwardedPortRejectReason.LIMIT_EXCEEDED : null;
+      }
+      ForwardedPortRejectReason reason = candidateHandler.handle(headerName, headerValue);
+      if (reason != null && strict) {
+        return reason;
+      }
+    }
+    return null;
+  }
+
+  // 문자열을 인코딩하지 않고 UTF-8 바이트 수를 센다
+  static int utf8Length(String value) {
+    if (value == null) {
+      return 0;
+    }
+    int length = value.length();
+    int bytes = length;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (Character.isSurrogate(c)) {
+        // 서로게이트 쌍은 두 char 가 4 바이트이므로 char 당 1 바이트를 더한다
+        bytes += 1;
+      } else if (c >= 0x800) {
+        bytes += 2;
+      } else if (c >= 0x80) {
+        bytes += 1;
+      }
+    }
+    return bytes;
+  }
+}
@@ -6,57 +6,101 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.context.ForwardedPortContextSnapshot;
 import org.example.inbound.infrastructure.hanlder.ForwardedPortHandler;
+import org.example.inbound.infrastructure.metrics.ForwardedPortRejectionMetrics;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigRegistry;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigSnapshot;
+import org.example.inbound.infrastructure.validator.ForwardedPortRejectReason;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class ForwardedPortProcessingFilter implements Filter {
 
   private final ForwardedPortHandler validator;
+  private final ForwardedPortConfigRegistry configRegistry;
+  private final ForwardedPortRejectionMetrics rejectionMetrics;
 
   @Override
   public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) {
     HttpServletRequest httpRequest = (HttpServletRequest) request;
     long startTime = System.currentTimeMillis();
+    // 요청 시작 시점의 설정 스냅샷을 고정해, 처리 중 설정이 교체되어도 같은 스냅샷으로 끝낸다
+    ForwardedPortConfigSnapshot config = configRegistry.latest();
+    httpRequest.setAttribute(ForwardedPortConfigRegistry.REQUEST_ATTRIBUTE, config);
 
     try {
       logRequestStart(httpRequest);
-      processForwardedPorts(httpRequest);
-      chain.doFilter(request, response);
+      // 헤더를 먼저 스캔하고, 저장된 후보가 있을 때만 Context 범위를 연다
+      ForwardedPortContextSnapshot.Builder ports = ForwardedPortContextSnapshot.builder();
+      ForwardedPortRejectReason rejected = processForwardedPorts(httpRequest, config, ports);
+      if (rejected != null) {
+        // strict 모드: 컨트롤러/전략을 거치지 않고 필터에서 바로 응답한다
+        reject((HttpServletResponse) response, rejected);
+        return;
+      }
+      if (ports.isEmpty()) {
+        chain.doFilter(request, response);
+        return;
+      }
+      ForwardedPortContext.runInScope(ports, () -> chain.doFilter(request, response));
     } catch (Exception e) {
       log.error("Error occurred while processing request", e);
     } finally {
       logRequestEnd(startTime);
-      ForwardedPortContext.clear();
     }
   }
 
-  private void processForwardedPorts(HttpServletRequest request) {
-    Collections.list(request.getHeaderNames()).stream()
-      .filter(StringUtils::hasText)
-      .forEach(headerName ->
-        validator.validateAndStore(headerName, request.getHeader(headerName))
-      );
+  /**
+   * 헤더 인덱스로 후보 헤더만 골라 검증하고 빌더에 모은다.
+   * 후보가 없는 요청은 검증기와 Context를 거치지 않는다.
+   *
+   * @return strict 모드에서 거부할 사유, 없으면 null
+   */
+  private ForwardedPortRejectReason processForwardedPorts(
+    HttpServletRequest request, ForwardedPortConfigSnapshot config, ForwardedPortContextSnapshot.Builder ports
+  ) {
+    Enumeration<String> headerNames = request.getHeaderNames();
+    if (headerNames == null) {
+      return null;
+    }
+
+    return ForwardedPortHeaderScanner.scan(headerNames.asIterator(), request::getHeader, config, rejectionMetrics,
+      (headerName, headerValue) -> validator.validateAndStore(headerName, headerValue, config, ports));
+  }
+
+  private void reject(HttpServletResponse response, ForwardedPortRejectReason reason) throws IOException {
+    rejectionMetrics.recordRejectedRequest();
+    byte[] body = ForwardedPortRejectionBody.of(reason);
+    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
   }
 
   private void logRequestStart(HttpServletRequest request) {
-    if (log.isInfoEnabled()) {
+    if (log.isDebugEnabled()) {
       String headers = Collections.list(request.getHeaderNames()).stream()
         .collect(Collectors.toMap(
           headerName -> headerName,
           request::getHeader
         ))
         .toString();
-      log.info("Request started - Headers: {}", headers);
+      log.debug("Request started - Headers: {}", headers);
     }
   }
 
@@ -0,0 +1,31 @@
+package org.example.inbound.infrastructure.filter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.example.inbound.infrastructure.validator.ForwardedPortRejectReason;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * strict 모드 거부 응답 본문, 사유별로 한 번만 인코딩해 두고 재사용한다.
+ * 예) {"error":"invalid_forwarded_port","reason":"OUT_OF_RANGE"}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ForwardedPortRejectionBody {
+
+  private static final byte[][] BODIES = new byte[ForwardedPortRejectReason.values().length][];
+
+  static {
+    for (ForwardedPortRejectReason reason : ForwardedPortRejectReason.values()) {
+      BODIES[reason.ordinal()] = ("{\"error\":\"invalid_forwarded_port\",\"reason\":\"" + reason.name() + "\"}")
+        .getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * 공유 배열이므로 수정하지 않는다.
+   */
+  static byte[] of(ForwardedPortRejectReason reason) {
+    return BODIES[reason.ordinal()];
+  }
+}
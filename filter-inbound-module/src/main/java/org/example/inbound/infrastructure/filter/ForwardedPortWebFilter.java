@@ -0,0 +1,87 @@
+package org.example.inbound.infrastructure.filter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.infrastructure.context.ForwardedPortContextSnapshot;
+import org.example.inbound.infrastructure.context.ReactiveForwardedPortContext;
+import org.example.inbound.infrastructure.hanlder.ForwardedPortHandler;
+import org.example.inbound.infrastructure.metrics.ForwardedPortRejectionMetrics;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigRegistry;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigSnapshot;
+import org.example.inbound.infrastructure.validator.ForwardedPortRejectReason;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ForwardedPortProcessingFilter}의 리액티브(WebFlux) 버전
+ * <p>
+ * 검증 결과와 요청 시작 시점의 설정 스냅샷을 ThreadLocal 대신 Reactor Context에 담아 하위 체인에 전달한다.
+ * 조회는 {@link ReactiveForwardedPortContext}와 {@link ForwardedPortConfigRegistry#pinned()}를 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ForwardedPortWebFilter implements WebFilter, Ordered {
+
+  private final ForwardedPortHandler validator;
+  private final ForwardedPortConfigRegistry configRegistry;
+  private final ForwardedPortRejectionMetrics rejectionMetrics;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    long startTime = System.currentTimeMillis();
+    // 요청 시작 시점의 설정 스냅샷을 고정해, 처리 중 설정이 교체되어도 같은 스냅샷으로 끝낸다
+    ForwardedPortConfigSnapshot config = configRegistry.latest();
+    exchange.getAttributes().put(ForwardedPortConfigRegistry.REQUEST_ATTRIBUTE, config);
+
+    HttpHeaders headers = exchange.getRequest().getHeaders();
+    if (log.isDebugEnabled()) {
+      log.debug("Request started - Headers: {}", headers);
+    }
+
+    ForwardedPortContextSnapshot.Builder ports = ForwardedPortContextSnapshot.builder();
+    ForwardedPortRejectReason rejected = ForwardedPortHeaderScanner.scan(headers.keySet().iterator(), headers::getFirst, config, rejectionMetrics,
+      (headerName, headerValue) -> validator.validateAndStore(headerName, headerValue, config, ports));
+    if (rejected != null) {
+      // strict 모드: 컨트롤러/전략을 거치지 않고 필터에서 바로 응답한다
+      return reject(exchange.getResponse(), rejected)
+        .doFinally(signal -> logRequestEnd(startTime));
+    }
+
+    return chain.filter(exchange)
+      .contextWrite(ReactiveForwardedPortContext.with(ports.build()))
+      .contextWrite(context -> context.put(ForwardedPortConfigRegistry.CONTEXT_KEY, config))
+      .doFinally(signal -> logRequestEnd(startTime));
+  }
+
+  private Mono<Void> reject(ServerHttpResponse response, ForwardedPortRejectReason reason) {
+    rejectionMetrics.recordRejectedRequest();
+    byte[] body = ForwardedPortRejectionBody.of(reason);
+    response.setStatusCode(HttpStatus.BAD_REQUEST);
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+    response.getHeaders().setContentLength(body.length);
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+  }
+
+  private void logRequestEnd(long startTime) {
+    if (log.isInfoEnabled()) {
+      long duration = System.currentTimeMillis() - startTime;
+      log.info("Request completed in {} ms", duration);
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+}
@@ -4,30 +4,86 @@ package org.example.inbound.infrastructure.hanlder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.context.ForwardedPortContextSnapshot;
+import org.example.inbound.infrastructure.metrics.ForwardedPortRejectionMetrics;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigRegistry;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigSnapshot;
+import org.example.inbound.infrastructure.validator.ForwardedPortRejectReason;
+import org.example.inbound.infrastructure.validator.PortSet;
 import org.example.inbound.infrastructure.validator.PortValidator;
 import org.springframework.stereotype.Component;
 
 /**
  * Validation / Context data insert
+ * <p>
+ * 잘못된 헤더는 사유별로 {@link ForwardedPortRejectionMetrics}에 기록한다.
+ * 서비스 허용 목록에 없는 포트는 strict 모드가 아니면 기존처럼 저장하고, 사용하는 쪽에서 거른다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ForwardedPortHandler {
 
-  private final PortValidator portValidator;
+  private final ForwardedPortConfigRegistry configRegistry;
+  private final ForwardedPortRejectionMetrics rejectionMetrics;
 
   /**
    * 헤더 정보를 검증하고 Context에 저장
    */
   public void validateAndStore(String headerName, String headerValue) {
-    if (!portValidator.isValidForwardedPort(headerName, headerValue)) {
-      log.warn("Invalid forwarded port - Header: {}, Value: {}", headerName, headerValue);
-      return;
+    validateAndStore(headerName, headerValue, configRegistry.current());
+  }
+
+  /**
+   * 주어진 설정 스냅샷으로 헤더 정보를 검증하고 Context에 저장
+   *
+   * @return 거부 사유, 유효하면 null
+   */
+  public ForwardedPortRejectReason validateAndStore(String headerName, String headerValue, ForwardedPortConfigSnapshot config) {
+    int port = config.getValidationRules().resolveForwardedPort(headerName, headerValue);
+    ForwardedPortRejectReason reason = inspect(headerName, headerValue, port, config);
+    if (isStorable(port, reason, config)) {
+      ForwardedPortContext.setAttribute(headerName, port);
+      log.info("Port stored in context - Header: {}, Port: {}", headerName, port);
     }
-    int port = Integer.parseInt(headerValue.trim());
-    ForwardedPortContext.setAttribute(headerName, port);
-    log.info("Port stored in context - Header: {}, Port: {}", headerName, port);
+    return reason;
   }
 
-}
\ No newline at end of file
+  /**
+   * 주어진 설정 스냅샷으로 헤더 정보를 검증하고 스레드 Context 대신 사본 빌더에 저장 (서블릿/리액티브 필터)
+   *
+   * @return 거부 사유, 유효하면 null
+   */
+  public ForwardedPortRejectReason validateAndStore(
+    String headerName, String headerValue, ForwardedPortConfigSnapshot config, ForwardedPortContextSnapshot.Builder target
+  ) {
+    int port = config.getValidationRules().resolveForwardedPort(headerName, headerValue);
+    ForwardedPortRejectReason reason = inspect(headerName, headerValue, port, config);
+    if (isStorable(port, reason, config)) {
+      target.put(headerName, port);
+      log.info("Port stored in context - Header: {}, Port: {}", headerName, port);
+    }
+    return reason;
+  }
+
+  // 검증 실패 사유는 실패한 헤더에서만 계산한다
+  private ForwardedPortRejectReason inspect(String headerName, String headerValue, int port, ForwardedPortConfigSnapshot config) {
+    ForwardedPortRejectReason reason;
+    if (port == PortValidator.INVALID_PORT) {
+      reason = config.getValidationRules().rejectReason(headerName, headerValue);
+    } else {
+      PortSet allowedPorts = config.getAllowedPorts(headerName);
+      reason = allowedPorts != null && !allowedPorts.contains(port) ? ForwardedPortRejectReason.NOT_ALLOWLISTED : null;
+    }
+
+    if (reason != null) {
+      rejectionMetrics.recordInvalidHeader(reason);
+      log.warn("Invalid forwarded port - Header: {}, Value: {}, Reason: {}", headerName, headerValue, reason);
+    }
+    return reason;
+  }
+
+  private static boolean isStorable(int port, ForwardedPortRejectReason reason, ForwardedPortConfigSnapshot config) {
+    return port != PortValidator.INVALID_PORT && (reason == null || !config.isStrictValidation());
+  }
+}
@@ -0,0 +1,37 @@
+package org.example.inbound.infrastructure.http2;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tomcat HTTP/2(h2c) 스트림 한도 설정 (server.http2.enabled)
+ * <p>
+ * Tomcat 은 연결당 스트림 100개를 받되 20개만 동시에 실행하므로, 몇 개의 연결로 요청을 멀티플렉싱하는 이전 홉에서는
+ * 나머지 요청이 대기열에서 기다린다. 스트림은 가상 스레드에서 실행되므로 받은 스트림을 모두 바로 실행한다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "server.http2", name = "enabled", havingValue = "true")
+public class Http2ServerConfiguration {
+
+  // 연결당 동시 스트림 수 (이전 홉의 연결 수 x 이 값 = 동시 요청 한도)
+  private static final int MAX_CONCURRENT_STREAMS = 1000;
+
+  @Bean
+  public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2StreamLimitCustomizer() {
+    return factory -> factory.addConnectorCustomizers(connector -> {
+      for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+        if (protocol instanceof Http2Protocol http2Protocol) {
+          http2Protocol.setMaxConcurrentStreams(MAX_CONCURRENT_STREAMS);
+          http2Protocol.setMaxConcurrentStreamExecution(MAX_CONCURRENT_STREAMS);
+        }
+      }
+    });
+  }
+}
@@ -0,0 +1,29 @@
+package org.example.inbound.infrastructure.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 잘못된 포워딩 헤더 건수 조회 관리 엔드포인트
+ * <p>
+ * 설정 관리 엔드포인트와 같이 service.forwarding.reload.endpoint-enabled=true 일 때만 등록된다.
+ */
+@RestController
+@RequestMapping("/admin/forwarding/rejections")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "service.forwarding.reload", name = "endpoint-enabled", havingValue = "true")
+public class ForwardedPortRejectionController {
+
+  private final ForwardedPortRejectionMetrics rejectionMetrics;
+
+  @GetMapping
+  public ResponseEntity<Map<String, Long>> counts() {
+    return ResponseEntity.ok(rejectionMetrics.snapshot());
+  }
+}
@@ -0,0 +1,57 @@
+package org.example.inbound.infrastructure.metrics;
+
+import org.example.inbound.infrastructure.validator.ForwardedPortRejectReason;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잘못된 포워딩 헤더의 사유별 건수와 strict 모드에서 거부된 요청 수
+ * <p>
+ * 사유별 {@link LongAdder}를 enum 순서의 배열로 보관하므로 기록 시 조회나 할당이 없고,
+ * 요청 스레드가 많아도 같은 캐시 라인을 두고 경쟁하지 않는다.
+ */
+@Component
+public class ForwardedPortRejectionMetrics {
+
+  private static final ForwardedPortRejectReason[] REASONS = ForwardedPortRejectReason.values();
+
+  private final LongAdder[] invalidHeaders = new LongAdder[REASONS.length];
+  private final LongAdder rejectedRequests = new LongAdder();
+
+  public ForwardedPortRejectionMetrics() {
+    for (int i = 0; i < invalidHeaders.length; i++) {
+      invalidHeaders[i] = new LongAdder();
+    }
+  }
+
+  public void recordInvalidHeader(ForwardedPortRejectReason reason) {
+    invalidHeaders[reason.ordinal()].increment();
+  }
+
+  public void recordRejectedRequest() {
+    rejectedRequests.increment();
+  }
+
+  public long getInvalidHeaders(ForwardedPortRejectReason reason) {
+    return invalidHeaders[reason.ordinal()].sum();
+  }
+
+  public long getRejectedRequests() {
+    return rejectedRequests.sum();
+  }
+
+  /**
+   * 모니터링용 현재 값 (사유별 건수 + rejected-requests)
+   */
+  public Map<String, Long> snapshot() {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (ForwardedPortRejectReason reason : REASONS) {
+      counts.put(reason.name(), getInvalidHeaders(reason));
+    }
+    counts.put("rejected-requests", getRejectedRequests());
+    return counts;
+  }
+}
@@ -0,0 +1,44 @@
+package org.example.inbound.infrastructure.reload;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 포워딩 설정 조회/재적용 관리 엔드포인트
+ * <p>
+ * service.forwarding.reload.endpoint-enabled=true 일 때만 등록된다. 내부망/관리 포트에서만 노출해야 한다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/forwarding/config")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "service.forwarding.reload", name = "endpoint-enabled", havingValue = "true")
+public class ForwardedPortConfigController {
+
+  private final ForwardedPortConfigRegistry registry;
+  private final ForwardedPortConfigReloader reloader;
+
+  @GetMapping
+  public ResponseEntity<String> current() {
+    return ResponseEntity.ok(registry.latest().toString());
+  }
+
+  /**
+   * 설정을 다시 읽어 적용한다. 검증에 실패하면 400을 반환하고 기존 설정을 유지한다.
+   */
+  @PostMapping("/reload")
+  public ResponseEntity<String> reload() {
+    try {
+      return ResponseEntity.ok(reloader.reload().toString());
+    } catch (IllegalArgumentException e) {
+      log.warn("Rejected forwarding config reload: {}", e.getMessage());
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+}
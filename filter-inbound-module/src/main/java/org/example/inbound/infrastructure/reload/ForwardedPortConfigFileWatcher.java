@@ -0,0 +1,143 @@
+package org.example.inbound.infrastructure.reload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * reload 파일(service.forwarding.reload.file)의 변경을 감시해 포워딩 설정을 다시 읽는다.
+ * <p>
+ * 기동 시 파일이 있으면 한 번 적용하고, 이후 변경 이벤트는 짧게 모아 한 번만 다시 읽는다.
+ * 파일을 지우면 application.yml 설정으로 되돌아간다.
+ * 잘못된 설정은 로그만 남기고 기존 스냅샷을 유지한다.
+ * 파일의 상위 디렉터리가 없으면 만들어서 감시하고, 감시를 시작하지 못해도 기동은 실패하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "service.forwarding.reload", name = "file")
+public class ForwardedPortConfigFileWatcher implements SmartLifecycle {
+
+  // 편집기가 여러 번 나눠 쓰는 변경을 한 번으로 모으는 시간
+  private static final long DEBOUNCE_MILLIS = 200;
+
+  private final ForwardedPortConfigReloader reloader;
+  private final Path file;
+
+  private volatile WatchService watchService;
+  private volatile Thread watcher;
+
+  public ForwardedPortConfigFileWatcher(ForwardedPortConfigReloader reloader) {
+    this.reloader = reloader;
+    this.file = reloader.getReloadFile()
+      .map(path -> Path.of(path).toAbsolutePath().normalize())
+      .orElseThrow(() -> new IllegalArgumentException("service.forwarding.reload.file must not be empty"));
+  }
+
+  @Override
+  public void start() {
+    watchService = register(file.getParent());
+    if (Files.exists(file)) {
+      reloadQuietly();
+    }
+    if (watchService == null) {
+      return;
+    }
+    watcher = Thread.ofVirtual().name("forwarded-port-config-watcher").start(this::watch);
+    log.info("Watching forwarding config file: {}", file);
+  }
+
+  /**
+   * @return 디렉터리를 감시하는 WatchService, 감시를 시작하지 못하면 null
+   */
+  private WatchService register(Path directory) {
+    WatchService service = null;
+    try {
+      // 파일보다 디렉터리가 나중에 배포되는 경우가 있어 없으면 만들어 두고 감시한다
+      Files.createDirectories(directory);
+      service = file.getFileSystem().newWatchService();
+      directory.register(service,
+        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+      return service;
+    } catch (IOException e) {
+      // 감시하지 못해도 기동은 계속하고, 파일은 POST /admin/forwarding/config/reload 로 적용할 수 있다
+      log.error("Failed to watch forwarding config directory {}, file changes will not be applied: {}", directory, e.toString());
+      closeQuietly(service);
+      return null;
+    }
+  }
+
+  @Override
+  public void stop() {
+    WatchService service = watchService;
+    watchService = null;
+    closeQuietly(service);
+    watcher = null;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return watcher != null;
+  }
+
+  private void watch() {
+    try {
+      while (true) {
+        WatchService service = watchService;
+        if (service == null) {
+          return;
+        }
+        if (drain(service.take())) {
+          // 이어지는 이벤트를 모은 뒤 한 번만 다시 읽는다
+          WatchKey next;
+          while ((next = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+            drain(next);
+          }
+          reloadQuietly();
+        }
+      }
+    } catch (ClosedWatchServiceException | InterruptedException e) {
+      log.info("Stopped watching forwarding config file: {}", file);
+    }
+  }
+
+  private boolean drain(WatchKey key) {
+    boolean changed = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (file.getFileName().equals(event.context())) {
+        changed = true;
+      }
+    }
+    key.reset();
+    return changed;
+  }
+
+  private static void closeQuietly(WatchService service) {
+    if (service != null) {
+      try {
+        service.close();
+      } catch (IOException e) {
+        log.warn("Failed to close config file watcher", e);
+      }
+    }
+  }
+
+  private void reloadQuietly() {
+    try {
+      ForwardedPortConfigSnapshot snapshot = reloader.reload();
+      log.info("Reloaded forwarding config from {}: {}", file, snapshot);
+    } catch (IllegalArgumentException e) {
+      log.error("Rejected forwarding config from {}, keeping current config: {}", file, e.getMessage());
+    }
+  }
+}
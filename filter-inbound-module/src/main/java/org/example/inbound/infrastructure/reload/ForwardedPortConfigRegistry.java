@@ -0,0 +1,91 @@
+package org.example.inbound.infrastructure.reload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.core.props.ForwardedHeaderKeyProvider;
+import org.example.inbound.core.props.ForwardedPortConfigProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 현재 포워딩 설정 스냅샷을 volatile 참조 하나로 보관한다.
+ * <p>
+ * 읽기는 잠금 없이 참조 하나만 읽으며, 교체는 새 스냅샷의 컴파일/검증이 모두 성공한 경우에만 일어난다.
+ * ForwardedPortProcessingFilter가 요청 시작 시점의 스냅샷을 요청 속성에, ForwardedPortWebFilter가 Reactor Context에
+ * 고정하므로 처리 중인 요청은 교체 이후에도 이전 스냅샷으로 끝난다.
+ */
+@Slf4j
+@Component
+public class ForwardedPortConfigRegistry {
+
+  public static final String REQUEST_ATTRIBUTE = ForwardedPortConfigSnapshot.class.getName();
+
+  /**
+   * 리액티브 모드에서 요청에 고정된 스냅샷의 Reactor Context 키
+   */
+  public static final Class<ForwardedPortConfigSnapshot> CONTEXT_KEY = ForwardedPortConfigSnapshot.class;
+
+  private volatile ForwardedPortConfigSnapshot snapshot;
+
+  public ForwardedPortConfigRegistry(
+    ForwardedPortConfigProperties forwardedPortConfigProperties,
+    ObjectProvider<ForwardedHeaderKeyProvider> headerKeyProviders
+  ) {
+    this.snapshot = ForwardedPortConfigSnapshot.compile(
+      1, forwardedPortConfigProperties, headerKeyProviders.orderedStream().toList());
+    log.info("Initialized {}", snapshot);
+  }
+
+  /**
+   * 가장 최근에 적용된 스냅샷
+   */
+  public ForwardedPortConfigSnapshot latest() {
+    return snapshot;
+  }
+
+  /**
+   * 현재 서블릿 요청에 고정된 스냅샷, 요청 스레드 밖이거나 고정되지 않았으면 최신 스냅샷
+   * <p>
+   * 리액티브 모드에는 스레드에 묶인 요청 속성이 없으므로 {@link #pinned()}를 사용한다.
+   */
+  public ForwardedPortConfigSnapshot current() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null
+      && attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof ForwardedPortConfigSnapshot pinned) {
+      return pinned;
+    }
+    return snapshot;
+  }
+
+  /**
+   * 구독한 요청에 고정된 스냅샷 (리액티브 모드), 고정되지 않았으면 최신 스냅샷
+   */
+  public Mono<ForwardedPortConfigSnapshot> pinned() {
+    return Mono.deferContextual(context -> Mono.just(context.getOrDefault(CONTEXT_KEY, snapshot)));
+  }
+
+  /**
+   * 새 설정을 컴파일/검증한 뒤 교체한다. 실패하면 기존 스냅샷을 유지하고 IllegalArgumentException을 던진다.
+   */
+  public synchronized ForwardedPortConfigSnapshot update(
+    ForwardedPortConfigProperties forwardedPortConfigProperties,
+    List<? extends ForwardedHeaderKeyProvider> headerKeyProviders
+  ) {
+    ForwardedPortConfigSnapshot previous = snapshot;
+    ForwardedPortConfigSnapshot candidate = ForwardedPortConfigSnapshot.compile(
+      previous.getVersion() + 1, forwardedPortConfigProperties, headerKeyProviders);
+
+    if (candidate.getProperties().getContextMode() != previous.getProperties().getContextMode()) {
+      log.warn("Context mode change ({} -> {}) requires a restart and is ignored",
+        previous.getProperties().getContextMode(), candidate.getProperties().getContextMode());
+    }
+
+    snapshot = candidate;
+    log.info("Forwarding config updated: version {} -> {}", previous.getVersion(), candidate.getVersion());
+    return candidate;
+  }
+}
@@ -0,0 +1,137 @@
+package org.example.inbound.infrastructure.reload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.core.props.ForwardedHeaderKeyProvider;
+import org.example.inbound.core.props.ForwardedPortConfigProperties;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBean;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포워딩 설정 프로퍼티를 다시 바인딩해 {@link ForwardedPortConfigRegistry}의 스냅샷을 교체한다.
+ * <p>
+ * 바인딩 대상은 ForwardedPortConfigProperties와 ForwardedHeaderKeyProvider(ServiceProperties) 빈이며,
+ * 현재 Environment 위에 reload 파일(service.forwarding.reload.file)을 가장 높은 우선순위로 올려 새 인스턴스를 만든다.
+ * 파일이 없으면 Environment만으로 바인딩한다.
+ * Environment와 기존 빈은 변경하지 않는다.
+ */
+@Slf4j
+@Component
+public class ForwardedPortConfigReloader {
+
+  private final ConfigurableEnvironment environment;
+  private final ApplicationContext applicationContext;
+  private final ForwardedPortConfigRegistry registry;
+  private final String reloadFile;
+
+  public ForwardedPortConfigReloader(
+    ConfigurableEnvironment environment,
+    ApplicationContext applicationContext,
+    ForwardedPortConfigRegistry registry,
+    ForwardedPortConfigProperties forwardedPortConfigProperties
+  ) {
+    this.environment = environment;
+    this.applicationContext = applicationContext;
+    this.registry = registry;
+    this.reloadFile = forwardedPortConfigProperties.getReloadFile();
+  }
+
+  public Optional<String> getReloadFile() {
+    return Optional.ofNullable(reloadFile).filter(StringUtils::hasText);
+  }
+
+  /**
+   * 설정을 다시 읽어 스냅샷을 교체한다.
+   *
+   * @return 새로 적용된 스냅샷
+   * @throws IllegalArgumentException 설정을 읽거나 검증할 수 없는 경우, 기존 스냅샷은 유지된다.
+   */
+  public synchronized ForwardedPortConfigSnapshot reload() {
+    Binder binder = createBinder();
+    try {
+      ForwardedPortConfigProperties properties = rebind(ForwardedPortConfigProperties.class, binder).stream()
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("No forwarding properties bean"));
+      List<ForwardedHeaderKeyProvider> headerKeyProviders = rebind(ForwardedHeaderKeyProvider.class, binder);
+      return registry.update(properties, headerKeyProviders);
+    } catch (BindException e) {
+      throw new IllegalArgumentException("Invalid forwarding configuration: " + rootCauseMessage(e), e);
+    }
+  }
+
+  private Binder createBinder() {
+    MutablePropertySources sources = new MutablePropertySources(environment.getPropertySources());
+    loadReloadFile().forEach(sources::addFirst);
+    return new Binder(ConfigurationPropertySources.from(sources), new PropertySourcesPlaceholdersResolver(sources));
+  }
+
+  private List<PropertySource<?>> loadReloadFile() {
+    if (getReloadFile().isEmpty()) {
+      return List.of();
+    }
+
+    FileSystemResource resource = new FileSystemResource(reloadFile);
+    // 파일을 지우면 application.yml 설정으로 되돌아간다
+    if (!resource.exists()) {
+      log.info("Reload file {} does not exist, using application config", reloadFile);
+      return List.of();
+    }
+    if (!resource.isReadable()) {
+      throw new IllegalArgumentException("Reload file is not readable: " + reloadFile);
+    }
+
+    PropertySourceLoader loader = reloadFile.endsWith(".properties")
+      ? new PropertiesPropertySourceLoader()
+      : new YamlPropertySourceLoader();
+    try {
+      // 여러 문서로 된 YAML은 앞 문서가 우선하도록 역순으로 올린다
+      List<PropertySource<?>> sources = new ArrayList<>(loader.load("forwarding-reload: [" + reloadFile + "]", resource));
+      Collections.reverse(sources);
+      return sources;
+    } catch (IOException | RuntimeException e) {
+      throw new IllegalArgumentException("Failed to read reload file " + reloadFile + ": " + e.getMessage(), e);
+    }
+  }
+
+  private <T> List<T> rebind(Class<T> type, Binder binder) {
+    List<T> rebound = new ArrayList<>();
+    applicationContext.getBeansOfType(type).forEach((beanName, bean) -> {
+      ConfigurationPropertiesBean propertiesBean = ConfigurationPropertiesBean.get(applicationContext, bean, beanName);
+      if (propertiesBean == null) {
+        // 프로퍼티 바인딩 빈이 아니면 그대로 사용한다
+        rebound.add(bean);
+        return;
+      }
+      Object value = binder.bindOrCreate(propertiesBean.getAnnotation().prefix(), Bindable.of(bean.getClass()));
+      rebound.add(type.cast(value));
+    });
+    return rebound;
+  }
+
+  private static String rootCauseMessage(Throwable e) {
+    Throwable cause = e;
+    while (cause.getCause() != null && cause.getCause() != cause) {
+      cause = cause.getCause();
+    }
+    return cause.getMessage();
+  }
+}
@@ -0,0 +1,143 @@
+package org.example.inbound.infrastructure.reload;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.example.inbound.core.props.ForwardedHeaderKeyProvider;
+import org.example.inbound.core.props.ForwardedPortConfigProperties;
+import org.example.inbound.infrastructure.filter.ForwardedPortHeaderIndex;
+import org.example.inbound.infrastructure.validator.ForwardedPortValidationRules;
+import org.example.inbound.infrastructure.validator.PortSet;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 시점의 포워딩 설정과 그로부터 컴파일된 검증 규칙, 헤더 인덱스, 서비스별 허용 목록을 묶은 불변 스냅샷
+ * <p>
+ * {@link #compile}은 모든 검사를 마친 뒤에만 스냅샷을 반환하므로, 잘못된 설정은 교체 전에 IllegalArgumentException으로 거부된다.
+ */
+@Getter
+public final class ForwardedPortConfigSnapshot {
+
+  private final long version;
+  private final Instant loadedAt;
+  private final ForwardedPortConfigProperties properties;
+  private final ForwardedPortValidationRules validationRules;
+  private final ForwardedPortHeaderIndex headerIndex;
+  private final List<ForwardedHeaderKeyProvider> headerKeyProviders;
+  private final int maxInspectedHeaders;
+  private final int maxInspectedHeaderBytes;
+  private final boolean strictValidation;
+  // 서비스 헤더 키 → 허용 포트
+  @Getter(AccessLevel.NONE)
+  private final Map<String, PortSet> allowedPortsByKey;
+
+  private ForwardedPortConfigSnapshot(
+    long version,
+    ForwardedPortConfigProperties properties,
+    ForwardedPortValidationRules validationRules,
+    ForwardedPortHeaderIndex headerIndex,
+    List<ForwardedHeaderKeyProvider> headerKeyProviders
+  ) {
+    this.version = version;
+    this.loadedAt = Instant.now();
+    this.properties = properties;
+    this.validationRules = validationRules;
+    this.headerIndex = headerIndex;
+    this.headerKeyProviders = headerKeyProviders;
+    this.maxInspectedHeaders = properties.getMaxInspectedHeaders();
+    this.maxInspectedHeaderBytes = properties.getMaxInspectedHeaderBytes();
+    this.strictValidation = properties.isStrictValidation();
+    this.allowedPortsByKey = allowedPortsByKey(headerKeyProviders);
+  }
+
+  public static ForwardedPortConfigSnapshot compile(
+    long version,
+    ForwardedPortConfigProperties properties,
+    List<? extends ForwardedHeaderKeyProvider> headerKeyProviders
+  ) {
+    if (properties == null) {
+      throw new IllegalArgumentException("Forwarding properties must not be null");
+    }
+    if (headerKeyProviders == null) {
+      throw new IllegalArgumentException("Service header key providers must not be null");
+    }
+
+    ForwardedPortValidationRules rules = ForwardedPortValidationRules.compile(properties);
+    List<String> headerKeys = new ArrayList<>();
+    for (ForwardedHeaderKeyProvider provider : headerKeyProviders) {
+      Collection<String> keys = provider != null ? provider.getForwardedHeaderKeys() : null;
+      if (keys == null) {
+        throw new IllegalArgumentException("Service header keys must not be null: " + provider);
+      }
+      headerKeys.addAll(keys);
+    }
+    validateHeaderKeys(rules, headerKeys);
+    validateLimits(properties);
+
+    ForwardedPortHeaderIndex headerIndex = new ForwardedPortHeaderIndex(
+      properties.getHeaderPattern(), properties.getHeaderSuffix(), rules, headerKeys);
+    return new ForwardedPortConfigSnapshot(version, properties, rules, headerIndex, List.copyOf(headerKeyProviders));
+  }
+
+  /**
+   * 스냅샷에 포함된 서비스 설정 중 주어진 타입을 찾는다.
+   */
+  public <T extends ForwardedHeaderKeyProvider> T getHeaderKeyProvider(Class<T> type) {
+    for (ForwardedHeaderKeyProvider provider : headerKeyProviders) {
+      if (type.isInstance(provider)) {
+        return type.cast(provider);
+      }
+    }
+    throw new IllegalStateException("No " + type.getSimpleName() + " in forwarding config version " + version);
+  }
+
+  /**
+   * 서비스 헤더 키의 허용 포트
+   *
+   * @return 허용 포트 집합, 서비스가 모르는 헤더면 null
+   */
+  public PortSet getAllowedPorts(String headerName) {
+    return allowedPortsByKey.get(headerName);
+  }
+
+  private static Map<String, PortSet> allowedPortsByKey(List<ForwardedHeaderKeyProvider> headerKeyProviders) {
+    Map<String, PortSet> allowedPorts = new HashMap<>();
+    for (ForwardedHeaderKeyProvider provider : headerKeyProviders) {
+      for (String headerKey : provider.getForwardedHeaderKeys()) {
+        PortSet ports = provider.getAllowedPorts(headerKey);
+        if (ports != null) {
+          allowedPorts.put(headerKey, ports);
+        }
+      }
+    }
+    return Map.copyOf(allowedPorts);
+  }
+
+  // 서비스 헤더 키가 헤더 패턴과 맞지 않으면 해당 서비스로는 포워딩될 수 없다
+  private static void validateHeaderKeys(ForwardedPortValidationRules rules, List<String> headerKeys) {
+    for (String headerKey : headerKeys) {
+      if (!StringUtils.hasText(headerKey) || !rules.matchesHeader(headerKey)) {
+        throw new IllegalArgumentException("Service header key '" + headerKey + "' does not match header pattern");
+      }
+    }
+  }
+
+  private static void validateLimits(ForwardedPortConfigProperties properties) {
+    if (properties.getMaxInspectedHeaders() <= 0 || properties.getMaxInspectedHeaderBytes() <= 0) {
+      throw new IllegalArgumentException(String.format("Header limits must be positive: max-count=%d, max-bytes=%d",
+        properties.getMaxInspectedHeaders(), properties.getMaxInspectedHeaderBytes()));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ForwardedPortConfigSnapshot(version=%d, loadedAt=%s, strict=%s, rules=%s, services=%s)",
+      version, loadedAt, strictValidation, validationRules, headerKeyProviders);
+  }
+}
@@ -0,0 +1,17 @@
+package org.example.inbound.infrastructure.validator;
+
+/**
+ * 포워딩 헤더가 거부된 사유
+ */
+public enum ForwardedPortRejectReason {
+  // 헤더 이름이 헤더 패턴과 맞지 않음
+  BAD_NAME,
+  // 포트 값이 비어 있거나 포트 패턴/정수 형식이 아님
+  BAD_FORMAT,
+  // 공통 포트 범위(service.forwarding.headers.ports.range) 밖
+  OUT_OF_RANGE,
+  // 서비스별 허용 포트(service.*.header.ports/ranges)에 없음
+  NOT_ALLOWLISTED,
+  // 포워딩 헤더 수/바이트가 검사 한도(service.forwarding.headers.limits)를 넘음
+  LIMIT_EXCEEDED
+}
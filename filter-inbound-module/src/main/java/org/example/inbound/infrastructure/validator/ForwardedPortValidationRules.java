@@ -0,0 +1,178 @@
+package org.example.inbound.infrastructure.validator;
+
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.core.props.ForwardedPortConfigProperties;
+import org.example.inbound.infrastructure.validator.matcher.CharSequenceMatcher;
+import org.example.inbound.infrastructure.validator.matcher.CharSequenceMatchers;
+import org.example.inbound.infrastructure.validator.matcher.PortParser;
+
+/**
+ * 컴파일된 포워딩 포트 검증 규칙 (불변)
+ * <p>
+ * 헤더/포트 패턴은 생성 시점에 {@link CharSequenceMatchers}로 컴파일되며,
+ * 요청 처리 중에는 부분 문자열 생성이나 예외 없이 한 번의 순회로 검증한다.
+ * 잘못된 설정은 생성 시점에 IllegalArgumentException으로 거부된다.
+ */
+@Slf4j
+public final class ForwardedPortValidationRules implements PortValidator {
+  // evaluate()의 거부 코드
+  private static final int REJECT_BAD_NAME = -2;
+  private static final int REJECT_BAD_FORMAT = -3;
+  private static final int REJECT_OUT_OF_RANGE = -4;
+
+  // 헤더
+  private final CharSequenceMatcher headerMatcher;
+  // 포트
+  private final CharSequenceMatcher portMatcher;
+  private final boolean digitsOnlyPort;
+  private final PortSet allowedPorts;
+
+  private ForwardedPortValidationRules(CharSequenceMatcher headerMatcher, CharSequenceMatcher portMatcher,
+                                       PortSet allowedPorts) {
+    this.headerMatcher = headerMatcher;
+    this.portMatcher = portMatcher;
+    this.digitsOnlyPort = CharSequenceMatchers.isDigitsOnly(portMatcher);
+    this.allowedPorts = allowedPorts;
+  }
+
+  public static ForwardedPortValidationRules compile(ForwardedPortConfigProperties forwardedPortConfigProperties) {
+    Integer minPort = forwardedPortConfigProperties.getMinPort();
+    Integer maxPort = forwardedPortConfigProperties.getMaxPort();
+    if (minPort == null || maxPort == null) {
+      throw new IllegalArgumentException("Port range must not be null");
+    }
+
+    ForwardedPortValidationRules rules = new ForwardedPortValidationRules(
+      CharSequenceMatchers.compile(forwardedPortConfigProperties.getHeaderPattern()),
+      CharSequenceMatchers.compile(forwardedPortConfigProperties.getPortPattern()),
+      PortSet.range(minPort, maxPort)
+    );
+    log.info("Compiled {}", rules);
+    return rules;
+  }
+
+  /**
+   * 헤더 이름이 헤더 패턴과 일치하는지 확인한다.
+   */
+  public boolean matchesHeader(String headerName) {
+    return headerName != null && headerMatcher.matches(headerName);
+  }
+
+  public PortSet getAllowedPorts() {
+    return allowedPorts;
+  }
+
+  @Override
+  public boolean isValidForwardedPort(String headerName, String portValue) {
+    return resolveForwardedPort(headerName, portValue) != INVALID_PORT;
+  }
+
+  @Override
+  public int resolveForwardedPort(String headerName, String portValue) {
+    int result = evaluate(headerName, portValue);
+    if (result < 0) {
+      return INVALID_PORT;
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("[Validation] Success - Header: {}, Port: {}", headerName, result);
+    }
+    return result;
+  }
+
+  /**
+   * 검증에 실패한 사유를 구한다. 실패한 헤더에만 호출하므로 정상 경로에는 비용이 없다.
+   *
+   * @return 거부 사유, 유효하면 null
+   */
+  public ForwardedPortRejectReason rejectReason(String headerName, String portValue) {
+    return switch (evaluate(headerName, portValue)) {
+      case REJECT_BAD_NAME -> ForwardedPortRejectReason.BAD_NAME;
+      case REJECT_BAD_FORMAT -> ForwardedPortRejectReason.BAD_FORMAT;
+      case REJECT_OUT_OF_RANGE -> ForwardedPortRejectReason.OUT_OF_RANGE;
+      default -> null;
+    };
+  }
+
+  /**
+   * @return 포트 번호, 실패하면 음수의 거부 코드
+   */
+  private int evaluate(String headerName, String portValue) {
+    // 헤더(키) 검증
+    if (!validateHeader(headerName)) {
+      return REJECT_BAD_NAME;
+    }
+
+    // 헤더(값) 검증
+    int port = parsePort(portValue);
+    if (port == INVALID_PORT) {
+      return REJECT_BAD_FORMAT;
+    }
+    if (!validatePortRange(port)) {
+      return REJECT_OUT_OF_RANGE;
+    }
+    return port;
+  }
+
+  private boolean validateHeader(String headerName) {
+    if (headerName == null || headerName.isBlank()) {
+      log.debug("[Validation] Header name is null or empty");
+      return false;
+    }
+
+    if (!headerMatcher.matches(headerName)) {
+      log.debug("[Validation] Invalid header name: '{}', pattern: {}",
+        headerName, headerMatcher);
+      return false;
+    }
+
+    return true;
+  }
+
+  // null, empty, 숫자 포맷
+  private int parsePort(String portValue) {
+    if (portValue == null) {
+      log.debug("[Validation] Port value is null or empty");
+      return INVALID_PORT;
+    }
+
+    int start = PortParser.trimStart(portValue);
+    int end = PortParser.trimEnd(portValue, start);
+    if (start == end) {
+      log.debug("[Validation] Port value is null or empty");
+      return INVALID_PORT;
+    }
+
+    // 숫자 전용 패턴은 파서가 형식 검사까지 한 번에 수행한다
+    if (!digitsOnlyPort && !portMatcher.matches(portValue, start, end)) {
+      log.debug("[Validation] Port value '{}' does not match pattern: {}",
+        portValue, portMatcher);
+      return INVALID_PORT;
+    }
+
+    int port = PortParser.parse(portValue, start, end);
+    if (port == PortParser.INVALID) {
+      log.debug("[Validation] Port value '{}' is not a valid integer", portValue);
+      return INVALID_PORT;
+    }
+    return port;
+  }
+
+  // 포트 범위
+  private boolean validatePortRange(int port) {
+    if (!allowedPorts.contains(port)) {
+      if (log.isDebugEnabled()) {
+        log.debug("[Validation] Port {} is outside allowed range {}", port, allowedPorts);
+      }
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ForwardedPortValidationRules(portRange=%s, portPattern=%s, headerPattern=%s)",
+      allowedPorts, portMatcher, headerMatcher);
+  }
+}
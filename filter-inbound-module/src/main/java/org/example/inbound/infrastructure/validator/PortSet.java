@@ -0,0 +1,208 @@
+package org.example.inbound.infrastructure.validator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * 허용 포트 집합을 표현하는 불변 비트맵
+ * <p>
+ * 포트 목록, 범위, 범위의 합집합을 모두 같은 형태로 표현하며 {@link #contains(int)}는
+ * 박싱이나 선형 탐색 없이 O(1)로 동작한다. 비트맵은 최소~최대 포트 구간만 덮으므로
+ * 0~65535 전체를 덮어도 8KB를 넘지 않는다.
+ */
+public final class PortSet {
+
+  public static final int MIN_PORT = 0;
+  public static final int MAX_PORT = 65535;
+
+  public static final PortSet EMPTY = new PortSet(0, new long[0], 0);
+
+  private final int base;
+  private final long[] words;
+  private final int size;
+
+  private PortSet(int base, long[] words, int size) {
+    this.base = base;
+    this.words = words;
+    this.size = size;
+  }
+
+  public static PortSet of(int... ports) {
+    Builder builder = builder();
+    for (int port : ports) {
+      builder.add(port);
+    }
+    return builder.build();
+  }
+
+  public static PortSet of(Collection<Integer> ports) {
+    return builder().addAll(ports).build();
+  }
+
+  public static PortSet range(int min, int max) {
+    return builder().addRange(min, max).build();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public boolean contains(int port) {
+    int offset = port - base;
+    if (offset < 0 || offset >= words.length << 6) {
+      return false;
+    }
+    return (words[offset >>> 6] & (1L << offset)) != 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * from 이상인 첫 번째 포트, 없으면 -1
+   */
+  public int nextPort(int from) {
+    int offset = Math.max(from - base, 0);
+    int index = offset >>> 6;
+    if (index >= words.length) {
+      return -1;
+    }
+
+    long word = words[index] & (-1L << offset);
+    while (true) {
+      if (word != 0) {
+        return base + (index << 6) + Long.numberOfTrailingZeros(word);
+      }
+      if (++index == words.length) {
+        return -1;
+      }
+      word = words[index];
+    }
+  }
+
+  public void forEach(IntConsumer action) {
+    for (int port = nextPort(MIN_PORT); port >= 0; port = nextPort(port + 1)) {
+      action.accept(port);
+    }
+  }
+
+  public PortSet union(PortSet other) {
+    if (other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return other;
+    }
+    Builder builder = builder();
+    forEach(builder::add);
+    other.forEach(builder::add);
+    return builder.build();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PortSet other) || size != other.size) {
+      return false;
+    }
+    for (int port = nextPort(MIN_PORT); port >= 0; port = nextPort(port + 1)) {
+      if (!other.contains(port)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = size;
+    for (int port = nextPort(MIN_PORT); port >= 0; port = nextPort(port + 1)) {
+      hash = 31 * hash + port;
+    }
+    return hash;
+  }
+
+  /**
+   * 연속된 포트는 범위로 묶어 표시한다. 예) [8081-8082, 9000]
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    int start = nextPort(MIN_PORT);
+    while (start >= 0) {
+      int end = start;
+      while (contains(end + 1)) {
+        end++;
+      }
+      if (sb.length() > 1) {
+        sb.append(", ");
+      }
+      sb.append(start);
+      if (end > start) {
+        sb.append('-').append(end);
+      }
+      start = nextPort(end + 1);
+    }
+    return sb.append(']').toString();
+  }
+
+  public static final class Builder {
+    private final long[] bits = new long[(MAX_PORT + 1) >>> 6];
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    private Builder() {
+    }
+
+    public Builder add(int port) {
+      return addRange(port, port);
+    }
+
+    public Builder addAll(Collection<Integer> ports) {
+      if (ports != null) {
+        for (Integer port : ports) {
+          if (port == null) {
+            throw new IllegalArgumentException("Port must not be null");
+          }
+          add(port);
+        }
+      }
+      return this;
+    }
+
+    public Builder addRange(int from, int to) {
+      if (from < MIN_PORT || to > MAX_PORT || from > to) {
+        throw new IllegalArgumentException(
+          String.format("Invalid port range: %d-%d (allowed %d-%d)", from, to, MIN_PORT, MAX_PORT));
+      }
+      for (int port = from; port <= to; port++) {
+        bits[port >>> 6] |= 1L << port;
+      }
+      min = Math.min(min, from);
+      max = Math.max(max, to);
+      return this;
+    }
+
+    public PortSet build() {
+      if (min > max) {
+        return EMPTY;
+      }
+      int fromWord = min >>> 6;
+      int toWord = max >>> 6;
+      long[] words = Arrays.copyOfRange(bits, fromWord, toWord + 1);
+      int size = 0;
+      for (long word : words) {
+        size += Long.bitCount(word);
+      }
+      return new PortSet(fromWord << 6, words, size);
+    }
+  }
+}
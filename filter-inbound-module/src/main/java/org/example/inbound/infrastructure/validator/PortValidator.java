@@ -2,6 +2,12 @@ package org.example.inbound.infrastructure.validator;
 
 @FunctionalInterface
 public interface PortValidator {
+
+  /**
+   * 유효하지 않은 포워딩 정보
+   */
+  int INVALID_PORT = -1;
+
   /**
    * 포워딩된 포트 정보(헤더 키와 포트 값)의 유효성을 검증합니다.
    *
@@ -10,4 +16,18 @@ public interface PortValidator {
    * @return 유효한 포워딩 정보인 경우 true
    */
   boolean isValidForwardedPort(String headerName, String headerValue);
-} 
\ No newline at end of file
+
+  /**
+   * 포워딩 정보를 검증하고 포트 번호를 반환합니다.
+   *
+   * @param headerName  포트 정보가 포함된 헤더 키
+   * @param headerValue 검증할 포트 번호
+   * @return 유효한 경우 포트 번호, 그렇지 않으면 {@link #INVALID_PORT}
+   */
+  default int resolveForwardedPort(String headerName, String headerValue) {
+    if (!isValidForwardedPort(headerName, headerValue)) {
+      return INVALID_PORT;
+    }
+    return Integer.parseInt(headerValue.trim());
+  }
+}
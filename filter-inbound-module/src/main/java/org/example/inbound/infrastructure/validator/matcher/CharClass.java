@@ -0,0 +1,88 @@
+package org.example.inbound.infrastructure.validator.matcher;
+
+import java.util.Arrays;
+
+/**
+ * ASCII 문자 클래스([a-zA-Z0-9-] 등)를 룩업 테이블로 표현한다.
+ */
+final class CharClass {
+
+  private static final int ASCII_SIZE = 128;
+
+  private final boolean[] table;
+
+  private CharClass(boolean[] table) {
+    this.table = table;
+  }
+
+  boolean contains(char c) {
+    return c < ASCII_SIZE && table[c];
+  }
+
+  boolean isDigitsOnly() {
+    for (int c = 0; c < ASCII_SIZE; c++) {
+      if (table[c] != (c >= '0' && c <= '9')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 대괄호 안의 클래스 본문을 해석한다. 부정([^...]), 중첩, 비 ASCII 문자 등
+   * 지원하지 않는 형태이면 null을 반환한다.
+   */
+  static CharClass parse(String body) {
+    // 부정 클래스와 교집합(&&)은 지원하지 않는다
+    if (body.isEmpty() || body.charAt(0) == '^' || body.contains("&&")) {
+      return null;
+    }
+
+    boolean[] table = new boolean[ASCII_SIZE];
+    int i = 0;
+    while (i < body.length()) {
+      char c = body.charAt(i);
+      if (c == '[' || c >= ASCII_SIZE) {
+        return null;
+      }
+      if (c == '\\') {
+        if (i + 1 >= body.length() || !addEscape(table, body.charAt(i + 1))) {
+          return null;
+        }
+        i += 2;
+        continue;
+      }
+      if (i + 2 < body.length() && body.charAt(i + 1) == '-') {
+        char to = body.charAt(i + 2);
+        if (to == '\\' || to == '[' || to >= ASCII_SIZE || to < c) {
+          return null;
+        }
+        Arrays.fill(table, c, to + 1, true);
+        i += 3;
+        continue;
+      }
+      table[c] = true;
+      i++;
+    }
+    return new CharClass(table);
+  }
+
+  private static boolean addEscape(boolean[] table, char escaped) {
+    switch (escaped) {
+      case 'd' -> Arrays.fill(table, '0', '9' + 1, true);
+      case 'w' -> {
+        Arrays.fill(table, '0', '9' + 1, true);
+        Arrays.fill(table, 'a', 'z' + 1, true);
+        Arrays.fill(table, 'A', 'Z' + 1, true);
+        table['_'] = true;
+      }
+      default -> {
+        if (Character.isLetterOrDigit(escaped) || escaped >= ASCII_SIZE) {
+          return false;
+        }
+        table[escaped] = true;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,54 @@
+package org.example.inbound.infrastructure.validator.matcher;
+
+/**
+ * {@code ^[class]+suffix$} 형태의 패턴을 한 번의 순회로 검사한다.
+ * <p>
+ * suffix 길이가 고정이므로 클래스 구간의 길이가 하나로 정해져 백트래킹이 필요 없다.
+ */
+final class CharClassRunMatcher implements CharSequenceMatcher {
+
+  private final CharClass charClass;
+  private final int minRun;
+  private final String suffix;
+  private final String source;
+
+  CharClassRunMatcher(CharClass charClass, int minRun, String suffix, String source) {
+    this.charClass = charClass;
+    this.minRun = minRun;
+    this.suffix = suffix;
+    this.source = source;
+  }
+
+  @Override
+  public boolean matches(CharSequence input, int start, int end) {
+    int suffixLength = suffix.length();
+    if (end - start < minRun + suffixLength) {
+      return false;
+    }
+
+    int runEnd = end - suffixLength;
+    for (int i = start; i < runEnd; i++) {
+      if (!charClass.contains(input.charAt(i))) {
+        return false;
+      }
+    }
+    for (int i = 0; i < suffixLength; i++) {
+      if (input.charAt(runEnd + i) != suffix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@code ^[0-9]+$}와 동일한 패턴인지 여부. 포트 파서가 형식 검사를 대신할 수 있다.
+   */
+  boolean isDigitsOnly() {
+    return minRun > 0 && suffix.isEmpty() && charClass.isDigitsOnly();
+  }
+
+  @Override
+  public String toString() {
+    return source;
+  }
+}
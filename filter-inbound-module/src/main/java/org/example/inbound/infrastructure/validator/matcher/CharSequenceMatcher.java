@@ -0,0 +1,18 @@
+package org.example.inbound.infrastructure.validator.matcher;
+
+/**
+ * 기동 시점에 설정 패턴으로부터 컴파일되는 문자열 매처
+ * <p>
+ * 입력 범위(start, end)를 직접 받아 trim 등으로 부분 문자열을 만들지 않고 검사한다.
+ */
+public interface CharSequenceMatcher {
+
+  /**
+   * input[start, end) 구간 전체가 패턴과 일치하는지 확인한다.
+   */
+  boolean matches(CharSequence input, int start, int end);
+
+  default boolean matches(CharSequence input) {
+    return input != null && matches(input, 0, input.length());
+  }
+}
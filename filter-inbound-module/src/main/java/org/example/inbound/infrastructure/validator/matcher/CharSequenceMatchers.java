@@ -0,0 +1,97 @@
+package org.example.inbound.infrastructure.validator.matcher;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 설정된 정규식을 가장 빠른 매처로 컴파일한다.
+ * <ul>
+ *   <li>{@code ^[class]+literal$}, {@code ^[class]+$} : 문자 클래스 스캐너</li>
+ *   <li>그 외 : RE2 기반 선형 시간 매처</li>
+ * </ul>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CharSequenceMatchers {
+
+  private static final String META_CHARACTERS = ".[]{}()*+?^$|\\";
+
+  public static CharSequenceMatcher compile(String regex) {
+    if (regex == null || regex.isEmpty()) {
+      throw new IllegalArgumentException("Pattern must not be empty");
+    }
+
+    CharSequenceMatcher matcher = compileCharClassRun(regex);
+    if (matcher == null) {
+      matcher = new LinearTimeMatcher(regex);
+    }
+    log.info("Compiled pattern '{}' to {}", regex, matcher.getClass().getSimpleName());
+    return matcher;
+  }
+
+  /**
+   * 포트 값 형식이 숫자만 허용하는 패턴인지 확인한다.
+   */
+  public static boolean isDigitsOnly(CharSequenceMatcher matcher) {
+    return matcher instanceof CharClassRunMatcher runMatcher && runMatcher.isDigitsOnly();
+  }
+
+  private static CharSequenceMatcher compileCharClassRun(String regex) {
+    int start = regex.startsWith("^") ? 1 : 0;
+    int end = regex.endsWith("$") && !regex.endsWith("\\$") ? regex.length() - 1 : regex.length();
+    if (start >= end || regex.charAt(start) != '[') {
+      return null;
+    }
+
+    int classEnd = findClassEnd(regex, start + 1, end);
+    if (classEnd < 0 || classEnd + 1 >= end) {
+      return null;
+    }
+    CharClass charClass = CharClass.parse(regex.substring(start + 1, classEnd));
+    if (charClass == null) {
+      return null;
+    }
+
+    char quantifier = regex.charAt(classEnd + 1);
+    if (quantifier != '+' && quantifier != '*') {
+      return null;
+    }
+
+    String suffix = parseLiteral(regex, classEnd + 2, end);
+    if (suffix == null) {
+      return null;
+    }
+    return new CharClassRunMatcher(charClass, quantifier == '+' ? 1 : 0, suffix, regex);
+  }
+
+  private static int findClassEnd(String regex, int from, int end) {
+    for (int i = from; i < end; i++) {
+      char c = regex.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == ']' && i > from) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static String parseLiteral(String regex, int from, int end) {
+    StringBuilder literal = new StringBuilder(end - from);
+    for (int i = from; i < end; i++) {
+      char c = regex.charAt(i);
+      if (c == '\\') {
+        if (i + 1 >= end || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+          return null;
+        }
+        literal.append(regex.charAt(++i));
+      } else if (META_CHARACTERS.indexOf(c) >= 0) {
+        return null;
+      } else {
+        literal.append(c);
+      }
+    }
+    return literal.toString();
+  }
+}
@@ -0,0 +1,34 @@
+package org.example.inbound.infrastructure.validator.matcher;
+
+import com.google.re2j.Pattern;
+import com.google.re2j.PatternSyntaxException;
+
+/**
+ * 특화 매처로 컴파일할 수 없는 패턴을 위한 선형 시간(RE2) 매처
+ * <p>
+ * 백트래킹을 하지 않으므로 설정이 잘못되어도 입력 길이에 비례하는 시간 안에 끝난다.
+ * 역참조, 전후방 탐색 등 RE2가 지원하지 않는 문법은 기동 시점에 거부된다.
+ */
+final class LinearTimeMatcher implements CharSequenceMatcher {
+
+  private final Pattern pattern;
+
+  LinearTimeMatcher(String regex) {
+    try {
+      this.pattern = Pattern.compile(regex);
+    } catch (PatternSyntaxException e) {
+      throw new IllegalArgumentException("Unsupported pattern for linear-time matching: " + regex, e);
+    }
+  }
+
+  @Override
+  public boolean matches(CharSequence input, int start, int end) {
+    CharSequence region = start == 0 && end == input.length() ? input : input.subSequence(start, end);
+    return pattern.matcher(region).matches();
+  }
+
+  @Override
+  public String toString() {
+    return pattern.pattern();
+  }
+}
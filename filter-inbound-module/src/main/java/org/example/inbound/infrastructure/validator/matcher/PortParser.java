@@ -0,0 +1,67 @@
+package org.example.inbound.infrastructure.validator.matcher;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문자열 할당이나 예외 없이 포트 번호를 한 번에 해석한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PortParser {
+
+  /**
+   * 숫자가 아닌 값
+   */
+  public static final int INVALID = -1;
+
+  /**
+   * 숫자 형식이지만 65535를 넘는 값. 범위 검사에서 걸러진다.
+   */
+  public static final int OVERFLOW = 65536;
+
+  /**
+   * String.trim()과 같은 기준으로 앞쪽 공백을 건너뛴 위치
+   */
+  public static int trimStart(CharSequence value) {
+    int start = 0;
+    int end = value.length();
+    while (start < end && value.charAt(start) <= ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  /**
+   * String.trim()과 같은 기준으로 뒤쪽 공백을 제외한 끝 위치
+   */
+  public static int trimEnd(CharSequence value, int start) {
+    int end = value.length();
+    while (end > start && value.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return end;
+  }
+
+  /**
+   * value[start, end) 구간을 10진수 포트로 해석한다.
+   *
+   * @return 포트 번호, 65535 초과 시 {@link #OVERFLOW}, 숫자가 아니면 {@link #INVALID}
+   */
+  public static int parse(CharSequence value, int start, int end) {
+    if (start >= end) {
+      return INVALID;
+    }
+
+    int port = 0;
+    for (int i = start; i < end; i++) {
+      int digit = value.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return INVALID;
+      }
+      if (port < OVERFLOW) {
+        port = Math.min(port * 10 + digit, OVERFLOW);
+      }
+    }
+    return port;
+  }
+}
@@ -0,0 +1,135 @@
+package org.example.inbound.infrastructure.context;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Java 21 ScopedValue(프리뷰) 백엔드
+ * <p>
+ * 요청마다 holder를 한 번 바인딩하며, 바인딩 범위 안에서 생성된 StructuredTaskScope 하위 작업에
+ * 자동으로 상속된다. holder는 바인딩한 스레드만 사용하고, 하위 작업에는 마지막 변경 시점의 불변 사본을
+ * 공개하므로 하위 작업에서 저장/삭제하면 {@link IllegalStateException}이 발생한다.
+ * 바인딩되지 않은 스레드(테스트, 배치 등)에서는 ThreadLocal 백엔드로 동작한다.
+ * <p>
+ * 이 클래스만 별도 소스셋(src/preview/java)에서 --enable-preview로 컴파일되므로 JVM이 프리뷰 기능 없이
+ * 실행되면 로딩에 실패하며, {@link ForwardedPortContext#configure(ForwardedPortContextMode)}가 경고를 남기고
+ * ThreadLocal로 대체한다.
+ */
+final class ScopedValueContextBackend implements ContextBackend {
+
+  private static final ScopedValue<Binding> CONTEXT = ScopedValue.newInstance();
+
+  private final ThreadLocalContextBackend unbound = ThreadLocalContextBackend.INSTANCE;
+
+  @Override
+  public ForwardedPortContextMode mode() {
+    return ForwardedPortContextMode.SCOPED_VALUE;
+  }
+
+  @Override
+  public ContextHolder current() {
+    return CONTEXT.isBound() ? CONTEXT.get().read() : unbound.current();
+  }
+
+  @Override
+  public void setAttribute(String key, int port) {
+    if (CONTEXT.isBound()) {
+      Binding binding = CONTEXT.get();
+      binding.write().setAttribute(key, port);
+      binding.publish();
+    } else {
+      unbound.setAttribute(key, port);
+    }
+  }
+
+  @Override
+  public void removeAttribute(String key) {
+    if (CONTEXT.isBound()) {
+      Binding binding = CONTEXT.get();
+      binding.write().removeAttribute(key);
+      binding.publish();
+    } else {
+      unbound.removeAttribute(key);
+    }
+  }
+
+  @Override
+  public void clear() {
+    if (CONTEXT.isBound()) {
+      Binding binding = CONTEXT.get();
+      binding.write().reset();
+      binding.publish();
+    } else {
+      unbound.clear();
+    }
+  }
+
+  @Override
+  public <E extends Exception> void runInScope(ForwardedPortContext.ScopedTask<E> task) throws E {
+    runInScope(new ContextHolder(), task);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E extends Exception> void runInScope(ContextHolder holder, ForwardedPortContext.ScopedTask<E> task) throws E {
+    try {
+      ScopedValue.where(CONTEXT, new Binding(holder)).call(() -> {
+        task.run();
+        return null;
+      });
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      // task가 선언한 예외만 전달된다
+      throw (E) e;
+    }
+  }
+
+  @Override
+  public void runWith(ContextHolder holder, Runnable task) {
+    ScopedValue.where(CONTEXT, new Binding(holder)).run(task);
+  }
+
+  @Override
+  public <V> V getWith(ContextHolder holder, Supplier<V> task) {
+    return ScopedValue.where(CONTEXT, new Binding(holder)).get(task);
+  }
+
+  @Override
+  public <V> V callWith(ContextHolder holder, Callable<V> task) throws Exception {
+    return ScopedValue.where(CONTEXT, new Binding(holder)).call(task);
+  }
+
+  /**
+   * 바인딩한 스레드의 holder와 하위 작업에 공개하는 불변 사본
+   */
+  private static final class Binding {
+    private static final ContextHolder EMPTY = new ContextHolder();
+
+    private final Thread owner = Thread.currentThread();
+    private final ContextHolder holder;
+    // 하위 작업용 holder, 사본의 배열을 공유하며 읽기만 한다
+    private volatile ContextHolder published;
+
+    Binding(ContextHolder holder) {
+      this.holder = holder;
+      publish();
+    }
+
+    ContextHolder read() {
+      return Thread.currentThread() == owner ? holder : published;
+    }
+
+    ContextHolder write() {
+      if (Thread.currentThread() != owner) {
+        throw new IllegalStateException("ForwardedPortContext is read-only in forked subtasks");
+      }
+      return holder;
+    }
+
+    void publish() {
+      ForwardedPortContextSnapshot snapshot = holder.snapshot();
+      published = snapshot.isEmpty() ? EMPTY : ContextHolder.from(snapshot);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package org.example.client.rest.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.client.rest.infrastructures.codec.SmileFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홉 간 본문 형식별 직렬화/역직렬화 비용 비교 (json | smile | cbor)
+ * <p>
+ * 주문 항목 목록(필드 이름 반복, 짧은 문자열, 정수)을 쓰고 읽는다.
+ * <p>
+ * 실행: ./gradlew :outbound-rest-module:jmh -Pjmh.includes=BinaryFormatBenchmark (-prof gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatBenchmark {
+
+  @Param({"json", "smile", "cbor"})
+  private String format;
+
+  @Param({"1", "20", "500"})
+  private int items;
+
+  private ObjectWriter writer;
+  private ObjectReader reader;
+  private Order order;
+  private byte[] encoded;
+
+  public record Line(String sku, String name, int quantity, long priceCents, List<String> tags) {
+  }
+
+  public record Order(String id, String customer, String forwardedPort, List<Line> lines) {
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    ObjectMapper objectMapper = new ObjectMapper();
+    ObjectMapper mapper = switch (format) {
+      case "json" -> objectMapper;
+      case "smile" -> SmileFormat.mapper(objectMapper);
+      case "cbor" -> objectMapper.copyWith(new CBORFactory());
+      default -> throw new IllegalArgumentException(format);
+    };
+    writer = mapper.writerFor(Order.class);
+    reader = mapper.readerFor(Order.class);
+
+    List<Line> lines = new ArrayList<>();
+    for (int i = 0; i < items; i++) {
+      lines.add(new Line("SKU-" + i, "상품 " + i, i % 7 + 1, 1_000L * i, List.of("tag-a", "tag-b")));
+    }
+    order = new Order("order-1", "customer-1", "8082", lines);
+    encoded = writer.writeValueAsBytes(order);
+  }
+
+  @Benchmark
+  public byte[] write() throws IOException {
+    return writer.writeValueAsBytes(order);
+  }
+
+  @Benchmark
+  public Order read() throws IOException {
+    return reader.readValue(encoded);
+  }
+}
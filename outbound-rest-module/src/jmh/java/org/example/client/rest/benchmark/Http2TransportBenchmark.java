@@ -0,0 +1,141 @@
+package org.example.client.rest.benchmark;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.example.client.rest.core.pool.Http2ConnectionGroup;
+import org.example.client.rest.core.props.ClientTransport;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홉 간 전송 방식별 연결 수와 응답 시간 비교 (jdk: HTTP/1.1 | http2: h2c 연결 묶음)
+ * <p>
+ * 같은 프로세스에 h2c 를 켠 Tomcat(server.http2.enabled 와 같은 스트림 한도)을 띄우고, 응답 전에 service-millis 만큼 대기하는
+ * 다음 홉으로 동시 요청을 보낸다. 매 반복이 끝나면 서버에 열린 연결 수를 "[connections]" 로 출력한다.
+ * 처리량과 응답 시간 분포(p0.50, p0.99)는 JMH 결과로 확인한다.
+ * <p>
+ * 실행: ./gradlew :outbound-rest-module:jmh -Pjmh.includes=Http2TransportBenchmark
+ * (동시 요청 수는 @Threads, 1000 으로 비교하려면 값을 바꿔 실행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(200)
+public class Http2TransportBenchmark {
+
+  @Param({"jdk", "http2"})
+  private String transport;
+
+  @Param({"2"})
+  private int connections;
+
+  @Param({"5"})
+  private int serviceMillis;
+
+  private Tomcat tomcat;
+  private ClientHttpRequestFactory requestFactory;
+  private RestTemplate restTemplate;
+  private URI uri;
+
+  @Setup
+  public void setUp() throws IOException, LifecycleException {
+    tomcat = new Tomcat();
+    tomcat.setBaseDir(Files.createTempDirectory("h2c-benchmark").toString());
+    Connector connector = tomcat.getConnector();
+    connector.setPort(0);
+    connector.setProperty("maxThreads", "1000");
+    connector.setProperty("maxConnections", "10000");
+    Http2Protocol http2 = new Http2Protocol();
+    http2.setMaxConcurrentStreams(1000);
+    http2.setMaxConcurrentStreamExecution(1000);
+    connector.addUpgradeProtocol(http2);
+
+    Context context = tomcat.addContext("", null);
+    Tomcat.addServlet(context, "target", new DelayedServlet(serviceMillis));
+    context.addServletMappingDecoded("/target/path/b", "target");
+    tomcat.start();
+    uri = URI.create("http://localhost:" + connector.getLocalPort() + "/target/path/b");
+
+    requestFactory = switch (transport) {
+      case "jdk" -> new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build());
+      case "http2" -> new Http2ConnectionGroup(new RestClientProperties(
+        ClientTransport.HTTP2, null, null, null, null, null, null, null, null, null, null, null,
+        new RestClientProperties.Http2(connections), null, null));
+      default -> throw new IllegalArgumentException(transport);
+    };
+    restTemplate = new RestTemplate(requestFactory);
+  }
+
+  @TearDown(Level.Iteration)
+  public void printConnections() {
+    AbstractProtocol<?> protocol = (AbstractProtocol<?>) tomcat.getConnector().getProtocolHandler();
+    System.out.println("[connections] " + transport + ": " + protocol.getConnectionCount());
+  }
+
+  @TearDown
+  public void tearDown() throws LifecycleException {
+    if (requestFactory instanceof Http2ConnectionGroup group) {
+      group.destroy();
+    }
+    tomcat.stop();
+    tomcat.destroy();
+  }
+
+  @Benchmark
+  public String exchange() {
+    return restTemplate.getForObject(uri, String.class);
+  }
+
+  /**
+   * 다음 홉의 처리 시간을 흉내 내는 서블릿
+   */
+  private static final class DelayedServlet extends HttpServlet {
+
+    private final long serviceMillis;
+
+    private DelayedServlet(long serviceMillis) {
+      this.serviceMillis = serviceMillis;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+      try {
+        Thread.sleep(serviceMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      response.setContentType("text/plain");
+      response.getWriter().write("Destination B");
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package org.example.client.rest.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.codec.JsonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * RestTemplate 메시지 컨버터 방식과 JsonCodec 의 JSON 본문 쓰기/읽기 비용 비교
+ * <p>
+ * 컨버터 방식은 RestTemplate 과 같이 등록된 컨버터 목록에서 본문 타입을 처리할 컨버터를 찾은 뒤 쓰고 읽는다.
+ * 전송은 제외하고 요청 본문 쓰기 + 같은 크기의 응답 본문 읽기를 한 번의 교환으로 측정한다.
+ * thread=virtual 이면 교환마다 새 가상 스레드에서 실행해 요청마다 가상 스레드를 쓰는 서버의 버퍼 재사용 조건을 재현한다.
+ * <p>
+ * 실행: ./gradlew :outbound-rest-module:jmh -Pjmh.includes=JsonCodecBenchmark (-prof gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonCodecBenchmark {
+
+  @Param({"platform", "virtual"})
+  private String thread;
+
+  @Param({"20", "500"})
+  private int items;
+
+  private List<HttpMessageConverter<?>> converters;
+  private JsonCodec codec;
+  private Order order;
+  private byte[] responseBody;
+
+  public record Line(String sku, String name, int quantity, long priceCents, List<String> tags) {
+  }
+
+  public record Order(String id, String customer, String forwardedPort, List<Line> lines) {
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    ObjectMapper objectMapper = new ObjectMapper();
+    RestTemplate restTemplate = new RestTemplate();
+    restTemplate.getMessageConverters().add(new MappingJackson2HttpMessageConverter(objectMapper));
+    converters = restTemplate.getMessageConverters();
+    // 설정 항목이 늘어도 고치지 않도록 application.yml 과 같은 키로 바인딩한다
+    RestClientProperties properties = new Binder(new MapConfigurationPropertySource(Map.of("client.rest.codec.enabled", "true")))
+      .bindOrCreate("client.rest", RestClientProperties.class);
+    codec = new JsonCodec(objectMapper, properties);
+
+    List<Line> lines = new ArrayList<>();
+    for (int i = 0; i < items; i++) {
+      lines.add(new Line("SKU-" + i, "상품 " + i, i % 7 + 1, 1_000L * i, List.of("tag-a", "tag-b")));
+    }
+    order = new Order("order-1", "customer-1", "8082", lines);
+    responseBody = objectMapper.writeValueAsBytes(order);
+  }
+
+  @Benchmark
+  public Order converters() throws Exception {
+    return run(() -> {
+      write(order, new OutMessage(new ByteArrayOutputStream(responseBody.length)));
+      return read(Order.class, new InMessage(new ByteArrayInputStream(responseBody)));
+    });
+  }
+
+  @Benchmark
+  public Order codec() throws Exception {
+    return run(() -> {
+      codec.write(order, new ByteArrayOutputStream(responseBody.length));
+      return codec.read(Order.class, new ByteArrayInputStream(responseBody), MediaType.APPLICATION_JSON);
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private void write(Object body, HttpOutputMessage message) throws IOException {
+    for (HttpMessageConverter<?> converter : converters) {
+      if (converter.canWrite(body.getClass(), MediaType.APPLICATION_JSON)) {
+        ((HttpMessageConverter<Object>) converter).write(body, MediaType.APPLICATION_JSON, message);
+        return;
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T read(Class<T> type, HttpInputMessage message) throws IOException {
+    for (HttpMessageConverter<?> converter : converters) {
+      if (converter.canRead(type, MediaType.APPLICATION_JSON)) {
+        return ((HttpMessageConverter<T>) converter).read(type, message);
+      }
+    }
+    return null;
+  }
+
+  private <T> T run(Callable<T> exchange) throws Exception {
+    if (thread.equals("platform")) {
+      return exchange.call();
+    }
+    AtomicReference<T> result = new AtomicReference<>();
+    Thread.ofVirtual().start(() -> {
+      try {
+        result.set(exchange.call());
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }).join();
+    return result.get();
+  }
+
+  private record InMessage(InputStream getBody, HttpHeaders getHeaders) implements HttpInputMessage {
+    private InMessage(InputStream body) {
+      this(body, json());
+    }
+  }
+
+  private record OutMessage(OutputStream getBody, HttpHeaders getHeaders) implements HttpOutputMessage {
+    private OutMessage(OutputStream body) {
+      this(body, new HttpHeaders());
+    }
+  }
+
+  private static HttpHeaders json() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    return headers;
+  }
+}
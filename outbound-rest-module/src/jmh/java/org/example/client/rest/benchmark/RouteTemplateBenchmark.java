@@ -0,0 +1,135 @@
+package org.example.client.rest.benchmark;
+
+import org.example.client.rest.infrastructures.ReactiveRequestStrategy;
+import org.example.client.rest.infrastructures.RequestStrategy;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.context.RouteTemplate;
+import org.example.client.rest.infrastructures.factory.ReactiveRequestStrategyFactory;
+import org.example.client.rest.infrastructures.factory.RequestStrategyFactory;
+import org.example.client.rest.infrastructures.factory.RouteTemplateFactory;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilderFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 RequestContext 와 URI 를 만드는 방식과 시작 시 만든 경로 템플릿을 쓰는 방식의 요청 준비 비용 비교
+ * <p>
+ * 요청 전송은 제외하고 RequestContext 생성, 전략 선택, 전송에 쓰일 URI 준비까지만 측정한다.
+ * 기존 방식은 RestTemplate 이 URI 문자열을 다시 파싱하는 비용(DefaultUriBuilderFactory)을 포함한다.
+ * <p>
+ * 실행: ./gradlew :outbound-rest-module:jmh -Pjmh.includes=RouteTemplateBenchmark (-prof gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteTemplateBenchmark {
+
+  private static final List<Integer> PORTS = List.of(8082, 8083);
+
+  // explicit: 개별 지정한 포트 (미리 만든 URI), range: 범위로 허용한 포트 (처음 쓸 때 만든 URI)
+  @Param({"explicit", "range"})
+  private String portKind;
+
+  private int port;
+  private HttpHeaders headers;
+  private UrlTemplateBuilder urlTemplateBuilder;
+  private RequestStrategyFactory requestStrategyFactory;
+  private UriBuilderFactory restTemplateUriFactory;
+  private RouteTemplate<String> routeTemplate;
+
+  @Setup
+  public void setUp() {
+    port = portKind.equals("explicit") ? 8082 : 9100;
+    headers = new HttpHeaders();
+    headers.add("service-b-forwarded-port", String.valueOf(port));
+    urlTemplateBuilder = new UrlTemplateBuilder();
+    requestStrategyFactory = new RequestStrategyFactory(List.of(new NoOpRequestStrategy()));
+    restTemplateUriFactory = new DefaultUriBuilderFactory();
+    RouteTemplateFactory routeTemplateFactory = new RouteTemplateFactory(
+      requestStrategyFactory,
+      new ReactiveRequestStrategyFactory(List.of(new NoOpReactiveRequestStrategy())),
+      urlTemplateBuilder
+    );
+    routeTemplate = routeTemplateFactory.compile(
+      RequestContext.<String>builder()
+        .mediaType(MediaType.APPLICATION_JSON)
+        .domain("localhost")
+        .path("/target/path/b")
+        .httpMethod(HttpMethod.GET)
+        .responseType(String.class)
+        .build(),
+      PORTS
+    );
+  }
+
+  @Benchmark
+  public void perRequestBuilder(Blackhole blackhole) {
+    RequestContext<String> context = RequestContext.<String>builder()
+      .mediaType(MediaType.APPLICATION_JSON)
+      .domain("localhost")
+      .path("/target/path/b")
+      .port(port)
+      .alternatePorts(List.of())
+      .httpHeaders(headers)
+      .httpMethod(HttpMethod.GET)
+      .responseType(String.class)
+      .build();
+    blackhole.consume(requestStrategyFactory.findStrategy(context));
+    String uriString = urlTemplateBuilder.buildUriComponents(
+      context.getDomain(), context.getPath(), context.getPort(), context.getPathVariables()).toUriString();
+    blackhole.consume(restTemplateUriFactory.expand(uriString));
+  }
+
+  @Benchmark
+  public void routeTemplate(Blackhole blackhole) {
+    RequestContext<String> context = routeTemplate.request(port, List.of(), headers);
+    blackhole.consume(routeTemplate.getStrategy());
+    blackhole.consume(urlTemplateBuilder.buildUri(context));
+  }
+
+  private static final class NoOpRequestStrategy implements RequestStrategy {
+    @Override
+    public boolean supports(RequestContext<?> context) {
+      return MediaType.APPLICATION_JSON.equals(context.getMediaType());
+    }
+
+    @Override
+    public <R> R execute(RequestContext<R> context) {
+      return null;
+    }
+
+    @Override
+    public <R> CompletableFuture<R> executeAsync(RequestContext<R> context) {
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
+  private static final class NoOpReactiveRequestStrategy implements ReactiveRequestStrategy {
+    @Override
+    public boolean supports(RequestContext<?> context) {
+      return MediaType.APPLICATION_JSON.equals(context.getMediaType());
+    }
+
+    @Override
+    public <R> Mono<R> execute(RequestContext<R> context) {
+      return Mono.empty();
+    }
+  }
+}
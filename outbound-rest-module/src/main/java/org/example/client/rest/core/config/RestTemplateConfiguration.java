@@ -2,38 +2,135 @@ package org.example.client.rest.core.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.client.rest.core.interceptor.RestTemplateLoggingInterceptor;
+import org.example.client.rest.core.pool.Http2ConnectionGroup;
+import org.example.client.rest.core.pool.OutboundConnectionPool;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.codec.SmileFormat;
+import org.example.client.rest.infrastructures.compression.CompressionDecoder;
+import org.example.client.rest.infrastructures.compression.DecompressingClientHttpRequestFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
+import java.net.http.HttpClient;
 
 @Configuration
+@EnableConfigurationProperties(RestClientProperties.class)
 public class RestTemplateConfiguration {
 
   @Bean
-  public RestTemplateLoggingInterceptor loggingRequestInterceptor() {
-    return new RestTemplateLoggingInterceptor();
+  public RestTemplateLoggingInterceptor loggingRequestInterceptor(RestClientProperties restClientProperties) {
+    return new RestTemplateLoggingInterceptor(restClientProperties.getLogging());
   }
 
+  /**
+   * RestTemplateBuilder는 서블릿 모드에서만 자동 구성되므로 리액티브 모드에서는 기본 빌더를 사용한다.
+   * <p>
+   * 로깅 인터셉터가 응답 본문을 스트림으로 기록하므로 응답을 메모리에 버퍼링하지 않는다.
+   * 인터셉터가 있으면 요청 본문은 인터셉터에 넘기기 위해 버퍼링되므로, 로깅하지 않으면(sample-rate: 0) 인터셉터를 등록하지 않는다.
+   * 압축(compression.enabled)을 켜면 Accept-Encoding 을 보내고 gzip/deflate 응답을 읽으면서 푼다.
+   */
   @Bean
   public RestTemplate restTemplate(
-    RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper
+    ObjectProvider<RestTemplateBuilder> restTemplateBuilder, ObjectMapper objectMapper, RestClientProperties restClientProperties,
+    ClientHttpRequestFactory outboundClientHttpRequestFactory, RestTemplateLoggingInterceptor loggingRequestInterceptor,
+    CompressionDecoder compressionDecoder
   ) {
-    return restTemplateBuilder
-      .requestFactory(() -> new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory()))
-      // 5초 동안 응답이 없으면 예외 발생
-      .setConnectTimeout(Duration.ofSeconds(5))
-      // 15초 동안 데이터가 안오면 예외 발생
-      .setReadTimeout(Duration.ofSeconds(10))
-      .additionalInterceptors(loggingRequestInterceptor())
-      .additionalMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
-      .build();
+    ClientHttpRequestFactory requestFactory = compressionDecoder.isEnabled()
+      ? new DecompressingClientHttpRequestFactory(outboundClientHttpRequestFactory, compressionDecoder)
+      : outboundClientHttpRequestFactory;
+    RestTemplateBuilder builder = restTemplateBuilder.getIfAvailable(RestTemplateBuilder::new)
+      .requestFactory(() -> requestFactory)
+      .additionalMessageConverters(
+        new MappingJackson2HttpMessageConverter(objectMapper),
+        new MappingJackson2SmileHttpMessageConverter(SmileFormat.mapper(objectMapper))
+      );
+    if (restClientProperties.getLogging().getSampleRate() > 0.0) {
+      builder = builder.additionalInterceptors(loggingRequestInterceptor);
+    }
+    return builder.build();
   }
 
+  /**
+   * 설정된 전송 방식의 요청 팩토리
+   * <p>
+   * RestTemplate 과 스트리밍 프록시가 함께 사용한다. 인터셉터가 없으므로 본문을 버퍼링하지 않고 스트리밍할 수 있다.
+   * 프록시는 압축 해제 없이 사용하므로 Content-Encoding 이 클라이언트까지 그대로 전달된다.
+   */
+  @Bean
+  public ClientHttpRequestFactory outboundClientHttpRequestFactory(
+    RestClientProperties restClientProperties, ObjectProvider<OutboundConnectionPool> outboundConnectionPool,
+    ObjectProvider<Http2ConnectionGroup> http2ConnectionGroup
+  ) {
+    return clientHttpRequestFactory(
+      restClientProperties, outboundConnectionPool.getIfAvailable(), http2ConnectionGroup.getIfAvailable());
+  }
+
+  /**
+   * POOLED 전송일 때만 연결 풀을 만든다. 종료 시 풀의 연결과 유휴 정리 스레드를 닫는다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "client.rest", name = "transport", havingValue = "pooled")
+  public OutboundConnectionPool outboundConnectionPool(RestClientProperties restClientProperties) {
+    return new OutboundConnectionPool(restClientProperties);
+  }
 
+  /**
+   * HTTP2 전송일 때만 h2c 연결 묶음을 만든다. 종료 시 클라이언트와 연결을 닫는다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "client.rest", name = "transport", havingValue = "http2")
+  public Http2ConnectionGroup http2ConnectionGroup(RestClientProperties restClientProperties) {
+    return new Http2ConnectionGroup(restClientProperties);
+  }
+
+  /**
+   * 설정된 전송 방식의 요청 팩토리를 생성한다.
+   * <p>
+   * 타임아웃은 RestTemplateBuilder 대신 팩토리에 직접 지정한다.
+   * 빌더는 JdkClientHttpRequestFactory의 연결 타임아웃을 적용할 수 없다.
+   */
+  static ClientHttpRequestFactory clientHttpRequestFactory(
+    RestClientProperties properties, OutboundConnectionPool connectionPool, Http2ConnectionGroup http2ConnectionGroup
+  ) {
+    return switch (properties.getTransport()) {
+      case SIMPLE -> {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(properties.getConnectTimeout());
+        factory.setReadTimeout(properties.getReadTimeout());
+        yield factory;
+      }
+      case JDK -> {
+        // 동기 send()는 호출 스레드에서 대기하며 내부 I/O는 selector 스레드가 처리하므로 가상 스레드를 고정하지 않는다.
+        HttpClient httpClient = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .connectTimeout(properties.getConnectTimeout())
+          .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(properties.getReadTimeout());
+        yield factory;
+      }
+      case POOLED -> {
+        if (connectionPool == null) {
+          throw new IllegalStateException("Outbound connection pool is not configured for POOLED transport");
+        }
+        yield connectionPool.requestFactory();
+      }
+      case HTTP2 -> {
+        if (http2ConnectionGroup == null) {
+          throw new IllegalStateException("HTTP/2 connection group is not configured for HTTP2 transport");
+        }
+        yield http2ConnectionGroup;
+      }
+    };
+  }
 }
@@ -0,0 +1,84 @@
+package org.example.client.rest.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import org.example.client.rest.core.props.ClientTransport;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.codec.SmileFormat;
+import org.example.client.rest.infrastructures.compression.CompressionDecoder;
+import org.example.client.rest.infrastructures.compression.DecompressingExchangeFilterFunction;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 리액티브 모드에서 사용하는 WebClient 설정
+ * <p>
+ * 기본 연결 풀은 CPU 수에 비례해 작게 잡히므로 동시 요청이 많은 게이트웨이에서는 대기열이 먼저 찬다.
+ * 연결 수와 대기열 크기는 client.rest.reactive 로 지정한다.
+ * client.rest.transport=http2 이면 h2c 로 협상하고 호스트별 client.rest.http2.connections 개의 h2 연결에서 요청을 멀티플렉싱한다.
+ * h2c 를 지원하지 않는 서버와의 HTTP/1.1 연결은 그대로 client.rest.reactive.max-connections 까지 연다.
+ */
+@Configuration
+@EnableConfigurationProperties(RestClientProperties.class)
+public class WebClientConfiguration {
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider webClientConnectionProvider(RestClientProperties restClientProperties) {
+    RestClientProperties.Reactive reactive = restClientProperties.getReactive();
+    ConnectionProvider.Builder builder = ConnectionProvider.builder("outbound-rest")
+      .maxConnections(reactive.getMaxConnections())
+      .pendingAcquireMaxCount(reactive.getMaxPendingAcquires());
+    if (isHttp2(restClientProperties)) {
+      // h2 연결을 connections 개까지 먼저 열어 요청을 나눠 싣고, 그 이상은 스트림 한도가 찼을 때만 연다
+      // 업그레이드되지 않은 HTTP/1.1 연결은 연결당 요청 1건이므로 max-connections 까지 연다
+      builder = builder.allocationStrategy(Http2AllocationStrategy.builder()
+        .minConnections(restClientProperties.getHttp2().getConnections())
+        .maxConnections(Math.max(reactive.getMaxConnections(), restClientProperties.getHttp2().getConnections()))
+        .build());
+    }
+    return builder.build();
+  }
+
+  @Bean
+  public WebClient webClient(
+    WebClient.Builder webClientBuilder, ConnectionProvider webClientConnectionProvider, RestClientProperties restClientProperties,
+    ObjectMapper objectMapper, CompressionDecoder compressionDecoder
+  ) {
+    HttpClient httpClient = HttpClient.create(webClientConnectionProvider)
+      .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(restClientProperties.getConnectTimeout().toMillis()))
+      .responseTimeout(restClientProperties.getReadTimeout());
+    if (isHttp2(restClientProperties)) {
+      // 첫 요청은 HTTP/1.1 Upgrade 로 협상하고, h2c 를 지원하지 않는 서버에는 HTTP/1.1 로 요청한다
+      httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+    }
+
+    // 빌더는 ObjectMapper 빈이 적용된 Jackson 코덱을 사용한다, Smile 코덱도 같은 설정으로 바꾼다
+    // (Smile 코덱은 미디어 타입을 지정하지 않으면 JSON 미디어 타입으로 등록된다)
+    ObjectMapper smileMapper = SmileFormat.mapper(objectMapper);
+    WebClient.Builder builder = webClientBuilder
+      .clientConnector(new ReactorClientHttpConnector(httpClient))
+      .codecs(codecs -> {
+        codecs.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SmileFormat.MEDIA_TYPE));
+        codecs.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SmileFormat.MEDIA_TYPE));
+      });
+    if (compressionDecoder.isEnabled()) {
+      // RestTemplate 과 같은 Inflater 풀과 통계를 사용한다 (스트리밍 프록시 요청은 풀지 않는다)
+      builder = builder.filter(new DecompressingExchangeFilterFunction(
+        compressionDecoder, (int) restClientProperties.getReactive().getMaxInMemorySize().toBytes()));
+    }
+    return builder.build();
+  }
+
+  private static boolean isHttp2(RestClientProperties restClientProperties) {
+    return restClientProperties.getTransport() == ClientTransport.HTTP2;
+  }
+}
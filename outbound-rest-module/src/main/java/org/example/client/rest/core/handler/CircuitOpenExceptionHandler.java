@@ -0,0 +1,24 @@
+package org.example.client.rest.core.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.exception.CircuitOpenException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 대체 처리 없이 올라온 회로 열림을 503 Service Unavailable 로 응답한다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class CircuitOpenExceptionHandler {
+
+  private static final String CIRCUIT_OPEN_MESSAGE = "Downstream circuit open.";
+
+  @ExceptionHandler(CircuitOpenException.class)
+  public ResponseEntity<String> handleCircuitOpen(CircuitOpenException e) {
+    log.warn("Downstream circuit open: {}", e.getRoute());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(CIRCUIT_OPEN_MESSAGE);
+  }
+}
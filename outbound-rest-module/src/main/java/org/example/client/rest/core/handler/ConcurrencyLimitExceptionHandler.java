@@ -0,0 +1,24 @@
+package org.example.client.rest.core.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.exception.ConcurrencyLimitExceededException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 동시성 제한으로 보내지 못한 요청을 503 Service Unavailable 로 응답한다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ConcurrencyLimitExceptionHandler {
+
+  private static final String LIMIT_EXCEEDED_MESSAGE = "Downstream concurrency limit exceeded.";
+
+  @ExceptionHandler(ConcurrencyLimitExceededException.class)
+  public ResponseEntity<String> handleLimitExceeded(ConcurrencyLimitExceededException e) {
+    log.warn("Downstream concurrency limit exceeded: {} (limit {})", e.getRoute(), e.getLimit());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(LIMIT_EXCEEDED_MESSAGE);
+  }
+}
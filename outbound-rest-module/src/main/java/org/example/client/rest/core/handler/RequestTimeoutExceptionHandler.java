@@ -0,0 +1,34 @@
+package org.example.client.rest.core.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.exception.RequestTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+
+/**
+ * 하위 서버 시간 초과를 504 Gateway Timeout 으로 응답한다.
+ * <p>
+ * 하위 요청의 연결/응답 시간 초과와, 비동기 컨트롤러가 서블릿 비동기 요청 제한 시간(spring.mvc.async.request-timeout)을
+ * 넘긴 경우를 함께 처리한다. 후자는 Spring 기본값이 503 이다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class RequestTimeoutExceptionHandler {
+
+  private static final String GATEWAY_TIMEOUT_MESSAGE = "Downstream request timed out.";
+
+  @ExceptionHandler(RequestTimeoutException.class)
+  public ResponseEntity<String> handleRequestTimeout(RequestTimeoutException e) {
+    log.warn("Downstream request timed out: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(GATEWAY_TIMEOUT_MESSAGE);
+  }
+
+  @ExceptionHandler(AsyncRequestTimeoutException.class)
+  public ResponseEntity<String> handleAsyncRequestTimeout(AsyncRequestTimeoutException e) {
+    log.warn("Async request timed out before downstream response");
+    return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(GATEWAY_TIMEOUT_MESSAGE);
+  }
+}
@@ -0,0 +1,93 @@
+package org.example.client.rest.core.interceptor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * 읽히는 바이트를 그대로 흘려보내면서 앞부분만 고정 크기 버퍼에 복사하는 InputStream
+ * <p>
+ * mark/reset 을 지원하지 않으므로 읽은 바이트는 한 번만 기록된다.
+ */
+final class BodyCaptureInputStream extends FilterInputStream {
+
+  private final byte[] captured;
+  private int capturedLength;
+  private long totalBytes;
+
+  BodyCaptureInputStream(InputStream in, int maxCaptureBytes) {
+    super(in);
+    this.captured = new byte[maxCaptureBytes];
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = super.read();
+    if (b != -1) {
+      if (capturedLength < captured.length) {
+        captured[capturedLength++] = (byte) b;
+      }
+      totalBytes++;
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int n = super.read(b, off, len);
+    if (n > 0) {
+      int copy = Math.min(n, captured.length - capturedLength);
+      if (copy > 0) {
+        System.arraycopy(b, off, captured, capturedLength, copy);
+        capturedLength += copy;
+      }
+      totalBytes += n;
+    }
+    return n;
+  }
+
+  /**
+   * 건너뛴 바이트도 기록되도록 읽어서 버린다.
+   */
+  @Override
+  public long skip(long n) throws IOException {
+    byte[] buffer = new byte[(int) Math.min(Math.max(n, 0), 2048)];
+    long remaining = n;
+    while (remaining > 0) {
+      int read = read(buffer, 0, (int) Math.min(buffer.length, remaining));
+      if (read < 0) {
+        break;
+      }
+      remaining -= read;
+    }
+    return n - Math.max(remaining, 0);
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  public synchronized void mark(int readlimit) {
+    // 지원하지 않음
+  }
+
+  @Override
+  public synchronized void reset() throws IOException {
+    throw new IOException("mark/reset not supported");
+  }
+
+  long getTotalBytes() {
+    return totalBytes;
+  }
+
+  boolean isTruncated() {
+    return totalBytes > capturedLength;
+  }
+
+  String getCaptured(Charset charset) {
+    return new String(captured, 0, capturedLength, charset);
+  }
+}
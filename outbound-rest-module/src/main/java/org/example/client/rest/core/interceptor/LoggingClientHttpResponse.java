@@ -0,0 +1,78 @@
+package org.example.client.rest.core.interceptor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 본문을 {@link BodyCaptureInputStream}으로 감싸고, 응답이 닫힐 때 읽힌 만큼의 본문 앞부분을 기록하는 응답
+ * <p>
+ * 메시지 컨버터가 본문을 끝까지 읽은 뒤 RestTemplate이 응답을 닫으므로 본문을 미리 버퍼링하지 않아도 된다.
+ */
+@Slf4j
+final class LoggingClientHttpResponse implements ClientHttpResponse {
+
+  private final ClientHttpResponse delegate;
+  private final int maxBodyBytes;
+  private BodyCaptureInputStream body;
+  private boolean logged;
+
+  LoggingClientHttpResponse(ClientHttpResponse delegate, int maxBodyBytes) {
+    this.delegate = delegate;
+    this.maxBodyBytes = maxBodyBytes;
+  }
+
+  @Override
+  public HttpStatusCode getStatusCode() throws IOException {
+    return delegate.getStatusCode();
+  }
+
+  @Override
+  public String getStatusText() throws IOException {
+    return delegate.getStatusText();
+  }
+
+  @Override
+  public HttpHeaders getHeaders() {
+    return delegate.getHeaders();
+  }
+
+  /**
+   * RestTemplate은 본문 유무를 확인할 때와 읽을 때 두 번 호출하므로 같은 스트림을 반환한다.
+   */
+  @Override
+  public InputStream getBody() throws IOException {
+    if (body == null) {
+      body = new BodyCaptureInputStream(delegate.getBody(), maxBodyBytes);
+    }
+    return body;
+  }
+
+  @Override
+  public void close() {
+    try {
+      delegate.close();
+    } finally {
+      logBody();
+    }
+  }
+
+  private void logBody() {
+    if (logged) {
+      return;
+    }
+    logged = true;
+    if (body == null) {
+      log.info("Response body: <not read>");
+    } else if (body.isTruncated()) {
+      log.info("Response body: {}... (truncated, {} bytes read)",
+        body.getCaptured(RestTemplateLoggingInterceptor.charsetOf(getHeaders())), body.getTotalBytes());
+    } else {
+      log.info("Response body: {}", body.getCaptured(RestTemplateLoggingInterceptor.charsetOf(getHeaders())));
+    }
+  }
+}
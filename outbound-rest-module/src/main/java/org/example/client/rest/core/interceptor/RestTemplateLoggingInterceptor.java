@@ -3,60 +3,89 @@ package org.example.client.rest.core.interceptor;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * 아웃바운드 요청/응답 로깅
+ * <p>
+ * 응답 본문은 스트림으로 흘려보내면서 앞부분(max-body-bytes)만 기록하므로 BufferingClientHttpRequestFactory가 필요 없다.
+ * sample-rate 로 일부 요청만 기록할 수 있으며, 기록하지 않는 요청은 응답을 감싸지 않는다.
+ */
 @Slf4j
 public class RestTemplateLoggingInterceptor implements ClientHttpRequestInterceptor {
 
+  private final int maxBodyBytes;
+  private final double sampleRate;
+
+  public RestTemplateLoggingInterceptor(RestClientProperties.Logging logging) {
+    this.maxBodyBytes = logging.getMaxBodyBytes();
+    this.sampleRate = logging.getSampleRate();
+  }
+
   @Override
   public ClientHttpResponse intercept(@NonNull HttpRequest request, @NonNull byte[] body, @NonNull ClientHttpRequestExecution execution) throws IOException {
+    if (!isSampled()) {
+      return execution.execute(request, body);
+    }
+
     long startTime = System.currentTimeMillis(); // 요청 전송 전 시간 측정
     logRequest(request, body);
     ClientHttpResponse response = execution.execute(request, body);
     logResponse(response);
 
-    long endTime = System.currentTimeMillis(); // 응답 수신 후 시간 측정
+    long endTime = System.currentTimeMillis(); // 응답 헤더 수신 후 시간 측정
     long duration = endTime - startTime; // 처리 시간 계산
+    log.info("Processing time: {} ms", duration); // 처리 시간 로깅
 
-    if (log.isInfoEnabled()) {
-      log.info("Processing time: {} ms", duration); // 처리 시간 로깅
-    }
+    // 본문은 읽히는 동안 앞부분만 복사되고, 응답이 닫힐 때 기록된다
+    return maxBodyBytes > 0 ? new LoggingClientHttpResponse(response, maxBodyBytes) : response;
+  }
 
-    return response;
+  private boolean isSampled() {
+    if (!log.isInfoEnabled() || sampleRate <= 0.0) {
+      return false;
+    }
+    return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
   }
 
   private void logRequest(HttpRequest request, byte[] body) {
-    if (log.isInfoEnabled()) {
-      log.info("================================================== Request Begin ==================================================");
-      log.info("URI         : {}", request.getURI());
-      log.info("Method      : {}", request.getMethod());
-      log.info("Headers     : {}", request.getHeaders());
-      log.info("Request body: {}", new String(body, StandardCharsets.UTF_8));
-      log.info("================================================== Request End ==================================================");
+    log.info("================================================== Request Begin ==================================================");
+    log.info("URI         : {}", request.getURI());
+    log.info("Method      : {}", request.getMethod());
+    log.info("Headers     : {}", request.getHeaders());
+    if (maxBodyBytes > 0) {
+      int length = Math.min(body.length, maxBodyBytes);
+      String prefix = new String(body, 0, length, charsetOf(request.getHeaders()));
+      log.info("Request body: {}{}", prefix, length < body.length ? "... (truncated, " + body.length + " bytes)" : "");
     }
+    log.info("================================================== Request End ==================================================");
   }
 
   private void logResponse(ClientHttpResponse response) throws IOException {
-    if (log.isInfoEnabled()) {
-      log.info("================================================== Response Begin ==================================================");
-      log.info("Status code  : {}", response.getStatusCode());
-      log.info("Status text  : {}", response.getStatusText());
-      log.info("Headers      : {}", response.getHeaders());
-      logApiResponse(response);
-      log.info("================================================== Response End ==================================================");
-    }
+    log.info("================================================== Response Begin ==================================================");
+    log.info("Status code  : {}", response.getStatusCode());
+    log.info("Status text  : {}", response.getStatusText());
+    log.info("Headers      : {}", response.getHeaders());
+    log.info("================================================== Response End ==================================================");
   }
 
-  private void logApiResponse(ClientHttpResponse response) throws IOException {
-    String responseBody = StreamUtils.copyToString(response.getBody(), Charset.defaultCharset());
-    log.info("Response body: {}", responseBody);
+  /**
+   * Content-Type 의 charset, 없으면 UTF-8 (JSON 기본 인코딩)
+   */
+  static Charset charsetOf(HttpHeaders headers) {
+    MediaType contentType = headers.getContentType();
+    Charset charset = contentType != null ? contentType.getCharset() : null;
+    return charset != null ? charset : StandardCharsets.UTF_8;
   }
 }
@@ -0,0 +1,57 @@
+package org.example.client.rest.core.pool;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP2 전송에서 사용하는 h2c 연결 묶음
+ * <p>
+ * java.net.http.HttpClient 는 (도메인, 포트)별로 HTTP/2 연결 하나를 만들어 모든 요청을 멀티플렉싱한다.
+ * 클라이언트를 connections 개 만들고 요청마다 돌아가며 사용하므로 (도메인, 포트)별 연결 수는 connections 개로 묶인다.
+ * 첫 요청은 HTTP/1.1 Upgrade(h2c)로 협상하며, 대상 서버가 h2c 를 지원하지 않으면 HTTP/1.1 keep-alive 연결을 사용한다.
+ */
+@Slf4j
+public class Http2ConnectionGroup implements ClientHttpRequestFactory, DisposableBean {
+
+  private final List<HttpClient> clients = new ArrayList<>();
+  private final List<JdkClientHttpRequestFactory> requestFactories = new ArrayList<>();
+  private final AtomicInteger next = new AtomicInteger();
+
+  public Http2ConnectionGroup(RestClientProperties properties) {
+    int connections = properties.getHttp2().getConnections();
+    for (int i = 0; i < connections; i++) {
+      HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(properties.getConnectTimeout())
+        .build();
+      JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+      factory.setReadTimeout(properties.getReadTimeout());
+      clients.add(httpClient);
+      requestFactories.add(factory);
+    }
+    log.info("HTTP/2 connection group created - {}", properties.getHttp2());
+  }
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+    int index = Math.floorMod(next.getAndIncrement(), requestFactories.size());
+    return requestFactories.get(index).createRequest(uri, httpMethod);
+  }
+
+  @Override
+  public void destroy() {
+    clients.forEach(HttpClient::close);
+  }
+}
@@ -0,0 +1,104 @@
+package org.example.client.rest.core.pool;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * POOLED 전송에서 사용하는 keep-alive 연결 풀
+ * <p>
+ * Apache HttpClient 5 연결 관리자는 (도메인, 포트) 경로별로 풀을 나누고 경로별/전체 한도를 함께 적용한다.
+ * 유휴 시간이 지난 연결과 수명이 다한 연결은 백그라운드에서 닫히며, 이때 연결이 남지 않은 경로 풀도 제거된다.
+ * 따라서 허용 포트 범위가 넓어도 경로 풀의 수와 연결 수는 max-total 로 묶인다.
+ */
+@Slf4j
+public class OutboundConnectionPool implements DisposableBean {
+
+  public static final String TOTAL = "total";
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final CloseableHttpClient httpClient;
+  private final RestClientProperties properties;
+
+  public OutboundConnectionPool(RestClientProperties properties) {
+    RestClientProperties.Pool pool = properties.getPool();
+    this.properties = properties;
+    this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+      // 경로별 한도를 지키는 STRICT 정책, 최근 반환된 연결부터 재사용해 오래된 연결이 유휴 정리되도록 한다
+      .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+      .setConnPoolPolicy(PoolReusePolicy.LIFO)
+      .setMaxConnTotal(pool.getMaxTotal())
+      .setMaxConnPerRoute(pool.getMaxPerRoute())
+      .setDefaultConnectionConfig(ConnectionConfig.custom()
+        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+        .setTimeToLive(TimeValue.of(pool.getTimeToLive()))
+        .build())
+      .build();
+    HttpClientBuilder httpClientBuilder = HttpClients.custom()
+      .setConnectionManager(connectionManager)
+      .evictIdleConnections(TimeValue.of(pool.getIdleTimeout()))
+      .evictExpiredConnections();
+    if (properties.getCompression().isEnabled()) {
+      // 압축 협상과 해제는 DecompressingClientHttpRequestFactory 가 맡는다 (HttpClient 기본 해제를 끄고 프록시는 인코딩을 그대로 전달한다)
+      httpClientBuilder.disableContentCompression();
+    }
+    this.httpClient = httpClientBuilder.build();
+    log.info("Outbound connection pool created - {}", pool);
+  }
+
+  /**
+   * 이 풀을 공유하는 요청 팩토리
+   * <p>
+   * 풀이 가득 찬 경우 연결 타임아웃 동안만 반환을 기다린다.
+   */
+  public ClientHttpRequestFactory requestFactory() {
+    HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+    factory.setConnectionRequestTimeout(Math.toIntExact(properties.getConnectTimeout().toMillis()));
+    return factory;
+  }
+
+  /**
+   * 전체 및 경로("도메인:포트")별 연결 수 (leased, available, pending, max)
+   */
+  public Map<String, Map<String, Integer>> stats() {
+    Map<String, Map<String, Integer>> stats = new LinkedHashMap<>();
+    stats.put(TOTAL, toMap(connectionManager.getTotalStats()));
+    for (HttpRoute route : connectionManager.getRoutes()) {
+      stats.put(route.getTargetHost().toHostString(), toMap(connectionManager.getStats(route)));
+    }
+    return stats;
+  }
+
+  private static Map<String, Integer> toMap(PoolStats poolStats) {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    counts.put("leased", poolStats.getLeased());
+    counts.put("available", poolStats.getAvailable());
+    counts.put("pending", poolStats.getPending());
+    counts.put("max", poolStats.getMax());
+    return counts;
+  }
+
+  @Override
+  public void destroy() {
+    httpClient.close(CloseMode.GRACEFUL);
+  }
+}
@@ -0,0 +1,31 @@
+package org.example.client.rest.core.pool;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 아웃바운드 연결 풀 통계 조회 관리 엔드포인트
+ * <p>
+ * client.rest.pool.endpoint-enabled=true 일 때만 등록되며, POOLED 전송이 아니면 404를 반환한다.
+ */
+@RestController
+@RequestMapping("/admin/outbound/pool")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "client.rest.pool", name = "endpoint-enabled", havingValue = "true")
+public class OutboundConnectionPoolController {
+
+  private final ObjectProvider<OutboundConnectionPool> connectionPool;
+
+  @GetMapping
+  public ResponseEntity<Map<String, Map<String, Integer>>> stats() {
+    OutboundConnectionPool pool = connectionPool.getIfAvailable();
+    return pool != null ? ResponseEntity.ok(pool.stats()) : ResponseEntity.notFound().build();
+  }
+}
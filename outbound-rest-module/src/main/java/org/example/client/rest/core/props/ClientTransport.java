@@ -0,0 +1,25 @@
+package org.example.client.rest.core.props;
+
+/**
+ * RestTemplate 하위 HTTP 전송 구현
+ */
+public enum ClientTransport {
+  /**
+   * HttpURLConnection 기반 (SimpleClientHttpRequestFactory)
+   */
+  SIMPLE,
+  /**
+   * java.net.http.HttpClient 기반 (JdkClientHttpRequestFactory). 연결을 재사용하며 가상 스레드를 고정하지 않는다.
+   */
+  JDK,
+  /**
+   * Apache HttpClient 5 기반 (HttpComponentsClientHttpRequestFactory). (도메인, 포트) 경로별 keep-alive 연결 풀을 사용하며
+   * 경로별/전체 연결 한도와 유휴/수명 정리를 적용한다. 설정은 client.rest.pool
+   */
+  POOLED,
+  /**
+   * java.net.http.HttpClient 의 HTTP/2 평문(h2c) 전송. (도메인, 포트)별 몇 개의 연결에서 요청을 멀티플렉싱하고
+   * 헤더는 HPACK 으로 압축한다. 대상 서버가 h2c 를 지원하지 않으면 HTTP/1.1 로 동작한다. 설정은 client.rest.http2
+   */
+  HTTP2
+}
@@ -0,0 +1,597 @@
+package org.example.client.rest.core.props;
+
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 아웃바운드 RestTemplate / WebClient 설정
+ */
+@Slf4j
+@Getter
+@ToString
+@ConfigurationProperties(prefix = "client.rest")
+public class RestClientProperties {
+
+  private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+  private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(10);
+
+  private final ClientTransport transport;
+  // 5초 동안 연결되지 않으면 예외 발생
+  private final Duration connectTimeout;
+  // 10초 동안 응답이 없으면 예외 발생
+  private final Duration readTimeout;
+  private final Reactive reactive;
+  private final Pool pool;
+  private final Logging logging;
+  private final Hedge hedge;
+  private final Coalescing coalescing;
+  private final Cache cache;
+  private final CircuitBreaker circuitBreaker;
+  private final ConcurrencyLimit concurrencyLimit;
+  private final Retry retry;
+  private final Http2 http2;
+  private final Codec codec;
+  private final Compression compression;
+
+  public RestClientProperties(
+    ClientTransport transport, Duration connectTimeout, Duration readTimeout, Reactive reactive, Pool pool, Logging logging,
+    Hedge hedge, Coalescing coalescing, Cache cache, CircuitBreaker circuitBreaker, ConcurrencyLimit concurrencyLimit,
+    Retry retry, Http2 http2, Codec codec, Compression compression
+  ) {
+    this.transport = transport != null ? transport : ClientTransport.JDK;
+    this.connectTimeout = connectTimeout != null ? connectTimeout : DEFAULT_CONNECT_TIMEOUT;
+    this.readTimeout = readTimeout != null ? readTimeout : DEFAULT_READ_TIMEOUT;
+    this.reactive = reactive != null ? reactive : new Reactive(null, null, null);
+    this.pool = pool != null ? pool : new Pool(null, null, null, null, null);
+    this.logging = logging != null ? logging : new Logging(null, null);
+    this.hedge = hedge != null ? hedge : new Hedge(null, null, null, null, null, null);
+    this.coalescing = coalescing != null ? coalescing : new Coalescing(null, null, null, null, null);
+    this.cache = cache != null ? cache : new Cache(null, null, null, null, null, null, null);
+    this.circuitBreaker = circuitBreaker != null ? circuitBreaker
+      : new CircuitBreaker(null, null, null, null, null, null, null, null, null, null);
+    this.concurrencyLimit = concurrencyLimit != null ? concurrencyLimit
+      : new ConcurrencyLimit(null, null, null, null, null, null, null, null, null);
+    this.retry = retry != null ? retry : new Retry(null, null, null, null, null, null, null);
+    this.http2 = http2 != null ? http2 : new Http2(null);
+    this.codec = codec != null ? codec : new Codec(null, null, null);
+    this.compression = compression != null ? compression : new Compression(null, null, null);
+    log.info("{}", this);
+  }
+
+  /**
+   * WebClient(Reactor Netty) 연결 풀 설정
+   */
+  @Getter
+  @ToString
+  public static class Reactive {
+    private static final int DEFAULT_MAX_CONNECTIONS = 1000;
+    private static final int DEFAULT_MAX_PENDING_ACQUIRES = 20000;
+    // WebClient 기본 코덱과 같은 한도
+    private static final DataSize DEFAULT_MAX_IN_MEMORY_SIZE = DataSize.ofKilobytes(256);
+
+    // 대상 호스트별 최대 연결 수
+    private final int maxConnections;
+    // 연결을 기다릴 수 있는 최대 요청 수, 넘으면 즉시 실패한다
+    private final int maxPendingAcquires;
+    // 응답 본문을 메모리에 모아 읽을 때(JSON 코덱, 압축 해제)의 최대 크기, 넘으면 DataBufferLimitException 으로 실패한다
+    private final DataSize maxInMemorySize;
+
+    public Reactive(Integer maxConnections, Integer maxPendingAcquires, DataSize maxInMemorySize) {
+      this.maxConnections = maxConnections != null ? maxConnections : DEFAULT_MAX_CONNECTIONS;
+      this.maxPendingAcquires = maxPendingAcquires != null ? maxPendingAcquires : DEFAULT_MAX_PENDING_ACQUIRES;
+      this.maxInMemorySize = maxInMemorySize != null ? maxInMemorySize : DEFAULT_MAX_IN_MEMORY_SIZE;
+      if (this.maxConnections <= 0 || this.maxPendingAcquires <= 0) {
+        throw new IllegalArgumentException(
+          "client.rest.reactive.max-connections and max-pending-acquires must be greater than 0");
+      }
+      if (this.maxInMemorySize.toBytes() <= 0 || this.maxInMemorySize.toBytes() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("client.rest.reactive.max-in-memory-size must be between 1B and 2GB");
+      }
+    }
+  }
+
+  /**
+   * POOLED 전송(Apache HttpClient 5) 연결 풀 설정
+   * <p>
+   * 연결은 (도메인, 포트) 경로별로 나뉘어 관리되며, 경로별 한도와 전체 한도를 함께 적용한다.
+   * 허용 포트 범위가 넓어도 전체 연결 수는 maxTotal 을 넘지 않고, 비어 있는 경로 풀은 유휴 정리 시 제거된다.
+   */
+  @Getter
+  @ToString
+  public static class Pool {
+    private static final int DEFAULT_MAX_TOTAL = 200;
+    private static final int DEFAULT_MAX_PER_ROUTE = 50;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    // 모든 경로를 합한 최대 연결 수
+    private final int maxTotal;
+    // (도메인, 포트) 경로별 최대 연결 수
+    private final int maxPerRoute;
+    // 이 시간 동안 사용되지 않은 연결은 닫는다
+    private final Duration idleTimeout;
+    // 생성 후 이 시간이 지난 연결은 재사용하지 않는다
+    private final Duration timeToLive;
+    // GET /admin/outbound/pool 연결 풀 통계 조회 (내부망 전용)
+    private final boolean endpointEnabled;
+
+    public Pool(Integer maxTotal, Integer maxPerRoute, Duration idleTimeout, Duration timeToLive, Boolean endpointEnabled) {
+      this.maxTotal = maxTotal != null ? maxTotal : DEFAULT_MAX_TOTAL;
+      this.maxPerRoute = maxPerRoute != null ? maxPerRoute : DEFAULT_MAX_PER_ROUTE;
+      this.idleTimeout = idleTimeout != null ? idleTimeout : DEFAULT_IDLE_TIMEOUT;
+      this.timeToLive = timeToLive != null ? timeToLive : DEFAULT_TIME_TO_LIVE;
+      this.endpointEnabled = endpointEnabled != null && endpointEnabled;
+      if (this.maxTotal <= 0 || this.maxPerRoute <= 0) {
+        throw new IllegalArgumentException("client.rest.pool.max-total and max-per-route must be greater than 0");
+      }
+      if (this.maxPerRoute > this.maxTotal) {
+        throw new IllegalArgumentException("client.rest.pool.max-per-route must not exceed max-total");
+      }
+      if (this.idleTimeout.isNegative() || this.idleTimeout.isZero()
+        || this.timeToLive.isNegative() || this.timeToLive.isZero()) {
+        throw new IllegalArgumentException("client.rest.pool.idle-timeout and time-to-live must be positive");
+      }
+    }
+  }
+
+  /**
+   * 아웃바운드 요청/응답 로깅 설정
+   * <p>
+   * 본문은 흘려보내면서 앞부분만 기록하므로 응답 크기와 무관하게 메모리 사용량이 일정하다.
+   */
+  @Getter
+  @ToString
+  public static class Logging {
+    private static final int DEFAULT_MAX_BODY_BYTES = 1024;
+    private static final double DEFAULT_SAMPLE_RATE = 1.0;
+
+    // 로그에 남길 본문 최대 바이트 수, 0 이면 본문을 기록하지 않는다
+    private final int maxBodyBytes;
+    // 로그를 남길 요청 비율 (0.0 ~ 1.0)
+    private final double sampleRate;
+
+    public Logging(Integer maxBodyBytes, Double sampleRate) {
+      this.maxBodyBytes = maxBodyBytes != null ? maxBodyBytes : DEFAULT_MAX_BODY_BYTES;
+      this.sampleRate = sampleRate != null ? sampleRate : DEFAULT_SAMPLE_RATE;
+      if (this.maxBodyBytes < 0) {
+        throw new IllegalArgumentException("client.rest.logging.max-body-bytes must not be negative");
+      }
+      if (this.sampleRate < 0.0 || this.sampleRate > 1.0) {
+        throw new IllegalArgumentException("client.rest.logging.sample-rate must be between 0.0 and 1.0");
+      }
+    }
+  }
+
+  /**
+   * 헤지 요청 설정 (비동기/리액티브 GET 요청)
+   * <p>
+   * 첫 요청이 경로별 지연 백분위 안에 응답하지 않으면 다른 허용 포트로 한 번 더 요청하고 먼저 성공한 응답을 사용한다.
+   * 추가 요청 수는 전체 요청의 budget-ratio 비율로 제한된다.
+   */
+  @Getter
+  @ToString
+  public static class Hedge {
+    private static final double DEFAULT_PERCENTILE = 0.95;
+    private static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(5);
+    private static final int DEFAULT_MIN_SAMPLES = 20;
+    private static final double DEFAULT_BUDGET_RATIO = 0.05;
+
+    private final boolean enabled;
+    // 이 백분위 지연을 넘기면 헤지 요청을 보낸다
+    private final double percentile;
+    // 경로별 표본이 min-samples 보다 적을 때 사용하는 대기 시간
+    private final Duration initialDelay;
+    // 백분위 지연이 아주 짧아도 이 시간은 기다린다
+    private final Duration minDelay;
+    private final int minSamples;
+    // 전체 요청 대비 헤지 요청 비율 상한
+    private final double budgetRatio;
+
+    public Hedge(Boolean enabled, Double percentile, Duration initialDelay, Duration minDelay, Integer minSamples, Double budgetRatio) {
+      this.enabled = enabled != null && enabled;
+      this.percentile = percentile != null ? percentile : DEFAULT_PERCENTILE;
+      this.initialDelay = initialDelay != null ? initialDelay : DEFAULT_INITIAL_DELAY;
+      this.minDelay = minDelay != null ? minDelay : DEFAULT_MIN_DELAY;
+      this.minSamples = minSamples != null ? minSamples : DEFAULT_MIN_SAMPLES;
+      this.budgetRatio = budgetRatio != null ? budgetRatio : DEFAULT_BUDGET_RATIO;
+      if (this.percentile <= 0.0 || this.percentile >= 1.0) {
+        throw new IllegalArgumentException("client.rest.hedge.percentile must be between 0.0 and 1.0 (exclusive)");
+      }
+      if (this.budgetRatio < 0.0 || this.budgetRatio > 1.0) {
+        throw new IllegalArgumentException("client.rest.hedge.budget-ratio must be between 0.0 and 1.0");
+      }
+      if (this.minSamples <= 0 || this.initialDelay.isNegative() || this.minDelay.isNegative()) {
+        throw new IllegalArgumentException("client.rest.hedge.min-samples must be positive and delays must not be negative");
+      }
+    }
+  }
+
+  /**
+   * 동일 요청 합치기(single-flight) 설정 (GET/HEAD 요청)
+   * <p>
+   * routes 패턴에 맞는 경로로 가는 요청 중 메서드, URI, key-headers 값이 같은 요청이 진행 중이면
+   * 새로 요청하지 않고 진행 중인 요청의 응답을 함께 받는다.
+   */
+  @Getter
+  @ToString
+  public static class Coalescing {
+    private static final int DEFAULT_MAX_WAITERS = 64;
+
+    private final boolean enabled;
+    // 합치기를 적용할 요청 경로 패턴 (Ant 스타일, 예: /target/path/**), 비어 있으면 적용하지 않는다
+    private final List<String> routes;
+    // 요청 키에 포함할 헤더 이름, 값이 다르면 다른 요청으로 본다
+    private final List<String> keyHeaders;
+    // 진행 중인 요청 하나에 합칠 수 있는 최대 요청 수, 넘으면 따로 요청한다
+    private final int maxWaiters;
+    // GET /admin/outbound/coalescing 합치기 통계 조회 (내부망 전용)
+    private final boolean endpointEnabled;
+
+    public Coalescing(Boolean enabled, List<String> routes, List<String> keyHeaders, Integer maxWaiters, Boolean endpointEnabled) {
+      this.enabled = enabled != null && enabled;
+      this.routes = routes != null ? List.copyOf(routes) : List.of();
+      this.keyHeaders = keyHeaders != null ? List.copyOf(keyHeaders) : List.of();
+      this.maxWaiters = maxWaiters != null ? maxWaiters : DEFAULT_MAX_WAITERS;
+      this.endpointEnabled = endpointEnabled != null && endpointEnabled;
+      if (this.maxWaiters <= 0) {
+        throw new IllegalArgumentException("client.rest.coalescing.max-waiters must be greater than 0");
+      }
+    }
+  }
+
+  /**
+   * GET 응답 캐시 설정
+   * <p>
+   * 힙 캐시(W-TinyLFU 방식 제거)를 먼저 사용하고, on-heap-max-body-bytes 보다 큰 본문은 off-heap 캐시에 둔다.
+   * Cache-Control 과 ETag/Last-Modified 를 따르며, 만료된 응답은 조건부 요청으로 재검증한다.
+   */
+  @Getter
+  @ToString
+  public static class Cache {
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+    private static final DataSize DEFAULT_ON_HEAP_MAX_BODY_SIZE = DataSize.ofKilobytes(64);
+
+    private final boolean enabled;
+    // 힙 캐시 최대 항목 수
+    private final int maxEntries;
+    // 힙 캐시에 둘 수 있는 최대 본문 크기, 넘으면 off-heap 캐시를 사용한다 (비활성화면 캐시하지 않음)
+    private final DataSize onHeapMaxBodySize;
+    private final OffHeap offHeap;
+    // 캐시를 적용할 경로 (경로 패턴별 TTL 지정 가능)
+    private final List<Route> routes;
+    // 캐시 키에 포함할 요청 헤더 (응답을 바꾸는 헤더만, 그 외 헤더는 응답의 Vary 로 구분한다)
+    private final List<String> keyHeaders;
+    // GET /admin/outbound/cache 캐시 통계 조회 (내부망 전용)
+    private final boolean endpointEnabled;
+
+    public Cache(
+      Boolean enabled, Integer maxEntries, DataSize onHeapMaxBodySize, OffHeap offHeap, List<Route> routes, List<String> keyHeaders,
+      Boolean endpointEnabled
+    ) {
+      this.enabled = enabled != null && enabled;
+      this.maxEntries = maxEntries != null ? maxEntries : DEFAULT_MAX_ENTRIES;
+      this.onHeapMaxBodySize = onHeapMaxBodySize != null ? onHeapMaxBodySize : DEFAULT_ON_HEAP_MAX_BODY_SIZE;
+      this.offHeap = offHeap != null ? offHeap : new OffHeap(null, null);
+      this.routes = routes != null ? List.copyOf(routes) : List.of();
+      this.keyHeaders = keyHeaders != null ? List.copyOf(keyHeaders) : List.of();
+      this.endpointEnabled = endpointEnabled != null && endpointEnabled;
+      if (this.maxEntries <= 0) {
+        throw new IllegalArgumentException("client.rest.cache.max-entries must be greater than 0");
+      }
+      if (this.onHeapMaxBodySize.isNegative()) {
+        throw new IllegalArgumentException("client.rest.cache.on-heap-max-body-size must not be negative");
+      }
+    }
+
+    /**
+     * 큰 본문용 off-heap(direct buffer) 캐시, 전체 용량 기준 LRU 로 제거한다
+     */
+    @Getter
+    @ToString
+    public static class OffHeap {
+      private static final DataSize DEFAULT_CAPACITY = DataSize.ofMegabytes(64);
+
+      private final boolean enabled;
+      private final DataSize capacity;
+
+      public OffHeap(Boolean enabled, DataSize capacity) {
+        this.enabled = enabled != null && enabled;
+        this.capacity = capacity != null ? capacity : DEFAULT_CAPACITY;
+        if (this.capacity.toBytes() <= 0) {
+          throw new IllegalArgumentException("client.rest.cache.off-heap.capacity must be greater than 0");
+        }
+      }
+    }
+
+    /**
+     * 캐시 대상 경로
+     */
+    @Getter
+    @ToString
+    public static class Route {
+      // 요청 경로 패턴 (Ant 스타일, 예: /target/path/**)
+      private final String pattern;
+      // 지정하면 응답의 max-age 대신 이 시간 동안 캐시한다 (no-store, private, no-cache 는 그대로 따른다)
+      private final Duration ttl;
+
+      public Route(String pattern, Duration ttl) {
+        if (pattern == null || pattern.isBlank()) {
+          throw new IllegalArgumentException("client.rest.cache.routes[].pattern must not be blank");
+        }
+        if (ttl != null && ttl.isNegative()) {
+          throw new IllegalArgumentException("client.rest.cache.routes[].ttl must not be negative");
+        }
+        this.pattern = pattern;
+        this.ttl = ttl;
+      }
+    }
+  }
+
+  /**
+   * (도메인, 포트)별 서킷 브레이커 설정 (ADR-002 장애 격리 전략)
+   * <p>
+   * 최근 sliding-window-size 건 중 에러율 또는 느린 응답 비율이 임계값 이상이거나 연속 실패가 consecutive-failures 회 이상이면
+   * 회로를 열고, open-duration 이 지나면 half-open-probes 건만 시험 요청으로 보내 모두 성공하면 다시 닫는다.
+   */
+  @Getter
+  @ToString
+  public static class CircuitBreaker {
+    private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    private static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 0.5;
+    private static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(3);
+    private static final int DEFAULT_CONSECUTIVE_FAILURES = 10;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+    private static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+    private static final int DEFAULT_MINIMUM_CALLS = 20;
+    private static final int DEFAULT_HALF_OPEN_PROBES = 5;
+
+    private final boolean enabled;
+    // 에러율 기준 (50% 이상)
+    private final double failureRateThreshold;
+    // 느린 응답 비율 기준
+    private final double slowCallRateThreshold;
+    // 응답 시간 기준 (3초 이상이면 느린 응답)
+    private final Duration slowCallDuration;
+    // 연속 실패 횟수 기준 (10회 이상)
+    private final int consecutiveFailures;
+    // Half-Open 상태 전환 시간 (30초)
+    private final Duration openDuration;
+    // 에러율/느린 응답 비율을 계산할 최근 요청 수
+    private final int slidingWindowSize;
+    // 비율 기준을 적용하기 위한 최소 요청 수
+    private final int minimumCalls;
+    // Half-Open 상태에서 보낼 시험 요청 수
+    private final int halfOpenProbes;
+    // GET/POST /admin/outbound/circuits 회로 현황 조회와 수동 복구 (내부망 전용)
+    private final boolean endpointEnabled;
+
+    public CircuitBreaker(
+      Boolean enabled, Double failureRateThreshold, Double slowCallRateThreshold, Duration slowCallDuration,
+      Integer consecutiveFailures, Duration openDuration, Integer slidingWindowSize, Integer minimumCalls,
+      Integer halfOpenProbes, Boolean endpointEnabled
+    ) {
+      this.enabled = enabled != null && enabled;
+      this.failureRateThreshold = failureRateThreshold != null ? failureRateThreshold : DEFAULT_FAILURE_RATE_THRESHOLD;
+      this.slowCallRateThreshold = slowCallRateThreshold != null ? slowCallRateThreshold : DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+      this.slowCallDuration = slowCallDuration != null ? slowCallDuration : DEFAULT_SLOW_CALL_DURATION;
+      this.consecutiveFailures = consecutiveFailures != null ? consecutiveFailures : DEFAULT_CONSECUTIVE_FAILURES;
+      this.openDuration = openDuration != null ? openDuration : DEFAULT_OPEN_DURATION;
+      this.slidingWindowSize = slidingWindowSize != null ? slidingWindowSize : DEFAULT_SLIDING_WINDOW_SIZE;
+      this.minimumCalls = minimumCalls != null ? minimumCalls : DEFAULT_MINIMUM_CALLS;
+      this.halfOpenProbes = halfOpenProbes != null ? halfOpenProbes : DEFAULT_HALF_OPEN_PROBES;
+      this.endpointEnabled = endpointEnabled != null && endpointEnabled;
+      if (this.failureRateThreshold <= 0.0 || this.failureRateThreshold > 1.0
+        || this.slowCallRateThreshold <= 0.0 || this.slowCallRateThreshold > 1.0) {
+        throw new IllegalArgumentException(
+          "client.rest.circuit-breaker.failure-rate-threshold and slow-call-rate-threshold must be in (0.0, 1.0]");
+      }
+      if (this.consecutiveFailures <= 0 || this.slidingWindowSize <= 0 || this.minimumCalls <= 0 || this.halfOpenProbes <= 0) {
+        throw new IllegalArgumentException(
+          "client.rest.circuit-breaker.consecutive-failures, sliding-window-size, minimum-calls and half-open-probes must be greater than 0");
+      }
+      if (this.minimumCalls > this.slidingWindowSize) {
+        throw new IllegalArgumentException("client.rest.circuit-breaker.minimum-calls must not exceed sliding-window-size");
+      }
+      if (!this.slowCallDuration.isPositive() || !this.openDuration.isPositive()) {
+        throw new IllegalArgumentException("client.rest.circuit-breaker.slow-call-duration and open-duration must be positive");
+      }
+    }
+  }
+
+  /**
+   * (도메인, 포트)별 적응형 동시성 제한 설정
+   * <p>
+   * 응답 시간(RTT)의 단기 평균이 장기 평균의 rtt-tolerance 배를 넘으면 제한을 줄이고, 그 안이면 늘린다 (gradient 방식).
+   * 제한을 넘은 요청은 max-wait 동안 max-queue 까지 기다리고, 0 이면 바로 거절한다.
+   */
+  @Getter
+  @ToString
+  public static class ConcurrencyLimit {
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MIN_LIMIT = 2;
+    private static final int DEFAULT_MAX_LIMIT = 200;
+    private static final double DEFAULT_RTT_TOLERANCE = 2.0;
+    private static final double DEFAULT_SMOOTHING = 0.2;
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ZERO;
+    private static final int DEFAULT_MAX_QUEUE = 100;
+
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    // 단기 RTT 가 장기 RTT 의 몇 배까지 제한을 줄이지 않을지
+    private final double rttTolerance;
+    // 새로 계산한 제한을 반영하는 비율
+    private final double smoothing;
+    // 제한을 넘은 요청이 자리를 기다리는 최대 시간 (0 이면 바로 거절)
+    private final Duration maxWait;
+    // (도메인, 포트)별 대기 요청 수 상한
+    private final int maxQueue;
+    // GET /admin/outbound/limits 현재 제한, 진행 중 요청 수, 거절 수 조회 (내부망 전용)
+    private final boolean endpointEnabled;
+
+    public ConcurrencyLimit(
+      Boolean enabled, Integer initialLimit, Integer minLimit, Integer maxLimit, Double rttTolerance, Double smoothing,
+      Duration maxWait, Integer maxQueue, Boolean endpointEnabled
+    ) {
+      this.enabled = enabled != null && enabled;
+      this.initialLimit = initialLimit != null ? initialLimit : DEFAULT_INITIAL_LIMIT;
+      this.minLimit = minLimit != null ? minLimit : DEFAULT_MIN_LIMIT;
+      this.maxLimit = maxLimit != null ? maxLimit : DEFAULT_MAX_LIMIT;
+      this.rttTolerance = rttTolerance != null ? rttTolerance : DEFAULT_RTT_TOLERANCE;
+      this.smoothing = smoothing != null ? smoothing : DEFAULT_SMOOTHING;
+      this.maxWait = maxWait != null ? maxWait : DEFAULT_MAX_WAIT;
+      this.maxQueue = maxQueue != null ? maxQueue : DEFAULT_MAX_QUEUE;
+      this.endpointEnabled = endpointEnabled != null && endpointEnabled;
+      if (this.minLimit <= 0 || this.minLimit > this.initialLimit || this.initialLimit > this.maxLimit) {
+        throw new IllegalArgumentException(
+          "client.rest.concurrency-limit requires 0 < min-limit <= initial-limit <= max-limit");
+      }
+      if (this.rttTolerance < 1.0) {
+        throw new IllegalArgumentException("client.rest.concurrency-limit.rtt-tolerance must be at least 1.0");
+      }
+      if (this.smoothing <= 0.0 || this.smoothing > 1.0) {
+        throw new IllegalArgumentException("client.rest.concurrency-limit.smoothing must be in (0.0, 1.0]");
+      }
+      if (this.maxWait.isNegative() || this.maxQueue < 0) {
+        throw new IllegalArgumentException("client.rest.concurrency-limit.max-wait and max-queue must not be negative");
+      }
+    }
+  }
+
+  /**
+   * 멱등 요청 재시도 설정
+   * <p>
+   * 일시적인 실패(연결 실패, 502/503/504)만 decorrelated jitter 간격으로 재시도한다.
+   * (도메인, 포트)별로 요청마다 budget-ratio 만큼 재시도 토큰을 적립해 재시도가 요청의 budget-ratio 비율을 넘지 않게 한다.
+   */
+  @Getter
+  @ToString
+  public static class Retry {
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(50);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+    private static final double DEFAULT_BUDGET_RATIO = 0.1;
+    private static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(10);
+
+    private final boolean enabled;
+    // 첫 요청을 포함한 최대 시도 횟수
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    // 요청 대비 재시도 비율 상한
+    private final double budgetRatio;
+    // 첫 요청부터 재시도까지 포함한 제한 시간, 남은 시간이 직전 시도 시간보다 짧으면 재시도하지 않는다
+    private final Duration deadline;
+    // GET /admin/outbound/retries 재시도 통계 (내부망 전용)
+    private final boolean endpointEnabled;
+
+    public Retry(
+      Boolean enabled, Integer maxAttempts, Duration baseDelay, Duration maxDelay, Double budgetRatio, Duration deadline,
+      Boolean endpointEnabled
+    ) {
+      this.enabled = enabled != null && enabled;
+      this.maxAttempts = maxAttempts != null ? maxAttempts : DEFAULT_MAX_ATTEMPTS;
+      this.baseDelay = baseDelay != null ? baseDelay : DEFAULT_BASE_DELAY;
+      this.maxDelay = maxDelay != null ? maxDelay : DEFAULT_MAX_DELAY;
+      this.budgetRatio = budgetRatio != null ? budgetRatio : DEFAULT_BUDGET_RATIO;
+      this.deadline = deadline != null ? deadline : DEFAULT_DEADLINE;
+      this.endpointEnabled = endpointEnabled != null && endpointEnabled;
+      if (this.maxAttempts <= 0) {
+        throw new IllegalArgumentException("client.rest.retry.max-attempts must be greater than 0");
+      }
+      if (!this.baseDelay.isPositive() || this.maxDelay.compareTo(this.baseDelay) < 0) {
+        throw new IllegalArgumentException("client.rest.retry requires 0 < base-delay <= max-delay");
+      }
+      if (this.budgetRatio < 0.0 || this.budgetRatio > 1.0) {
+        throw new IllegalArgumentException("client.rest.retry.budget-ratio must be between 0.0 and 1.0");
+      }
+      if (!this.deadline.isPositive()) {
+        throw new IllegalArgumentException("client.rest.retry.deadline must be positive");
+      }
+    }
+  }
+
+  /**
+   * HTTP2 전송(h2c) 설정
+   * <p>
+   * 하나의 연결에서 여러 요청을 동시에 처리(멀티플렉싱)하므로 (도메인, 포트)별로 몇 개의 연결만 사용한다.
+   * 연결이 하나뿐이면 TCP 혼잡 제어와 패킷 손실의 영향이 모든 요청에 미치므로 connections 개의 연결에 나눠 보낸다.
+   */
+  @Getter
+  @ToString
+  public static class Http2 {
+    private static final int DEFAULT_CONNECTIONS = 2;
+
+    // (도메인, 포트)별 연결 수, 리액티브 모드에서는 WebClient 가 호스트별로 유지하는 h2 연결 수
+    private final int connections;
+
+    public Http2(Integer connections) {
+      this.connections = connections != null ? connections : DEFAULT_CONNECTIONS;
+      if (this.connections <= 0) {
+        throw new IllegalArgumentException("client.rest.http2.connections must be greater than 0");
+      }
+    }
+  }
+
+  /**
+   * JSON 직렬화 설정
+   * <p>
+   * 응답 타입/요청 본문 클래스별 ObjectReader/ObjectWriter 를 캐시하고, 본문은 중간 바이트 배열 없이 스트림에 바로 쓰고 읽는다.
+   * Jackson 은 파서/생성기 버퍼를 스레드별로 재사용하는데 가상 스레드는 요청마다 새로 생기므로, 공유 버퍼 풀을 사용한다.
+   */
+  @Getter
+  @ToString
+  public static class Codec {
+    private static final int DEFAULT_BUFFER_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final boolean enabled;
+    // 공유 버퍼 묶음 수, 동시에 직렬화하는 요청이 이보다 많으면 남는 요청은 새 버퍼를 만든다
+    private final int bufferPoolSize;
+    // 바이트코드 생성 Jackson 모듈(Blackbird, 없으면 Afterburner)이 클래스패스에 있으면 등록한다
+    private final boolean accelerated;
+
+    public Codec(Boolean enabled, Integer bufferPoolSize, Boolean accelerated) {
+      this.enabled = enabled != null && enabled;
+      this.bufferPoolSize = bufferPoolSize != null ? bufferPoolSize : DEFAULT_BUFFER_POOL_SIZE;
+      this.accelerated = accelerated != null && accelerated;
+      if (this.bufferPoolSize <= 0) {
+        throw new IllegalArgumentException("client.rest.codec.buffer-pool-size must be greater than 0");
+      }
+    }
+  }
+
+  /**
+   * 응답 압축 협상 설정
+   * <p>
+   * Accept-Encoding: gzip, deflate 를 보내고 압축된 응답은 스트림으로 읽으면서 푼다.
+   * Inflater 는 네이티브 메모리를 쓰므로 응답마다 만들고 해제하지 않고 풀에서 재사용한다.
+   */
+  @Getter
+  @ToString
+  public static class Compression {
+    private static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final boolean enabled;
+    // 재사용할 Inflater 수, 동시에 푸는 응답이 이보다 많으면 남는 응답은 새 Inflater 를 만들고 해제한다
+    private final int poolSize;
+    // GET /admin/outbound/compression 압축 응답 통계 (내부망 전용)
+    private final boolean endpointEnabled;
+
+    public Compression(Boolean enabled, Integer poolSize, Boolean endpointEnabled) {
+      this.enabled = enabled != null && enabled;
+      this.poolSize = poolSize != null ? poolSize : DEFAULT_POOL_SIZE;
+      this.endpointEnabled = endpointEnabled != null && endpointEnabled;
+      if (this.poolSize <= 0) {
+        throw new IllegalArgumentException("client.rest.compression.pool-size must be greater than 0");
+      }
+    }
+  }
+}
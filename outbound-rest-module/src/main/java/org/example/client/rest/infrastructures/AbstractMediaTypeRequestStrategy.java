@@ -0,0 +1,102 @@
+package org.example.client.rest.infrastructures;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.codec.JsonCodec;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.exception.RequestTimeoutException;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * 본문 형식(Content-Type, Accept)만 다른 RestTemplate 요청 전략의 공통 구현
+ * <p>
+ * client.rest.codec.enabled 이면 {@link JsonCodec}으로 본문을 연결 스트림에 바로 쓰고 읽고, 아니면 메시지 컨버터를 사용한다.
+ * Accept 를 지정하지 않은 요청은 형식의 Accept 를 보내고, String, byte[] 응답 타입은 {@link JsonCodec#TEXT_ACCEPT}를 보낸다.
+ * String, byte[] 요청 본문은 변환 없이 그대로 보내므로 Content-Type 은 JSON 이다.
+ */
+@Slf4j
+public abstract class AbstractMediaTypeRequestStrategy extends AbstractRequestStrategy {
+
+  private final MediaType mediaType;
+  private final List<MediaType> accept;
+  private final JsonCodec codec;
+
+  protected AbstractMediaTypeRequestStrategy(
+    RestTemplate restTemplate, UrlTemplateBuilder urlTemplateBuilder, RequestPipeline requestPipeline,
+    MediaType mediaType, List<MediaType> accept, JsonCodec codec
+  ) {
+    super(restTemplate, urlTemplateBuilder, requestPipeline);
+    if (mediaType == null || accept == null || accept.isEmpty()) {
+      throw new IllegalArgumentException("MediaType and Accept must not be empty");
+    }
+    if (codec == null) {
+      throw new IllegalArgumentException("JsonCodec must not be null");
+    }
+    this.mediaType = mediaType;
+    this.accept = List.copyOf(accept);
+    this.codec = codec;
+  }
+
+  @Override
+  protected <R> ResponseEntity<R> doExchange(RequestContext<R> context) {
+    log.info("Executing request: {} {}", context.getDomain(), context.getPath());
+    HttpHeaders headers = new HttpHeaders();
+    headers.addAll(context.getHttpHeaders());
+    headers.setContentType(JsonCodec.contentType(context.getRequestBody(), mediaType));
+    if (headers.getAccept().isEmpty()) {
+      headers.setAccept(JsonCodec.accept(context.getResponseType(), accept));
+    }
+
+    URI uri = urlTemplateBuilder.buildUri(context);
+
+    log.info("[Request] URI: {}, Method: {}, Headers: {}, Body: {}", uri, context.getHttpMethod(), headers, context.getRequestBody());
+    try {
+      ResponseEntity<R> responseEntity = codec.isEnabled()
+        ? restTemplate.execute(
+          uri,
+          context.getHttpMethod(),
+          codec.requestCallback(headers, context.getRequestBody(), context.getResponseType()),
+          codec.responseExtractor(context.getResponseType())
+        )
+        : restTemplate.exchange(
+          uri,
+          context.getHttpMethod(),
+          new HttpEntity<>(context.getRequestBody(), headers),
+          context.getResponseType()
+        );
+
+      log.info("[Response] Status: {}", responseEntity.getStatusCode());
+      return responseEntity;
+    } catch (HttpClientErrorException e) {
+      log.error("[Request] URI: {}, Method: {}, Headers: {}, Body: {}, Response: {}", uri, context.getHttpMethod(), headers, context.getRequestBody(), e.getResponseBodyAsString());
+      throw new RuntimeException("Failed to request", e);
+    } catch (HttpServerErrorException e) {
+      log.error("[Request] URI: {}, Method: {}, Headers: {}, Body: {}, Response: {}", uri, context.getHttpMethod(), headers, context.getRequestBody(), e.getResponseBodyAsString());
+      throw new RuntimeException("Failed to request", e);
+    } catch (ResourceAccessException e) {
+      log.error("[Request] URI: {}, Method: {}, Headers: {}, Body: {}, Response: {}", uri, context.getHttpMethod(), headers, context.getRequestBody(), e.getMessage());
+      if (RequestTimeoutException.isTimeout(e)) {
+        throw new RequestTimeoutException("Request timed out", e);
+      }
+      throw new RuntimeException("Failed to request", e);
+    } catch (Exception e) {
+      log.error("[Request] URI: {}, Method: {}, Headers: {}, Body: {}, Response: {}", uri, context.getHttpMethod(), headers, context.getRequestBody(), e.getMessage());
+      throw e;
+    }
+  }
+
+  @Override
+  protected List<MediaType> getSupportedMediaTypes() {
+    return List.of(mediaType);
+  }
+}
@@ -0,0 +1,72 @@
+package org.example.client.rest.infrastructures;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+public abstract class AbstractReactiveRequestStrategy implements ReactiveRequestStrategy {
+
+  protected final WebClient webClient;
+  protected final UrlTemplateBuilder urlTemplateBuilder;
+  protected final RequestPipeline requestPipeline;
+
+  protected AbstractReactiveRequestStrategy(
+    WebClient webClient, UrlTemplateBuilder urlTemplateBuilder, RequestPipeline requestPipeline
+  ) {
+    Optional.ofNullable(webClient)
+      .orElseThrow(() -> new IllegalArgumentException("WebClient must not be null"));
+    Optional.ofNullable(urlTemplateBuilder)
+      .orElseThrow(() -> new IllegalArgumentException("UrlTemplateBuilder must not be null"));
+    Optional.ofNullable(requestPipeline)
+      .orElseThrow(() -> new IllegalArgumentException("RequestPipeline must not be null"));
+    this.webClient = webClient;
+    this.urlTemplateBuilder = urlTemplateBuilder;
+    this.requestPipeline = requestPipeline;
+  }
+
+  @Override
+  public boolean supports(RequestContext<?> context) {
+    MediaType mediaType = context.getMediaType();
+    return mediaType != null && getSupportedMediaTypes().contains(mediaType);
+  }
+
+  @Override
+  public <R> Mono<R> execute(RequestContext<R> context) {
+    log.info("Executing strategy: {}", this.getClass().getSimpleName());
+    preProcess(context);
+    // 구독을 취소하면 진행 중인 요청도 취소된다 (다른 요청과 공유 중인 요청은 제외)
+    Mono<R> response = requestPipeline.isApplicable(context)
+      ? Mono.fromFuture(() -> requestPipeline.execute(context, attempt -> doExchange(attempt).toFuture()))
+      : doExecute(context);
+    return response
+      .doOnNext(this::postProcess);
+  }
+
+  protected abstract List<MediaType> getSupportedMediaTypes();
+
+  protected <R> Mono<R> doExecute(RequestContext<R> context) {
+    return doExchange(context).mapNotNull(ResponseEntity::getBody);
+  }
+
+  /**
+   * 요청을 보내고 상태와 헤더를 포함한 응답을 반환한다 (304 응답은 본문이 없다)
+   */
+  protected abstract <R> Mono<ResponseEntity<R>> doExchange(RequestContext<R> context);
+
+  // 선택적으로 오버라이드할 수 있는 후처리/전처리 메서드
+  protected <R> void preProcess(RequestContext<R> context) {
+    log.info("Preprocessing request: {} {}", context.getDomain(), context.getPath());
+  }
+
+  protected <R> void postProcess(R result) {
+    log.info("Postprocessing result: {}", result);
+  }
+}
@@ -4,24 +4,39 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.client.rest.infrastructures.context.RequestContext;
 import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 @Slf4j
 public abstract class AbstractRequestStrategy implements RequestStrategy {
 
+  // 비동기 요청도 설정된 전송(client.rest.transport)과 로깅 인터셉터를 거치도록 RestTemplate 요청을 가상 스레드에서 보낸다
+  private static final Executor ASYNC_EXECUTOR = Executors.newThreadPerTaskExecutor(
+    Thread.ofVirtual().name("outbound-async-", 0).factory());
+
   protected final RestTemplate restTemplate;
   protected final UrlTemplateBuilder urlTemplateBuilder;
+  protected final RequestPipeline requestPipeline;
 
-  protected AbstractRequestStrategy(RestTemplate restTemplate, UrlTemplateBuilder urlTemplateBuilder) {
+  protected AbstractRequestStrategy(
+    RestTemplate restTemplate, UrlTemplateBuilder urlTemplateBuilder, RequestPipeline requestPipeline
+  ) {
     Optional.ofNullable(restTemplate)
       .orElseThrow(() -> new IllegalArgumentException("RestTemplate must not be null"));
     Optional.ofNullable(urlTemplateBuilder)
       .orElseThrow(() -> new IllegalArgumentException("UrlTemplateBuilder must not be null"));
+    Optional.ofNullable(requestPipeline)
+      .orElseThrow(() -> new IllegalArgumentException("RequestPipeline must not be null"));
     this.restTemplate = restTemplate;
     this.urlTemplateBuilder = urlTemplateBuilder;
+    this.requestPipeline = requestPipeline;
   }
 
   @Override
@@ -34,14 +49,68 @@ public abstract class AbstractRequestStrategy implements RequestStrategy {
   public <R> R execute(RequestContext<R> context) {
     log.info("Executing strategy: {}", this.getClass().getSimpleName());
     preProcess(context);
-    R result = doExecute(context);
+    R result = requestPipeline.isApplicable(context) ? executeShared(context) : doExecute(context);
     postProcess(result);
     return result;
   }
 
+  // 먼저 온 요청은 현재 스레드에서 보내고, 헤지 대상이면 두 요청을 함께 기다릴 수 있도록 가상 스레드에서 보낸다
+  private <R> R executeShared(RequestContext<R> context) {
+    try {
+      return requestPipeline.execute(context, requestPipeline.isHedgeable(context) ? this::doExchangeAsync : this::exchangeNow)
+        .join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private <R> CompletableFuture<ResponseEntity<R>> exchangeNow(RequestContext<R> context) {
+    try {
+      return CompletableFuture.completedFuture(doExchange(context));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  @Override
+  public <R> CompletableFuture<R> executeAsync(RequestContext<R> context) {
+    log.info("Executing strategy asynchronously: {}", this.getClass().getSimpleName());
+    preProcess(context);
+    return requestPipeline.execute(context, this::doExchangeAsync)
+      .thenApply(result -> {
+        postProcess(result);
+        return result;
+      });
+  }
+
   protected abstract List<MediaType> getSupportedMediaTypes();
 
-  protected abstract <R> R doExecute(RequestContext<R> context);
+  protected <R> R doExecute(RequestContext<R> context) {
+    return doExchange(context).getBody();
+  }
+
+  /**
+   * 요청을 보내고 상태와 헤더를 포함한 응답을 반환한다 (304 응답은 본문이 없다)
+   */
+  protected abstract <R> ResponseEntity<R> doExchange(RequestContext<R> context);
+
+  /**
+   * {@link #doExchange}를 가상 스레드에서 실행한다. 호출 스레드는 응답을 기다리지 않는다.
+   */
+  protected <R> CompletableFuture<ResponseEntity<R>> doExchangeAsync(RequestContext<R> context) {
+    CompletableFuture<ResponseEntity<R>> future = new CompletableFuture<>();
+    ASYNC_EXECUTOR.execute(() -> {
+      try {
+        future.complete(doExchange(context));
+      } catch (RuntimeException e) {
+        future.completeExceptionally(e);
+      }
+    });
+    return future;
+  }
 
   // 선택적으로 오버라이드할 수 있는 후처리/전처리 메서드
   protected <R> void preProcess(RequestContext<R> context) {
@@ -0,0 +1,15 @@
+package org.example.client.rest.infrastructures;
+
+
+import org.example.client.rest.infrastructures.context.RequestContext;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link RequestStrategy}의 논블로킹 버전, 응답을 기다리지 않고 {@link Mono}를 반환한다.
+ */
+public interface ReactiveRequestStrategy {
+
+  boolean supports(RequestContext<?> context);
+
+  <R> Mono<R> execute(RequestContext<R> context);
+}
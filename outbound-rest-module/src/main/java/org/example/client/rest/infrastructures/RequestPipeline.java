@@ -0,0 +1,86 @@
+package org.example.client.rest.infrastructures;
+
+import org.example.client.rest.infrastructures.cache.ResponseCache;
+import org.example.client.rest.infrastructures.circuit.CircuitBreakerRegistry;
+import org.example.client.rest.infrastructures.coalesce.RequestCoalescer;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.hedge.HedgingPolicy;
+import org.example.client.rest.infrastructures.limit.ConcurrencyLimiter;
+import org.example.client.rest.infrastructures.retry.RetryPolicy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 요청 전략이 공유하는 하위 요청 정책 체인 (캐시 → 합치기 → 재시도 → 헤지 → 서킷 브레이커 → 동시성 제한)
+ * <p>
+ * RestTemplate, WebClient 요청 전략이 같은 순서로 정책을 적용하도록 체인을 한 곳에서 구성한다.
+ */
+@Component
+public class RequestPipeline {
+
+  private final ResponseCache responseCache;
+  private final RequestCoalescer requestCoalescer;
+  private final RetryPolicy retryPolicy;
+  private final HedgingPolicy hedgingPolicy;
+  private final CircuitBreakerRegistry circuitBreakers;
+  private final ConcurrencyLimiter concurrencyLimiter;
+
+  public RequestPipeline(
+    ResponseCache responseCache, RequestCoalescer requestCoalescer, RetryPolicy retryPolicy, HedgingPolicy hedgingPolicy,
+    CircuitBreakerRegistry circuitBreakers, ConcurrencyLimiter concurrencyLimiter
+  ) {
+    Optional.ofNullable(responseCache)
+      .orElseThrow(() -> new IllegalArgumentException("ResponseCache must not be null"));
+    Optional.ofNullable(requestCoalescer)
+      .orElseThrow(() -> new IllegalArgumentException("RequestCoalescer must not be null"));
+    Optional.ofNullable(retryPolicy)
+      .orElseThrow(() -> new IllegalArgumentException("RetryPolicy must not be null"));
+    Optional.ofNullable(hedgingPolicy)
+      .orElseThrow(() -> new IllegalArgumentException("HedgingPolicy must not be null"));
+    Optional.ofNullable(circuitBreakers)
+      .orElseThrow(() -> new IllegalArgumentException("CircuitBreakerRegistry must not be null"));
+    Optional.ofNullable(concurrencyLimiter)
+      .orElseThrow(() -> new IllegalArgumentException("ConcurrencyLimiter must not be null"));
+    this.responseCache = responseCache;
+    this.requestCoalescer = requestCoalescer;
+    this.retryPolicy = retryPolicy;
+    this.hedgingPolicy = hedgingPolicy;
+    this.circuitBreakers = circuitBreakers;
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  /**
+   * 적용할 정책이 하나라도 있는지, 없으면 전략이 요청을 바로 보낸다
+   */
+  public boolean isApplicable(RequestContext<?> context) {
+    return responseCache.isCacheable(context) || requestCoalescer.isCoalescable(context)
+      || hedgingPolicy.isHedgeable(context) || circuitBreakers.isEnabled() || concurrencyLimiter.isEnabled()
+      || retryPolicy.isRetryable(context);
+  }
+
+  /**
+   * 헤지 요청을 보낼 수 있는지, 헤지 대상이면 exchange 가 호출 스레드를 막지 않아야 한다
+   */
+  public boolean isHedgeable(RequestContext<?> context) {
+    return hedgingPolicy.isHedgeable(context);
+  }
+
+  /**
+   * 캐시된 응답이 있으면 사용하고, 같은 요청이 진행 중이면 합치며, 헤지 대상 GET 요청은 응답이 늦으면 다른 허용 포트로도 요청한다.
+   * 멱등 요청의 일시적인 실패는 재시도하고, 서킷 브레이커와 동시성 제한은 헤지 요청을 포함해 실제로 보내는 포트마다 적용한다.
+   * 반환한 future 를 취소하면 진행 중인 요청도 취소된다 (다른 요청과 공유 중인 요청은 제외)
+   *
+   * @param exchange 포트가 지정된 요청 하나를 보내는 함수 (시도, 헤지 요청마다 호출)
+   */
+  public <R> CompletableFuture<R> execute(
+    RequestContext<R> context, Function<RequestContext<R>, CompletableFuture<ResponseEntity<R>>> exchange
+  ) {
+    return responseCache.execute(context, request -> requestCoalescer.execute(request, () -> retryPolicy.execute(request,
+      () -> hedgingPolicy.execute(request, attempt -> circuitBreakers.execute(attempt,
+        () -> concurrencyLimiter.execute(attempt, () -> exchange.apply(attempt)))))));
+  }
+}
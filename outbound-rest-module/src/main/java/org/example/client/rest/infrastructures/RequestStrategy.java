@@ -3,9 +3,20 @@ package org.example.client.rest.infrastructures;
 
 import org.example.client.rest.infrastructures.context.RequestContext;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface RequestStrategy {
 
   boolean supports(RequestContext<?> context);
 
   <R> R execute(RequestContext<R> context);
+
+  /**
+   * 설정된 전송(client.rest.transport)으로 가상 스레드에서 요청하고 응답을 기다리지 않는다.
+   * <p>
+   * 동기 요청과 같은 RestTemplate(연결 풀, HTTP/2, 압축 해제, 로깅 인터셉터)을 사용한다.
+   * 결과 단계는 요청을 보낸 가상 스레드에서 완료되므로 호출 스레드의 Context가 필요한 단계는 호출하는 쪽에서 전달한다.
+   * 시간 초과는 {@link org.example.client.rest.infrastructures.exception.RequestTimeoutException}으로 완료된다.
+   */
+  <R> CompletableFuture<R> executeAsync(RequestContext<R> context);
 }
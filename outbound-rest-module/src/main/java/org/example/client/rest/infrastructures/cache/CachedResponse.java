@@ -0,0 +1,103 @@
+package org.example.client.rest.infrastructures.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 캐시된 응답 본문과 재검증 정보
+ * <p>
+ * off-heap 항목은 본문을 direct buffer 에 바이트로 보관하고 읽을 때마다 새 객체로 만든다.
+ */
+final class CachedResponse {
+
+  private final Object body;
+  private final ByteBuffer offHeapBody;
+  private final boolean stringBody;
+  private final String etag;
+  private final String lastModified;
+  // Vary 헤더에 나열된 요청 헤더와 저장 당시의 값
+  private final Map<String, List<String>> varyValues;
+  private volatile long freshUntilNanos;
+
+  private CachedResponse(
+    Object body, ByteBuffer offHeapBody, boolean stringBody, String etag, String lastModified,
+    Map<String, List<String>> varyValues, long freshUntilNanos
+  ) {
+    this.body = body;
+    this.offHeapBody = offHeapBody;
+    this.stringBody = stringBody;
+    this.etag = etag;
+    this.lastModified = lastModified;
+    this.varyValues = varyValues;
+    this.freshUntilNanos = freshUntilNanos;
+  }
+
+  static CachedResponse onHeap(
+    Object body, String etag, String lastModified, Map<String, List<String>> varyValues, long freshUntilNanos
+  ) {
+    return new CachedResponse(body, null, false, etag, lastModified, varyValues, freshUntilNanos);
+  }
+
+  /**
+   * @param body String 또는 byte[] 본문
+   */
+  static CachedResponse offHeap(
+    Object body, String etag, String lastModified, Map<String, List<String>> varyValues, long freshUntilNanos
+  ) {
+    boolean stringBody = body instanceof String;
+    byte[] bytes = stringBody ? ((String) body).getBytes(StandardCharsets.UTF_8) : (byte[]) body;
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    return new CachedResponse(null, buffer, stringBody, etag, lastModified, varyValues, freshUntilNanos);
+  }
+
+  Object body() {
+    if (offHeapBody == null) {
+      return body;
+    }
+    byte[] bytes = new byte[offHeapBody.capacity()];
+    offHeapBody.duplicate().get(bytes);
+    return stringBody ? new String(bytes, StandardCharsets.UTF_8) : bytes;
+  }
+
+  int offHeapBytes() {
+    return offHeapBody != null ? offHeapBody.capacity() : 0;
+  }
+
+  boolean isFresh(long nowNanos) {
+    return nowNanos - freshUntilNanos < 0;
+  }
+
+  boolean hasValidator() {
+    return etag != null || lastModified != null;
+  }
+
+  void refresh(long freshUntilNanos) {
+    this.freshUntilNanos = freshUntilNanos;
+  }
+
+  /**
+   * 요청의 Vary 헤더 값이 저장 당시와 같은지 확인한다
+   */
+  boolean matches(HttpHeaders requestHeaders) {
+    for (Map.Entry<String, List<String>> vary : varyValues.entrySet()) {
+      List<String> values = requestHeaders != null ? requestHeaders.get(vary.getKey()) : null;
+      if (!Objects.equals(vary.getValue(), values)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  String getEtag() {
+    return etag;
+  }
+
+  String getLastModified() {
+    return lastModified;
+  }
+}
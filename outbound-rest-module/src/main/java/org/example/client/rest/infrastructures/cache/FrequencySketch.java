@@ -0,0 +1,71 @@
+package org.example.client.rest.infrastructures.cache;
+
+/**
+ * 키별 최근 사용 빈도 추정 (Count-Min Sketch, TinyLFU)
+ * <p>
+ * 카운터는 최대 15까지 세고, 기록 수가 표본 크기에 도달하면 모든 카운터를 절반으로 줄여 오래된 빈도를 잊는다.
+ */
+final class FrequencySketch {
+
+  private static final int DEPTH = 4;
+  private static final int MAX_COUNT = 15;
+  private static final int[] SEEDS = {0x97cb3127, 0xb3c3e5f1, 0x8e1b7a51, 0xc2b2ae35};
+
+  private final int[][] table;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  FrequencySketch(int maximumSize) {
+    int width = Integer.highestOneBit(Math.max(16, maximumSize - 1) << 1);
+    this.table = new int[DEPTH][width];
+    this.mask = width - 1;
+    this.sampleSize = 10 * Math.max(16, maximumSize);
+  }
+
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int i = 0; i < DEPTH; i++) {
+      int index = indexOf(hash, i);
+      if (table[i][index] < MAX_COUNT) {
+        table[i][index]++;
+        added = true;
+      }
+    }
+    if (added && ++additions >= sampleSize) {
+      reset();
+    }
+  }
+
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int frequency = MAX_COUNT;
+    for (int i = 0; i < DEPTH; i++) {
+      frequency = Math.min(frequency, table[i][indexOf(hash, i)]);
+    }
+    return frequency;
+  }
+
+  private void reset() {
+    for (int[] row : table) {
+      for (int j = 0; j < row.length; j++) {
+        row[j] >>>= 1;
+      }
+    }
+    additions /= 2;
+  }
+
+  private int indexOf(int hash, int depth) {
+    int h = (hash + SEEDS[depth]) * SEEDS[depth];
+    h += h >>> 16;
+    return h & mask;
+  }
+
+  private static int spread(int hash) {
+    hash ^= hash >>> 17;
+    hash *= 0xed5ad4bb;
+    hash ^= hash >>> 11;
+    return hash;
+  }
+}
@@ -0,0 +1,64 @@
+package org.example.client.rest.infrastructures.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * 큰 본문용 off-heap 캐시
+ * <p>
+ * 본문은 direct buffer 에 두고 힙에는 메타데이터만 남긴다. 본문 바이트 합계가 용량을 넘으면 오래 쓰이지 않은 항목부터 제거한다.
+ */
+final class OffHeapCacheTier {
+
+  private final long capacityBytes;
+  private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long usedBytes;
+  private long evictions;
+
+  OffHeapCacheTier(long capacityBytes) {
+    this.capacityBytes = capacityBytes;
+  }
+
+  synchronized CachedResponse get(String key) {
+    return entries.get(key);
+  }
+
+  /**
+   * @return 용량보다 커서 저장하지 못하면 false
+   */
+  synchronized boolean put(String key, CachedResponse response) {
+    long size = response.offHeapBytes();
+    if (size > capacityBytes) {
+      return false;
+    }
+    remove(key);
+    Iterator<CachedResponse> eldest = entries.values().iterator();
+    while (usedBytes + size > capacityBytes && eldest.hasNext()) {
+      usedBytes -= eldest.next().offHeapBytes();
+      eldest.remove();
+      evictions++;
+    }
+    entries.put(key, response);
+    usedBytes += size;
+    return true;
+  }
+
+  synchronized void remove(String key) {
+    CachedResponse removed = entries.remove(key);
+    if (removed != null) {
+      usedBytes -= removed.offHeapBytes();
+    }
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  synchronized long usedBytes() {
+    return usedBytes;
+  }
+
+  synchronized long evictions() {
+    return evictions;
+  }
+}
@@ -0,0 +1,81 @@
+package org.example.client.rest.infrastructures.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 항목 수 기준 힙 캐시 (W-TinyLFU 방식)
+ * <p>
+ * 새 항목은 작은 LRU 창(window)에 먼저 들어가고, 창에서 밀려난 항목은 본 영역의 LRU 희생 후보보다
+ * 최근 사용 빈도가 높을 때만 본 영역에 들어간다. 한 번 쓰이고 마는 응답이 자주 쓰이는 응답을 밀어내지 않는다.
+ */
+final class OnHeapCacheTier {
+
+  private final int windowCapacity;
+  private final int mainCapacity;
+  private final LinkedHashMap<String, CachedResponse> window = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<String, CachedResponse> main = new LinkedHashMap<>(16, 0.75f, true);
+  private final FrequencySketch sketch;
+  private long evictions;
+
+  OnHeapCacheTier(int maxEntries) {
+    // 전체의 1%를 창으로 사용한다
+    this.windowCapacity = Math.max(1, maxEntries / 100);
+    this.mainCapacity = Math.max(1, maxEntries - windowCapacity);
+    this.sketch = new FrequencySketch(maxEntries);
+  }
+
+  synchronized CachedResponse get(String key) {
+    sketch.increment(key);
+    CachedResponse response = window.get(key);
+    return response != null ? response : main.get(key);
+  }
+
+  synchronized void put(String key, CachedResponse response) {
+    if (main.containsKey(key)) {
+      main.put(key, response);
+      return;
+    }
+    window.put(key, response);
+    if (window.size() > windowCapacity) {
+      Map.Entry<String, CachedResponse> candidate = removeEldest(window);
+      admit(candidate.getKey(), candidate.getValue());
+    }
+  }
+
+  synchronized void remove(String key) {
+    if (window.remove(key) == null) {
+      main.remove(key);
+    }
+  }
+
+  synchronized int size() {
+    return window.size() + main.size();
+  }
+
+  synchronized long evictions() {
+    return evictions;
+  }
+
+  private void admit(String key, CachedResponse response) {
+    if (main.size() < mainCapacity) {
+      main.put(key, response);
+      return;
+    }
+    evictions++;
+    String victim = main.keySet().iterator().next();
+    if (sketch.frequency(key) > sketch.frequency(victim)) {
+      main.remove(victim);
+      main.put(key, response);
+    }
+  }
+
+  private static Map.Entry<String, CachedResponse> removeEldest(LinkedHashMap<String, CachedResponse> map) {
+    Iterator<Map.Entry<String, CachedResponse>> iterator = map.entrySet().iterator();
+    Map.Entry<String, CachedResponse> eldest = iterator.next();
+    Map.Entry<String, CachedResponse> removed = Map.entry(eldest.getKey(), eldest.getValue());
+    iterator.remove();
+    return removed;
+  }
+}
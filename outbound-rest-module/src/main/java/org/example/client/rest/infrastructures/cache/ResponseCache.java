@@ -0,0 +1,289 @@
+package org.example.client.rest.infrastructures.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 아웃바운드 GET 응답 캐시 (client.rest.cache)
+ * <p>
+ * 캐시 키는 URI(포트 포함), 응답 타입, key-headers 값이고, 응답의 Vary 헤더에 나열된 요청 헤더 값도 함께 비교한다.
+ * 요청마다 달라지는 헤더(추적 ID 등)가 키에 들어가지 않도록 나머지 아웃바운드 헤더는 키에 넣지 않는다.
+ * Cache-Control(no-store, private, no-cache, s-maxage, max-age)을 따르며 경로별 TTL 로 max-age 를 대신할 수 있다.
+ * 만료된 응답에 ETag/Last-Modified 가 있으면 조건부 요청을 보내 304 응답이면 저장된 본문을 다시 사용한다.
+ * 200 응답만 저장하고, 키마다 하나의 Vary 변형만 보관한다.
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+  private final RestClientProperties.Cache properties;
+  private final UrlTemplateBuilder urlTemplateBuilder;
+  private final PathMatcher pathMatcher = new AntPathMatcher();
+  private final OnHeapCacheTier onHeap;
+  // off-heap 캐시를 사용하지 않으면 null
+  private final OffHeapCacheTier offHeap;
+  private final long onHeapMaxBodyBytes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder revalidations = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public ResponseCache(RestClientProperties restClientProperties, UrlTemplateBuilder urlTemplateBuilder) {
+    this.properties = restClientProperties.getCache();
+    this.urlTemplateBuilder = urlTemplateBuilder;
+    this.onHeap = new OnHeapCacheTier(properties.getMaxEntries());
+    this.offHeap = properties.getOffHeap().isEnabled()
+      ? new OffHeapCacheTier(properties.getOffHeap().getCapacity().toBytes())
+      : null;
+    this.onHeapMaxBodyBytes = properties.getOnHeapMaxBodySize().toBytes();
+  }
+
+  public boolean isCacheable(RequestContext<?> context) {
+    return findRoute(context) != null;
+  }
+
+  /**
+   * 캐시 대상이 아니면 요청을 그대로 실행한다.
+   *
+   * @param exchange 요청을 보내고 응답 헤더를 포함한 응답을 돌려주는 함수
+   */
+  @SuppressWarnings("unchecked")
+  public <R> CompletableFuture<R> execute(
+    RequestContext<R> context, Function<RequestContext<R>, CompletableFuture<ResponseEntity<R>>> exchange
+  ) {
+    RestClientProperties.Cache.Route route = findRoute(context);
+    if (route == null) {
+      return exchange.apply(context).thenApply(ResponseEntity::getBody);
+    }
+
+    String key = cacheKey(context);
+    CachedResponse cached = lookup(key, context.getHttpHeaders());
+    if (cached != null && cached.isFresh(System.nanoTime())) {
+      hits.increment();
+      return CompletableFuture.completedFuture((R) cached.body());
+    }
+    if (cached != null && cached.hasValidator()) {
+      return exchange.apply(context.withHttpHeaders(conditionalHeaders(context, cached)))
+        .thenApply(response -> {
+          if (response.getStatusCode() != HttpStatus.NOT_MODIFIED) {
+            misses.increment();
+            return store(key, route, context, response);
+          }
+          log.debug("Revalidated cached response - {}", key);
+          revalidations.increment();
+          long freshness = freshnessNanos(route, response.getHeaders());
+          if (freshness < 0) {
+            remove(key);
+          } else {
+            cached.refresh(System.nanoTime() + freshness);
+          }
+          return (R) cached.body();
+        });
+    }
+    misses.increment();
+    return exchange.apply(context).thenApply(response -> store(key, route, context, response));
+  }
+
+  private RestClientProperties.Cache.Route findRoute(RequestContext<?> context) {
+    if (!properties.isEnabled() || context.getHttpMethod() != HttpMethod.GET || context.getRequestBody() != null) {
+      return null;
+    }
+    for (RestClientProperties.Cache.Route route : properties.getRoutes()) {
+      if (pathMatcher.match(route.getPattern(), context.getPath())) {
+        return route;
+      }
+    }
+    return null;
+  }
+
+  private CachedResponse lookup(String key, HttpHeaders requestHeaders) {
+    CachedResponse cached = onHeap.get(key);
+    if (cached == null && offHeap != null) {
+      cached = offHeap.get(key);
+    }
+    // 다른 Vary 변형이면 새로 받아 교체한다
+    return cached != null && cached.matches(requestHeaders) ? cached : null;
+  }
+
+  private <R> R store(String key, RestClientProperties.Cache.Route route, RequestContext<R> context, ResponseEntity<R> response) {
+    R body = response.getBody();
+    if (response.getStatusCode() != HttpStatus.OK || body == null) {
+      return body;
+    }
+    HttpHeaders headers = response.getHeaders();
+    long freshness = freshnessNanos(route, headers);
+    String etag = headers.getETag();
+    String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+    List<String> vary = headers.getVary();
+    if (freshness < 0 || vary.contains("*") || (freshness == 0 && etag == null && lastModified == null)) {
+      remove(key);
+      return body;
+    }
+
+    Map<String, List<String>> varyValues = new LinkedHashMap<>();
+    for (String name : vary) {
+      varyValues.put(name, context.getHttpHeaders() != null ? context.getHttpHeaders().get(name) : null);
+    }
+    long freshUntil = System.nanoTime() + freshness;
+    long bodySize = bodySize(body, headers);
+    if (bodySize <= onHeapMaxBodyBytes) {
+      onHeap.put(key, CachedResponse.onHeap(body, etag, lastModified, varyValues, freshUntil));
+      if (offHeap != null) {
+        offHeap.remove(key);
+      }
+    } else if (offHeap != null && (body instanceof String || body instanceof byte[])
+      && offHeap.put(key, CachedResponse.offHeap(body, etag, lastModified, varyValues, freshUntil))) {
+      onHeap.remove(key);
+    } else {
+      remove(key);
+    }
+    return body;
+  }
+
+  private void remove(String key) {
+    onHeap.remove(key);
+    if (offHeap != null) {
+      offHeap.remove(key);
+    }
+  }
+
+  /**
+   * @return 캐시해도 되는 시간(나노초), 저장하면 안 되면 -1, 매번 재검증해야 하면 0
+   */
+  private static long freshnessNanos(RestClientProperties.Cache.Route route, HttpHeaders headers) {
+    Long maxAge = null;
+    Long sharedMaxAge = null;
+    String cacheControl = headers.getCacheControl();
+    if (cacheControl != null) {
+      for (String directive : cacheControl.split(",")) {
+        String token = directive.trim().toLowerCase(Locale.ROOT);
+        if (token.equals("no-store") || token.equals("private")) {
+          return -1;
+        }
+        if (token.equals("no-cache")) {
+          return 0;
+        }
+        if (token.startsWith("s-maxage=")) {
+          sharedMaxAge = parseSeconds(token.substring("s-maxage=".length()));
+        } else if (token.startsWith("max-age=")) {
+          maxAge = parseSeconds(token.substring("max-age=".length()));
+        }
+      }
+    }
+    if (route.getTtl() != null) {
+      return route.getTtl().toNanos();
+    }
+    Long seconds = sharedMaxAge != null ? sharedMaxAge : maxAge;
+    return seconds != null ? TimeUnit.SECONDS.toNanos(seconds) : 0;
+  }
+
+  private static Long parseSeconds(String value) {
+    try {
+      return Math.max(0, Long.parseLong(value.replace("\"", "")));
+    } catch (NumberFormatException e) {
+      return 0L;
+    }
+  }
+
+  private static long bodySize(Object body, HttpHeaders headers) {
+    if (body instanceof byte[] bytes) {
+      return bytes.length;
+    }
+    if (body instanceof String text) {
+      // off-heap 캐시에는 UTF-8 로 저장하므로 인코딩한 크기로 비교한다
+      return utf8Length(text);
+    }
+    return Math.max(0, headers.getContentLength());
+  }
+
+  private static long utf8Length(String text) {
+    int length = text.length();
+    long bytes = length;
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (Character.isSurrogate(c)) {
+        // 서로게이트 쌍은 두 char 가 4 바이트
+        bytes += 1;
+      } else if (c >= 0x800) {
+        bytes += 2;
+      } else if (c >= 0x80) {
+        bytes += 1;
+      }
+    }
+    return bytes;
+  }
+
+  private static HttpHeaders conditionalHeaders(RequestContext<?> context, CachedResponse cached) {
+    HttpHeaders headers = new HttpHeaders();
+    if (context.getHttpHeaders() != null) {
+      headers.addAll(context.getHttpHeaders());
+    }
+    if (cached.getEtag() != null) {
+      headers.setIfNoneMatch(cached.getEtag());
+    }
+    if (cached.getLastModified() != null) {
+      headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+    }
+    return headers;
+  }
+
+  private String cacheKey(RequestContext<?> context) {
+    StringBuilder key = new StringBuilder()
+      .append(urlTemplateBuilder.buildUri(context))
+      .append(' ').append(context.getResponseType().getName());
+    HttpHeaders headers = context.getHttpHeaders();
+    for (String name : properties.getKeyHeaders()) {
+      List<String> values = headers != null ? headers.get(name) : null;
+      key.append('\n').append(name.toLowerCase(Locale.ROOT)).append('=').append(values != null ? values : "");
+    }
+    return key.toString();
+  }
+
+  public Map<String, Object> stats() {
+    long hitCount = hits.sum();
+    long revalidationCount = revalidations.sum();
+    long missCount = misses.sum();
+    long total = hitCount + revalidationCount + missCount;
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("hits", hitCount);
+    stats.put("revalidations", revalidationCount);
+    stats.put("misses", missCount);
+    // 다운스트림에서 본문을 다시 받지 않은 요청 비율
+    stats.put("hitRatio", total == 0 ? 0.0 : (double) (hitCount + revalidationCount) / total);
+    stats.put("onHeapEntries", onHeap.size());
+    stats.put("onHeapEvictions", onHeap.evictions());
+    stats.put("offHeapEntries", offHeap != null ? offHeap.size() : 0);
+    stats.put("offHeapBytes", offHeap != null ? offHeap.usedBytes() : 0L);
+    stats.put("offHeapEvictions", offHeap != null ? offHeap.evictions() : 0L);
+    return stats;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getRevalidations() {
+    return revalidations.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+}
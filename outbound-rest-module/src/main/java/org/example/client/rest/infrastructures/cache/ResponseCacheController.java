@@ -0,0 +1,28 @@
+package org.example.client.rest.infrastructures.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 아웃바운드 응답 캐시 통계 조회 관리 엔드포인트
+ * <p>
+ * client.rest.cache.endpoint-enabled=true 일 때만 등록된다.
+ */
+@RestController
+@RequestMapping("/admin/outbound/cache")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "client.rest.cache", name = "endpoint-enabled", havingValue = "true")
+public class ResponseCacheController {
+
+  private final ResponseCache responseCache;
+
+  @GetMapping
+  public Map<String, Object> stats() {
+    return responseCache.stats();
+  }
+}
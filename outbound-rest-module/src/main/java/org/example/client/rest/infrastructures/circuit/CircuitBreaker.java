@@ -0,0 +1,180 @@
+package org.example.client.rest.infrastructures.circuit;
+
+import org.example.client.rest.core.props.RestClientProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 (도메인, 포트)의 서킷 브레이커
+ * <p>
+ * 최근 sliding-window-size 건의 결과를 원형 버퍼로 유지해 에러율과 느린 응답 비율을 계산한다.
+ * 상태가 바뀔 때마다 세대(generation)를 올려, 이전 상태에서 시작한 요청의 결과는 반영하지 않는다.
+ */
+final class CircuitBreaker {
+
+  static final long REJECTED = -1L;
+
+  private static final byte FAILURE = 1;
+  private static final byte SLOW = 2;
+
+  private final String route;
+  private final RestClientProperties.CircuitBreaker properties;
+  private final long slowCallNanos;
+  private final long openNanos;
+  private final TransitionListener listener;
+
+  private final byte[] outcomes;
+  private int next;
+  private int calls;
+  private int failures;
+  private int slowCalls;
+  private int consecutiveFailures;
+
+  private CircuitState state = CircuitState.CLOSED;
+  private long generation;
+  private long openedAt;
+  private int probesInFlight;
+  private int probeSuccesses;
+  private long rejected;
+
+  CircuitBreaker(String route, RestClientProperties.CircuitBreaker properties, TransitionListener listener) {
+    this.route = route;
+    this.properties = properties;
+    this.slowCallNanos = properties.getSlowCallDuration().toNanos();
+    this.openNanos = properties.getOpenDuration().toNanos();
+    this.listener = listener;
+    this.outcomes = new byte[properties.getSlidingWindowSize()];
+  }
+
+  /**
+   * 요청을 보내도 되는지 확인한다.
+   *
+   * @return 결과를 기록할 때 넘길 세대, 차단되면 {@link #REJECTED}
+   */
+  synchronized long tryAcquire(long now) {
+    if (state == CircuitState.OPEN) {
+      if (now - openedAt < openNanos) {
+        rejected++;
+        return REJECTED;
+      }
+      transition(CircuitState.HALF_OPEN, now, "open duration elapsed");
+    }
+    if (state == CircuitState.HALF_OPEN) {
+      if (probesInFlight + probeSuccesses >= properties.getHalfOpenProbes()) {
+        rejected++;
+        return REJECTED;
+      }
+      probesInFlight++;
+    }
+    return generation;
+  }
+
+  synchronized void onResult(long permit, long durationNanos, boolean failure, long now) {
+    if (permit != generation) {
+      return;
+    }
+    boolean slow = durationNanos >= slowCallNanos;
+    if (state == CircuitState.HALF_OPEN) {
+      probesInFlight--;
+      if (failure || slow) {
+        transition(CircuitState.OPEN, now, failure ? "probe failed" : "probe slow");
+      } else if (++probeSuccesses >= properties.getHalfOpenProbes()) {
+        transition(CircuitState.CLOSED, now, "probes succeeded");
+      }
+      return;
+    }
+
+    record((byte) ((failure ? FAILURE : 0) | (slow ? SLOW : 0)));
+    consecutiveFailures = failure ? consecutiveFailures + 1 : 0;
+    String reason = tripReason();
+    if (reason != null) {
+      transition(CircuitState.OPEN, now, reason);
+    }
+  }
+
+  /**
+   * 취소처럼 성공/실패로 볼 수 없는 결과는 시험 요청 자리만 돌려준다.
+   */
+  synchronized void onIgnored(long permit) {
+    if (permit == generation && state == CircuitState.HALF_OPEN) {
+      probesInFlight--;
+    }
+  }
+
+  synchronized void reset(long now) {
+    transition(CircuitState.CLOSED, now, "manual reset");
+  }
+
+  synchronized CircuitState getState() {
+    return state;
+  }
+
+  synchronized Map<String, Object> snapshot(long now) {
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    snapshot.put("state", state);
+    snapshot.put("calls", calls);
+    snapshot.put("failureRate", calls == 0 ? 0.0 : (double) failures / calls);
+    snapshot.put("slowCallRate", calls == 0 ? 0.0 : (double) slowCalls / calls);
+    snapshot.put("consecutiveFailures", consecutiveFailures);
+    snapshot.put("rejected", rejected);
+    if (state == CircuitState.OPEN) {
+      snapshot.put("halfOpenIn", Duration.ofNanos(Math.max(0L, openNanos - (now - openedAt))).toString());
+    }
+    return snapshot;
+  }
+
+  private void record(byte outcome) {
+    if (calls == outcomes.length) {
+      byte evicted = outcomes[next];
+      failures -= evicted & FAILURE;
+      slowCalls -= (evicted & SLOW) >> 1;
+    } else {
+      calls++;
+    }
+    outcomes[next] = outcome;
+    failures += outcome & FAILURE;
+    slowCalls += (outcome & SLOW) >> 1;
+    next = (next + 1) % outcomes.length;
+  }
+
+  private String tripReason() {
+    if (consecutiveFailures >= properties.getConsecutiveFailures()) {
+      return "consecutive failures " + consecutiveFailures;
+    }
+    if (calls < properties.getMinimumCalls()) {
+      return null;
+    }
+    if ((double) failures / calls >= properties.getFailureRateThreshold()) {
+      return "failure rate " + failures + "/" + calls;
+    }
+    if ((double) slowCalls / calls >= properties.getSlowCallRateThreshold()) {
+      return "slow call rate " + slowCalls + "/" + calls;
+    }
+    return null;
+  }
+
+  private void transition(CircuitState to, long now, String reason) {
+    CircuitState from = state;
+    state = to;
+    generation++;
+    probesInFlight = 0;
+    probeSuccesses = 0;
+    if (to == CircuitState.OPEN) {
+      openedAt = now;
+    } else if (to == CircuitState.CLOSED) {
+      next = 0;
+      calls = 0;
+      failures = 0;
+      slowCalls = 0;
+      consecutiveFailures = 0;
+    }
+    listener.onTransition(route, from, to, reason);
+  }
+
+  @FunctionalInterface
+  interface TransitionListener {
+    void onTransition(String route, CircuitState from, CircuitState to, String reason);
+  }
+}
@@ -0,0 +1,39 @@
+package org.example.client.rest.infrastructures.circuit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 서킷 브레이커 현황 조회와 수동 복구 관리 엔드포인트
+ * <p>
+ * client.rest.circuit-breaker.endpoint-enabled=true 일 때만 등록된다.
+ */
+@RestController
+@RequestMapping("/admin/outbound/circuits")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "client.rest.circuit-breaker", name = "endpoint-enabled", havingValue = "true")
+public class CircuitBreakerController {
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @GetMapping
+  public Map<String, Object> stats() {
+    return circuitBreakerRegistry.stats();
+  }
+
+  /**
+   * 지정한 (도메인:포트)의 회로를 닫는다. 예) POST /admin/outbound/circuits/reset?route=localhost:8082
+   */
+  @PostMapping("/reset")
+  public ResponseEntity<Void> reset(@RequestParam String route) {
+    return circuitBreakerRegistry.reset(route) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+  }
+}
@@ -0,0 +1,159 @@
+package org.example.client.rest.infrastructures.circuit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.exception.CircuitOpenException;
+import org.example.client.rest.infrastructures.exception.ConcurrencyLimitExceededException;
+import org.example.client.rest.infrastructures.support.OutboundFailures;
+import org.example.client.rest.infrastructures.support.RouteSlots;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * (도메인, 포트)별 서킷 브레이커 (client.rest.circuit-breaker, ADR-002)
+ * <p>
+ * 회로가 열린 포트로는 요청을 보내지 않고 {@link CircuitOpenException} 으로 즉시 실패시킨다.
+ * 4xx 응답은 대상 서비스 장애가 아니므로 실패로 세지 않고, 취소되었거나 동시성 제한으로 보내지 못한 요청은 기록하지 않는다.
+ */
+@Slf4j
+@Component
+public class CircuitBreakerRegistry {
+
+  // 보관하는 상태 변경 이력 수
+  private static final int MAX_HISTORY = 100;
+
+  private final RestClientProperties.CircuitBreaker properties;
+  private final RouteSlots<CircuitBreaker> breakers;
+  private final Deque<Map<String, Object>> history = new ArrayDeque<>();
+
+  public CircuitBreakerRegistry(RestClientProperties restClientProperties) {
+    this.properties = restClientProperties.getCircuitBreaker();
+    this.breakers = new RouteSlots<>(route -> new CircuitBreaker(route, properties, this::onTransition));
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * 회로가 닫혀 있으면 요청을 실행하고 결과와 응답 시간을 기록한다.
+   *
+   * @param call 실제 요청을 실행하는 함수
+   * @throws CircuitOpenException 회로가 열려 있으면 (반환한 future 의 실패로 전달)
+   */
+  public <R, T> CompletableFuture<T> execute(RequestContext<R> context, Supplier<CompletableFuture<T>> call) {
+    if (!properties.isEnabled()) {
+      return call.get();
+    }
+    String route = context.getRoute();
+    CircuitBreaker breaker = breakers.slotFor(route);
+    if (breaker == null) {
+      return call.get();
+    }
+    long start = System.nanoTime();
+    long permit = breaker.tryAcquire(start);
+    if (permit == CircuitBreaker.REJECTED) {
+      return CompletableFuture.failedFuture(new CircuitOpenException(route));
+    }
+
+    CompletableFuture<T> response;
+    try {
+      response = call.get();
+    } catch (RuntimeException e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<T> attempt = response;
+    CompletableFuture<T> result = attempt.whenComplete((value, error) -> {
+      long now = System.nanoTime();
+      if (error != null && isIgnored(error)) {
+        breaker.onIgnored(permit);
+      } else {
+        breaker.onResult(permit, now - start, error != null && OutboundFailures.isServiceFailure(error), now);
+      }
+    });
+    // 헤지에서 진 요청처럼 결과를 취소하면 실제 요청도 취소한다
+    result.whenComplete((value, error) -> {
+      if (result.isCancelled()) {
+        attempt.cancel(false);
+      }
+    });
+    return result;
+  }
+
+  public CircuitState getState(String route) {
+    CircuitBreaker breaker = breakers.get(route);
+    return breaker != null ? breaker.getState() : CircuitState.CLOSED;
+  }
+
+  /**
+   * 수동 개입: 회로를 닫고 집계를 초기화한다.
+   *
+   * @return 해당 route 의 서킷 브레이커가 있었는지
+   */
+  public boolean reset(String route) {
+    CircuitBreaker breaker = breakers.get(route);
+    if (breaker == null) {
+      return false;
+    }
+    breaker.reset(System.nanoTime());
+    return true;
+  }
+
+  public Map<String, Object> stats() {
+    long now = System.nanoTime();
+    Map<String, Object> routes = new TreeMap<>();
+    breakers.forEach((route, breaker) -> routes.put(route, breaker.snapshot(now)));
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("routes", routes);
+    stats.put("history", history());
+    return stats;
+  }
+
+  public List<Map<String, Object>> history() {
+    synchronized (history) {
+      return new ArrayList<>(history);
+    }
+  }
+
+  private void onTransition(String route, CircuitState from, CircuitState to, String reason) {
+    if (to == CircuitState.OPEN) {
+      log.warn("Circuit {} {} -> {} ({})", route, from, to, reason);
+    } else {
+      log.info("Circuit {} {} -> {} ({})", route, from, to, reason);
+    }
+    Map<String, Object> event = new LinkedHashMap<>();
+    event.put("route", route);
+    event.put("from", from);
+    event.put("to", to);
+    event.put("reason", reason);
+    event.put("at", Instant.now().toString());
+    synchronized (history) {
+      if (history.size() == MAX_HISTORY) {
+        history.removeFirst();
+      }
+      history.addLast(event);
+    }
+  }
+
+  // 취소되었거나 동시성 제한으로 보내지 못한 요청은 대상 서비스의 결과가 아니다
+  private static boolean isIgnored(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof CancellationException || cause instanceof ConcurrencyLimitExceededException) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,13 @@
+package org.example.client.rest.infrastructures.circuit;
+
+/**
+ * 서킷 브레이커 상태 (ADR-002)
+ */
+public enum CircuitState {
+  // 정상 요청 처리
+  CLOSED,
+  // 요청 차단, 즉시 실패 또는 대체 처리
+  OPEN,
+  // 시험 요청만 허용해 복구 여부 확인
+  HALF_OPEN
+}
@@ -0,0 +1,172 @@
+package org.example.client.rest.infrastructures.coalesce;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 아웃바운드 요청 합치기 (single-flight, client.rest.coalescing)
+ * <p>
+ * 설정된 경로로 가는 GET/HEAD 요청 중 메서드, URI, 응답 타입, key-headers 값이 같은 요청이 진행 중이면
+ * 새로 요청하지 않고 진행 중인 요청의 결과(성공/실패)를 함께 받는다.
+ * 합친 요청은 같은 응답 객체를 공유하므로 응답 타입은 변경하지 않는 값(String 등)이어야 한다.
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+  private static final List<String> CONDITIONAL_HEADERS = List.of(HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+
+  private final RestClientProperties.Coalescing properties;
+  private final UrlTemplateBuilder urlTemplateBuilder;
+  private final PathMatcher pathMatcher = new AntPathMatcher();
+  private final Map<String, InFlight<?>> inFlight = new ConcurrentHashMap<>();
+  // 실제로 보낸 요청 수
+  private final LongAdder executed = new LongAdder();
+  // 진행 중인 요청에 합쳐진 요청 수
+  private final LongAdder coalesced = new LongAdder();
+  // max-waiters 를 넘어 따로 보낸 요청 수 (executed 에 포함)
+  private final LongAdder overflowed = new LongAdder();
+
+  public RequestCoalescer(RestClientProperties restClientProperties, UrlTemplateBuilder urlTemplateBuilder) {
+    this.properties = restClientProperties.getCoalescing();
+    this.urlTemplateBuilder = urlTemplateBuilder;
+  }
+
+  public boolean isCoalescable(RequestContext<?> context) {
+    if (!properties.isEnabled() || context.getRequestBody() != null) {
+      return false;
+    }
+    HttpMethod method = context.getHttpMethod();
+    if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+      return false;
+    }
+    return properties.getRoutes().stream()
+      .anyMatch(route -> pathMatcher.match(route, context.getPath()));
+  }
+
+  /**
+   * 합치기 대상이 아니면 요청을 그대로 실행한다.
+   * 반환한 future 를 취소해도 다른 요청이 기다리는 공유 요청은 취소되지 않는다.
+   *
+   * @param call 실제 요청을 실행하는 함수
+   */
+  @SuppressWarnings("unchecked")
+  public <R, T> CompletableFuture<T> execute(RequestContext<R> context, Supplier<CompletableFuture<T>> call) {
+    if (!isCoalescable(context)) {
+      return call.get();
+    }
+
+    String key = requestKey(context);
+    while (true) {
+      InFlight<T> current = (InFlight<T>) inFlight.get(key);
+      if (current == null) {
+        InFlight<T> leader = new InFlight<>();
+        if (inFlight.putIfAbsent(key, leader) != null) {
+          continue;
+        }
+        executed.increment();
+        leader.start(key, call);
+        return leader.future.copy();
+      }
+      if (current.waiters.getAndIncrement() < properties.getMaxWaiters()) {
+        log.debug("Coalescing request - {}", key);
+        coalesced.increment();
+        return current.future.copy();
+      }
+      // 한 요청에 너무 많이 몰리면 따로 보낸다
+      current.waiters.decrementAndGet();
+      executed.increment();
+      overflowed.increment();
+      return call.get();
+    }
+  }
+
+  private String requestKey(RequestContext<?> context) {
+    StringBuilder key = new StringBuilder()
+      .append(context.getHttpMethod().name()).append(' ')
+      .append(urlTemplateBuilder.buildUri(context))
+      .append(' ').append(context.getResponseType().getName());
+    HttpHeaders headers = context.getHttpHeaders();
+    for (String name : properties.getKeyHeaders()) {
+      appendHeader(key, headers, name);
+    }
+    // 조건부 재검증 요청은 일반 요청과 응답(304)이 다르므로 따로 합친다
+    for (String name : CONDITIONAL_HEADERS) {
+      appendHeader(key, headers, name);
+    }
+    return key.toString();
+  }
+
+  private static void appendHeader(StringBuilder key, HttpHeaders headers, String name) {
+    List<String> values = headers != null ? headers.get(name) : null;
+    key.append('\n').append(name.toLowerCase()).append('=').append(values != null ? values : "");
+  }
+
+  public Map<String, Object> stats() {
+    long executedCount = executed.sum();
+    long coalescedCount = coalesced.sum();
+    long total = executedCount + coalescedCount;
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("executed", executedCount);
+    stats.put("coalesced", coalescedCount);
+    stats.put("overflowed", overflowed.sum());
+    stats.put("inFlight", inFlight.size());
+    // 전체 요청 중 합쳐진 요청 비율
+    stats.put("coalescingRatio", total == 0 ? 0.0 : (double) coalescedCount / total);
+    return stats;
+  }
+
+  public long getExecuted() {
+    return executed.sum();
+  }
+
+  public long getCoalesced() {
+    return coalesced.sum();
+  }
+
+  public long getOverflowed() {
+    return overflowed.sum();
+  }
+
+  /**
+   * 진행 중인 공유 요청
+   */
+  private final class InFlight<T> {
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    private void start(String key, Supplier<CompletableFuture<T>> call) {
+      CompletableFuture<T> response;
+      try {
+        response = call.get();
+      } catch (RuntimeException e) {
+        response = CompletableFuture.failedFuture(e);
+      }
+      response.whenComplete((value, error) -> {
+        // 완료 전에 제거해 이후 요청은 새로 보내게 한다
+        inFlight.remove(key, this);
+        if (error != null) {
+          future.completeExceptionally(error);
+        } else {
+          future.complete(value);
+        }
+      });
+    }
+  }
+}
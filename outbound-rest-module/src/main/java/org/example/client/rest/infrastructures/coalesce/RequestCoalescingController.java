@@ -0,0 +1,28 @@
+package org.example.client.rest.infrastructures.coalesce;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 아웃바운드 요청 합치기 통계 조회 관리 엔드포인트
+ * <p>
+ * client.rest.coalescing.endpoint-enabled=true 일 때만 등록된다.
+ */
+@RestController
+@RequestMapping("/admin/outbound/coalescing")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "client.rest.coalescing", name = "endpoint-enabled", havingValue = "true")
+public class RequestCoalescingController {
+
+  private final RequestCoalescer requestCoalescer;
+
+  @GetMapping
+  public Map<String, Object> stats() {
+    return requestCoalescer.stats();
+  }
+}
@@ -0,0 +1,267 @@
+package org.example.client.rest.infrastructures.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아웃바운드 JSON 본문 직렬화 (client.rest.codec)
+ * <p>
+ * 메시지 컨버터를 순서대로 찾지 않고 응답 타입/요청 본문 클래스별로 캐시한 ObjectReader/ObjectWriter 로 바로 읽고 쓴다.
+ * 요청 본문은 연결 스트림(리액티브 모드는 풀에서 꺼낸 DataBuffer)에 바로 쓰고, 응답 본문은 스트림에서 바로 읽는다.
+ * String, byte[] 타입은 기존 컨버터처럼 JSON 으로 해석하지 않고 그대로 주고받는다.
+ * {@link #smile()}은 같은 방식으로 Smile 본문을 주고받는 코덱을 만든다.
+ */
+@Slf4j
+@Component
+public class JsonCodec {
+
+  // String, byte[] 응답은 형식과 관계없이 본문을 그대로 받는다
+  public static final List<MediaType> TEXT_ACCEPT = List.of(MediaType.TEXT_PLAIN, MediaType.APPLICATION_JSON, MediaType.ALL);
+  public static final List<MediaType> JSON_ACCEPT = List.of(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+  private static final String[] ACCELERATED_MODULES = {
+    "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+    "com.fasterxml.jackson.module.afterburner.AfterburnerModule"
+  };
+
+  private final boolean enabled;
+  private final int maxInMemorySize;
+  private final ObjectMapper objectMapper;
+  private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+  private final String acceleratedModule;
+  // Smile 코덱이 Smile 이 아닌 응답(Smile 컨버터가 없는 서버의 JSON)을 읽을 때 쓰는 JSON 코덱
+  private final JsonCodec fallback;
+
+  @Autowired
+  public JsonCodec(ObjectMapper objectMapper, RestClientProperties restClientProperties) {
+    RestClientProperties.Codec codec = restClientProperties.getCodec();
+    this.enabled = codec.isEnabled();
+    this.maxInMemorySize = (int) restClientProperties.getReactive().getMaxInMemorySize().toBytes();
+    // 애플리케이션 ObjectMapper 설정은 그대로 두고, 버퍼 풀을 쓰는 사본을 만든다
+    this.objectMapper = objectMapper.copyWith(new PooledJsonFactory(objectMapper.getFactory(), codec.getBufferPoolSize()));
+    this.acceleratedModule = codec.isAccelerated() ? registerAcceleratedModule(this.objectMapper) : null;
+    this.fallback = null;
+    if (enabled) {
+      log.info("JSON codec enabled - {}, accelerated module: {}", codec, acceleratedModule);
+    }
+  }
+
+  private JsonCodec(JsonCodec source, ObjectMapper objectMapper) {
+    this.enabled = source.enabled;
+    this.maxInMemorySize = source.maxInMemorySize;
+    this.objectMapper = objectMapper;
+    this.acceleratedModule = source.acceleratedModule;
+    this.fallback = source;
+  }
+
+  /**
+   * 같은 설정과 모듈로 Smile 본문을 쓰고 읽는 코덱 (공유 버퍼 풀은 JSON 파서/생성기에만 쓴다)
+   */
+  public JsonCodec smile() {
+    return new JsonCodec(this, SmileFormat.mapper(objectMapper));
+  }
+
+  /**
+   * 응답 타입에 맞는 Accept: String, byte[] 은 {@link #TEXT_ACCEPT}, 그 외는 본문 형식의 Accept
+   */
+  public static List<MediaType> accept(Class<?> responseType, List<MediaType> bodyAccept) {
+    return responseType == String.class || responseType == byte[].class ? TEXT_ACCEPT : bodyAccept;
+  }
+
+  /**
+   * 요청 본문에 맞는 Content-Type: String, byte[] 은 변환 없이 그대로 보내므로 JSON, 그 외는 본문 형식
+   */
+  public static MediaType contentType(Object body, MediaType bodyType) {
+    return body instanceof String || body instanceof byte[] ? MediaType.APPLICATION_JSON : bodyType;
+  }
+
+  private static String registerAcceleratedModule(ObjectMapper objectMapper) {
+    ClassLoader classLoader = JsonCodec.class.getClassLoader();
+    for (String className : ACCELERATED_MODULES) {
+      if (ClassUtils.isPresent(className, classLoader)) {
+        Class<?> moduleClass = ClassUtils.resolveClassName(className, classLoader);
+        objectMapper.registerModule((Module) BeanUtils.instantiateClass(moduleClass));
+        return moduleClass.getSimpleName();
+      }
+    }
+    log.warn("client.rest.codec.accelerated is set but neither Blackbird nor Afterburner is on the classpath");
+    return null;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 본문을 스트림에 쓴다. 스트림은 닫지 않는다.
+   */
+  public void write(Object body, OutputStream out) throws IOException {
+    if (body instanceof byte[] bytes) {
+      out.write(bytes);
+    } else if (body instanceof String text) {
+      out.write(text.getBytes(StandardCharsets.UTF_8));
+    } else {
+      writers.computeIfAbsent(body.getClass(), type -> objectMapper.writerFor(type)
+          .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET))
+        .writeValue(out, body);
+    }
+  }
+
+  /**
+   * 스트림에서 응답 타입으로 읽는다.
+   *
+   * @param contentType 응답 Content-Type, String 타입의 문자셋을 정한다 (없으면 UTF-8)
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R read(Class<R> type, InputStream in, MediaType contentType) throws IOException {
+    if (fallback != null && contentType != null && !SmileFormat.MEDIA_TYPE.isCompatibleWith(contentType)) {
+      return fallback.read(type, in, contentType);
+    }
+    if (type == byte[].class) {
+      return (R) in.readAllBytes();
+    }
+    if (type == String.class) {
+      Charset charset = Optional.ofNullable(contentType)
+        .map(MediaType::getCharset)
+        .orElse(StandardCharsets.UTF_8);
+      return (R) StreamUtils.copyToString(in, charset);
+    }
+    return readers.computeIfAbsent(type, objectMapper::readerFor).readValue(in);
+  }
+
+  /**
+   * RestTemplate 요청 콜백: 헤더를 채우고 본문이 있으면 연결 스트림에 바로 쓴다
+   * <p>
+   * RestTemplate 에 인터셉터가 있으면 인터셉터에 넘길 본문을 버퍼링하므로 요청 스트림에 쓴다.
+   */
+  public RequestCallback requestCallback(HttpHeaders headers, Object body, Class<?> responseType) {
+    return request -> {
+      request.getHeaders().addAll(headers);
+      if (request.getHeaders().getAccept().isEmpty()) {
+        request.getHeaders().setAccept(accept(responseType, JSON_ACCEPT));
+      }
+      if (body == null) {
+        return;
+      }
+      if (request instanceof StreamingHttpOutputMessage streaming) {
+        streaming.setBody(out -> write(body, out));
+      } else {
+        write(body, request.getBody());
+      }
+    };
+  }
+
+  /**
+   * RestTemplate 응답 추출기: 상태 코드, 헤더와 응답 타입으로 읽은 본문 (본문이 없으면 null)
+   */
+  public <R> ResponseExtractor<ResponseEntity<R>> responseExtractor(Class<R> responseType) {
+    return response -> ResponseEntity.status(response.getStatusCode())
+      .headers(response.getHeaders())
+      .body(readBody(response, responseType));
+  }
+
+  private <R> R readBody(ClientHttpResponse response, Class<R> responseType) throws IOException {
+    HttpStatusCode status = response.getStatusCode();
+    if (responseType == Void.class || status.is1xxInformational() || status.value() == HttpStatus.NO_CONTENT.value()
+      || status.value() == HttpStatus.NOT_MODIFIED.value() || response.getHeaders().getContentLength() == 0) {
+      return null;
+    }
+    PushbackInputStream body = new PushbackInputStream(response.getBody());
+    int first = body.read();
+    if (first == -1) {
+      return null;
+    }
+    body.unread(first);
+    return read(responseType, body, response.getHeaders().getContentType());
+  }
+
+  /**
+   * WebClient 요청 본문: 풀에서 꺼낸 DataBuffer 에 바로 직렬화한다
+   */
+  public BodyInserter<Object, ReactiveHttpOutputMessage> bodyInserter(Object body) {
+    return (message, context) -> Mono.defer(() -> {
+      DataBuffer buffer = message.bufferFactory().allocateBuffer(256);
+      try (OutputStream out = buffer.asOutputStream()) {
+        write(body, out);
+      } catch (IOException | RuntimeException e) {
+        DataBufferUtils.release(buffer);
+        return Mono.error(e);
+      }
+      message.getHeaders().setContentLength(buffer.readableByteCount());
+      return message.writeWith(Mono.just(buffer));
+    });
+  }
+
+  /**
+   * WebClient 응답을 응답 타입으로 읽는다. 오류 응답은 retrieve() 와 같이 WebClientResponseException 으로 끝난다.
+   * 본문은 client.rest.reactive.max-in-memory-size 까지만 모으고, 넘으면 DataBufferLimitException 으로 끝난다.
+   */
+  public <R> Mono<ResponseEntity<R>> toEntity(ClientResponse response, Class<R> responseType) {
+    if (response.statusCode().isError()) {
+      return response.createError();
+    }
+    HttpHeaders headers = response.headers().asHttpHeaders();
+    Mono<R> body = responseType == Void.class
+      ? response.releaseBody().then(Mono.empty())
+      : DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()), maxInMemorySize)
+        .map(buffer -> {
+          try (InputStream in = buffer.asInputStream(true)) {
+            return read(responseType, in, headers.getContentType());
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+    return body
+      .map(value -> ResponseEntity.status(response.statusCode()).headers(headers).body(value))
+      .defaultIfEmpty(ResponseEntity.status(response.statusCode()).headers(headers).<R>build());
+  }
+
+  public Map<String, Object> stats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", enabled);
+    stats.put("readers", readers.size());
+    stats.put("writers", writers.size());
+    stats.put("bufferPoolSize", objectMapper.getFactory() instanceof PooledJsonFactory pooled ? pooled.getPoolSize() : 0);
+    stats.put("acceleratedModule", acceleratedModule);
+    return stats;
+  }
+}
@@ -0,0 +1,54 @@
+package org.example.client.rest.infrastructures.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+import java.io.Serial;
+
+/**
+ * 파서/생성기 버퍼를 공유 풀에서 꺼내 쓰는 JsonFactory
+ * <p>
+ * 기본 JsonFactory 는 BufferRecycler 를 ThreadLocal 에 두므로, 요청마다 새로 생기는 가상 스레드에서는 매번 버퍼를 새로 만든다.
+ * BufferRecycler 는 버퍼를 원자적으로 꺼내고 돌려놓으므로 여러 스레드가 함께 써도 안전하다.
+ * 같은 묶음을 동시에 쓰는 스레드는 버퍼를 새로 만들 뿐이다.
+ */
+class PooledJsonFactory extends JsonFactory {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final transient BufferRecycler[] recyclers;
+
+  PooledJsonFactory(JsonFactory source, int poolSize) {
+    this(source, null, createRecyclers(poolSize));
+  }
+
+  private PooledJsonFactory(JsonFactory source, ObjectCodec codec, BufferRecycler[] recyclers) {
+    super(source, codec);
+    this.recyclers = recyclers;
+  }
+
+  private static BufferRecycler[] createRecyclers(int poolSize) {
+    BufferRecycler[] recyclers = new BufferRecycler[poolSize];
+    for (int i = 0; i < poolSize; i++) {
+      recyclers[i] = new BufferRecycler();
+    }
+    return recyclers;
+  }
+
+  @Override
+  public BufferRecycler _getBufferRecycler() {
+    // 가상 스레드 ID 는 계속 증가하므로 동시에 실행 중인 스레드가 묶음에 고르게 나뉜다
+    return recyclers[(int) Math.floorMod(Thread.currentThread().threadId(), (long) recyclers.length)];
+  }
+
+  @Override
+  public JsonFactory copy() {
+    return new PooledJsonFactory(this, null, recyclers);
+  }
+
+  int getPoolSize() {
+    return recyclers.length;
+  }
+}
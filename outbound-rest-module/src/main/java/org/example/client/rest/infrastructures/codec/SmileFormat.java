@@ -0,0 +1,31 @@
+package org.example.client.rest.infrastructures.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홉 간 바이너리 JSON(Smile) 형식
+ * <p>
+ * JSON 과 같은 데이터 모델을 바이너리로 인코딩한다. 반복되는 필드 이름은 앞선 위치를 참조하고 숫자는 가변 길이로 쓰므로
+ * 본문이 작아지고 파싱할 때 텍스트 토큰화가 없다. 외부 요청은 Accept 협상으로 그대로 JSON 을 받는다.
+ */
+public final class SmileFormat {
+
+  public static final MediaType MEDIA_TYPE = new MediaType("application", "x-jackson-smile");
+  // Smile 을 우선 요청하고, Smile 컨버터가 없는 서버의 JSON 응답도 받는다
+  public static final List<MediaType> ACCEPT = List.of(MEDIA_TYPE, new MediaType(MediaType.APPLICATION_JSON, Map.of("q", "0.9")));
+
+  private SmileFormat() {
+  }
+
+  /**
+   * 애플리케이션 ObjectMapper 의 모듈, 직렬화 설정을 그대로 쓰는 Smile ObjectMapper
+   */
+  public static ObjectMapper mapper(ObjectMapper objectMapper) {
+    return objectMapper.copyWith(new SmileFactory());
+  }
+}
@@ -0,0 +1,108 @@
+package org.example.client.rest.infrastructures.compression;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Inflater;
+
+/**
+ * 압축된 응답 본문 해제와 Inflater 풀 (client.rest.compression)
+ * <p>
+ * Inflater 는 네이티브(zlib) 메모리를 잡고 end() 또는 GC 정리 때 해제되므로, 응답마다 만들면 네이티브 메모리 사용량이 출렁인다.
+ * 다 쓴 Inflater 는 reset() 해서 pool-size 개까지 보관하고, 넘치는 것은 바로 end() 한다.
+ * 해제한 응답 수, 전송된 바이트, 해제된 바이트, 해제에 쓴 시간을 기록한다.
+ */
+@Slf4j
+@Component
+public class CompressionDecoder {
+
+  // 요청에 보내는 Accept-Encoding
+  public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+  private final boolean enabled;
+  private final BlockingQueue<Inflater> idle;
+
+  private final LongAdder responses = new LongAdder();
+  private final LongAdder compressedBytes = new LongAdder();
+  private final LongAdder decodedBytes = new LongAdder();
+  private final LongAdder inflateNanos = new LongAdder();
+  private final LongAdder created = new LongAdder();
+
+  public CompressionDecoder(RestClientProperties restClientProperties) {
+    RestClientProperties.Compression compression = restClientProperties.getCompression();
+    this.enabled = compression.isEnabled();
+    this.idle = new ArrayBlockingQueue<>(compression.getPoolSize());
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Content-Encoding 에 맞는 해제 스트림, 지원하지 않는 인코딩(identity 포함)이면 null
+   */
+  public InputStream decode(String contentEncoding, InputStream body) {
+    InflatingInputStream.Format format = formatOf(contentEncoding);
+    return format != null ? new InflatingInputStream(body, format, this) : null;
+  }
+
+  public boolean isSupported(String contentEncoding) {
+    return formatOf(contentEncoding) != null;
+  }
+
+  private static InflatingInputStream.Format formatOf(String contentEncoding) {
+    if (contentEncoding == null) {
+      return null;
+    }
+    return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+      case "gzip", "x-gzip" -> InflatingInputStream.Format.GZIP;
+      case "deflate" -> InflatingInputStream.Format.DEFLATE;
+      default -> null;
+    };
+  }
+
+  Inflater acquire() {
+    Inflater inflater = idle.poll();
+    if (inflater == null) {
+      created.increment();
+      inflater = new Inflater(true);
+    }
+    return inflater;
+  }
+
+  void release(Inflater inflater, long compressed, long decoded, long nanos) {
+    responses.increment();
+    compressedBytes.add(compressed);
+    decodedBytes.add(decoded);
+    inflateNanos.add(nanos);
+    inflater.reset();
+    if (!idle.offer(inflater)) {
+      inflater.end();
+    }
+  }
+
+  public Map<String, Object> stats() {
+    long compressed = compressedBytes.sum();
+    long decoded = decodedBytes.sum();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", enabled);
+    stats.put("responses", responses.sum());
+    stats.put("compressedBytes", compressed);
+    stats.put("decodedBytes", decoded);
+    stats.put("bytesSaved", decoded - compressed);
+    stats.put("ratio", decoded == 0 ? 0.0 : (double) compressed / decoded);
+    stats.put("inflateMillis", TimeUnit.NANOSECONDS.toMillis(inflateNanos.sum()));
+    stats.put("inflatersCreated", created.sum());
+    stats.put("inflatersIdle", idle.size());
+    return stats;
+  }
+}
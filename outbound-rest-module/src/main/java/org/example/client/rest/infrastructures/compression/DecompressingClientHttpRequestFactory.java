@@ -0,0 +1,144 @@
+package org.example.client.rest.infrastructures.compression;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+
+/**
+ * 압축 응답을 협상하고 투명하게 푸는 요청 팩토리
+ * <p>
+ * 요청에 Accept-Encoding 을 추가하고, gzip/deflate 응답은 본문을 읽으면서 풀어 Content-Encoding/Content-Length 없이 돌려준다.
+ * 호출 측이 Accept-Encoding 을 지정한 요청은 그대로 보내고 응답도 풀지 않는다. 본문은 버퍼링하지 않으며 요청 본문 스트리밍도 그대로 전달한다.
+ */
+public class DecompressingClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+  private final ClientHttpRequestFactory delegate;
+  private final CompressionDecoder decoder;
+
+  public DecompressingClientHttpRequestFactory(ClientHttpRequestFactory delegate, CompressionDecoder decoder) {
+    this.delegate = delegate;
+    this.decoder = decoder;
+  }
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+    return new DecompressingRequest(delegate.createRequest(uri, httpMethod), decoder);
+  }
+
+  private record DecompressingRequest(ClientHttpRequest request, CompressionDecoder decoder)
+    implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+      if (request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+        return request.execute();
+      }
+      request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, CompressionDecoder.ACCEPT_ENCODING);
+      ClientHttpResponse response = request.execute();
+      String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+      return decoder.isSupported(contentEncoding) ? new DecompressingResponse(response, contentEncoding, decoder) : response;
+    }
+
+    @Override
+    public void setBody(Body body) {
+      if (request instanceof StreamingHttpOutputMessage streaming) {
+        streaming.setBody(body);
+        return;
+      }
+      try {
+        body.writeTo(request.getBody());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public OutputStream getBody() throws IOException {
+      return request.getBody();
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+      return request.getMethod();
+    }
+
+    @Override
+    public URI getURI() {
+      return request.getURI();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return request.getHeaders();
+    }
+  }
+
+  private static final class DecompressingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse response;
+    private final String contentEncoding;
+    private final CompressionDecoder decoder;
+    private HttpHeaders headers;
+    private InputStream body;
+
+    private DecompressingResponse(ClientHttpResponse response, String contentEncoding, CompressionDecoder decoder) {
+      this.response = response;
+      this.contentEncoding = contentEncoding;
+      this.decoder = decoder;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return response.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return response.getStatusText();
+    }
+
+    // 푼 본문의 헤더: 인코딩과 압축된 길이는 제거한다
+    @Override
+    public HttpHeaders getHeaders() {
+      if (headers == null) {
+        HttpHeaders decoded = new HttpHeaders();
+        decoded.putAll(response.getHeaders());
+        decoded.remove(HttpHeaders.CONTENT_ENCODING);
+        decoded.remove(HttpHeaders.CONTENT_LENGTH);
+        headers = HttpHeaders.readOnlyHttpHeaders(decoded);
+      }
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        body = decoder.decode(contentEncoding, response.getBody());
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      try {
+        if (body != null) {
+          body.close();
+        }
+      } catch (IOException ignored) {
+        // 연결 정리는 아래 close 가 한다
+      } finally {
+        response.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package org.example.client.rest.infrastructures.compression;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * WebClient 압축 응답 협상과 해제
+ * <p>
+ * RestTemplate 과 같은 {@link CompressionDecoder}(풀링된 Inflater, 통계)를 사용한다.
+ * 압축된 본문을 모두 받은 뒤 한 번에 풀어 하나의 버퍼로 넘긴다 (요청 전략은 응답 본문을 모아서 읽는다).
+ * 압축된 본문과 푼 본문 모두 maxInMemorySize 까지만 메모리에 두고, 넘으면 DataBufferLimitException 으로 실패한다 (압축 폭탄 방지).
+ * 호출 측이 Accept-Encoding 을 지정했거나 {@link #SKIP_ATTRIBUTE} 가 있는 요청(스트리밍 프록시)은 그대로 보낸다.
+ */
+public class DecompressingExchangeFilterFunction implements ExchangeFilterFunction {
+
+  public static final String SKIP_ATTRIBUTE = DecompressingExchangeFilterFunction.class.getName() + ".skip";
+
+  private final CompressionDecoder decoder;
+  private final int maxInMemorySize;
+
+  /**
+   * @param maxInMemorySize 압축된/푼 본문의 최대 바이트 수 (client.rest.reactive.max-in-memory-size)
+   */
+  public DecompressingExchangeFilterFunction(CompressionDecoder decoder, int maxInMemorySize) {
+    if (maxInMemorySize <= 0) {
+      throw new IllegalArgumentException("maxInMemorySize must be greater than 0");
+    }
+    this.decoder = decoder;
+    this.maxInMemorySize = maxInMemorySize;
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+    if (request.attribute(SKIP_ATTRIBUTE).isPresent() || request.headers().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+      return next.exchange(request);
+    }
+    ClientRequest negotiated = ClientRequest.from(request)
+      .header(HttpHeaders.ACCEPT_ENCODING, CompressionDecoder.ACCEPT_ENCODING)
+      .build();
+    return next.exchange(negotiated).map(this::decode);
+  }
+
+  private ClientResponse decode(ClientResponse response) {
+    String contentEncoding = response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    if (!decoder.isSupported(contentEncoding)) {
+      return response;
+    }
+    return response.mutate()
+      .headers(headers -> {
+        headers.remove(HttpHeaders.CONTENT_ENCODING);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+      })
+      .body(body -> DataBufferUtils.join(body, maxInMemorySize).map(joined -> inflate(contentEncoding, joined)).flux())
+      .build();
+  }
+
+  private DataBuffer inflate(String contentEncoding, DataBuffer compressed) {
+    // 스트림을 닫으면 압축된 버퍼도 해제된다
+    try (InputStream in = decoder.decode(contentEncoding, compressed.asInputStream(true))) {
+      byte[] decoded = in.readNBytes(maxInMemorySize);
+      if (in.read() != -1) {
+        throw new DataBufferLimitException("Decoded response body exceeds the limit of " + maxInMemorySize + " bytes");
+      }
+      return DefaultDataBufferFactory.sharedInstance.wrap(decoded);
+    } catch (IOException e) {
+      throw new DecodingException("Failed to decode " + contentEncoding + " response body", e);
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package org.example.client.rest.infrastructures.compression;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * gzip / deflate 응답 본문을 읽으면서 푸는 스트림
+ * <p>
+ * GZIPInputStream 은 Inflater 를 직접 만들고 닫을 때 해제하므로, 헤더와 트레일러를 직접 읽고 풀에서 받은 Inflater(nowrap)로 푼다.
+ * deflate 는 zlib 형식(RFC 1950)이 표준이지만 헤더 없는 raw deflate 를 보내는 서버도 있어 첫 두 바이트로 구분한다.
+ * 여러 멤버로 이어진 gzip 본문도 읽는다. 닫으면 Inflater 를 풀에 돌려주고 전송/해제 크기와 해제 시간을 기록한다.
+ */
+final class InflatingInputStream extends InputStream {
+
+  enum Format {GZIP, DEFLATE}
+
+  private static final int GZIP_MAGIC = 0x8b1f;
+  private static final int FHCRC = 2;
+  private static final int FEXTRA = 4;
+  private static final int FNAME = 8;
+  private static final int FCOMMENT = 16;
+  private static final int ZLIB_FDICT = 0x20;
+
+  private final InputStream in;
+  private final Format format;
+  private final CompressionDecoder decoder;
+  private final Inflater inflater;
+  private final byte[] buffer = new byte[8192];
+  private int position;
+  private int limit;
+
+  private Checksum checksum;
+  private long compressedBytes;
+  private long decodedBytes;
+  private long memberBytes;
+  private long inflateNanos;
+  private boolean started;
+  private boolean dummyInput;
+  private boolean eof;
+  private boolean closed;
+
+  InflatingInputStream(InputStream in, Format format, CompressionDecoder decoder) {
+    this.in = in;
+    this.format = format;
+    this.decoder = decoder;
+    this.inflater = decoder.acquire();
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] single = new byte[1];
+    return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    if (!started) {
+      started = true;
+      // 본문이 없는 응답(HEAD, 304 등)은 헤더 없이 끝난다
+      eof = !fill(1);
+      if (!eof) {
+        readHeader();
+      }
+    }
+    if (len == 0) {
+      return 0;
+    }
+    while (!eof) {
+      if (inflater.needsInput()) {
+        if (fill(1)) {
+          inflater.setInput(buffer, position, limit - position);
+          position = limit;
+        } else if (format == Format.DEFLATE && checksum == null && !dummyInput) {
+          // nowrap Inflater 는 트레일러 없는 raw deflate 의 끝을 알리려면 입력 1 바이트가 더 필요하다 (Inflater 문서)
+          dummyInput = true;
+          inflater.setInput(new byte[1]);
+        } else {
+          throw new EOFException("Unexpected end of compressed response body");
+        }
+      }
+      int inflated;
+      long start = System.nanoTime();
+      try {
+        inflated = inflater.inflate(b, off, len);
+      } catch (DataFormatException e) {
+        throw new ZipException("Invalid " + format + " response body: " + e.getMessage());
+      } finally {
+        inflateNanos += System.nanoTime() - start;
+      }
+      if (inflated > 0) {
+        if (checksum != null) {
+          checksum.update(b, off, inflated);
+        }
+        decodedBytes += inflated;
+        memberBytes += inflated;
+        return inflated;
+      }
+      if (inflater.finished()) {
+        // Inflater 가 쓰지 않은 입력은 트레일러와 다음 멤버다
+        position = limit - inflater.getRemaining();
+        readTrailer();
+        eof = !nextMember();
+      } else if (inflater.needsDictionary()) {
+        throw new ZipException("Preset dictionary is not supported");
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    decoder.release(inflater, compressedBytes, decodedBytes, inflateNanos);
+    in.close();
+  }
+
+  private void readHeader() throws IOException {
+    if (format == Format.GZIP) {
+      readGzipHeader();
+      return;
+    }
+    // zlib 헤더: CM=8(deflate) 이고 (CMF * 256 + FLG) 가 31 의 배수, 아니면 raw deflate
+    if (fill(2)) {
+      int cmf = buffer[position] & 0xff;
+      int flg = buffer[position + 1] & 0xff;
+      if ((cmf & 0x0f) == 8 && ((cmf << 8) | flg) % 31 == 0) {
+        if ((flg & ZLIB_FDICT) != 0) {
+          throw new ZipException("Preset dictionary is not supported");
+        }
+        position += 2;
+        checksum = new Adler32();
+      }
+    }
+  }
+
+  private void readGzipHeader() throws IOException {
+    if (readUnsignedShort() != GZIP_MAGIC) {
+      throw new ZipException("Not in GZIP format");
+    }
+    if (readUnsignedByte() != 8) {
+      throw new ZipException("Unsupported compression method");
+    }
+    int flags = readUnsignedByte();
+    skip(6);   // MTIME, XFL, OS
+    if ((flags & FEXTRA) != 0) {
+      skip(readUnsignedShort());
+    }
+    if ((flags & FNAME) != 0) {
+      while (readUnsignedByte() != 0) {
+        // 파일 이름은 사용하지 않는다
+      }
+    }
+    if ((flags & FCOMMENT) != 0) {
+      while (readUnsignedByte() != 0) {
+        // 주석은 사용하지 않는다
+      }
+    }
+    if ((flags & FHCRC) != 0) {
+      skip(2);
+    }
+    checksum = new CRC32();
+    memberBytes = 0;
+  }
+
+  private void readTrailer() throws IOException {
+    if (format == Format.GZIP) {
+      long crc = readUnsignedInt();
+      long size = readUnsignedInt();
+      if (crc != checksum.getValue() || size != (memberBytes & 0xffffffffL)) {
+        throw new ZipException("Corrupt GZIP trailer");
+      }
+    } else if (checksum != null) {
+      // zlib 트레일러(Adler-32)는 빅 엔디언
+      long adler = 0;
+      for (int i = 0; i < 4; i++) {
+        adler = adler << 8 | readUnsignedByte();
+      }
+      if (adler != checksum.getValue()) {
+        throw new ZipException("Corrupt ZLIB trailer");
+      }
+    }
+  }
+
+  /**
+   * gzip 은 여러 멤버를 이어 붙일 수 있다. 다음 멤버가 있으면 이어서 푼다 (멤버 뒤의 다른 바이트는 무시한다).
+   */
+  private boolean nextMember() throws IOException {
+    if (format != Format.GZIP || !fill(2)
+      || ((buffer[position] & 0xff) | (buffer[position + 1] & 0xff) << 8) != GZIP_MAGIC) {
+      return false;
+    }
+    inflater.reset();
+    readGzipHeader();
+    return true;
+  }
+
+  /**
+   * 버퍼에 최소 n 바이트를 채운다. 본문이 먼저 끝나면 false
+   */
+  private boolean fill(int n) throws IOException {
+    if (limit - position >= n) {
+      return true;
+    }
+    if (position > 0) {
+      System.arraycopy(buffer, position, buffer, 0, limit - position);
+      limit -= position;
+      position = 0;
+    }
+    while (limit < n) {
+      int read = in.read(buffer, limit, buffer.length - limit);
+      if (read == -1) {
+        return false;
+      }
+      limit += read;
+      compressedBytes += read;
+    }
+    return true;
+  }
+
+  private int readUnsignedByte() throws IOException {
+    if (!fill(1)) {
+      throw new EOFException("Unexpected end of compressed response body");
+    }
+    return buffer[position++] & 0xff;
+  }
+
+  // gzip 은 리틀 엔디언
+  private int readUnsignedShort() throws IOException {
+    return readUnsignedByte() | readUnsignedByte() << 8;
+  }
+
+  private long readUnsignedInt() throws IOException {
+    return readUnsignedShort() | (long) readUnsignedShort() << 16;
+  }
+
+  private void skip(int n) throws IOException {
+    for (int i = 0; i < n; i++) {
+      readUnsignedByte();
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.example.client.rest.infrastructures.context;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -7,6 +8,8 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 
+import java.net.URI;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -22,9 +25,16 @@ public class RequestContext<R> {
   private final Map<String, Object> pathVariables;
   private final Object requestBody;
   private final Class<R> responseType;
+  // 같은 요청을 처리할 수 있는 다른 포트 (헤징 대상)
+  private final List<Integer> alternatePorts;
+  // 경로 템플릿으로 만든 요청이면 미리 만든 URI, 아니면 null (요청 시 UrlTemplateBuilder 로 만든다)
+  private final URI uri;
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private final RouteTemplate<R> routeTemplate;
 
   @Builder
-  public RequestContext(MediaType mediaType, String domain, String path, Integer port, HttpHeaders httpHeaders, HttpMethod httpMethod, Map<String, Object> pathVariables, Object requestBody, Class<R> responseType) {
+  public RequestContext(MediaType mediaType, String domain, String path, Integer port, HttpHeaders httpHeaders, HttpMethod httpMethod, Map<String, Object> pathVariables, Object requestBody, Class<R> responseType, List<Integer> alternatePorts) {
     Optional.ofNullable(mediaType)
       .orElseThrow(() -> new IllegalArgumentException("mediaType must not be null"));
     Optional.ofNullable(domain)
@@ -44,5 +54,51 @@ public class RequestContext<R> {
     this.pathVariables = pathVariables;
     this.requestBody = requestBody;
     this.responseType = responseType;
+    this.alternatePorts = alternatePorts != null ? List.copyOf(alternatePorts) : List.of();
+    this.uri = null;
+    this.routeTemplate = null;
+  }
+
+  /**
+   * 이미 검증한 값으로 만드는 생성자 (경로 템플릿, 사본)
+   */
+  RequestContext(
+    MediaType mediaType, String domain, String path, Integer port, HttpHeaders httpHeaders, HttpMethod httpMethod,
+    Map<String, Object> pathVariables, Object requestBody, Class<R> responseType, List<Integer> alternatePorts,
+    RouteTemplate<R> routeTemplate
+  ) {
+    this.mediaType = mediaType;
+    this.domain = domain;
+    this.path = path;
+    this.port = port;
+    this.httpHeaders = httpHeaders;
+    this.httpMethod = httpMethod;
+    this.pathVariables = pathVariables;
+    this.requestBody = requestBody;
+    this.responseType = responseType;
+    this.alternatePorts = alternatePorts;
+    this.uri = routeTemplate != null ? routeTemplate.uri(port) : null;
+    this.routeTemplate = routeTemplate;
+  }
+
+  /**
+   * (도메인, 포트) 식별자 (포트별 서킷 브레이커, 동시성 제한 키)
+   */
+  public String getRoute() {
+    return port != null ? domain + ":" + port : domain;
+  }
+
+  /**
+   * 포트만 바꾼 사본 (헤지 요청용)
+   */
+  public RequestContext<R> withPort(Integer port) {
+    return new RequestContext<>(mediaType, domain, path, port, httpHeaders, httpMethod, pathVariables, requestBody, responseType, alternatePorts, routeTemplate);
+  }
+
+  /**
+   * 헤더만 바꾼 사본 (조건부 재검증 요청용)
+   */
+  public RequestContext<R> withHttpHeaders(HttpHeaders httpHeaders) {
+    return new RequestContext<>(mediaType, domain, path, port, httpHeaders, httpMethod, pathVariables, requestBody, responseType, alternatePorts, routeTemplate);
   }
 }
@@ -0,0 +1,88 @@
+package org.example.client.rest.infrastructures.context;
+
+import lombok.Getter;
+import org.example.client.rest.infrastructures.ReactiveRequestStrategy;
+import org.example.client.rest.infrastructures.RequestStrategy;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시작 시 한 번 만드는 (서비스, 경로, 미디어 타입)별 요청 템플릿
+ * <p>
+ * 요청 필드 검증, 전략 선택, 허용 포트별 URI 생성을 미리 해 두고, 요청마다 포트와 헤더만 바꿔 {@link RequestContext}를 만든다.
+ * 개별 지정한 포트의 URI 는 미리 만들고, 범위나 설정 재적용으로 추가된 포트의 URI 는 처음 쓸 때 만들어 저장한다.
+ */
+public final class RouteTemplate<R> {
+
+  // 처음 쓸 때 만들어 저장하는 URI 수 상한, 넘으면 매번 만든다
+  private static final int MAX_LAZY_URIS = 1024;
+
+  private final RequestContext<R> prototype;
+  @Getter
+  private final RequestStrategy strategy;
+  @Getter
+  private final ReactiveRequestStrategy reactiveStrategy;
+  private final UrlTemplateBuilder urlTemplateBuilder;
+  private final URI defaultUri;
+  private final Map<Integer, URI> prebuiltUris;
+  private final Map<Integer, URI> lazyUris = new ConcurrentHashMap<>();
+
+  public RouteTemplate(
+    RequestContext<R> prototype, RequestStrategy strategy, ReactiveRequestStrategy reactiveStrategy,
+    UrlTemplateBuilder urlTemplateBuilder, Collection<Integer> ports
+  ) {
+    this.prototype = prototype;
+    this.strategy = strategy;
+    this.reactiveStrategy = reactiveStrategy;
+    this.urlTemplateBuilder = urlTemplateBuilder;
+    this.defaultUri = buildUri(null);
+    Map<Integer, URI> uris = new HashMap<>();
+    if (ports != null) {
+      ports.forEach(port -> uris.put(port, buildUri(port)));
+    }
+    this.prebuiltUris = Map.copyOf(uris);
+  }
+
+  /**
+   * @param port           포워딩 포트, 없으면 null
+   * @param alternatePorts 같은 요청을 처리할 수 있는 다른 포트 (변경하지 않는 목록)
+   * @param httpHeaders    요청마다 달라지는 헤더
+   */
+  public RequestContext<R> request(Integer port, List<Integer> alternatePorts, HttpHeaders httpHeaders) {
+    return new RequestContext<>(
+      prototype.getMediaType(), prototype.getDomain(), prototype.getPath(), port, httpHeaders, prototype.getHttpMethod(),
+      prototype.getPathVariables(), prototype.getRequestBody(), prototype.getResponseType(),
+      alternatePorts != null ? alternatePorts : List.of(), this);
+  }
+
+  URI uri(Integer port) {
+    if (port == null) {
+      return defaultUri;
+    }
+    URI uri = prebuiltUris.get(port);
+    if (uri != null) {
+      return uri;
+    }
+    uri = lazyUris.get(port);
+    if (uri != null) {
+      return uri;
+    }
+    uri = buildUri(port);
+    if (lazyUris.size() < MAX_LAZY_URIS) {
+      lazyUris.putIfAbsent(port, uri);
+    }
+    return uri;
+  }
+
+  private URI buildUri(Integer port) {
+    return urlTemplateBuilder.buildUriComponents(
+      prototype.getDomain(), prototype.getPath(), port, prototype.getPathVariables()).toUri();
+  }
+}
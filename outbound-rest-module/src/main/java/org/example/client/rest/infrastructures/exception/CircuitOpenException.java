@@ -0,0 +1,34 @@
+package org.example.client.rest.infrastructures.exception;
+
+import lombok.Getter;
+
+/**
+ * 대상 (도메인, 포트)의 회로가 열려 요청을 보내지 않았다
+ * <p>
+ * 호출하는 쪽은 이 예외로 즉시 대체 처리(fallback)할 수 있고, 처리하지 않으면 503 Service Unavailable 로 응답한다.
+ */
+@Getter
+public class CircuitOpenException extends RuntimeException {
+
+  private final String route;
+
+  public CircuitOpenException(String route) {
+    super("Circuit open: " + route, null, false, false);
+    this.route = route;
+  }
+
+  /**
+   * 원인 체인(CompletionException 등으로 감싼 경우 포함)에 CircuitOpenException 이 있는지 확인한다.
+   */
+  public static boolean isCircuitOpen(Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof CircuitOpenException) {
+        return true;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+}
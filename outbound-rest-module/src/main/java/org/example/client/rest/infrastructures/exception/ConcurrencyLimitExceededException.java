@@ -0,0 +1,21 @@
+package org.example.client.rest.infrastructures.exception;
+
+import lombok.Getter;
+
+/**
+ * 대상 (도메인, 포트)의 동시 요청 수가 적응형 제한에 도달해 요청을 보내지 않았다
+ * <p>
+ * 처리하지 않으면 503 Service Unavailable 로 응답한다.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+  private final String route;
+  private final int limit;
+
+  public ConcurrencyLimitExceededException(String route, int limit) {
+    super("Concurrency limit exceeded: " + route + " (limit " + limit + ")", null, false, false);
+    this.route = route;
+    this.limit = limit;
+  }
+}
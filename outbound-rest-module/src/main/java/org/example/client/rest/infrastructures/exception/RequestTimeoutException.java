@@ -0,0 +1,37 @@
+package org.example.client.rest.infrastructures.exception;
+
+import java.io.InterruptedIOException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 하위 서버 연결/응답 대기 시간 초과
+ * <p>
+ * 다른 요청 실패와 구분해 504 Gateway Timeout 으로 응답한다.
+ */
+public class RequestTimeoutException extends RuntimeException {
+
+  public RequestTimeoutException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  /**
+   * 원인 체인에 전송 구현별 타임아웃 예외가 있는지 확인한다.
+   * (HttpURLConnection/Apache HttpClient: InterruptedIOException, JDK HttpClient: HttpTimeoutException, Reactor Netty: Netty TimeoutException)
+   */
+  public static boolean isTimeout(Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof InterruptedIOException
+        || cause instanceof HttpTimeoutException
+        || cause instanceof TimeoutException
+        || cause instanceof io.netty.handler.timeout.TimeoutException
+        || cause instanceof io.netty.channel.ConnectTimeoutException) {
+        return true;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+}
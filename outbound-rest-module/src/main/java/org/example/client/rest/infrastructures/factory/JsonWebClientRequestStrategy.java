@@ -0,0 +1,82 @@
+package org.example.client.rest.infrastructures.factory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.AbstractReactiveRequestStrategy;
+import org.example.client.rest.infrastructures.RequestPipeline;
+import org.example.client.rest.infrastructures.codec.JsonCodec;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.exception.RequestTimeoutException;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * {@link JsonRequestStrategy}의 WebClient 버전
+ */
+@Slf4j
+@Component
+public class JsonWebClientRequestStrategy extends AbstractReactiveRequestStrategy {
+
+  private static final MediaType MEDIA_TYPE = MediaType.APPLICATION_JSON;
+
+  private final JsonCodec jsonCodec;
+
+  public JsonWebClientRequestStrategy(
+    WebClient webClient, UrlTemplateBuilder urlTemplateBuilder, RequestPipeline requestPipeline, JsonCodec jsonCodec
+  ) {
+    super(webClient, urlTemplateBuilder, requestPipeline);
+    this.jsonCodec = jsonCodec;
+  }
+
+  @Override
+  protected <R> Mono<ResponseEntity<R>> doExchange(RequestContext<R> context) {
+    log.info("Executing request: {} {}", context.getDomain(), context.getPath());
+    HttpHeaders headers = new HttpHeaders();
+    if (context.getHttpHeaders() != null) {
+      headers.addAll(context.getHttpHeaders());
+    }
+    headers.setContentType(MEDIA_TYPE);
+
+    URI uri = urlTemplateBuilder.buildUri(context);
+
+    log.info("[Request] URI: {}, Method: {}, Headers: {}, Body: {}", uri, context.getHttpMethod(), headers, context.getRequestBody());
+    WebClient.RequestBodySpec spec = webClient.method(context.getHttpMethod())
+      .uri(uri)
+      .headers(target -> target.addAll(headers));
+    WebClient.RequestHeadersSpec<?> request = context.getRequestBody() == null
+      ? spec
+      : jsonCodec.isEnabled()
+        ? spec.body(jsonCodec.bodyInserter(context.getRequestBody()))
+        : spec.bodyValue(context.getRequestBody());
+
+    Mono<ResponseEntity<R>> response = jsonCodec.isEnabled()
+      ? request.exchangeToMono(clientResponse -> jsonCodec.toEntity(clientResponse, context.getResponseType()))
+      : request.retrieve().toEntity(context.getResponseType());
+    return response
+      .doOnNext(responseEntity -> log.info("[Response] Status: {}", responseEntity.getStatusCode()))
+      .onErrorMap(WebClientResponseException.class, e -> {
+        log.error("[Request] URI: {}, Method: {}, Headers: {}, Body: {}, Response: {}", uri, context.getHttpMethod(), headers, context.getRequestBody(), e.getResponseBodyAsString());
+        return new RuntimeException("Failed to request", e);
+      })
+      .onErrorMap(WebClientRequestException.class, e -> {
+        log.error("[Request] URI: {}, Method: {}, Headers: {}, Body: {}, Response: {}", uri, context.getHttpMethod(), headers, context.getRequestBody(), e.getMessage());
+        return RequestTimeoutException.isTimeout(e)
+          ? new RequestTimeoutException("Request timed out", e)
+          : new RuntimeException("Failed to request", e);
+      });
+  }
+
+  @Override
+  protected List<MediaType> getSupportedMediaTypes() {
+    return List.of(MEDIA_TYPE);
+  }
+}
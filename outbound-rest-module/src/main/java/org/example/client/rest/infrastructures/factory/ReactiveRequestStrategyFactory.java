@@ -0,0 +1,28 @@
+package org.example.client.rest.infrastructures.factory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.ReactiveRequestStrategy;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveRequestStrategyFactory {
+
+  private final List<ReactiveRequestStrategy> requestStrategies;
+
+  public <R> ReactiveRequestStrategy findStrategy(RequestContext<R> context) {
+    for (ReactiveRequestStrategy requestStrategy : requestStrategies) {
+      if (requestStrategy.supports(context)) {
+        log.info("[Strategy] [{}]", requestStrategy.getClass().getSimpleName());
+        return requestStrategy;
+      }
+    }
+
+    throw new IllegalArgumentException("Unsupported request strategy");
+  }
+}
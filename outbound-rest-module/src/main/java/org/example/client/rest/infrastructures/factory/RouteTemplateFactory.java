@@ -0,0 +1,41 @@
+package org.example.client.rest.infrastructures.factory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.context.RouteTemplate;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 시작 시 요청 템플릿을 만든다
+ * <p>
+ * 원형 요청은 빌더로 한 번 검증하고, 전략 선택과 허용 포트별 URI 생성도 이때 끝낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteTemplateFactory {
+
+  private final RequestStrategyFactory requestStrategyFactory;
+  private final ReactiveRequestStrategyFactory reactiveRequestStrategyFactory;
+  private final UrlTemplateBuilder urlTemplateBuilder;
+
+  /**
+   * @param prototype 포트와 헤더를 제외한 요청 (port, httpHeaders, alternatePorts 는 무시된다)
+   * @param ports     URI 를 미리 만들 허용 포트
+   */
+  public <R> RouteTemplate<R> compile(RequestContext<R> prototype, Collection<Integer> ports) {
+    RouteTemplate<R> routeTemplate = new RouteTemplate<>(
+      prototype,
+      requestStrategyFactory.findStrategy(prototype),
+      reactiveRequestStrategyFactory.findStrategy(prototype),
+      urlTemplateBuilder,
+      ports
+    );
+    log.info("[Route] {} {}{} ports: {}", prototype.getHttpMethod(), prototype.getDomain(), prototype.getPath(), ports);
+    return routeTemplate;
+  }
+}
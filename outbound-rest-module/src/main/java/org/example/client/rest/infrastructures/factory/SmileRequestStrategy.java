@@ -0,0 +1,24 @@
+package org.example.client.rest.infrastructures.factory;
+
+import org.example.client.rest.infrastructures.AbstractMediaTypeRequestStrategy;
+import org.example.client.rest.infrastructures.RequestPipeline;
+import org.example.client.rest.infrastructures.codec.JsonCodec;
+import org.example.client.rest.infrastructures.codec.SmileFormat;
+import org.example.client.rest.infrastructures.support.UrlTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Smile(바이너리 JSON) 요청 전략
+ * <p>
+ * 요청 본문을 Smile 로 보내고 Accept 로 Smile 응답을 요청한다. 문자열 본문은 변환 없이 JSON Content-Type 으로 전달된다.
+ */
+@Component
+public class SmileRequestStrategy extends AbstractMediaTypeRequestStrategy {
+
+  public SmileRequestStrategy(
+    RestTemplate restTemplate, UrlTemplateBuilder urlTemplateBuilder, RequestPipeline requestPipeline, JsonCodec jsonCodec
+  ) {
+    super(restTemplate, urlTemplateBuilder, requestPipeline, SmileFormat.MEDIA_TYPE, SmileFormat.ACCEPT, jsonCodec.smile());
+  }
+}
@@ -0,0 +1,146 @@
+package org.example.client.rest.infrastructures.hedge;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.support.RouteSlots;
+import org.example.client.rest.infrastructures.support.TokenBudget;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 같은 요청을 처리할 수 있는 다른 포트로 헤지 요청을 보내는 정책 (client.rest.hedge)
+ * <p>
+ * 멱등한 GET 요청만 대상으로 한다. 첫 요청이 경로(도메인:포트)별 지연 백분위 안에 응답하지 않으면
+ * {@link RequestContext#getAlternatePorts()} 중 하나로 한 번 더 요청하고, 먼저 성공한 응답을 사용하며 나머지는 취소한다.
+ * 둘 다 실패해야 실패로 완료된다. 헤지 요청 수는 {@link TokenBudget}으로 제한된다.
+ */
+@Slf4j
+@Component
+public class HedgingPolicy {
+
+  private final RestClientProperties.Hedge properties;
+  private final long initialDelayNanos;
+  private final long minDelayNanos;
+  private final TokenBudget budget;
+  // 상한을 넘는 경로는 initial-delay 를 사용한다
+  private final RouteSlots<LatencyWindow> latencies;
+  private final LongAdder hedgedRequests = new LongAdder();
+  private final LongAdder hedgeWins = new LongAdder();
+
+  public HedgingPolicy(RestClientProperties restClientProperties) {
+    this.properties = restClientProperties.getHedge();
+    this.initialDelayNanos = properties.getInitialDelay().toNanos();
+    this.minDelayNanos = properties.getMinDelay().toNanos();
+    // 헤지 요청은 요청이 쌓여 적립된 만큼만 보낸다
+    this.budget = new TokenBudget(properties.getBudgetRatio(), 0);
+    this.latencies = new RouteSlots<>(route -> new LatencyWindow(properties.getPercentile()));
+  }
+
+  public boolean isHedgeable(RequestContext<?> context) {
+    return properties.isEnabled()
+      && context.getHttpMethod() == HttpMethod.GET
+      && context.getPort() != null
+      && !context.getAlternatePorts().isEmpty();
+  }
+
+  /**
+   * 헤지 대상이 아니면 요청을 그대로 실행한다.
+   *
+   * @param call 포트가 지정된 요청을 실행하는 함수, 반환한 future 를 취소하면 요청도 취소되어야 한다
+   */
+  public <R, T> CompletableFuture<T> execute(RequestContext<R> context, Function<RequestContext<R>, CompletableFuture<T>> call) {
+    if (!isHedgeable(context)) {
+      return call.apply(context);
+    }
+
+    budget.deposit();
+    CompletableFuture<T> result = new CompletableFuture<>();
+    // 진행 중인 요청 수, 0이 되면 모두 실패한 것이다
+    AtomicInteger outstanding = new AtomicInteger(1);
+    CompletableFuture<T> primary = attempt(context, call, result, outstanding, false);
+    result.whenComplete((value, error) -> primary.cancel(false));
+
+    CompletableFuture.delayedExecutor(hedgeDelayNanos(context), TimeUnit.NANOSECONDS)
+      .execute(() -> hedge(context, call, result, outstanding));
+    return result;
+  }
+
+  private <R, T> void hedge(
+    RequestContext<R> context, Function<RequestContext<R>, CompletableFuture<T>> call,
+    CompletableFuture<T> result, AtomicInteger outstanding
+  ) {
+    if (result.isDone()) {
+      return;
+    }
+    if (!budget.tryAcquire()) {
+      log.debug("Hedge budget exhausted - {}:{}", context.getDomain(), context.getPort());
+      return;
+    }
+    // 첫 요청이 이미 실패로 끝났으면 보내지 않는다
+    if (outstanding.getAndUpdate(n -> n == 0 ? 0 : n + 1) == 0) {
+      return;
+    }
+
+    RequestContext<R> hedgeContext = context.withPort(pickAlternatePort(context));
+    log.info("Hedging request - {}:{} -> {}", context.getDomain(), context.getPort(), hedgeContext.getPort());
+    hedgedRequests.increment();
+    CompletableFuture<T> hedge = attempt(hedgeContext, call, result, outstanding, true);
+    result.whenComplete((value, error) -> hedge.cancel(false));
+  }
+
+  private <R, T> CompletableFuture<T> attempt(
+    RequestContext<R> context, Function<RequestContext<R>, CompletableFuture<T>> call,
+    CompletableFuture<T> result, AtomicInteger outstanding, boolean hedge
+  ) {
+    long start = System.nanoTime();
+    CompletableFuture<T> attempt = call.apply(context);
+    attempt.whenComplete((value, error) -> {
+      if (error == null) {
+        record(context, System.nanoTime() - start);
+        if (result.complete(value) && hedge) {
+          hedgeWins.increment();
+        }
+      } else if (outstanding.decrementAndGet() == 0) {
+        result.completeExceptionally(error);
+      }
+    });
+    return attempt;
+  }
+
+  private long hedgeDelayNanos(RequestContext<?> context) {
+    LatencyWindow window = latencies.get(context.getRoute());
+    if (window == null || window.sampleCount() < properties.getMinSamples()) {
+      return initialDelayNanos;
+    }
+    return Math.max(minDelayNanos, window.percentileNanos());
+  }
+
+  private void record(RequestContext<?> context, long nanos) {
+    LatencyWindow window = latencies.slotFor(context.getRoute());
+    if (window != null) {
+      window.record(nanos);
+    }
+  }
+
+  private static int pickAlternatePort(RequestContext<?> context) {
+    List<Integer> alternatePorts = context.getAlternatePorts();
+    return alternatePorts.get(ThreadLocalRandom.current().nextInt(alternatePorts.size()));
+  }
+
+  public long getHedgedRequests() {
+    return hedgedRequests.sum();
+  }
+
+  public long getHedgeWins() {
+    return hedgeWins.sum();
+  }
+}
@@ -0,0 +1,54 @@
+package org.example.client.rest.infrastructures.hedge;
+
+import java.util.Arrays;
+
+/**
+ * 한 경로의 최근 응답 시간 표본과 백분위 값
+ * <p>
+ * 고정 크기 링 버퍼에 기록하고, 백분위는 일정 개수마다 다시 계산해 캐시한다.
+ * 요청 경로에서는 캐시된 값만 읽는다.
+ */
+final class LatencyWindow {
+
+  private static final int SIZE = 256;
+  private static final int RECOMPUTE_INTERVAL = 16;
+
+  private final long[] samples = new long[SIZE];
+  private final double percentile;
+  private int count;
+  private int next;
+  private int sinceRecompute;
+  private volatile long percentileNanos = -1;
+  private volatile int sampleCount;
+
+  LatencyWindow(double percentile) {
+    this.percentile = percentile;
+  }
+
+  synchronized void record(long nanos) {
+    samples[next] = nanos;
+    next = (next + 1) % SIZE;
+    if (count < SIZE) {
+      count++;
+    }
+    if (++sinceRecompute >= RECOMPUTE_INTERVAL || count < RECOMPUTE_INTERVAL) {
+      sinceRecompute = 0;
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      int index = Math.max(0, (int) Math.ceil(percentile * count) - 1);
+      percentileNanos = sorted[index];
+    }
+    sampleCount = count;
+  }
+
+  /**
+   * @return 백분위 응답 시간, 표본이 없으면 -1
+   */
+  long percentileNanos() {
+    return percentileNanos;
+  }
+
+  int sampleCount() {
+    return sampleCount;
+  }
+}
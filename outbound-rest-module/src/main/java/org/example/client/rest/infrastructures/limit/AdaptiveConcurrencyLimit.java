@@ -0,0 +1,160 @@
+package org.example.client.rest.infrastructures.limit;
+
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.exception.ConcurrencyLimitExceededException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 (도메인, 포트)의 적응형 동시성 제한 (gradient 방식)
+ * <p>
+ * 단기 RTT 평균과 장기 RTT 평균의 비율(gradient)로 제한을 조정한다.
+ * 대상 서비스에 큐가 쌓여 단기 RTT 가 늘어나면 제한을 줄이고, RTT 가 유지되면 sqrt(limit) 만큼 여유를 두고 늘린다.
+ * 제한을 넘은 요청은 스레드를 막지 않는 대기열에서 자리를 기다린다.
+ */
+final class AdaptiveConcurrencyLimit {
+
+  // 단기/장기 RTT 지수 이동 평균 가중치 (각각 최근 10건, 600건 정도)
+  private static final double SHORT_RTT_ALPHA = 2.0 / (10 + 1);
+  private static final double LONG_RTT_ALPHA = 2.0 / (600 + 1);
+  // 실패(시간 초과, 5xx, 연결 실패) 시 제한 감소 비율
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private final String route;
+  private final RestClientProperties.ConcurrencyLimit properties;
+  private final long maxWaitNanos;
+  private final Executor timeoutExecutor;
+
+  private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+  private double limit;
+  private int inFlight;
+  private double shortRttNanos;
+  private double longRttNanos;
+  private long rejected;
+
+  AdaptiveConcurrencyLimit(String route, RestClientProperties.ConcurrencyLimit properties) {
+    this.route = route;
+    this.properties = properties;
+    this.maxWaitNanos = properties.getMaxWait().toNanos();
+    this.timeoutExecutor = CompletableFuture.delayedExecutor(Math.max(1L, maxWaitNanos), TimeUnit.NANOSECONDS);
+    this.limit = properties.getInitialLimit();
+  }
+
+  /**
+   * 자리가 있으면 완료된 future, 없으면 자리가 나면 완료되는 future 를 반환한다.
+   * 대기열이 가득 찼거나 max-wait 가 지나면 {@link ConcurrencyLimitExceededException} 으로 실패한다.
+   */
+  CompletableFuture<Void> acquire() {
+    CompletableFuture<Void> waiter;
+    synchronized (this) {
+      if (inFlight < (int) limit) {
+        inFlight++;
+        return CompletableFuture.completedFuture(null);
+      }
+      if (maxWaitNanos == 0 || waiters.size() >= properties.getMaxQueue()) {
+        rejected++;
+        return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(route, (int) limit));
+      }
+      waiter = new CompletableFuture<>();
+      waiters.addLast(waiter);
+    }
+    // 시간 초과나 취소로 끝난 대기 요청은 대기열에서 뺀다
+    waiter.whenComplete((value, error) -> {
+      if (error != null) {
+        synchronized (this) {
+          waiters.remove(waiter);
+        }
+      }
+    });
+    timeoutExecutor.execute(() -> {
+      ConcurrencyLimitExceededException timeout;
+      synchronized (this) {
+        timeout = new ConcurrencyLimitExceededException(route, (int) limit);
+      }
+      if (waiter.completeExceptionally(timeout)) {
+        synchronized (this) {
+          rejected++;
+        }
+      }
+    });
+    return waiter;
+  }
+
+  /**
+   * 요청이 끝나면 자리를 돌려주고 RTT 로 제한을 조정한다.
+   *
+   * @param rttNanos 응답 시간, 측정하지 않을 결과(취소 등)는 음수
+   * @param dropped  대상 서비스 과부하로 볼 수 있는 실패인지
+   */
+  void release(long rttNanos, boolean dropped) {
+    CompletableFuture<Void> next;
+    synchronized (this) {
+      if (dropped) {
+        limit = Math.max(properties.getMinLimit(), limit * BACKOFF_RATIO);
+      } else if (rttNanos >= 0) {
+        update(rttNanos);
+      }
+      inFlight--;
+      next = nextWaiter();
+    }
+    // 대기 요청은 잠금 밖에서 깨운다 (실제 요청은 ConcurrencyLimiter 가 별도 스레드에서 시작한다)
+    while (next != null && !next.complete(null)) {
+      synchronized (this) {
+        inFlight--;
+        next = nextWaiter();
+      }
+    }
+  }
+
+  private CompletableFuture<Void> nextWaiter() {
+    if (waiters.isEmpty() || inFlight >= (int) limit) {
+      return null;
+    }
+    inFlight++;
+    return waiters.pollFirst();
+  }
+
+  private void update(long rttNanos) {
+    if (longRttNanos == 0) {
+      shortRttNanos = rttNanos;
+      longRttNanos = rttNanos;
+      return;
+    }
+    shortRttNanos += SHORT_RTT_ALPHA * (rttNanos - shortRttNanos);
+    longRttNanos += LONG_RTT_ALPHA * (rttNanos - longRttNanos);
+    // 부하가 줄어 단기 RTT 가 크게 낮아지면 장기 평균도 빨리 따라 내려간다
+    if (longRttNanos > 2 * shortRttNanos) {
+      longRttNanos *= 0.95;
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRttNanos / shortRttNanos));
+    double newLimit = limit * gradient + Math.sqrt(limit);
+    // 제한까지 쓰지 않고 있으면 늘리지 않는다 (실제 수용량을 모르는 채로 커지지 않도록)
+    if (newLimit > limit && inFlight < limit / 2) {
+      return;
+    }
+    limit = limit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+    limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), limit));
+  }
+
+  synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  synchronized Map<String, Object> snapshot() {
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    snapshot.put("limit", (int) limit);
+    snapshot.put("inFlight", inFlight);
+    snapshot.put("waiting", waiters.size());
+    snapshot.put("rejected", rejected);
+    snapshot.put("shortRttMillis", shortRttNanos / 1_000_000.0);
+    snapshot.put("longRttMillis", longRttNanos / 1_000_000.0);
+    return snapshot;
+  }
+}
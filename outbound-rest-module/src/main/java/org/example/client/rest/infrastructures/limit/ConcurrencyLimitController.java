@@ -0,0 +1,28 @@
+package org.example.client.rest.infrastructures.limit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * (도메인, 포트)별 동시성 제한 현황 조회 관리 엔드포인트
+ * <p>
+ * client.rest.concurrency-limit.endpoint-enabled=true 일 때만 등록된다.
+ */
+@RestController
+@RequestMapping("/admin/outbound/limits")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "client.rest.concurrency-limit", name = "endpoint-enabled", havingValue = "true")
+public class ConcurrencyLimitController {
+
+  private final ConcurrencyLimiter concurrencyLimiter;
+
+  @GetMapping
+  public Map<String, Object> stats() {
+    return concurrencyLimiter.stats();
+  }
+}
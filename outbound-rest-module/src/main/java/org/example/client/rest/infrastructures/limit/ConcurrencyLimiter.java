@@ -0,0 +1,134 @@
+package org.example.client.rest.infrastructures.limit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.exception.ConcurrencyLimitExceededException;
+import org.example.client.rest.infrastructures.support.OutboundFailures;
+import org.example.client.rest.infrastructures.support.RouteSlots;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * (도메인, 포트)별 적응형 동시성 제한 (client.rest.concurrency-limit)
+ * <p>
+ * 대상 서비스의 처리 용량이 줄어 응답 시간이 늘어나면 동시 요청 수를 줄여, 대기열이 호출 체인 전체로 번지지 않게 한다.
+ * 제한을 넘은 요청은 {@link ConcurrencyLimitExceededException} 으로 실패한다.
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimiter {
+
+  private final RestClientProperties.ConcurrencyLimit properties;
+  private final RouteSlots<AdaptiveConcurrencyLimit> limits;
+  // 대기한 요청은 자리를 돌려준 스레드(이벤트 루프, 다른 요청의 완료 스레드)가 아닌 가상 스레드에서 시작한다
+  private final Executor waiterExecutor = Executors.newThreadPerTaskExecutor(
+    Thread.ofVirtual().name("outbound-limit-", 0).factory());
+
+  public ConcurrencyLimiter(RestClientProperties restClientProperties) {
+    this.properties = restClientProperties.getConcurrencyLimit();
+    this.limits = new RouteSlots<>(route -> new AdaptiveConcurrencyLimit(route, properties));
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * 자리가 나면 요청을 실행하고 응답 시간으로 제한을 조정한다.
+   * 반환한 future 를 취소하면 대기 중인 요청은 대기열에서 빠지고, 진행 중인 요청은 취소된다.
+   *
+   * @param call 실제 요청을 실행하는 함수
+   */
+  public <R, T> CompletableFuture<T> execute(RequestContext<R> context, Supplier<CompletableFuture<T>> call) {
+    if (!properties.isEnabled()) {
+      return call.get();
+    }
+    AdaptiveConcurrencyLimit limit = limits.slotFor(context.getRoute());
+    if (limit == null) {
+      return call.get();
+    }
+
+    CompletableFuture<Void> permit = limit.acquire();
+    CompletableFuture<T> result = new CompletableFuture<>();
+    BiConsumer<Void, Throwable> onPermit = (granted, rejected) -> {
+      if (rejected != null) {
+        log.debug("Concurrency limit exceeded - {}", context.getRoute());
+        result.completeExceptionally(rejected);
+        return;
+      }
+      if (result.isDone()) {
+        limit.release(-1L, false);
+        return;
+      }
+      CompletableFuture<T> attempt = start(limit, call);
+      attempt.whenComplete((value, error) -> {
+        if (error != null) {
+          result.completeExceptionally(error);
+        } else {
+          result.complete(value);
+        }
+      });
+      result.whenComplete((value, error) -> {
+        if (result.isCancelled()) {
+          attempt.cancel(false);
+        }
+      });
+    };
+    // 바로 자리를 얻은 요청만 호출 스레드에서 시작한다
+    if (permit.isDone()) {
+      permit.whenComplete(onPermit);
+    } else {
+      permit.whenCompleteAsync(onPermit, waiterExecutor);
+    }
+    result.whenComplete((value, error) -> {
+      if (result.isCancelled()) {
+        permit.cancel(false);
+      }
+    });
+    return result;
+  }
+
+  private <T> CompletableFuture<T> start(AdaptiveConcurrencyLimit limit, Supplier<CompletableFuture<T>> call) {
+    long start = System.nanoTime();
+    CompletableFuture<T> response = call(call);
+    response.whenComplete((value, error) -> {
+      if (response.isCancelled()) {
+        limit.release(-1L, false);
+      } else {
+        // 4xx 응답은 정상 처리된 요청이므로 응답 시간만 반영하고, 그 외 실패는 과부하 신호로 보고 제한을 줄인다
+        limit.release(System.nanoTime() - start, error != null && OutboundFailures.isServiceFailure(error));
+      }
+    });
+    return response;
+  }
+
+  private static <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> call) {
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  public int getLimit(String route) {
+    AdaptiveConcurrencyLimit limit = limits.get(route);
+    return limit != null ? limit.getLimit() : properties.getInitialLimit();
+  }
+
+  public Map<String, Object> stats() {
+    Map<String, Object> routes = new TreeMap<>();
+    limits.forEach((route, limit) -> routes.put(route, limit.snapshot()));
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("routes", routes);
+    return stats;
+  }
+}
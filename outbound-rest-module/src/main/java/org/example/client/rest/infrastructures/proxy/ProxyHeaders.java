@@ -0,0 +1,57 @@
+package org.example.client.rest.infrastructures.proxy;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 프록시가 전달하지 않는 헤더 처리
+ * <p>
+ * 연결 단위(hop-by-hop) 헤더와 Connection 헤더에 나열된 헤더는 다음 홉으로 전달하지 않는다 (RFC 9110 7.6.1).
+ * Host 는 대상 URI 로 다시 정해진다.
+ */
+public final class ProxyHeaders {
+
+  private static final Set<String> HOP_BY_HOP = Set.of(
+    "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "proxy-connection",
+    "te", "trailer", "transfer-encoding", "upgrade", "host");
+
+  private ProxyHeaders() {
+  }
+
+  /**
+   * 전달할 헤더만 복사한다.
+   */
+  public static HttpHeaders filter(HttpHeaders headers) {
+    Set<String> excluded = excludedHeaders(headers);
+    HttpHeaders filtered = new HttpHeaders();
+    headers.forEach((name, values) -> {
+      if (!excluded.contains(name.toLowerCase(Locale.ROOT))) {
+        filtered.addAll(name, values);
+      }
+    });
+    return filtered;
+  }
+
+  /**
+   * 요청에 본문이 있는지 확인한다 (hop-by-hop 헤더를 지우기 전의 헤더로 판단한다)
+   */
+  public static boolean hasBody(HttpHeaders headers) {
+    return headers.getContentLength() > 0 || headers.containsKey(HttpHeaders.TRANSFER_ENCODING);
+  }
+
+  private static Set<String> excludedHeaders(HttpHeaders headers) {
+    List<String> connection = headers.getConnection();
+    if (connection.isEmpty()) {
+      return HOP_BY_HOP;
+    }
+    Set<String> excluded = new HashSet<>(HOP_BY_HOP);
+    for (String name : connection) {
+      excluded.add(name.trim().toLowerCase(Locale.ROOT));
+    }
+    return excluded;
+  }
+}
@@ -0,0 +1,43 @@
+package org.example.client.rest.infrastructures.proxy;
+
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * 프록시 대상 URI
+ * <p>
+ * 도메인과 포트는 설정과 검증된 포워딩 포트로만 정하고, 요청의 경로와 쿼리는 인코딩된 그대로 붙인다.
+ * 대상 서버에서 다른 경로로 해석될 수 있는 점 세그먼트(., .., %2e)는 거부한다.
+ */
+public final class ProxyTarget {
+
+  private ProxyTarget() {
+  }
+
+  /**
+   * @param rawPath  프록시 접두사를 뺀 인코딩된 경로
+   * @param rawQuery 인코딩된 쿼리, 없으면 null
+   * @throws IllegalArgumentException 경로가 올바르지 않으면
+   */
+  public static URI resolve(String domain, int port, String rawPath, String rawQuery) {
+    String path = rawPath == null || rawPath.isEmpty() ? "/" : rawPath;
+    if (path.charAt(0) != '/' || hasDotSegment(path)) {
+      throw new IllegalArgumentException("Invalid proxy path: " + rawPath);
+    }
+    StringBuilder uri = new StringBuilder("http://").append(domain).append(':').append(port).append(path);
+    if (rawQuery != null && !rawQuery.isEmpty()) {
+      uri.append('?').append(rawQuery);
+    }
+    return URI.create(uri.toString());
+  }
+
+  private static boolean hasDotSegment(String path) {
+    for (String segment : path.split("/", -1)) {
+      String decoded = segment.toLowerCase(Locale.ROOT).replace("%2e", ".");
+      if (decoded.equals(".") || decoded.equals("..")) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,77 @@
+package org.example.client.rest.infrastructures.proxy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.compression.DecompressingExchangeFilterFunction;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 리액티브 모드 스트리밍 리버스 프록시
+ * <p>
+ * 요청/응답 본문을 DataBuffer 그대로 흘려보내며, 배압으로 버퍼링되는 양이 제한된다.
+ * 상태 코드와 헤더(hop-by-hop 제외)는 그대로 전달하고, 본문을 문자열로 디코딩하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveStreamingProxy {
+
+  private static final String BAD_GATEWAY_MESSAGE = "Failed to reach downstream.";
+
+  private final WebClient webClient;
+
+  /**
+   * @param headers 대상 서버로 보낼 헤더 (hop-by-hop 헤더는 여기서 제외한다)
+   */
+  public Mono<Void> forward(ServerWebExchange exchange, URI target, HttpHeaders headers) {
+    ServerHttpRequest request = exchange.getRequest();
+    ServerHttpResponse response = exchange.getResponse();
+    WebClient.RequestBodySpec outbound = webClient.method(request.getMethod())
+      .uri(target)
+      // 압축된 응답도 Content-Encoding 그대로 전달한다
+      .attribute(DecompressingExchangeFilterFunction.SKIP_ATTRIBUTE, true)
+      .headers(outboundHeaders -> outboundHeaders.addAll(ProxyHeaders.filter(headers)));
+    WebClient.RequestHeadersSpec<?> spec = ProxyHeaders.hasBody(request.getHeaders())
+      ? outbound.body(BodyInserters.fromDataBuffers(request.getBody()))
+      : outbound;
+
+    return spec.exchangeToMono(downstream -> {
+        response.setStatusCode(downstream.statusCode());
+        response.getHeaders().addAll(ProxyHeaders.filter(downstream.headers().asHttpHeaders()));
+        log.info("[Proxy] {} {} -> {}", request.getMethod(), target, downstream.statusCode().value());
+        return response.writeWith(downstream.body(BodyExtractors.toDataBuffers()));
+      })
+      .onErrorResume(WebClientRequestException.class, e -> {
+        log.warn("[Proxy] {} {} failed: {}", request.getMethod(), target, e.getMessage());
+        return reject(response, HttpStatus.BAD_GATEWAY, BAD_GATEWAY_MESSAGE);
+      });
+  }
+
+  /**
+   * 요청을 전달하지 않고 오류로 응답한다 (이미 응답을 보내기 시작했으면 무시한다)
+   */
+  public Mono<Void> reject(ServerHttpResponse response, HttpStatus status, String message) {
+    if (response.isCommitted()) {
+      return Mono.empty();
+    }
+    response.setStatusCode(status);
+    response.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+    DataBuffer body = response.bufferFactory().wrap(message.getBytes(StandardCharsets.UTF_8));
+    return response.writeWith(Mono.just(body));
+  }
+}
@@ -0,0 +1,106 @@
+package org.example.client.rest.infrastructures.proxy;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 서블릿 모드 스트리밍 리버스 프록시
+ * <p>
+ * 요청/응답 본문을 고정 크기 버퍼로 바이트 그대로 흘려보내므로 본문 크기와 관계없이 요청당 메모리가 일정하다.
+ * 상태 코드와 헤더(hop-by-hop 제외)는 그대로 전달하고, 본문을 문자열로 디코딩하지 않는다.
+ * RestTemplate 의 인터셉터는 요청 본문을 버퍼링하므로 요청 팩토리를 직접 사용한다.
+ */
+@Slf4j
+@Component
+public class StreamingProxy {
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final String BAD_GATEWAY_MESSAGE = "Failed to reach downstream.";
+
+  private final ClientHttpRequestFactory requestFactory;
+
+  public StreamingProxy(ClientHttpRequestFactory outboundClientHttpRequestFactory) {
+    this.requestFactory = outboundClientHttpRequestFactory;
+  }
+
+  /**
+   * 들어온 요청의 헤더 (hop-by-hop 헤더 포함)
+   */
+  public HttpHeaders requestHeaders(HttpServletRequest request) {
+    return new ServletServerHttpRequest(request).getHeaders();
+  }
+
+  /**
+   * @param headers 대상 서버로 보낼 헤더 (hop-by-hop 헤더는 여기서 제외한다)
+   */
+  public void forward(HttpServletRequest request, HttpServletResponse response, URI target, HttpHeaders headers)
+    throws IOException {
+    HttpHeaders incoming = requestHeaders(request);
+    ClientHttpRequest outbound = requestFactory.createRequest(target, HttpMethod.valueOf(request.getMethod()));
+    outbound.getHeaders().putAll(ProxyHeaders.filter(headers));
+    if (ProxyHeaders.hasBody(incoming)) {
+      InputStream body = request.getInputStream();
+      if (outbound instanceof StreamingHttpOutputMessage streaming) {
+        streaming.setBody(out -> copy(body, out));
+      } else {
+        copy(body, outbound.getBody());
+      }
+    }
+
+    ClientHttpResponse downstream;
+    try {
+      downstream = outbound.execute();
+    } catch (IOException e) {
+      log.warn("[Proxy] {} {} failed: {}", request.getMethod(), target, e.getMessage());
+      reject(response, HttpStatus.BAD_GATEWAY, BAD_GATEWAY_MESSAGE);
+      return;
+    }
+
+    try (downstream) {
+      response.setStatus(downstream.getStatusCode().value());
+      ProxyHeaders.filter(downstream.getHeaders()).forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+      copy(downstream.getBody(), response.getOutputStream());
+      log.info("[Proxy] {} {} -> {}", request.getMethod(), target, downstream.getStatusCode().value());
+    }
+  }
+
+  /**
+   * 요청을 전달하지 않고 오류로 응답한다 (이미 응답을 보내기 시작했으면 무시한다)
+   */
+  public void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+    if (response.isCommitted()) {
+      return;
+    }
+    response.resetBuffer();
+    response.setStatus(status.value());
+    response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.getOutputStream().write(message.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void copy(InputStream in, OutputStream out) throws IOException {
+    byte[] buffer = new byte[BUFFER_SIZE];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+    }
+    out.flush();
+  }
+}
@@ -0,0 +1,28 @@
+package org.example.client.rest.infrastructures.retry;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 아웃바운드 재시도 통계 조회 관리 엔드포인트
+ * <p>
+ * client.rest.retry.endpoint-enabled=true 일 때만 등록된다.
+ */
+@RestController
+@RequestMapping("/admin/outbound/retries")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "client.rest.retry", name = "endpoint-enabled", havingValue = "true")
+public class RetryController {
+
+  private final RetryPolicy retryPolicy;
+
+  @GetMapping
+  public Map<String, Object> stats() {
+    return retryPolicy.stats();
+  }
+}
@@ -0,0 +1,221 @@
+package org.example.client.rest.infrastructures.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.core.props.RestClientProperties;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.support.OutboundFailures;
+import org.example.client.rest.infrastructures.support.RouteSlots;
+import org.example.client.rest.infrastructures.support.TokenBudget;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 요청 재시도 (client.rest.retry)
+ * <p>
+ * GET, HEAD, OPTIONS, PUT, DELETE 요청이 연결 실패나 502/503/504 응답으로 실패하면
+ * decorrelated jitter 간격(base-delay ~ 직전 간격의 3배, 최대 max-delay)을 두고 같은 포트로 다시 보낸다.
+ * 각 홉이 재시도해 부하가 곱절로 늘지 않도록 (도메인, 포트)별 재시도 예산을 넘으면 재시도하지 않고,
+ * deadline 안에 한 번 더 시도할 시간이 없으면 재시도하지 않는다.
+ */
+@Slf4j
+@Component
+public class RetryPolicy {
+
+  private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+    HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+
+  private final RestClientProperties.Retry properties;
+  private final long baseDelayNanos;
+  private final long maxDelayNanos;
+  private final long deadlineNanos;
+  private final RouteSlots<TokenBudget> budgets;
+  // 대기 후 재시도는 가상 스레드에서 시작한다 (동기 요청도 공용 풀 스레드를 막지 않도록)
+  private final Executor retryExecutor = Executors.newThreadPerTaskExecutor(
+    Thread.ofVirtual().name("outbound-retry-", 0).factory());
+
+  // 재시도 대상 요청 수
+  private final LongAdder calls = new LongAdder();
+  // 보낸 재시도 수
+  private final LongAdder retries = new LongAdder();
+  // 재시도로 성공한 요청 수
+  private final LongAdder recovered = new LongAdder();
+  // 예산이 없어 재시도하지 않은 수
+  private final LongAdder budgetExhausted = new LongAdder();
+  // 남은 시간이 부족해 재시도하지 않은 수
+  private final LongAdder deadlineExceeded = new LongAdder();
+  // max-attempts 까지 재시도하고도 실패한 수
+  private final LongAdder attemptsExhausted = new LongAdder();
+
+  public RetryPolicy(RestClientProperties restClientProperties) {
+    this.properties = restClientProperties.getRetry();
+    this.baseDelayNanos = properties.getBaseDelay().toNanos();
+    this.maxDelayNanos = properties.getMaxDelay().toNanos();
+    this.deadlineNanos = properties.getDeadline().toNanos();
+    // 요청이 드문 경로도 재시도할 수 있도록 가득 찬 상태로 시작한다
+    this.budgets = new RouteSlots<>(route -> new TokenBudget(properties.getBudgetRatio(), 1));
+  }
+
+  public boolean isRetryable(RequestContext<?> context) {
+    return properties.isEnabled() && properties.getMaxAttempts() > 1 && IDEMPOTENT_METHODS.contains(context.getHttpMethod());
+  }
+
+  /**
+   * 재시도 대상이 아니면 요청을 그대로 실행한다.
+   * 반환한 future 를 취소하면 진행 중인 시도를 취소하고 더 이상 재시도하지 않는다.
+   *
+   * @param call 실제 요청을 실행하는 함수 (시도마다 호출)
+   */
+  public <R, T> CompletableFuture<T> execute(RequestContext<R> context, Supplier<CompletableFuture<T>> call) {
+    if (!isRetryable(context)) {
+      return call.get();
+    }
+    TokenBudget budget = budgets.slotFor(context.getRoute());
+    if (budget == null) {
+      return call.get();
+    }
+    calls.increment();
+    budget.deposit();
+
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicReference<CompletableFuture<T>> current = new AtomicReference<>();
+    result.whenComplete((value, error) -> {
+      CompletableFuture<T> attempt = current.get();
+      if (result.isCancelled() && attempt != null) {
+        attempt.cancel(false);
+      }
+    });
+    attempt(context, call, budget, result, current, new Attempt(System.nanoTime(), 1, baseDelayNanos));
+    return result;
+  }
+
+  private <R, T> void attempt(
+    RequestContext<R> context, Supplier<CompletableFuture<T>> call, TokenBudget budget,
+    CompletableFuture<T> result, AtomicReference<CompletableFuture<T>> current, Attempt attempt
+  ) {
+    if (result.isDone()) {
+      return;
+    }
+    long attemptStart = System.nanoTime();
+    CompletableFuture<T> response = call(call);
+    current.set(response);
+    if (result.isCancelled()) {
+      response.cancel(false);
+      return;
+    }
+    response.whenComplete((value, error) -> {
+      if (error == null) {
+        if (attempt.number > 1) {
+          recovered.increment();
+        }
+        result.complete(value);
+        return;
+      }
+      long delay = attempt.nextDelay(baseDelayNanos, maxDelayNanos);
+      if (!shouldRetry(context, budget, error, attempt, System.nanoTime() - attemptStart, delay)) {
+        result.completeExceptionally(error);
+        return;
+      }
+      retries.increment();
+      log.info("Retrying request ({}/{}) after {}ms - {} {}", attempt.number + 1, properties.getMaxAttempts(),
+        TimeUnit.NANOSECONDS.toMillis(delay), context.getRoute(), context.getPath());
+      Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, retryExecutor);
+      delayed.execute(() -> attempt(context, call, budget, result, current, attempt.next(delay)));
+    });
+  }
+
+  private boolean shouldRetry(
+    RequestContext<?> context, TokenBudget budget, Throwable error, Attempt attempt, long attemptNanos, long delayNanos
+  ) {
+    if (!OutboundFailures.isTransient(error)) {
+      return false;
+    }
+    if (attempt.number >= properties.getMaxAttempts()) {
+      attemptsExhausted.increment();
+      return false;
+    }
+    // 직전 시도만큼 걸린다고 보고 deadline 안에 끝낼 수 없으면 재시도하지 않는다
+    long elapsed = System.nanoTime() - attempt.startedAt;
+    if (elapsed + delayNanos + attemptNanos > deadlineNanos) {
+      deadlineExceeded.increment();
+      log.debug("Retry skipped, deadline too short - {}", context.getRoute());
+      return false;
+    }
+    if (!budget.tryAcquire()) {
+      budgetExhausted.increment();
+      log.debug("Retry skipped, budget exhausted - {}", context.getRoute());
+      return false;
+    }
+    return true;
+  }
+
+  private static <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> call) {
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  public Map<String, Object> stats() {
+    long callCount = calls.sum();
+    long retryCount = retries.sum();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("calls", callCount);
+    stats.put("retries", retryCount);
+    stats.put("recovered", recovered.sum());
+    stats.put("budgetExhausted", budgetExhausted.sum());
+    stats.put("deadlineExceeded", deadlineExceeded.sum());
+    stats.put("attemptsExhausted", attemptsExhausted.sum());
+    // 요청 대비 재시도 비율
+    stats.put("retryRatio", callCount == 0 ? 0.0 : (double) retryCount / callCount);
+    Map<String, Object> budgetTokens = new TreeMap<>();
+    budgets.forEach((route, budget) -> budgetTokens.put(route, budget.available()));
+    stats.put("budgets", budgetTokens);
+    return stats;
+  }
+
+  public long getRetries() {
+    return retries.sum();
+  }
+
+  public long getRecovered() {
+    return recovered.sum();
+  }
+
+  public long getBudgetExhausted() {
+    return budgetExhausted.sum();
+  }
+
+  public long getDeadlineExceeded() {
+    return deadlineExceeded.sum();
+  }
+
+  /**
+   * 시도 순번과 직전 대기 간격
+   */
+  private record Attempt(long startedAt, int number, long previousDelay) {
+
+    // decorrelated jitter: base ~ 직전 간격의 3배 사이 임의 값, 최대 max
+    long nextDelay(long base, long max) {
+      long upper = Math.max(base + 1, Math.min(max, previousDelay * 3));
+      return Math.min(max, ThreadLocalRandom.current().nextLong(base, upper + 1));
+    }
+
+    Attempt next(long delay) {
+      return new Attempt(startedAt, number + 1, delay);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package org.example.client.rest.infrastructures.support;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 하위 요청 실패 분류
+ * <p>
+ * 서킷 브레이커, 동시성 제한, 재시도가 같은 기준으로 실패를 판단하도록 한 곳에 둔다.
+ * CompletionException 등으로 감싼 경우를 포함해 원인 체인에서 처음 만난 HTTP 응답 예외의 상태 코드로 판단한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OutboundFailures {
+
+  private static final Set<Integer> TRANSIENT_STATUSES = Set.of(502, 503, 504);
+
+  /**
+   * 대상 서비스의 실패인지. 4xx 응답은 요청 쪽 문제이므로 대상 서비스 실패로 보지 않는다.
+   */
+  public static boolean isServiceFailure(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      HttpStatusCode status = statusOf(cause);
+      if (status != null) {
+        return !status.is4xxClientError();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 다시 보내면 성공할 수 있는 일시적인 실패인지. 연결 실패와 502/503/504 응답만 해당한다.
+   * 회로 열림, 동시성 제한 초과, 취소는 원인 체인에 I/O 예외가 없으므로 해당하지 않는다.
+   */
+  public static boolean isTransient(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      HttpStatusCode status = statusOf(cause);
+      if (status != null) {
+        return TRANSIENT_STATUSES.contains(status.value());
+      }
+      if (cause instanceof ResourceAccessException || cause instanceof WebClientRequestException
+        || cause instanceof IOException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static HttpStatusCode statusOf(Throwable cause) {
+    if (cause instanceof RestClientResponseException e) {
+      return e.getStatusCode();
+    }
+    if (cause instanceof WebClientResponseException e) {
+      return e.getStatusCode();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,63 @@
+package org.example.client.rest.infrastructures.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 경로(도메인:포트)별 상태를 보관하는 레지스트리
+ * <p>
+ * 포트 범위 전체로 요청이 흩어져도 메모리가 늘지 않도록 경로 수에 상한을 두며,
+ * 상한에 도달한 뒤 처음 보는 경로는 상태 없이 처리한다. (서킷 브레이커, 동시성 제한, 재시도 예산, 헤지 지연)
+ */
+public final class RouteSlots<T> {
+
+  /**
+   * 기본 경로 수 상한
+   */
+  public static final int MAX_ROUTES = 256;
+
+  private final int maxRoutes;
+  private final Function<String, T> factory;
+  private final Map<String, T> slots = new ConcurrentHashMap<>();
+
+  public RouteSlots(Function<String, T> factory) {
+    this(MAX_ROUTES, factory);
+  }
+
+  public RouteSlots(int maxRoutes, Function<String, T> factory) {
+    if (maxRoutes < 1) {
+      throw new IllegalArgumentException("maxRoutes must be positive");
+    }
+    if (factory == null) {
+      throw new IllegalArgumentException("factory must not be null");
+    }
+    this.maxRoutes = maxRoutes;
+    this.factory = factory;
+  }
+
+  /**
+   * 경로의 상태, 없으면 만든다.
+   *
+   * @return 상한에 도달해 만들 수 없으면 null
+   */
+  public T slotFor(String route) {
+    T slot = slots.get(route);
+    if (slot != null || slots.size() >= maxRoutes) {
+      return slot;
+    }
+    return slots.computeIfAbsent(route, factory);
+  }
+
+  /**
+   * 경로의 상태, 없으면 null (만들지 않는다)
+   */
+  public T get(String route) {
+    return slots.get(route);
+  }
+
+  public void forEach(BiConsumer<String, T> action) {
+    slots.forEach(action);
+  }
+}
@@ -0,0 +1,57 @@
+package org.example.client.rest.infrastructures.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추가 요청 예산 (토큰 버킷, 재시도와 헤지 요청)
+ * <p>
+ * 요청마다 ratio 만큼 토큰을 적립하고 추가 요청 하나에 토큰 하나를 쓴다.
+ * 장시간 평균으로 추가 요청은 전체 요청의 ratio 비율을 넘지 않으며, 한 번에 몰아 쓸 수 있는 양은 MAX_BURST 로 제한된다.
+ */
+public final class TokenBudget {
+
+  // 소수 비율을 정수로 다루기 위한 배율
+  private static final long SCALE = 1000;
+  private static final long MAX_BURST = 10;
+
+  private final long deposit;
+  private final long maxTokens = MAX_BURST * SCALE;
+  private final AtomicLong tokens;
+
+  /**
+   * @param ratio       요청 하나마다 적립하는 토큰 수
+   * @param initialFill 시작할 때 채워 둘 비율 (0 ~ 1)
+   */
+  public TokenBudget(double ratio, double initialFill) {
+    if (ratio < 0) {
+      throw new IllegalArgumentException("ratio must not be negative");
+    }
+    if (initialFill < 0 || initialFill > 1) {
+      throw new IllegalArgumentException("initialFill must be between 0 and 1");
+    }
+    this.deposit = Math.round(ratio * SCALE);
+    this.tokens = new AtomicLong(Math.round(maxTokens * initialFill));
+  }
+
+  public void deposit() {
+    if (deposit == 0) {
+      return;
+    }
+    tokens.getAndUpdate(current -> Math.min(maxTokens, current + deposit));
+  }
+
+  public boolean tryAcquire() {
+    long current;
+    do {
+      current = tokens.get();
+      if (current < SCALE) {
+        return false;
+      }
+    } while (!tokens.compareAndSet(current, current - SCALE));
+    return true;
+  }
+
+  public double available() {
+    return (double) tokens.get() / SCALE;
+  }
+}
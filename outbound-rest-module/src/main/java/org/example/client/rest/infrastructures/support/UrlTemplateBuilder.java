@@ -2,10 +2,12 @@ package org.example.client.rest.infrastructures.support;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.context.RequestContext;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
 import java.util.Map;
 import java.util.Optional;
 
@@ -28,4 +30,15 @@ public class UrlTemplateBuilder {
       ? uriBuilder.buildAndExpand(pathVariables)
       : uriBuilder.build();
   }
-}
\ No newline at end of file
+
+  /**
+   * 경로 템플릿으로 만든 요청은 미리 만든 URI 를 그대로 사용한다
+   */
+  public URI buildUri(RequestContext<?> context) {
+    if (context.getUri() != null) {
+      return context.getUri();
+    }
+    return buildUriComponents(context.getDomain(), context.getPath(), context.getPort(), context.getPathVariables())
+      .toUri();
+  }
+}
@@ -0,0 +1,48 @@
+package org.example.source.api.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.infrastructure.context.ReactiveForwardedPortContext;
+import org.example.source.domain.service.PortForwardService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link PortForwardController}의 리액티브(WebFlux) 버전
+ */
+@Slf4j
+@RestController
+@RequestMapping("/port")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePortForwardController {
+
+  private final PortForwardService portForwardService;
+
+  /**
+   * Reactor Context에 저장된 포트 정보를 이용하여 서버로 요청을 전달한다.
+   *
+   * @return Mono<ResponseEntity<String>> 대상 서버의 응답
+   */
+  @GetMapping("/forward")
+  public Mono<ResponseEntity<String>> forward() {
+    log.info("Forwarding request to the destination server.");
+
+    return ReactiveForwardedPortContext.current().flatMap(ports -> {
+      if (ports.isEmpty()) {
+        log.error("Port information is missing in the context.");
+        return Mono.just(ResponseEntity.badRequest().body("Invalid or missing port information."));
+      }
+
+      return portForwardService.forwardReactive()
+        .map(execute -> {
+          log.info("Response from the destination server: {}", execute);
+          return ResponseEntity.ok(execute);
+        });
+    });
+  }
+}
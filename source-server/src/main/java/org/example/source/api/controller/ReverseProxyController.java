@@ -0,0 +1,34 @@
+package org.example.source.api.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.source.domain.service.ReverseProxyService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 리버스 프록시 엔드포인트
+ * <p>
+ * proxy.enabled=true 일 때만 등록된다.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "proxy", name = "enabled", havingValue = "true")
+public class ReverseProxyController {
+
+  private final ReverseProxyService reverseProxyService;
+
+  /**
+   * /proxy 아래의 모든 메서드, 경로를 포워딩 포트의 같은 경로로 전달한다.
+   */
+  @RequestMapping(ReverseProxyService.PATH_PREFIX + "/**")
+  public void proxy(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    reverseProxyService.forward(request, response);
+  }
+}
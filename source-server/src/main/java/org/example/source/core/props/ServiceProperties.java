@@ -4,16 +4,21 @@ package org.example.source.core.props;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
+import org.example.inbound.core.props.AbstractForwardedPortProperties.PortHeader.Port.PortRange;
+import org.example.inbound.core.props.ForwardedHeaderKeyProvider;
+import org.example.inbound.infrastructure.validator.PortSet;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.http.MediaType;
 
+import java.util.Collection;
 import java.util.List;
 
 @Slf4j
 @Getter
 @ToString
 @ConfigurationProperties(prefix = "service")
-public class ServiceProperties {
+public class ServiceProperties implements ForwardedHeaderKeyProvider {
 
   private final A a;
 
@@ -23,17 +28,39 @@ public class ServiceProperties {
     log.info("{}", this);
   }
 
+  @Override
+  public Collection<String> getForwardedHeaderKeys() {
+    return List.of(header().getKey());
+  }
+
+  @Override
+  public PortSet getAllowedPorts(String headerKey) {
+    Header header = header();
+    return header.getKey().equals(headerKey) ? header.getPortSet() : null;
+  }
+
+  // 설정 파일에서 service.a.header.key 가 빠지면 바인딩은 되지만 포워딩 헤더 키를 만들 수 없다
+  private Header header() {
+    if (a == null || a.getHeader() == null || a.getHeader().getKey() == null) {
+      throw new IllegalArgumentException("service.a.header.key must not be empty");
+    }
+    return a.getHeader();
+  }
+
   @Getter
   @ToString
   public static class A {
     private final String name;
     private final String domain;
     private final Header header;
+    // 요청 본문/응답 형식: application/json(기본) | application/x-jackson-smile(내부 홉 간 바이너리 JSON)
+    private final MediaType mediaType;
 
-    public A(String name, String domain, Header header) {
+    public A(String name, String domain, Header header, MediaType mediaType) {
       this.name = name;
       this.domain = domain;
       this.header = header;
+      this.mediaType = mediaType != null ? mediaType : MediaType.APPLICATION_JSON;
     }
 
   }
@@ -43,10 +70,23 @@ public class ServiceProperties {
   public static class Header {
     private final String key;
     private final List<Integer> ports;
+    private final List<PortRange> ranges;
+    // ports + ranges 를 합친 허용 포트 집합
+    private final PortSet portSet;
 
-    public Header(String key, List<Integer> ports) {
+    public Header(String key, List<Integer> ports, List<PortRange> ranges) {
       this.key = key;
       this.ports = ports;
+      this.ranges = ranges;
+      this.portSet = createPortSet(ports, ranges);
+    }
+
+    private static PortSet createPortSet(List<Integer> ports, List<PortRange> ranges) {
+      PortSet.Builder builder = PortSet.builder().addAll(ports);
+      if (ranges != null) {
+        ranges.forEach(range -> builder.addRange(range.getMin(), range.getMax()));
+      }
+      return builder.build();
     }
   }
 }
\ No newline at end of file
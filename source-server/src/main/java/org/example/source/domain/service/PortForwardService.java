@@ -0,0 +1,79 @@
+package org.example.source.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.context.RequestContext;
+import org.example.client.rest.infrastructures.context.RouteTemplate;
+import org.example.client.rest.infrastructures.factory.RouteTemplateFactory;
+import org.example.inbound.infrastructure.codec.DestinationResponse;
+import org.example.inbound.infrastructure.context.ForwardedPortContextFutures;
+import org.example.inbound.infrastructure.context.ReactiveForwardedPortContext;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigRegistry;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigSnapshot;
+import org.example.source.core.props.ServiceProperties;
+import org.example.source.core.props.UrisProperties;
+import org.example.source.support.handler.HttpHeaderHandler;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+public class PortForwardService {
+
+  private final HttpHeaderHandler httpHeaderHandler;
+  private final ForwardedPortConfigRegistry configRegistry;
+  // A 서비스 요청 템플릿, 요청마다 포트와 헤더만 채운다 (응답은 service.a.media-type 형식)
+  private final RouteTemplate<DestinationResponse> destinationRoute;
+
+  public PortForwardService(
+    ServiceProperties serviceProperties, UrisProperties urisProperties, HttpHeaderHandler httpHeaderHandler,
+    ForwardedPortConfigRegistry configRegistry, RouteTemplateFactory routeTemplateFactory
+  ) {
+    this.httpHeaderHandler = httpHeaderHandler;
+    this.configRegistry = configRegistry;
+    this.destinationRoute = routeTemplateFactory.compile(
+      RequestContext.<DestinationResponse>builder()
+        .mediaType(serviceProperties.getA().getMediaType())
+        .domain(serviceProperties.getA().getDomain())
+        .path(urisProperties.getDestination())
+        .httpMethod(HttpMethod.GET)
+        .responseType(DestinationResponse.class)
+        .build(),
+      serviceProperties.getA().getHeader().getPorts()
+    );
+  }
+
+  /**
+   * ForwardedPortContext에 저장된 포트 정보로 대상 서버에 비동기로 요청한다.
+   * 요청은 호출 스레드에서 만들고, 응답은 기다리지 않는다.
+   */
+  public CompletableFuture<String> forwardAsync() {
+    RequestContext<DestinationResponse> requestContext = createRequestContext(configRegistry.current());
+    return ForwardedPortContextFutures.propagate(destinationRoute.getStrategy()
+        .executeAsync(requestContext))
+      .thenApply(DestinationResponse::destination);
+  }
+
+  /**
+   * Reactor Context에 저장된 포트 정보와 요청에 고정된 설정 스냅샷으로 대상 서버에 요청한다. (리액티브 모드)
+   */
+  public Mono<String> forwardReactive() {
+    return configRegistry.pinned()
+      .flatMap(config -> ReactiveForwardedPortContext.withContext(() -> createRequestContext(config)))
+      .flatMap(requestContext -> destinationRoute.getReactiveStrategy()
+        .execute(requestContext))
+      .map(DestinationResponse::destination);
+  }
+
+  private RequestContext<DestinationResponse> createRequestContext(ForwardedPortConfigSnapshot config) {
+    Integer port = httpHeaderHandler.getForwardedPort(config).orElse(null);
+    return destinationRoute.request(
+      port,
+      httpHeaderHandler.getAlternatePorts(config, port),
+      httpHeaderHandler.createHeaders(config, HttpHeaders.EMPTY)
+    );
+  }
+}
@@ -0,0 +1,111 @@
+package org.example.source.domain.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.client.rest.infrastructures.proxy.ProxyTarget;
+import org.example.client.rest.infrastructures.proxy.ReactiveStreamingProxy;
+import org.example.client.rest.infrastructures.proxy.StreamingProxy;
+import org.example.source.core.props.ServiceProperties;
+import org.example.source.support.handler.HttpHeaderHandler;
+import org.example.inbound.infrastructure.context.ReactiveForwardedPortContext;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigRegistry;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigSnapshot;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * 리버스 프록시 모드 (proxy.enabled)
+ * <p>
+ * /proxy 아래로 들어온 요청을 메서드, 경로, 쿼리 그대로 A 서비스의 포워딩 포트로 전달한다.
+ * 본문은 스트리밍으로 전달하므로 응답 캐시, 요청 합치기, 재시도, 헤지, 서킷 브레이커, 동시성 제한은 적용하지 않는다.
+ */
+@Slf4j
+@Service
+public class ReverseProxyService {
+
+  public static final String PATH_PREFIX = "/proxy";
+
+  private static final String MISSING_PORT_MESSAGE = "Invalid or missing port information.";
+  private static final String INVALID_PATH_MESSAGE = "Invalid proxy path.";
+
+  private final HttpHeaderHandler httpHeaderHandler;
+  private final ForwardedPortConfigRegistry configRegistry;
+  private final StreamingProxy streamingProxy;
+  private final ReactiveStreamingProxy reactiveStreamingProxy;
+  private final String domain;
+
+  public ReverseProxyService(
+    ServiceProperties serviceProperties, HttpHeaderHandler httpHeaderHandler, ForwardedPortConfigRegistry configRegistry,
+    StreamingProxy streamingProxy, ReactiveStreamingProxy reactiveStreamingProxy
+  ) {
+    this.httpHeaderHandler = httpHeaderHandler;
+    this.configRegistry = configRegistry;
+    this.streamingProxy = streamingProxy;
+    this.reactiveStreamingProxy = reactiveStreamingProxy;
+    this.domain = serviceProperties.getA().getDomain();
+  }
+
+  /**
+   * ForwardedPortContext에 저장된 포트로 요청을 전달한다.
+   */
+  public void forward(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    ForwardedPortConfigSnapshot config = configRegistry.current();
+    Optional<Integer> port = httpHeaderHandler.getForwardedPort(config);
+    if (port.isEmpty()) {
+      log.error("Port information is missing in the context.");
+      streamingProxy.reject(response, HttpStatus.BAD_REQUEST, MISSING_PORT_MESSAGE);
+      return;
+    }
+
+    String path = request.getRequestURI().substring(request.getContextPath().length() + PATH_PREFIX.length());
+    URI target;
+    try {
+      target = ProxyTarget.resolve(domain, port.get(), path, request.getQueryString());
+    } catch (IllegalArgumentException e) {
+      log.warn("Rejected proxy request: {}", e.getMessage());
+      streamingProxy.reject(response, HttpStatus.BAD_REQUEST, INVALID_PATH_MESSAGE);
+      return;
+    }
+
+    HttpHeaders headers = httpHeaderHandler.createProxyHeaders(config, streamingProxy.requestHeaders(request));
+    streamingProxy.forward(request, response, target, headers);
+  }
+
+  /**
+   * Reactor Context에 저장된 포트와 요청에 고정된 설정 스냅샷으로 요청을 전달한다. (리액티브 모드)
+   */
+  public Mono<Void> forwardReactive(ServerWebExchange exchange) {
+    ServerHttpRequest request = exchange.getRequest();
+    return configRegistry.pinned()
+      .flatMap(config -> ReactiveForwardedPortContext.withContext(() -> httpHeaderHandler.getForwardedPort(config)
+        .map(port -> new Forward(port, httpHeaderHandler.createProxyHeaders(config, request.getHeaders())))))
+      .flatMap(forward -> {
+        if (forward.isEmpty()) {
+          log.error("Port information is missing in the context.");
+          return reactiveStreamingProxy.reject(exchange.getResponse(), HttpStatus.BAD_REQUEST, MISSING_PORT_MESSAGE);
+        }
+
+        String path = request.getPath().pathWithinApplication().value().substring(PATH_PREFIX.length());
+        URI target;
+        try {
+          target = ProxyTarget.resolve(domain, forward.get().port(), path, request.getURI().getRawQuery());
+        } catch (IllegalArgumentException e) {
+          log.warn("Rejected proxy request: {}", e.getMessage());
+          return reactiveStreamingProxy.reject(exchange.getResponse(), HttpStatus.BAD_REQUEST, INVALID_PATH_MESSAGE);
+        }
+        return reactiveStreamingProxy.forward(exchange, target, forward.get().headers());
+      });
+  }
+
+  private record Forward(int port, HttpHeaders headers) {
+  }
+}
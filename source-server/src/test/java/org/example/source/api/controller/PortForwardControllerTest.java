@@ -5,9 +5,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -17,9 +22,17 @@ class PortForwardControllerTest {
   @Autowired
   private MockMvc mockMvc;
 
+  // 컨트롤러가 CompletableFuture를 반환하므로 비동기 처리 결과로 다시 디스패치한다
+  private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+    MvcResult mvcResult = mockMvc.perform(requestBuilder)
+      .andExpect(request().asyncStarted())
+      .andReturn();
+    return mockMvc.perform(asyncDispatch(mvcResult));
+  }
+
   @Test
   void testSinglePortForwarding() throws Exception {
-    mockMvc.perform(get("/port/forward")
+    performAsync(get("/port/forward")
         .header("service-a-forwarded-port", 8081))
       .andExpect(status().isOk())
       .andExpect(content().string("Destination A"));
@@ -27,7 +40,7 @@ class PortForwardControllerTest {
 
   @Test
   void testMultiplePortForwarding() throws Exception {
-    mockMvc.perform(get("/port/forward")
+    performAsync(get("/port/forward")
         .header("service-a-forwarded-port", 8081)
         .header("service-b-forwarded-port", 8082)
         .header("service-c-forwarded-port", 8082)
@@ -39,7 +52,7 @@ class PortForwardControllerTest {
   @Test
   void testInvalidPortForwarding() throws Exception {
     // Invalid port number
-    mockMvc.perform(get("/port/forward"))
+    performAsync(get("/port/forward"))
       .andExpect(status().isBadRequest())
       .andExpect(content().string("Invalid or missing port information."));
 
@@ -0,0 +1,41 @@
+package org.example.source.api.controller;
+
+import org.example.inbound.infrastructure.filter.ForwardedPortWebFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+@DisplayName("리액티브 모드 PortForwardController 테스트")
+class ReactivePortForwardControllerTest {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Autowired
+  private ApplicationContext applicationContext;
+
+  @Test
+  @DisplayName("리액티브 모드에서는 WebFilter와 리액티브 컨트롤러만 등록된다")
+  void reactiveBeansOnly() {
+    assertThat(applicationContext.getBeansOfType(ForwardedPortWebFilter.class)).hasSize(1);
+    assertThat(applicationContext.getBeansOfType(ReactivePortForwardController.class)).hasSize(1);
+    assertThat(applicationContext.getBeansOfType(PortForwardController.class)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("포트 정보가 없으면 400을 반환한다")
+  void testInvalidPortForwarding() {
+    webTestClient.get().uri("/port/forward")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody(String.class).isEqualTo("Invalid or missing port information.");
+  }
+}
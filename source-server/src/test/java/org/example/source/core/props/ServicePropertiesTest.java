@@ -38,6 +38,8 @@ class ServicePropertiesTest {
                 assertThat(header.getKey()).isEqualTo("service-a-forwarded-port");
                 assertThat(header.getPorts())
                   .containsExactly(8081, 8082);
+                assertThat(header.getPortSet().contains(8081)).isTrue();
+                assertThat(header.getPortSet().contains(8083)).isFalse();
               });
           });
       });
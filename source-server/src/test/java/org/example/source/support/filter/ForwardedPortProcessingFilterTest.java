@@ -0,0 +1,153 @@
+package org.example.source.support.filter;
+
+import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.context.ForwardedPortContextMode;
+import org.example.inbound.infrastructure.filter.ForwardedPortHeaderIndex;
+import org.example.inbound.infrastructure.filter.ForwardedPortProcessingFilter;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("ForwardedPortProcessingFilter 헤더 스캔 테스트")
+class ForwardedPortProcessingFilterTest {
+
+  @Autowired
+  private ForwardedPortProcessingFilter filter;
+
+  @Autowired
+  private ForwardedPortConfigRegistry configRegistry;
+
+  @AfterEach
+  void tearDown() {
+    ForwardedPortContext.clear();
+  }
+
+  @Test
+  @DisplayName("일반 헤더는 후보에서 제외되고 포워딩 헤더만 후보가 된다")
+  void onlyForwardedHeadersAreCandidates() {
+    ForwardedPortHeaderIndex headerIndex = configRegistry.latest().getHeaderIndex();
+
+    assertThat(headerIndex.isCandidate("service-a-forwarded-port")).isTrue();
+    assertThat(headerIndex.isCandidate("service-c-forwarded-port")).isTrue();
+    assertThat(headerIndex.isCandidate("User-Agent")).isFalse();
+    assertThat(headerIndex.isCandidate("Cookie")).isFalse();
+    assertThat(headerIndex.isCandidate("forwarded-port")).isFalse();
+    assertThat(headerIndex.isCandidate(null)).isFalse();
+    assertThat(headerIndex.isCandidate("")).isFalse();
+  }
+
+  @Test
+  @DisplayName("일반 헤더가 많아도 포워딩 헤더만 Context에 저장된다")
+  void whenManyOrdinaryHeaders_thenOnlyForwardedPortsStored() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/port/forward");
+    for (int i = 0; i < 20; i++) {
+      request.addHeader("x-ordinary-header-" + i, "value-" + i);
+    }
+    request.addHeader("service-a-forwarded-port", "8081");
+    Map<String, Integer> captured = new HashMap<>();
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(),
+      (req, res) -> captured.putAll(ForwardedPortContext.getAttributes()));
+
+    // then
+    assertThat(captured).containsExactly(Map.entry("service-a-forwarded-port", 8081));
+  }
+
+  @Test
+  @DisplayName("일반 헤더는 개수 한도에 포함하지 않는다")
+  void whenOrdinaryHeadersExceedLimit_thenForwardedHeaderStillInspected() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/port/forward");
+    for (int i = 0; i < 64; i++) {
+      request.addHeader("x-ordinary-header-" + i, "value-" + i);
+    }
+    request.addHeader("service-a-forwarded-port", "8081");
+    Map<String, Integer> captured = new HashMap<>();
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(),
+      (req, res) -> captured.putAll(ForwardedPortContext.getAttributes()));
+
+    // then
+    assertThat(captured).containsExactly(Map.entry("service-a-forwarded-port", 8081));
+  }
+
+  @Test
+  @DisplayName("포워딩 헤더 개수 한도를 넘으면 이후 헤더는 검사하지 않는다")
+  void whenCandidateCountExceedsLimit_thenStopsInspecting() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/port/forward");
+    for (int i = 0; i < 64; i++) {
+      request.addHeader("service-x" + i + "-forwarded-port", "8081");
+    }
+    request.addHeader("service-a-forwarded-port", "8081");
+    Map<String, Integer> captured = new HashMap<>();
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(),
+      (req, res) -> captured.putAll(ForwardedPortContext.getAttributes()));
+
+    // then
+    assertThat(captured).doesNotContainKey("service-a-forwarded-port");
+  }
+
+  @Test
+  @DisplayName("strict 모드가 아니면 잘못된 포워딩 헤더만 무시하고 체인을 계속 실행한다")
+  void whenLenient_thenInvalidHeaderIgnored() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/port/forward");
+    request.addHeader("service-a-forwarded-port", "8081");
+    request.addHeader("service-b-forwarded-port", "9999");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    Map<String, Integer> captured = new HashMap<>();
+
+    // when
+    filter.doFilter(request, response, (req, res) -> captured.putAll(ForwardedPortContext.getAttributes()));
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(captured).containsExactly(Map.entry("service-a-forwarded-port", 8081));
+  }
+
+  @Test
+  @DisplayName("후보가 없는 요청은 Context 범위를 열지 않고, 후보가 있는 요청만 범위를 연다")
+  void whenNoCandidate_thenContextBackendUntouched() throws Exception {
+    // given: scoped-value 모드에서 범위 밖 스레드에 남아 있는 값으로 바인딩 여부를 확인한다
+    ForwardedPortContext.configure(ForwardedPortContextMode.SCOPED_VALUE);
+    try {
+      ForwardedPortContext.setAttribute("marker-forwarded-port", 1);
+      MockHttpServletRequest ordinary = new MockHttpServletRequest("GET", "/port/forward");
+      ordinary.addHeader("User-Agent", "test");
+      MockHttpServletRequest forwarded = new MockHttpServletRequest("GET", "/port/forward");
+      forwarded.addHeader("service-a-forwarded-port", "8081");
+      Map<String, Integer> ordinaryCaptured = new HashMap<>();
+      Map<String, Integer> forwardedCaptured = new HashMap<>();
+
+      // when
+      filter.doFilter(ordinary, new MockHttpServletResponse(),
+        (req, res) -> ordinaryCaptured.putAll(ForwardedPortContext.getAttributes()));
+      filter.doFilter(forwarded, new MockHttpServletResponse(),
+        (req, res) -> forwardedCaptured.putAll(ForwardedPortContext.getAttributes()));
+
+      // then: 후보가 없으면 바인딩도 정리도 일어나지 않는다
+      assertThat(ordinaryCaptured).containsExactly(Map.entry("marker-forwarded-port", 1));
+      assertThat(forwardedCaptured).containsExactly(Map.entry("service-a-forwarded-port", 8081));
+      assertThat(ForwardedPortContext.getAttributes()).containsExactly(Map.entry("marker-forwarded-port", 1));
+    } finally {
+      ForwardedPortContext.configure(ForwardedPortContextMode.THREAD_LOCAL);
+    }
+  }
+}
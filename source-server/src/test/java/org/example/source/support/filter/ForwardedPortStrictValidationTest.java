@@ -0,0 +1,117 @@
+package org.example.source.support.filter;
+
+import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.filter.ForwardedPortProcessingFilter;
+import org.example.inbound.infrastructure.metrics.ForwardedPortRejectionMetrics;
+import org.example.inbound.infrastructure.validator.ForwardedPortRejectReason;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+  "service.forwarding.validation.strict=true",
+  "service.a.header.ports=8081"
+})
+@DisplayName("ForwardedPortProcessingFilter strict 모드 테스트")
+class ForwardedPortStrictValidationTest {
+
+  @Autowired
+  private ForwardedPortProcessingFilter filter;
+
+  @Autowired
+  private ForwardedPortRejectionMetrics rejectionMetrics;
+
+  @AfterEach
+  void tearDown() {
+    ForwardedPortContext.clear();
+  }
+
+  private static Stream<Arguments> invalidHeaders() {
+    return Stream.of(
+      Arguments.of("service_a-forwarded-port", "8081", ForwardedPortRejectReason.BAD_NAME),
+      Arguments.of("service-a-forwarded-port", "80a1", ForwardedPortRejectReason.BAD_FORMAT),
+      Arguments.of("service-a-forwarded-port", "9999", ForwardedPortRejectReason.OUT_OF_RANGE),
+      Arguments.of("service-a-forwarded-port", "8082", ForwardedPortRejectReason.NOT_ALLOWLISTED)
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidHeaders")
+  @DisplayName("잘못된 포워딩 헤더는 필터에서 400으로 거부되고 사유별로 집계된다")
+  void whenInvalidHeader_thenRejectedInFilter(String headerName, String headerValue, ForwardedPortRejectReason reason) throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/port/forward");
+    request.addHeader(headerName, headerValue);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicBoolean chainCalled = new AtomicBoolean();
+    long invalidBefore = rejectionMetrics.getInvalidHeaders(reason);
+    long rejectedBefore = rejectionMetrics.getRejectedRequests();
+
+    // when
+    filter.doFilter(request, response, (req, res) -> chainCalled.set(true));
+
+    // then
+    assertThat(chainCalled).isFalse();
+    assertThat(response.getStatus()).isEqualTo(400);
+    assertThat(response.getContentType()).isEqualTo("application/json");
+    assertThat(response.getContentAsString())
+      .isEqualTo("{\"error\":\"invalid_forwarded_port\",\"reason\":\"" + reason.name() + "\"}");
+    assertThat(rejectionMetrics.getInvalidHeaders(reason)).isEqualTo(invalidBefore + 1);
+    assertThat(rejectionMetrics.getRejectedRequests()).isEqualTo(rejectedBefore + 1);
+  }
+
+  @Test
+  @DisplayName("포워딩 헤더가 검사 바이트 한도를 넘으면 strict 모드에서 LIMIT_EXCEEDED 로 거부된다")
+  void whenInspectionLimitExceeded_thenRejectedInFilter() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/port/forward");
+    request.addHeader("service-a-forwarded-port", "8".repeat(16384));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicBoolean chainCalled = new AtomicBoolean();
+    long invalidBefore = rejectionMetrics.getInvalidHeaders(ForwardedPortRejectReason.LIMIT_EXCEEDED);
+
+    // when
+    filter.doFilter(request, response, (req, res) -> chainCalled.set(true));
+
+    // then
+    assertThat(chainCalled).isFalse();
+    assertThat(response.getStatus()).isEqualTo(400);
+    assertThat(response.getContentAsString())
+      .isEqualTo("{\"error\":\"invalid_forwarded_port\",\"reason\":\"LIMIT_EXCEEDED\"}");
+    assertThat(rejectionMetrics.getInvalidHeaders(ForwardedPortRejectReason.LIMIT_EXCEEDED)).isEqualTo(invalidBefore + 1);
+  }
+
+  @Test
+  @DisplayName("포워딩 헤더가 모두 유효하면 strict 모드에서도 체인이 그대로 실행된다")
+  void whenAllHeadersValid_thenChainProceeds() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/port/forward");
+    request.addHeader("service-a-forwarded-port", "8081");
+    request.addHeader("x-ordinary-header", "value");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    Map<String, Integer> captured = new HashMap<>();
+    long rejectedBefore = rejectionMetrics.getRejectedRequests();
+
+    // when
+    filter.doFilter(request, response, (req, res) -> captured.putAll(ForwardedPortContext.getAttributes()));
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(captured).containsExactly(Map.entry("service-a-forwarded-port", 8081));
+    assertThat(rejectionMetrics.getRejectedRequests()).isEqualTo(rejectedBefore);
+  }
+}
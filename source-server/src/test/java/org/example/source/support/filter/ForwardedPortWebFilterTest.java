@@ -0,0 +1,108 @@
+package org.example.source.support.filter;
+
+import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.context.ForwardedPortContextSnapshot;
+import org.example.inbound.infrastructure.context.ReactiveForwardedPortContext;
+import org.example.inbound.infrastructure.filter.ForwardedPortWebFilter;
+import org.example.inbound.infrastructure.hanlder.ForwardedPortHandler;
+import org.example.inbound.infrastructure.metrics.ForwardedPortRejectionMetrics;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("ForwardedPortWebFilter 리액티브 필터 테스트")
+class ForwardedPortWebFilterTest {
+
+  @Autowired
+  private ForwardedPortHandler forwardedPortHandler;
+
+  @Autowired
+  private ForwardedPortConfigRegistry configRegistry;
+
+  @Autowired
+  private ForwardedPortRejectionMetrics rejectionMetrics;
+
+  private ForwardedPortWebFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    // 서블릿 모드 컨텍스트에서는 빈으로 등록되지 않으므로 직접 생성한다
+    filter = new ForwardedPortWebFilter(forwardedPortHandler, configRegistry, rejectionMetrics);
+  }
+
+  @Test
+  @DisplayName("유효한 포워딩 헤더만 Reactor Context에 저장되고 ThreadLocal은 사용하지 않는다")
+  void storesValidPortsInReactorContext() {
+    // given
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/port/forward")
+      .header("service-a-forwarded-port", "8081")
+      .header("service-b-forwarded-port", "9999")
+      .header("x-ordinary-header", "value"));
+    AtomicReference<ForwardedPortContextSnapshot> captured = new AtomicReference<>();
+    AtomicReference<Boolean> threadContextEmpty = new AtomicReference<>();
+
+    // when
+    filter.filter(exchange, chainExchange -> ReactiveForwardedPortContext.current()
+        .doOnNext(ports -> {
+          captured.set(ports);
+          threadContextEmpty.set(ForwardedPortContext.isEmpty());
+        })
+        .then())
+      .block();
+
+    // then
+    assertThat(captured.get().size()).isEqualTo(1);
+    assertThat(captured.get().getPortOrDefault("service-a-forwarded-port", ForwardedPortContext.NO_PORT)).isEqualTo(8081);
+    assertThat(captured.get().getPortOrDefault("service-b-forwarded-port", ForwardedPortContext.NO_PORT))
+      .isEqualTo(ForwardedPortContext.NO_PORT);
+    assertThat(threadContextEmpty.get()).isTrue();
+    assertThat(exchange.<Object>getAttribute(ForwardedPortConfigRegistry.REQUEST_ATTRIBUTE))
+      .isSameAs(configRegistry.latest());
+  }
+
+  @Test
+  @DisplayName("withContext 안에서는 기존 ForwardedPortContext API로 조회할 수 있다")
+  void withContextInstallsSnapshot() {
+    // given
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/port/forward")
+      .header("service-a-forwarded-port", "8082"));
+    AtomicReference<Integer> captured = new AtomicReference<>();
+
+    // when
+    filter.filter(exchange, chainExchange -> ReactiveForwardedPortContext.withContext(
+          () -> ForwardedPortContext.getPortOrDefault("service-a-forwarded-port", ForwardedPortContext.NO_PORT))
+        .doOnNext(captured::set)
+        .then())
+      .block();
+
+    // then
+    assertThat(captured.get()).isEqualTo(8082);
+    assertThat(ForwardedPortContext.isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("포워딩 헤더가 없으면 빈 사본이 전달된다")
+  void whenNoForwardedHeaders_thenEmptySnapshot() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/port/forward"));
+    AtomicReference<ForwardedPortContextSnapshot> captured = new AtomicReference<>();
+
+    filter.filter(exchange, chainExchange -> ReactiveForwardedPortContext.current()
+        .doOnNext(captured::set)
+        .then())
+      .block();
+
+    assertThat(captured.get()).isSameAs(ForwardedPortContextSnapshot.EMPTY);
+    assertThat(ReactiveForwardedPortContext.current().block()).isSameAs(ForwardedPortContextSnapshot.EMPTY);
+  }
+}
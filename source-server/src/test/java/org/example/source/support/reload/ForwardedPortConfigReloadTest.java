@@ -0,0 +1,240 @@
+package org.example.source.support.reload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.inbound.infrastructure.context.ForwardedPortContext;
+import org.example.inbound.infrastructure.context.ReactiveForwardedPortContext;
+import org.example.inbound.infrastructure.filter.ForwardedPortProcessingFilter;
+import org.example.inbound.infrastructure.filter.ForwardedPortWebFilter;
+import org.example.inbound.infrastructure.hanlder.ForwardedPortHandler;
+import org.example.inbound.infrastructure.metrics.ForwardedPortRejectionMetrics;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigFileWatcher;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigRegistry;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigReloader;
+import org.example.inbound.infrastructure.reload.ForwardedPortConfigSnapshot;
+import org.example.source.core.props.ServiceProperties;
+import org.example.source.support.handler.HttpHeaderHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("포워딩 설정 재적용 테스트")
+class ForwardedPortConfigReloadTest {
+
+  @TempDir
+  static Path configDir;
+
+  @DynamicPropertySource
+  static void reloadFile(DynamicPropertyRegistry registry) {
+    // 기동 시점에는 없는 디렉터리
+    registry.add("service.forwarding.reload.file", () -> configFile().toString());
+  }
+
+  @Autowired
+  private ForwardedPortConfigRegistry configRegistry;
+
+  @Autowired
+  private ForwardedPortConfigReloader reloader;
+
+  @Autowired
+  private ForwardedPortProcessingFilter filter;
+
+  @Autowired
+  private ForwardedPortConfigFileWatcher watcher;
+
+  @Autowired
+  private ForwardedPortHandler forwardedPortHandler;
+
+  @Autowired
+  private ForwardedPortRejectionMetrics rejectionMetrics;
+
+  @Autowired
+  private HttpHeaderHandler httpHeaderHandler;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    // application.yml 설정으로 되돌린다
+    Files.deleteIfExists(configFile());
+    reloader.reload();
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    ForwardedPortContext.clear();
+  }
+
+  @Test
+  @DisplayName("재적용하면 검증 규칙과 서비스 허용 목록이 함께 교체된다")
+  void reloadSwapsRulesAndAllowlists() throws IOException {
+    // given
+    ForwardedPortConfigSnapshot before = configRegistry.latest();
+    writeConfig(8090, "[ 8081, 8090 ]");
+
+    // when
+    ForwardedPortConfigSnapshot after = reloader.reload();
+
+    // then
+    assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+    assertThat(configRegistry.latest()).isSameAs(after);
+    assertThat(after.getValidationRules().isValidForwardedPort("service-a-forwarded-port", "8090")).isTrue();
+    assertThat(before.getValidationRules().isValidForwardedPort("service-a-forwarded-port", "8090")).isFalse();
+    assertThat(after.getHeaderKeyProvider(ServiceProperties.class).getA().getHeader().getPortSet().contains(8090))
+      .isTrue();
+  }
+
+  @Test
+  @DisplayName("잘못된 설정은 교체 전에 거부되고 기존 설정이 유지된다")
+  void invalidConfigIsRejected() throws IOException {
+    // given
+    writeConfig(8000, "[ 8081 ]");
+
+    // when & then
+    assertThatThrownBy(() -> reloader.reload())
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThat(configRegistry.latest().getProperties().getMaxPort()).isNotEqualTo(8000);
+
+    // 헤더 패턴과 맞지 않는 서비스 헤더 키
+    Files.writeString(configFile(), """
+      service:
+        a:
+          header:
+            key: service_a
+      """);
+    assertThatThrownBy(() -> reloader.reload())
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("service_a");
+  }
+
+  @Test
+  @DisplayName("서비스 헤더 키가 빠진 설정은 IllegalArgumentException 으로 거부된다")
+  void missingServiceHeaderKeyIsRejected() {
+    // given
+    ForwardedPortConfigSnapshot before = configRegistry.latest();
+
+    // when & then
+    assertThatThrownBy(() -> ForwardedPortConfigSnapshot.compile(before.getVersion() + 1, before.getProperties(),
+      List.of(new ServiceProperties(new ServiceProperties.A("a", "localhost", null, null)))))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("service.a.header.key");
+    assertThatThrownBy(() -> ForwardedPortConfigSnapshot.compile(before.getVersion() + 1, before.getProperties(), null))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("reload 파일의 디렉터리가 없으면 만들어서 감시한다")
+  void watcherCreatesMissingDirectory() {
+    assertThat(watcher.isRunning()).isTrue();
+    assertThat(Files.isDirectory(configFile().getParent())).isTrue();
+  }
+
+  @Test
+  @DisplayName("처리 중인 요청은 시작 시점의 스냅샷으로 끝난다")
+  void inFlightRequestKeepsPinnedSnapshot() throws Exception {
+    // given
+    writeConfig(8091, "[ 8081, 8091 ]");
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/port/forward");
+    request.addHeader("service-a-forwarded-port", "8081");
+    AtomicReference<ForwardedPortConfigSnapshot> pinned = new AtomicReference<>();
+    AtomicReference<ForwardedPortConfigSnapshot> reloaded = new AtomicReference<>();
+    ForwardedPortConfigSnapshot before = configRegistry.latest();
+
+    // when
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes((HttpServletRequest) req));
+      reloaded.set(reloader.reload());
+      pinned.set(configRegistry.current());
+    });
+
+    // then
+    assertThat(pinned.get()).isSameAs(before);
+    assertThat(configRegistry.latest()).isSameAs(reloaded.get());
+  }
+
+  @Test
+  @DisplayName("리액티브 모드에서도 처리 중인 요청은 시작 시점의 스냅샷으로 끝난다")
+  void inFlightReactiveRequestKeepsPinnedSnapshot() {
+    // given: 서블릿 모드 컨텍스트에서는 빈으로 등록되지 않으므로 직접 생성한다
+    ForwardedPortWebFilter webFilter = new ForwardedPortWebFilter(forwardedPortHandler, configRegistry, rejectionMetrics);
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/port/forward")
+      .header("service-a-forwarded-port", "8081"));
+    ForwardedPortConfigSnapshot before = configRegistry.latest();
+    AtomicReference<ForwardedPortConfigSnapshot> pinned = new AtomicReference<>();
+    AtomicReference<Optional<Integer>> forwardedPort = new AtomicReference<>();
+
+    // when: 처리 중에 8081 을 허용 목록에서 뺀 설정을 재적용한다
+    webFilter.filter(exchange, chainExchange -> Mono.fromCallable(() -> {
+          writeConfig(8091, "[ 8091 ]");
+          return reloader.reload();
+        })
+        .then(configRegistry.pinned())
+        .flatMap(config -> ReactiveForwardedPortContext.withContext(() -> {
+          pinned.set(config);
+          return httpHeaderHandler.getForwardedPort(config);
+        }))
+        .doOnNext(forwardedPort::set)
+        .then())
+      .block();
+
+    // then
+    assertThat(pinned.get()).isSameAs(before);
+    assertThat(forwardedPort.get()).hasValue(8081);
+    assertThat(configRegistry.latest()).isNotSameAs(before);
+    assertThat(httpHeaderHandler.getForwardedPort(configRegistry.latest())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("감시 중인 파일이 바뀌면 자동으로 재적용된다")
+  void fileChangeTriggersReload() throws Exception {
+    // when
+    writeConfig(8095, "[ 8081, 8095 ]");
+
+    // then
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (configRegistry.latest().getProperties().getMaxPort() != 8095 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+    assertThat(configRegistry.latest().getProperties().getMaxPort()).isEqualTo(8095);
+  }
+
+  private void writeConfig(int maxPort, String servicePorts) throws IOException {
+    Files.writeString(configFile(), """
+      service:
+        forwarding:
+          headers:
+            ports:
+              range:
+                max: %d
+        a:
+          header:
+            ports: %s
+      """.formatted(maxPort, servicePorts));
+  }
+
+  private static Path configFile() {
+    return configDir.resolve("reload").resolve("forwarding.yml");
+  }
+}